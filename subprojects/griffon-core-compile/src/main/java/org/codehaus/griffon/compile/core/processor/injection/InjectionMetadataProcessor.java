@@ -0,0 +1,399 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.compile.core.processor.injection;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic.Kind;
+import java.beans.Introspector;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Generates a {@code griffon.core.injection.InjectionMetadata} subclass for every concrete class that declares
+ * members annotated with {@code @Contextual}, {@code @PostConstruct} or {@code @PreDestroy}. The generated
+ * class describes the same injection points and lifecycle methods the runtime would otherwise discover
+ * with reflection. Classes whose hierarchy cannot be described from generated code are skipped, as are
+ * classes declaring static lifecycle methods; the runtime keeps using reflection for them.
+ * <p>
+ * Generated code can only reach members that are visible from the type's package. Private members, which is
+ * how {@code @Contextual} fields are commonly declared, are listed by name only and are still bound with
+ * reflection at runtime, once per class. Declare such members with package-private (or wider) visibility
+ * to avoid reflection altogether.</p>
+ *
+ * @author Andres Almiray
+ * @since 2.14.0
+ */
+@SupportedAnnotationTypes({
+    InjectionMetadataProcessor.CONTEXTUAL,
+    InjectionMetadataProcessor.POST_CONSTRUCT,
+    InjectionMetadataProcessor.PRE_DESTROY
+})
+public class InjectionMetadataProcessor extends AbstractProcessor {
+    static final String CONTEXTUAL = "griffon.inject.Contextual";
+    static final String POST_CONSTRUCT = "javax.annotation.PostConstruct";
+    static final String PRE_DESTROY = "javax.annotation.PreDestroy";
+
+    private static final String SUFFIX = "$$InjectionMetadata";
+    private static final String METADATA = "griffon.core.injection.InjectionMetadata";
+    private static final String INJECT = "javax.inject.Inject";
+    private static final String NAMED = "javax.inject.Named";
+    private static final String NONNULL = "javax.annotation.Nonnull";
+
+    private final Set<String> generated = new HashSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (processingEnv.getElementUtils().getTypeElement(METADATA) == null) {
+            return false;
+        }
+
+        Set<TypeElement> types = new LinkedHashSet<>();
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                TypeElement type = enclosingType(element);
+                if (type != null && type.getKind() == ElementKind.CLASS && !type.getModifiers().contains(Modifier.ABSTRACT)) {
+                    types.add(type);
+                }
+            }
+        }
+
+        for (TypeElement type : types) {
+            String binaryName = processingEnv.getElementUtils().getBinaryName(type).toString();
+            if (generated.add(binaryName)) {
+                generate(type, binaryName);
+            }
+        }
+        return false;
+    }
+
+    private void generate(TypeElement type, String binaryName) {
+        PackageElement pkg = processingEnv.getElementUtils().getPackageOf(type);
+        List<TypeElement> hierarchy = hierarchyOf(type);
+        for (TypeElement t : hierarchy) {
+            if (!isAccessible(t, pkg)) { return; }
+        }
+
+        List<String> statements = new ArrayList<>();
+        if (!describeContextualMembers(hierarchy, pkg, statements) ||
+            !describeLifecycleMethods(hierarchy, pkg, POST_CONSTRUCT, "postConstructMethod", statements) ||
+            !describeLifecycleMethods(hierarchy, pkg, PRE_DESTROY, "preDestroyMethod", statements)) {
+            return;
+        }
+
+        String packageName = pkg.isUnnamed() ? "" : pkg.getQualifiedName().toString();
+        String simpleName = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1)) + SUFFIX;
+        String typeName = sourceName(type.asType());
+
+        try (Writer writer = processingEnv.getFiler().createSourceFile((packageName.isEmpty() ? "" : packageName + ".") + simpleName, type).openWriter()) {
+            StringBuilder b = new StringBuilder();
+            if (!packageName.isEmpty()) {
+                b.append("package ").append(packageName).append(";\n\n");
+            }
+            b.append("public final class ").append(simpleName).append(" extends ").append(METADATA).append(" {\n");
+            b.append("    @SuppressWarnings({\"unchecked\", \"rawtypes\"})\n");
+            b.append("    public ").append(simpleName).append("() {\n");
+            b.append("        super(").append(typeName).append(".class);\n");
+            for (String statement : statements) {
+                b.append(statement);
+            }
+            b.append("    }\n");
+            b.append("}\n");
+            writer.write(b.toString());
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Kind.WARNING, "Could not generate injection metadata for " + binaryName + ": " + e.getMessage(), type);
+        }
+    }
+
+    private boolean describeContextualMembers(List<TypeElement> hierarchy, PackageElement pkg, List<String> statements) {
+        // mirrors the lookup performed by GuiceInjectorFactory: bean property setters first, then fields
+        Map<String, ExecutableElement> setters = new TreeMap<>();
+        Map<String, VariableElement> fieldsByName = new LinkedHashMap<>();
+        List<VariableElement> fields = new ArrayList<>();
+        for (TypeElement t : hierarchy) {
+            for (ExecutableElement method : ElementFilter.methodsIn(t.getEnclosedElements())) {
+                String name = method.getSimpleName().toString();
+                if (name.length() > 3 && name.startsWith("set") && method.getParameters().size() == 1 &&
+                    method.getReturnType().getKind() == TypeKind.VOID &&
+                    method.getModifiers().contains(Modifier.PUBLIC) && !method.getModifiers().contains(Modifier.STATIC)) {
+                    String propertyName = Introspector.decapitalize(name.substring(3));
+                    if (!setters.containsKey(propertyName)) {
+                        setters.put(propertyName, method);
+                    }
+                }
+            }
+            for (VariableElement field : ElementFilter.fieldsIn(t.getEnclosedElements())) {
+                fieldsByName.put(field.getSimpleName().toString(), field);
+                fields.add(field);
+            }
+        }
+
+        Set<String> visited = new HashSet<>();
+        for (Map.Entry<String, ExecutableElement> entry : setters.entrySet()) {
+            ExecutableElement method = entry.getValue();
+            if (hasAnnotation(method, INJECT)) { continue; }
+            VariableElement parameter = method.getParameters().get(0);
+            boolean contextual = hasAnnotation(method, CONTEXTUAL);
+            boolean nullable = !hasAnnotation(method, NONNULL) && !hasAnnotation(parameter, NONNULL);
+            VariableElement field = fieldsByName.get(entry.getKey());
+            if (field != null && !contextual) {
+                contextual = hasAnnotation(field, CONTEXTUAL);
+                nullable = !hasAnnotation(field, NONNULL);
+            }
+            visited.add(entry.getKey());
+            if (!contextual) { continue; }
+
+            TypeMirror parameterType = erasure(parameter.asType());
+            String binaryTypeName = binaryName(parameterType);
+            if (binaryTypeName == null) { return false; }
+            String methodName = method.getSimpleName().toString();
+            String name = annotationValue(parameter, NAMED);
+            if (name == null || name.trim().isEmpty()) {
+                name = Character.toLowerCase(methodName.charAt(3)) + methodName.substring(4);
+            }
+
+            TypeElement declaringClass = (TypeElement) method.getEnclosingElement();
+            String setter = "null";
+            if (isAccessible(parameterType, pkg)) {
+                setter = "new " + METADATA + ".Setter() {\n" +
+                    "            public void set(Object instance, Object value) {\n" +
+                    "                ((" + sourceName(declaringClass.asType()) + ") instance)." + methodName + "((" + parameterType + ") value);\n" +
+                    "            }\n" +
+                    "        }";
+            }
+            statements.add("        contextualProperty(" + sourceName(declaringClass.asType()) + ".class, " +
+                literal(entry.getKey()) + ", " + literal(methodName) + ", " +
+                keys(name, binaryTypeName) + ", " + nullable + ", " + setter + ");\n");
+        }
+
+        for (VariableElement field : fields) {
+            String fieldName = field.getSimpleName().toString();
+            if (field.getModifiers().contains(Modifier.STATIC) || hasAnnotation(field, INJECT)) { continue; }
+            if (!visited.add(fieldName)) { continue; }
+            if (!hasAnnotation(field, CONTEXTUAL)) { continue; }
+
+            TypeMirror fieldType = erasure(field.asType());
+            String binaryTypeName = binaryName(fieldType);
+            if (binaryTypeName == null) { return false; }
+            String name = annotationValue(field, NAMED);
+            if (name == null || name.trim().isEmpty()) {
+                name = fieldName;
+            }
+
+            TypeElement declaringClass = (TypeElement) field.getEnclosingElement();
+            String setter = "null";
+            if (isAccessible(field, pkg) && !field.getModifiers().contains(Modifier.FINAL) && isAccessible(fieldType, pkg)) {
+                setter = "new " + METADATA + ".Setter() {\n" +
+                    "            public void set(Object instance, Object value) {\n" +
+                    "                ((" + sourceName(declaringClass.asType()) + ") instance)." + fieldName + " = (" + fieldType + ") value;\n" +
+                    "            }\n" +
+                    "        }";
+            }
+            statements.add("        contextualField(" + sourceName(declaringClass.asType()) + ".class, " +
+                literal(fieldName) + ", " + keys(name, binaryTypeName) + ", " +
+                !hasAnnotation(field, NONNULL) + ", " + setter + ");\n");
+        }
+        return true;
+    }
+
+    private boolean describeLifecycleMethods(List<TypeElement> hierarchy, PackageElement pkg, String annotation, String registration, List<String> statements) {
+        for (TypeElement t : hierarchy) {
+            boolean found = false;
+            for (ExecutableElement method : ElementFilter.methodsIn(t.getEnclosedElements())) {
+                if (!method.getParameters().isEmpty() || !hasAnnotation(method, annotation)) { continue; }
+                if (found || method.getModifiers().contains(Modifier.STATIC)) {
+                    // ambiguous declarations are reported by the runtime, static methods are invoked reflectively
+                    return false;
+                }
+                found = true;
+
+                String methodName = method.getSimpleName().toString();
+                String invoker = "null";
+                if (isAccessible(method, pkg)) {
+                    invoker = "new " + METADATA + ".Invoker() {\n" +
+                        "            public void invoke(Object instance) {\n" +
+                        "                ((" + sourceName(t.asType()) + ") instance)." + methodName + "();\n" +
+                        "            }\n" +
+                        "        }";
+                }
+                statements.add("        " + registration + "(" + sourceName(t.asType()) + ".class, " + literal(methodName) + ", " + invoker + ");\n");
+            }
+        }
+        return true;
+    }
+
+    private TypeElement enclosingType(Element element) {
+        Element e = element;
+        while (e != null && !(e instanceof TypeElement)) {
+            e = e.getEnclosingElement();
+        }
+        return (TypeElement) e;
+    }
+
+    private List<TypeElement> hierarchyOf(TypeElement type) {
+        List<TypeElement> hierarchy = new ArrayList<>();
+        TypeElement t = type;
+        while (t != null && !"java.lang.Object".equals(t.getQualifiedName().toString())) {
+            hierarchy.add(t);
+            TypeMirror superclass = t.getSuperclass();
+            t = superclass.getKind() == TypeKind.DECLARED ? (TypeElement) ((DeclaredType) superclass).asElement() : null;
+        }
+        return hierarchy;
+    }
+
+    private boolean isAccessible(TypeElement type, PackageElement pkg) {
+        Element e = type;
+        while (e instanceof TypeElement) {
+            TypeElement t = (TypeElement) e;
+            if (t.getNestingKind() == NestingKind.LOCAL || t.getNestingKind() == NestingKind.ANONYMOUS || !isAccessible((Element) t, pkg)) {
+                return false;
+            }
+            e = t.getEnclosingElement();
+        }
+        return true;
+    }
+
+    private boolean isAccessible(Element member, PackageElement pkg) {
+        Set<Modifier> modifiers = member.getModifiers();
+        if (modifiers.contains(Modifier.PRIVATE)) { return false; }
+        return modifiers.contains(Modifier.PUBLIC) || processingEnv.getElementUtils().getPackageOf(member).equals(pkg);
+    }
+
+    private boolean isAccessible(TypeMirror type, PackageElement pkg) {
+        switch (type.getKind()) {
+            case DECLARED:
+                return isAccessible((TypeElement) ((DeclaredType) type).asElement(), pkg);
+            case ARRAY:
+                return isAccessible(((ArrayType) type).getComponentType(), pkg);
+            default:
+                return type.getKind().isPrimitive();
+        }
+    }
+
+    private TypeMirror erasure(TypeMirror type) {
+        return processingEnv.getTypeUtils().erasure(type);
+    }
+
+    private String sourceName(TypeMirror type) {
+        return erasure(type).toString();
+    }
+
+    /**
+     * Returns the name of a type as reported by {@code Class.getName()}, or {@code null} if it cannot be computed.
+     */
+    private String binaryName(TypeMirror type) {
+        if (type.getKind().isPrimitive()) {
+            return type.getKind().name().toLowerCase();
+        } else if (type.getKind() == TypeKind.DECLARED) {
+            return processingEnv.getElementUtils().getBinaryName((TypeElement) ((DeclaredType) type).asElement()).toString();
+        } else if (type.getKind() == TypeKind.ARRAY) {
+            String descriptor = descriptor(((ArrayType) type).getComponentType());
+            return descriptor != null ? "[" + descriptor : null;
+        }
+        return null;
+    }
+
+    private String descriptor(TypeMirror type) {
+        switch (type.getKind()) {
+            case BOOLEAN: return "Z";
+            case BYTE: return "B";
+            case CHAR: return "C";
+            case SHORT: return "S";
+            case INT: return "I";
+            case LONG: return "J";
+            case FLOAT: return "F";
+            case DOUBLE: return "D";
+            case DECLARED: return "L" + binaryName(type) + ";";
+            case ARRAY: return binaryName(type);
+            default: return null;
+        }
+    }
+
+    private static boolean hasAnnotation(Element element, String annotationType) {
+        return findAnnotation(element, annotationType) != null;
+    }
+
+    private static AnnotationMirror findAnnotation(Element element, String annotationType) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            if (((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(annotationType)) {
+                return mirror;
+            }
+        }
+        return null;
+    }
+
+    private static String annotationValue(Element element, String annotationType) {
+        AnnotationMirror mirror = findAnnotation(element, annotationType);
+        if (mirror == null) { return null; }
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : mirror.getElementValues().entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals("value")) {
+                return String.valueOf(entry.getValue().getValue());
+            }
+        }
+        return null;
+    }
+
+    private static String keys(String name, String typeName) {
+        return "new String[]{" + literal(name) + ", " + literal(typeName) + "}";
+    }
+
+    private static String literal(String value) {
+        StringBuilder b = new StringBuilder("\"");
+        for (char c : value.toCharArray()) {
+            switch (c) {
+                case '"': b.append("\\\""); break;
+                case '\\': b.append("\\\\"); break;
+                case '\n': b.append("\\n"); break;
+                case '\r': b.append("\\r"); break;
+                case '\t': b.append("\\t"); break;
+                default: b.append(c);
+            }
+        }
+        return b.append('"').toString();
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.compile.core.processor.injection;
+
+import griffon.core.injection.InjectionMetadata;
+import griffon.core.injection.InjectionMetadata.ContextualMember;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class InjectionMetadataProcessorTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void metadataDescribesContextualMembersAndLifecycleMethods() throws Exception {
+        // given:
+        ClassLoader classLoader = compile(
+            source("sample.Base",
+                "package sample;",
+                "public class Base {",
+                "    @griffon.inject.Contextual java.util.List<String> inherited;",
+                "    @javax.annotation.PostConstruct private void baseInit() { }",
+                "}"),
+            source("sample.Sample",
+                "package sample;",
+                "import griffon.inject.Contextual;",
+                "import javax.annotation.Nonnull;",
+                "import javax.inject.Named;",
+                "public class Sample extends Base {",
+                "    @Contextual @Nonnull @Named(\"key\") public String value;",
+                "    @Contextual private final int count = 0;",
+                "    @Contextual private Object bean;",
+                "    public int calls;",
+                "    public void setBean(@Named(\"theBean\") Object bean) { this.bean = bean; }",
+                "    @javax.annotation.PostConstruct public void init() { calls++; }",
+                "    @javax.annotation.PreDestroy void destroy() { calls--; }",
+                "}"));
+        Class<?> type = classLoader.loadClass("sample.Sample");
+        Class<?> base = classLoader.loadClass("sample.Base");
+
+        // when:
+        InjectionMetadata metadata = InjectionMetadata.metadataFor(type);
+
+        // then:
+        assertNotNull(metadata);
+        assertSame(type, metadata.getType());
+
+        List<ContextualMember> members = metadata.getContextualMembers();
+        assertEquals(4, members.size());
+
+        ContextualMember bean = members.get(0);
+        assertEquals(ContextualMember.Kind.PROPERTY, bean.getKind());
+        assertEquals("bean", bean.getName());
+        assertEquals("setBean", bean.getMemberName());
+        assertArrayEquals(new String[]{"theBean", "java.lang.Object"}, bean.getKeys());
+        assertTrue(bean.isNullable());
+        assertNotNull(bean.getSetter());
+
+        ContextualMember value = members.get(1);
+        assertEquals(ContextualMember.Kind.FIELD, value.getKind());
+        assertArrayEquals(new String[]{"key", "java.lang.String"}, value.getKeys());
+        assertFalse(value.isNullable());
+
+        ContextualMember count = members.get(2);
+        assertArrayEquals(new String[]{"count", "int"}, count.getKeys());
+        assertNull(count.getSetter());
+
+        ContextualMember inherited = members.get(3);
+        assertSame(base, inherited.getDeclaringClass());
+        assertArrayEquals(new String[]{"inherited", "java.util.List"}, inherited.getKeys());
+
+        Object instance = type.newInstance();
+        value.getSetter().set(instance, "hello");
+        assertEquals("hello", type.getField("value").get(instance));
+
+        assertEquals(2, metadata.getPostConstructMethods().size());
+        assertEquals("init", metadata.getPostConstructMethods().get(0).getName());
+        assertSame(base, metadata.getPostConstructMethods().get(1).getDeclaringClass());
+        assertNull(metadata.getPostConstructMethods().get(1).getInvoker());
+        metadata.getPostConstructMethods().get(0).getInvoker().invoke(instance);
+        assertEquals(1, type.getField("calls").get(instance));
+
+        assertEquals(1, metadata.getPreDestroyMethods().size());
+        metadata.getPreDestroyMethods().get(0).getInvoker().invoke(instance);
+        assertEquals(0, type.getField("calls").get(instance));
+    }
+
+    @Test
+    public void metadataIsNotGeneratedForAmbiguousLifecycleMethods() throws Exception {
+        // given:
+        ClassLoader classLoader = compile(
+            source("sample.Ambiguous",
+                "package sample;",
+                "public class Ambiguous {",
+                "    @javax.annotation.PostConstruct public void init1() { }",
+                "    @javax.annotation.PostConstruct public void init2() { }",
+                "}"));
+
+        // expect:
+        assertNull(InjectionMetadata.metadataFor(classLoader.loadClass("sample.Ambiguous")));
+    }
+
+    @Test
+    public void metadataIsNotGeneratedForStaticLifecycleMethods() throws Exception {
+        // given:
+        ClassLoader classLoader = compile(
+            source("sample.StaticInit",
+                "package sample;",
+                "public class StaticInit {",
+                "    @javax.annotation.PostConstruct public static void init() { }",
+                "}"));
+
+        // expect:
+        assertNull(InjectionMetadata.metadataFor(classLoader.loadClass("sample.StaticInit")));
+    }
+
+    private ClassLoader compile(JavaFileObject... sources) throws Exception {
+        File output = folder.newFolder();
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, null)) {
+            List<String> options = new ArrayList<>(Arrays.asList(
+                "-classpath", System.getProperty("java.class.path"),
+                "-d", output.getAbsolutePath(),
+                "-s", output.getAbsolutePath()));
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics, options, null, Arrays.asList(sources));
+            task.setProcessors(Arrays.asList(new InjectionMetadataProcessor()));
+            assertTrue(diagnostics.getDiagnostics().toString(), task.call());
+        }
+        return new URLClassLoader(new URL[]{output.toURI().toURL()}, getClass().getClassLoader());
+    }
+
+    private static JavaFileObject source(String className, String... lines) {
+        final StringBuilder content = new StringBuilder();
+        for (String line : lines) {
+            content.append(line).append('\n');
+        }
+        return new SimpleJavaFileObject(URI.create("string:///" + className.replace('.', '/') + JavaFileObject.Kind.SOURCE.extension), JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return content;
+            }
+        };
+    }
+}
@@ -18,6 +18,8 @@
 package griffon.core.editors;
 
 import griffon.core.formatters.Formatter;
+import griffon.core.formatters.FormatterRegistry;
+import griffon.core.formatters.FormatterRegistry.FormatterFactory;
 import griffon.core.formatters.LocalDateFormatter;
 import griffon.metadata.PropertyEditorFor;
 
@@ -39,6 +41,8 @@ import static java.time.LocalDate.ofEpochDay;
  */
 @PropertyEditorFor(LocalDate.class)
 public class LocalDatePropertyEditor extends AbstractPropertyEditor {
+    private static final FormatterFactory<LocalDate> FORMATTER_FACTORY = LocalDateFormatter::new;
+
     @Override
     protected void setValueInternal(Object value) {
         if (null == value) {
@@ -79,7 +83,7 @@ public class LocalDatePropertyEditor extends AbstractPropertyEditor {
 
     @Override
     protected Formatter<LocalDate> resolveFormatter() {
-        return isBlank(getFormat()) ? null : new LocalDateFormatter(getFormat());
+        return isBlank(getFormat()) ? null : FormatterRegistry.findFormatter(LocalDate.class, getFormat(), FORMATTER_FACTORY);
     }
 
     protected void handleAsList(List<?> list) {
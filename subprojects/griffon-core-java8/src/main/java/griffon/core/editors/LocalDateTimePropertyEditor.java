@@ -18,6 +18,8 @@
 package griffon.core.editors;
 
 import griffon.core.formatters.Formatter;
+import griffon.core.formatters.FormatterRegistry;
+import griffon.core.formatters.FormatterRegistry.FormatterFactory;
 import griffon.core.formatters.LocalDateTimeFormatter;
 import griffon.metadata.PropertyEditorFor;
 
@@ -38,6 +40,8 @@ import static griffon.util.GriffonNameUtils.isBlank;
  */
 @PropertyEditorFor(LocalDateTime.class)
 public class LocalDateTimePropertyEditor extends AbstractPropertyEditor {
+    private static final FormatterFactory<LocalDateTime> FORMATTER_FACTORY = LocalDateTimeFormatter::new;
+
     @Override
     protected void setValueInternal(Object value) {
         if (null == value) {
@@ -90,7 +94,7 @@ public class LocalDateTimePropertyEditor extends AbstractPropertyEditor {
 
     @Override
     protected Formatter<LocalDateTime> resolveFormatter() {
-        return isBlank(getFormat()) ? null : new LocalDateTimeFormatter(getFormat());
+        return isBlank(getFormat()) ? null : FormatterRegistry.findFormatter(LocalDateTime.class, getFormat(), FORMATTER_FACTORY);
     }
 
     protected void handleAsList(List<?> list) {
@@ -18,6 +18,8 @@
 package griffon.core.editors;
 
 import griffon.core.formatters.Formatter;
+import griffon.core.formatters.FormatterRegistry;
+import griffon.core.formatters.FormatterRegistry.FormatterFactory;
 import griffon.core.formatters.LocalTimeFormatter;
 import griffon.metadata.PropertyEditorFor;
 
@@ -37,6 +39,8 @@ import static griffon.util.GriffonNameUtils.isBlank;
  */
 @PropertyEditorFor(LocalTime.class)
 public class LocalTimePropertyEditor extends AbstractPropertyEditor {
+    private static final FormatterFactory<LocalTime> FORMATTER_FACTORY = LocalTimeFormatter::new;
+
     @Override
     protected void setValueInternal(Object value) {
         if (null == value) {
@@ -89,7 +93,7 @@ public class LocalTimePropertyEditor extends AbstractPropertyEditor {
 
     @Override
     protected Formatter<LocalTime> resolveFormatter() {
-        return isBlank(getFormat()) ? null : new LocalTimeFormatter(getFormat());
+        return isBlank(getFormat()) ? null : FormatterRegistry.findFormatter(LocalTime.class, getFormat(), FORMATTER_FACTORY);
     }
 
     protected void handleAsList(List<?> list) {
@@ -22,8 +22,10 @@ import javax.annotation.Nullable;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.util.Locale;
 
 import static griffon.util.GriffonNameUtils.isBlank;
+import static java.util.Objects.requireNonNull;
 
 /**
  * @author Andres Almiray
@@ -38,11 +40,16 @@ public class LocalDateFormatter extends AbstractFormatter<LocalDate> {
     }
 
     public LocalDateFormatter(@Nullable String pattern) {
+        this(pattern, Locale.getDefault(Locale.Category.FORMAT));
+    }
+
+    public LocalDateFormatter(@Nullable String pattern, @Nonnull Locale locale) {
+        requireNonNull(locale, ERROR_LOCALE_NULL);
         if (isBlank(pattern)) {
             formatter = DateTimeFormatter.ISO_LOCAL_DATE;
             this.pattern = "yyyy-MM-dd";
         } else {
-            formatter = DateTimeFormatter.ofPattern(pattern);
+            formatter = DateTimeFormatter.ofPattern(pattern, locale);
             this.pattern = pattern;
         }
     }
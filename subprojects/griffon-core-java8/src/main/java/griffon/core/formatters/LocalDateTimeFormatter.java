@@ -22,8 +22,10 @@ import javax.annotation.Nullable;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.util.Locale;
 
 import static griffon.util.GriffonNameUtils.isBlank;
+import static java.util.Objects.requireNonNull;
 
 /**
  * @author Andres Almiray
@@ -38,11 +40,16 @@ public class LocalDateTimeFormatter extends AbstractFormatter<LocalDateTime> {
     }
 
     public LocalDateTimeFormatter(@Nullable String pattern) {
+        this(pattern, Locale.getDefault(Locale.Category.FORMAT));
+    }
+
+    public LocalDateTimeFormatter(@Nullable String pattern, @Nonnull Locale locale) {
+        requireNonNull(locale, ERROR_LOCALE_NULL);
         if (isBlank(pattern)) {
             formatter = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
             this.pattern = "yyyy-MM-dd'T'HH:mm:ss.SSS";
         } else {
-            formatter = DateTimeFormatter.ofPattern(pattern);
+            formatter = DateTimeFormatter.ofPattern(pattern, locale);
             this.pattern = pattern;
         }
     }
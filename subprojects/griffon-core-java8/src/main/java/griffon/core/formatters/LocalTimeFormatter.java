@@ -22,8 +22,10 @@ import javax.annotation.Nullable;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.util.Locale;
 
 import static griffon.util.GriffonNameUtils.isBlank;
+import static java.util.Objects.requireNonNull;
 
 /**
  * @author Andres Almiray
@@ -38,11 +40,16 @@ public class LocalTimeFormatter extends AbstractFormatter<LocalTime> {
     }
 
     public LocalTimeFormatter(@Nullable String pattern) {
+        this(pattern, Locale.getDefault(Locale.Category.FORMAT));
+    }
+
+    public LocalTimeFormatter(@Nullable String pattern, @Nonnull Locale locale) {
+        requireNonNull(locale, ERROR_LOCALE_NULL);
         if (isBlank(pattern)) {
             formatter = DateTimeFormatter.ISO_LOCAL_TIME;
             this.pattern = "HH:mm:ss.SSS";
         } else {
-            formatter = DateTimeFormatter.ofPattern(pattern);
+            formatter = DateTimeFormatter.ofPattern(pattern, locale);
             this.pattern = pattern;
         }
     }
@@ -0,0 +1,187 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package griffon.core.threading;
+
+import javax.annotation.Nonnull;
+import javax.inject.Inject;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Composable variants of the {@code UIThreadManager} operations.<p>
+ * Stages complete on the thread that executed their work, either the UI thread or a thread of the
+ * default {@code ExecutorService}. Crossing the UI thread boundary never blocks a thread waiting
+ * on the outcome of the other side, for example
+ * <pre>
+ * stages.supplyOutsideUI(() -&gt; service.load())
+ *     .thenAcceptAsync(data -&gt; model.setData(data), stages.insideUIExecutor());
+ * </pre>
+ *
+ * @author Andres Almiray
+ * @since 2.14.0
+ */
+public class UIThreadStages {
+    private static final String ERROR_CALLABLE_NULL = "Argument 'callable' must not be null";
+    private static final String ERROR_RUNNABLE_NULL = "Argument 'runnable' must not be null";
+    private static final String ERROR_STAGE_NULL = "Argument 'stage' must not be null";
+
+    private final UIThreadManager uiThreadManager;
+    private final Executor insideUIExecutor;
+    private final Executor outsideUIExecutor;
+
+    @Inject
+    public UIThreadStages(@Nonnull UIThreadManager uiThreadManager) {
+        this.uiThreadManager = requireNonNull(uiThreadManager, "Argument 'uiThreadManager' must not be null");
+        this.insideUIExecutor = uiThreadManager::runInsideUIAsync;
+        this.outsideUIExecutor = uiThreadManager::runOutsideUIAsync;
+    }
+
+    /**
+     * Returns an {@code Executor} that runs tasks asynchronously inside the UI thread.
+     *
+     * @return an {@code Executor} backed by {@code UIThreadManager.runInsideUIAsync}.
+     */
+    @Nonnull
+    public Executor insideUIExecutor() {
+        return insideUIExecutor;
+    }
+
+    /**
+     * Returns an {@code Executor} that runs tasks on the default {@code ExecutorService}.
+     *
+     * @return an {@code Executor} backed by {@code UIThreadManager.runOutsideUIAsync}.
+     */
+    @Nonnull
+    public Executor outsideUIExecutor() {
+        return outsideUIExecutor;
+    }
+
+    /**
+     * Executes a code block outside of the UI thread.
+     *
+     * @param callable a code block to be executed
+     * @return a stage that completes with the result of the code block.
+     */
+    @Nonnull
+    public <R> CompletableFuture<R> supplyOutsideUI(@Nonnull Callable<R> callable) {
+        return supply(callable, outsideUIExecutor);
+    }
+
+    /**
+     * Executes a code block asynchronously inside the UI thread.
+     *
+     * @param callable a code block to be executed
+     * @return a stage that completes with the result of the code block.
+     */
+    @Nonnull
+    public <R> CompletableFuture<R> supplyInsideUI(@Nonnull Callable<R> callable) {
+        return supply(callable, insideUIExecutor);
+    }
+
+    /**
+     * Executes a code block asynchronously outside of the UI thread.
+     *
+     * @param runnable a code block to be executed
+     * @return a stage that completes once the code block has been executed.
+     */
+    @Nonnull
+    public CompletableFuture<Void> runOutsideUIAsync(@Nonnull Runnable runnable) {
+        requireNonNull(runnable, ERROR_RUNNABLE_NULL);
+        return CompletableFuture.runAsync(runnable, outsideUIExecutor);
+    }
+
+    /**
+     * Executes a code block asynchronously inside the UI thread.
+     *
+     * @param runnable a code block to be executed
+     * @return a stage that completes once the code block has been executed.
+     */
+    @Nonnull
+    public CompletableFuture<Void> runInsideUIAsync(@Nonnull Runnable runnable) {
+        requireNonNull(runnable, ERROR_RUNNABLE_NULL);
+        return CompletableFuture.runAsync(runnable, insideUIExecutor);
+    }
+
+    /**
+     * Applies a function to the result of a stage inside the UI thread.
+     *
+     * @param stage    the stage that supplies the input
+     * @param function the function to apply
+     * @return a stage that completes with the result of the function.
+     */
+    @Nonnull
+    public <T, R> CompletableFuture<R> thenInsideUI(@Nonnull CompletionStage<T> stage, @Nonnull Function<? super T, ? extends R> function) {
+        requireNonNull(stage, ERROR_STAGE_NULL);
+        requireNonNull(function, "Argument 'function' must not be null");
+        return stage.<R>thenApplyAsync(function, insideUIExecutor).toCompletableFuture();
+    }
+
+    /**
+     * Consumes the result of a stage inside the UI thread.
+     *
+     * @param stage    the stage that supplies the input
+     * @param consumer the consumer of the result
+     * @return a stage that completes once the result has been consumed.
+     */
+    @Nonnull
+    public <T> CompletableFuture<Void> thenAcceptInsideUI(@Nonnull CompletionStage<T> stage, @Nonnull Consumer<? super T> consumer) {
+        requireNonNull(stage, ERROR_STAGE_NULL);
+        requireNonNull(consumer, "Argument 'consumer' must not be null");
+        return stage.thenAcceptAsync(consumer, insideUIExecutor).toCompletableFuture();
+    }
+
+    /**
+     * Applies a function to the result of a stage outside of the UI thread.
+     *
+     * @param stage    the stage that supplies the input
+     * @param function the function to apply
+     * @return a stage that completes with the result of the function.
+     */
+    @Nonnull
+    public <T, R> CompletableFuture<R> thenOutsideUI(@Nonnull CompletionStage<T> stage, @Nonnull Function<? super T, ? extends R> function) {
+        requireNonNull(stage, ERROR_STAGE_NULL);
+        requireNonNull(function, "Argument 'function' must not be null");
+        return stage.<R>thenApplyAsync(function, outsideUIExecutor).toCompletableFuture();
+    }
+
+    @Nonnull
+    protected UIThreadManager getUIThreadManager() {
+        return uiThreadManager;
+    }
+
+    @Nonnull
+    private static <R> CompletableFuture<R> supply(@Nonnull Callable<R> callable, @Nonnull Executor executor) {
+        requireNonNull(callable, ERROR_CALLABLE_NULL);
+        CompletableFuture<R> future = new CompletableFuture<>();
+        executor.execute(() -> {
+            if (future.isDone()) { return; }
+            try {
+                future.complete(callable.call());
+            } catch (Throwable throwable) {
+                future.completeExceptionally(throwable);
+            }
+        });
+        return future;
+    }
+}
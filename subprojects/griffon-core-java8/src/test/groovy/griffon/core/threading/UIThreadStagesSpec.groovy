@@ -0,0 +1,135 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package griffon.core.threading
+
+import spock.lang.Specification
+
+import javax.annotation.Nonnull
+import java.util.concurrent.Callable
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.Future
+import java.util.concurrent.ThreadFactory
+import java.util.concurrent.TimeUnit
+
+class UIThreadStagesSpec extends Specification {
+    private TestUIThreadManager uiThreadManager = new TestUIThreadManager()
+    private UIThreadStages stages = new UIThreadStages(uiThreadManager)
+
+    void cleanup() {
+        uiThreadManager.shutdown()
+    }
+
+    void "Background work followed by a UI update runs on the expected threads"() {
+        when:
+        List<String> threads = Collections.synchronizedList([])
+        CompletableFuture<String> future = stages.supplyOutsideUI({
+            threads << Thread.currentThread().name
+            'value'
+        } as Callable<String>)
+        CompletableFuture<Integer> result = stages.thenInsideUI(future, { String s ->
+            threads << Thread.currentThread().name
+            s.length()
+        })
+
+        then:
+        result.get(5, TimeUnit.SECONDS) == 5
+        threads == ['pool', 'ui']
+    }
+
+    void "Running inside and outside the UI thread completes the returned stage"() {
+        when:
+        List<String> threads = Collections.synchronizedList([])
+        CompletableFuture<Void> inside = stages.runInsideUIAsync({ threads << Thread.currentThread().name } as Runnable)
+        inside.get(5, TimeUnit.SECONDS)
+        CompletableFuture<Void> outside = stages.runOutsideUIAsync({ threads << Thread.currentThread().name } as Runnable)
+        outside.get(5, TimeUnit.SECONDS)
+        CompletableFuture<Void> accepted = stages.thenAcceptInsideUI(stages.supplyInsideUI({ 'ui' } as Callable<String>), { String s -> threads << s })
+        accepted.get(5, TimeUnit.SECONDS)
+        Integer length = stages.thenOutsideUI(CompletableFuture.completedFuture('abc'), { String s -> s.length() }).get(5, TimeUnit.SECONDS)
+
+        then:
+        threads == ['ui', 'pool', 'ui']
+        length == 3
+    }
+
+    void "Failures complete the stage exceptionally"() {
+        when:
+        stages.supplyOutsideUI({ throw new IOException('boom') } as Callable<String>).get(5, TimeUnit.SECONDS)
+
+        then:
+        ExecutionException e = thrown(ExecutionException)
+        e.cause instanceof IOException
+    }
+
+    private static class TestUIThreadManager implements UIThreadManager {
+        private final ExecutorService ui = Executors.newSingleThreadExecutor(named('ui'))
+        private final ExecutorService pool = Executors.newSingleThreadExecutor(named('pool'))
+
+        private static ThreadFactory named(String name) {
+            return { Runnable r -> new Thread(r, name) } as ThreadFactory
+        }
+
+        void shutdown() {
+            ui.shutdownNow()
+            pool.shutdownNow()
+        }
+
+        @Override
+        boolean isUIThread() {
+            Thread.currentThread().name == 'ui'
+        }
+
+        @Override
+        void runInsideUIAsync(@Nonnull Runnable runnable) {
+            ui.execute(runnable)
+        }
+
+        @Override
+        void runInsideUISync(@Nonnull Runnable runnable) {
+            ui.submit(runnable).get()
+        }
+
+        @Override
+        void runOutsideUI(@Nonnull Runnable runnable) {
+            isUIThread() ? runOutsideUIAsync(runnable) : runnable.run()
+        }
+
+        @Override
+        void runOutsideUIAsync(@Nonnull Runnable runnable) {
+            pool.execute(runnable)
+        }
+
+        @Override
+        def <R> Future<R> runFuture(@Nonnull ExecutorService executorService, @Nonnull Callable<R> callable) {
+            executorService.submit(callable)
+        }
+
+        @Override
+        def <R> Future<R> runFuture(@Nonnull Callable<R> callable) {
+            pool.submit(callable)
+        }
+
+        @Override
+        def <R> R runInsideUISync(@Nonnull Callable<R> callable) {
+            ui.submit(callable).get()
+        }
+    }
+}
@@ -35,7 +35,8 @@ public enum ApplicationEvent {
     SHUTDOWN_REQUESTED, SHUTDOWN_ABORTED, SHUTDOWN_START,
     NEW_INSTANCE, DESTROY_INSTANCE,
     INITIALIZE_MVC_GROUP("InitializeMVCGroup"), CREATE_MVC_GROUP("CreateMVCGroup"), DESTROY_MVC_GROUP("DestroyMVCGroup"),
-    WINDOW_SHOWN, WINDOW_HIDDEN, WINDOW_ATTACHED, WINDOW_DETACHED;
+    WINDOW_SHOWN, WINDOW_HIDDEN, WINDOW_ATTACHED, WINDOW_DETACHED,
+    UI_THREAD_STALLED("UIThreadStalled"), UI_THREAD_RECOVERED("UIThreadRecovered");
 
     /**
      * Display friendly name
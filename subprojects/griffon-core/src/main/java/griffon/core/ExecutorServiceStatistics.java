@@ -0,0 +1,163 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package griffon.core;
+
+import javax.annotation.Nonnull;
+
+import static griffon.util.GriffonNameUtils.requireNonBlank;
+
+/**
+ * An immutable snapshot of the state of an {@code ExecutorService} managed by {@code MonitoredExecutorServiceManager}.<p>
+ * Values that cannot be determined for a particular kind of {@code ExecutorService} are reported as {@code -1}.
+ * Times are given in nanoseconds.
+ *
+ * @author Andres Almiray
+ * @see MonitoredExecutorServiceManager#getStatistics()
+ * @since 2.14.0
+ */
+public final class ExecutorServiceStatistics {
+    private final String name;
+    private final String type;
+    private final int poolSize;
+    private final int maximumPoolSize;
+    private final int activeCount;
+    private final int queueDepth;
+    private final long completedTaskCount;
+    private final long rejectedTaskCount;
+    private final long averageWaitTime;
+    private final long maxWaitTime;
+    private final long waitTimePercentile99;
+    private final long averageRunTime;
+    private final long maxRunTime;
+    private final long runTimePercentile99;
+    private final boolean shutdown;
+
+    public ExecutorServiceStatistics(@Nonnull String name, @Nonnull String type,
+                                     int poolSize, int maximumPoolSize, int activeCount, int queueDepth,
+                                     long completedTaskCount, long rejectedTaskCount,
+                                     long averageWaitTime, long maxWaitTime, long waitTimePercentile99,
+                                     long averageRunTime, long maxRunTime, long runTimePercentile99,
+                                     boolean shutdown) {
+        this.name = requireNonBlank(name, "Argument 'name' must not be blank");
+        this.type = requireNonBlank(type, "Argument 'type' must not be blank");
+        this.poolSize = poolSize;
+        this.maximumPoolSize = maximumPoolSize;
+        this.activeCount = activeCount;
+        this.queueDepth = queueDepth;
+        this.completedTaskCount = completedTaskCount;
+        this.rejectedTaskCount = rejectedTaskCount;
+        this.averageWaitTime = averageWaitTime;
+        this.maxWaitTime = maxWaitTime;
+        this.waitTimePercentile99 = waitTimePercentile99;
+        this.averageRunTime = averageRunTime;
+        this.maxRunTime = maxRunTime;
+        this.runTimePercentile99 = runTimePercentile99;
+        this.shutdown = shutdown;
+    }
+
+    @Nonnull
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the class name of the {@code ExecutorService}.
+     */
+    @Nonnull
+    public String getType() {
+        return type;
+    }
+
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    public int getMaximumPoolSize() {
+        return maximumPoolSize;
+    }
+
+    public int getActiveCount() {
+        return activeCount;
+    }
+
+    public int getQueueDepth() {
+        return queueDepth;
+    }
+
+    public long getCompletedTaskCount() {
+        return completedTaskCount;
+    }
+
+    public long getRejectedTaskCount() {
+        return rejectedTaskCount;
+    }
+
+    public long getAverageWaitTime() {
+        return averageWaitTime;
+    }
+
+    public long getMaxWaitTime() {
+        return maxWaitTime;
+    }
+
+    public long getWaitTimePercentile99() {
+        return waitTimePercentile99;
+    }
+
+    public long getAverageRunTime() {
+        return averageRunTime;
+    }
+
+    public long getMaxRunTime() {
+        return maxRunTime;
+    }
+
+    public long getRunTimePercentile99() {
+        return runTimePercentile99;
+    }
+
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    /**
+     * Returns whether every thread of the pool was busy and tasks were waiting in the queue
+     * at the time the snapshot was taken.
+     */
+    public boolean isSaturated() {
+        return maximumPoolSize > 0 && activeCount >= maximumPoolSize && queueDepth > 0;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("ExecutorServiceStatistics{");
+        sb.append("name='").append(name).append('\'');
+        sb.append(", type='").append(type).append('\'');
+        sb.append(", poolSize=").append(poolSize);
+        sb.append(", maximumPoolSize=").append(maximumPoolSize);
+        sb.append(", activeCount=").append(activeCount);
+        sb.append(", queueDepth=").append(queueDepth);
+        sb.append(", completedTaskCount=").append(completedTaskCount);
+        sb.append(", rejectedTaskCount=").append(rejectedTaskCount);
+        sb.append(", averageWaitTime=").append(averageWaitTime);
+        sb.append(", averageRunTime=").append(averageRunTime);
+        sb.append(", shutdown=").append(shutdown);
+        sb.append('}');
+        return sb.toString();
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package griffon.core;
+
+import javax.annotation.Nonnull;
+import java.util.Collection;
+
+/**
+ * An {@code ExecutorServiceManager} that monitors the {@code ExecutorService}s it manages.
+ * Implementations of {@code ExecutorServiceManager} are not required to support monitoring;
+ * check with {@code instanceof} before asking for statistics.
+ *
+ * @author Andres Almiray
+ * @since 2.14.0
+ */
+public interface MonitoredExecutorServiceManager extends ExecutorServiceManager {
+    /**
+     * Takes a snapshot of the state of every {@code ExecutorService} currently managed.
+     *
+     * @return a collection of snapshots, in the order their {@code ExecutorService}s were added, or empty if none.
+     */
+    @Nonnull
+    Collection<ExecutorServiceStatistics> getStatistics();
+}
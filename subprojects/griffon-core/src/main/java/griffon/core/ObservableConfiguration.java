@@ -0,0 +1,148 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package griffon.core;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import static griffon.util.GriffonNameUtils.requireNonBlank;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@code MutableConfiguration} that publishes every change as an immutable, versioned snapshot
+ * and notifies interested parties.
+ * <p>
+ * Listeners may be registered for all keys or for a key prefix. A prefixed listener is notified when
+ * the changed key matches the prefix, is nested under it (e.g, {@code "controller.threading.foo"} for
+ * prefix {@code "controller.threading"}), or is a parent of it, as replacing a parent may change
+ * nested values.</p>
+ * <p>
+ * Events are delivered in version order, one at a time. As a consequence a listener may be notified on a
+ * thread other than the one that made the change, and a change made from within a listener is delivered
+ * only after the current event has reached every listener.</p>
+ *
+ * @author Andres Almiray
+ * @since 2.14.0
+ */
+public interface ObservableConfiguration extends MutableConfiguration {
+    /**
+     * Returns the version of the current snapshot. The version is incremented every time a key
+     * is set or removed.
+     *
+     * @return a monotonically increasing version number.
+     */
+    long getVersion();
+
+    void addConfigurationChangeListener(@Nonnull ConfigurationChangeListener listener);
+
+    void addConfigurationChangeListener(@Nonnull String keyPrefix, @Nonnull ConfigurationChangeListener listener);
+
+    void removeConfigurationChangeListener(@Nonnull ConfigurationChangeListener listener);
+
+    @Nonnull
+    ConfigurationChangeListener[] getConfigurationChangeListeners();
+
+    interface ConfigurationChangeListener {
+        void configurationChanged(@Nonnull ConfigurationChangeEvent configurationChangeEvent);
+    }
+
+    class ConfigurationChangeEvent {
+        private final Type type;
+        private final String key;
+        private final Object oldValue;
+        private final Object newValue;
+        private final long version;
+
+        public ConfigurationChangeEvent(@Nonnull Type type, @Nonnull String key, @Nullable Object oldValue, @Nullable Object newValue, long version) {
+            this.type = requireNonNull(type, "Argument 'type' must not be null");
+            this.key = requireNonBlank(key, "Argument 'key' must not be blank");
+            this.oldValue = oldValue;
+            this.newValue = newValue;
+            this.version = version;
+        }
+
+        @Nonnull
+        public Type getType() {
+            return type;
+        }
+
+        @Nonnull
+        public String getKey() {
+            return key;
+        }
+
+        @Nullable
+        public Object getOldValue() {
+            return oldValue;
+        }
+
+        @Nullable
+        public Object getNewValue() {
+            return newValue;
+        }
+
+        /**
+         * Returns the version of the snapshot that contains this change.
+         */
+        public long getVersion() {
+            return version;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+
+            ConfigurationChangeEvent that = (ConfigurationChangeEvent) o;
+
+            if (version != that.version) return false;
+            if (!key.equals(that.key)) return false;
+            if (newValue != null ? !newValue.equals(that.newValue) : that.newValue != null) return false;
+            if (oldValue != null ? !oldValue.equals(that.oldValue) : that.oldValue != null) return false;
+            if (type != that.type) return false;
+
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = type.hashCode();
+            result = 31 * result + key.hashCode();
+            result = 31 * result + (oldValue != null ? oldValue.hashCode() : 0);
+            result = 31 * result + (newValue != null ? newValue.hashCode() : 0);
+            result = 31 * result + (int) (version ^ (version >>> 32));
+            return result;
+        }
+
+        @Override
+        public String toString() {
+            final StringBuilder sb = new StringBuilder("ConfigurationChangeEvent{");
+            sb.append("type=").append(type);
+            sb.append(", key='").append(key).append('\'');
+            sb.append(", oldValue=").append(oldValue);
+            sb.append(", newValue=").append(newValue);
+            sb.append(", version=").append(version);
+            sb.append('}');
+            return sb.toString();
+        }
+
+        public enum Type {
+            ADD, REMOVE, UPDATE
+        }
+    }
+}
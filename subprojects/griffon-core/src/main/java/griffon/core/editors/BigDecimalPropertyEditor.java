@@ -17,8 +17,8 @@
  */
 package griffon.core.editors;
 
-import griffon.core.formatters.BigDecimalFormatter;
 import griffon.core.formatters.Formatter;
+import griffon.core.formatters.FormatterRegistry;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
@@ -63,6 +63,6 @@ public class BigDecimalPropertyEditor extends AbstractPropertyEditor {
 
     @Override
     protected Formatter<BigDecimal> resolveFormatter() {
-        return isBlank(getFormat()) ? null : new BigDecimalFormatter(getFormat());
+        return isBlank(getFormat()) ? null : FormatterRegistry.findFormatter(BigDecimal.class, getFormat());
     }
 }
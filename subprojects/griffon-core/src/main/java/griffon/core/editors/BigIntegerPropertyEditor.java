@@ -17,8 +17,8 @@
  */
 package griffon.core.editors;
 
-import griffon.core.formatters.BigIntegerFormatter;
 import griffon.core.formatters.Formatter;
+import griffon.core.formatters.FormatterRegistry;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
@@ -63,6 +63,6 @@ public class BigIntegerPropertyEditor extends AbstractPropertyEditor {
 
     @Override
     protected Formatter<BigInteger> resolveFormatter() {
-        return isBlank(getFormat()) ? null : new BigIntegerFormatter(getFormat());
+        return isBlank(getFormat()) ? null : FormatterRegistry.findFormatter(BigInteger.class, getFormat());
     }
 }
@@ -17,8 +17,12 @@
  */
 package griffon.core.editors;
 
-import griffon.core.formatters.BooleanFormatter;
+import griffon.core.formatters.BooleanParser;
 import griffon.core.formatters.Formatter;
+import griffon.core.formatters.FormatterRegistry;
+import griffon.core.formatters.ParseException;
+
+import javax.annotation.Nonnull;
 
 import static griffon.util.GriffonNameUtils.isBlank;
 
@@ -26,7 +30,7 @@ import static griffon.util.GriffonNameUtils.isBlank;
  * @author Andres Almiray
  * @since 2.0.0
  */
-public class BooleanPropertyEditor extends AbstractPropertyEditor {
+public class BooleanPropertyEditor extends AbstractPropertyEditor implements BooleanValueConverter {
     @Override
     protected void setValueInternal(Object value) {
         if (null == value) {
@@ -50,6 +54,30 @@ public class BooleanPropertyEditor extends AbstractPropertyEditor {
 
     @Override
     protected Formatter<Boolean> resolveFormatter() {
-        return isBlank(getFormat()) ? null : BooleanFormatter.getInstance(getFormat());
+        return isBlank(getFormat()) ? null : FormatterRegistry.findFormatter(Boolean.class, getFormat());
+    }
+
+    @Override
+    public boolean convertToBoolean(@Nonnull Object value) {
+        if (value instanceof Boolean) {
+            return (Boolean) value;
+        } else if (value instanceof CharSequence) {
+            String str = String.valueOf(value);
+            if (isBlank(str)) {
+                throw illegalValue(str, Boolean.class);
+            }
+            try {
+                Formatter<Boolean> formatter = resolveFormatter();
+                if (formatter instanceof BooleanParser) {
+                    return ((BooleanParser) formatter).parseAsBoolean(str);
+                } else if (formatter != null) {
+                    return formatter.parse(str);
+                }
+                return Boolean.parseBoolean(str);
+            } catch (ParseException e) {
+                throw illegalValue(str, Boolean.class, e);
+            }
+        }
+        throw illegalValue(value, Boolean.class);
     }
 }
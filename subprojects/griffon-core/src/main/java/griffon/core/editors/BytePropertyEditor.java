@@ -17,8 +17,8 @@
  */
 package griffon.core.editors;
 
-import griffon.core.formatters.ByteFormatter;
 import griffon.core.formatters.Formatter;
+import griffon.core.formatters.FormatterRegistry;
 
 import static griffon.util.GriffonNameUtils.isBlank;
 
@@ -54,6 +54,6 @@ public class BytePropertyEditor extends AbstractPropertyEditor {
 
     @Override
     protected Formatter<Byte> resolveFormatter() {
-        return isBlank(getFormat()) ? null : new ByteFormatter(getFormat());
+        return isBlank(getFormat()) ? null : FormatterRegistry.findFormatter(Byte.class, getFormat());
     }
 }
@@ -17,8 +17,8 @@
  */
 package griffon.core.editors;
 
-import griffon.core.formatters.CalendarFormatter;
 import griffon.core.formatters.Formatter;
+import griffon.core.formatters.FormatterRegistry;
 
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
@@ -78,6 +78,6 @@ public class CalendarPropertyEditor extends AbstractPropertyEditor {
 
     @Override
     protected Formatter<Calendar> resolveFormatter() {
-        return isBlank(getFormat()) ? null : new CalendarFormatter(getFormat());
+        return isBlank(getFormat()) ? null : FormatterRegistry.findFormatter(Calendar.class, getFormat());
     }
 }
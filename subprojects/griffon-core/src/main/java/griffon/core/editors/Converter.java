@@ -0,0 +1,69 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package griffon.core.editors;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Converts values from a source type into a target type.
+ * <p>
+ * Unlike {@code PropertyEditor} instances a {@code Converter} holds no conversion state,
+ * thus the same instance may be shared and invoked concurrently from multiple threads.
+ * Instances are obtained through {@link PropertyEditorResolver#findConverter(Class, Class, String)}.
+ *
+ * @author Andres Almiray
+ * @since 2.14.0
+ */
+public interface Converter<S, T> {
+    /**
+     * Returns the type of values accepted by this converter.
+     *
+     * @return the source type, never {@code null}.
+     */
+    @Nonnull
+    Class<S> getSourceType();
+
+    /**
+     * Returns the type of values produced by this converter.
+     *
+     * @return the target type, never {@code null}.
+     */
+    @Nonnull
+    Class<T> getTargetType();
+
+    /**
+     * Returns the format applied to every conversion, if any.
+     *
+     * @return the format, may be {@code null}.
+     */
+    @Nullable
+    String getFormat();
+
+    /**
+     * Converts the given value into the target type.
+     *
+     * @param value the value to be converted.
+     *
+     * @return the converted value or {@code null} if the input value is {@code null}.
+     *
+     * @throws IllegalArgumentException if the value can not be converted.
+     */
+    @Nullable
+    T convert(@Nullable S value);
+}
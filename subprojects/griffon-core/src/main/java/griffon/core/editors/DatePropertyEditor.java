@@ -17,8 +17,8 @@
  */
 package griffon.core.editors;
 
-import griffon.core.formatters.DateFormatter;
 import griffon.core.formatters.Formatter;
+import griffon.core.formatters.FormatterRegistry;
 
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
@@ -71,6 +71,6 @@ public class DatePropertyEditor extends AbstractPropertyEditor {
 
     @Override
     protected Formatter<Date> resolveFormatter() {
-        return isBlank(getFormat()) ? null : new DateFormatter(getFormat());
+        return isBlank(getFormat()) ? null : FormatterRegistry.findFormatter(Date.class, getFormat());
     }
 }
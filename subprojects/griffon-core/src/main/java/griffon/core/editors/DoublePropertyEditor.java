@@ -17,8 +17,12 @@
  */
 package griffon.core.editors;
 
-import griffon.core.formatters.DoubleFormatter;
+import griffon.core.formatters.DoubleParser;
 import griffon.core.formatters.Formatter;
+import griffon.core.formatters.FormatterRegistry;
+import griffon.core.formatters.ParseException;
+
+import javax.annotation.Nonnull;
 
 import static griffon.util.GriffonNameUtils.isBlank;
 
@@ -26,7 +30,7 @@ import static griffon.util.GriffonNameUtils.isBlank;
  * @author Andres Almiray
  * @since 2.0.0
  */
-public class DoublePropertyEditor extends AbstractPropertyEditor {
+public class DoublePropertyEditor extends AbstractPropertyEditor implements DoubleValueConverter {
     @Override
     protected void setValueInternal(Object value) {
         if (null == value) {
@@ -54,6 +58,30 @@ public class DoublePropertyEditor extends AbstractPropertyEditor {
 
     @Override
     protected Formatter<Double> resolveFormatter() {
-        return isBlank(getFormat()) ? null : new DoubleFormatter(getFormat());
+        return isBlank(getFormat()) ? null : FormatterRegistry.findFormatter(Double.class, getFormat());
+    }
+
+    @Override
+    public double convertToDouble(@Nonnull Object value) {
+        if (value instanceof Number) {
+            return ((Number) value).doubleValue();
+        } else if (value instanceof CharSequence) {
+            String str = String.valueOf(value);
+            if (isBlank(str)) {
+                throw illegalValue(str, Double.class);
+            }
+            try {
+                Formatter<Double> formatter = resolveFormatter();
+                if (formatter instanceof DoubleParser) {
+                    return ((DoubleParser) formatter).parseAsDouble(str);
+                } else if (formatter != null) {
+                    return formatter.parse(str);
+                }
+                return Double.parseDouble(str);
+            } catch (NumberFormatException | ParseException e) {
+                throw illegalValue(str, Double.class, e);
+            }
+        }
+        throw illegalValue(value, Double.class);
     }
 }
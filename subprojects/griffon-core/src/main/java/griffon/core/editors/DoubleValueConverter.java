@@ -0,0 +1,43 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package griffon.core.editors;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Converts values into {@code double} without boxing the result.
+ * <p>
+ * Implementations must not alter the state of the editor while converting,
+ * so a single instance may be shared once its format has been set.
+ *
+ * @author Andres Almiray
+ * @see griffon.core.formatters.DoubleParser
+ * @since 2.14.0
+ */
+public interface DoubleValueConverter {
+    /**
+     * Converts the given value into a {@code double}.
+     *
+     * @param value the value to be converted.
+     *
+     * @return the converted value.
+     *
+     * @throws ValueConversionException if the value is blank or can not be converted.
+     */
+    double convertToDouble(@Nonnull Object value);
+}
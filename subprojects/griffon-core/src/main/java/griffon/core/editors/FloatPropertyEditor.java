@@ -17,8 +17,8 @@
  */
 package griffon.core.editors;
 
-import griffon.core.formatters.FloatFormatter;
 import griffon.core.formatters.Formatter;
+import griffon.core.formatters.FormatterRegistry;
 
 import static griffon.util.GriffonNameUtils.isBlank;
 
@@ -54,6 +54,6 @@ public class FloatPropertyEditor extends AbstractPropertyEditor {
 
     @Override
     protected Formatter<Float> resolveFormatter() {
-        return isBlank(getFormat()) ? null : new FloatFormatter(getFormat());
+        return isBlank(getFormat()) ? null : FormatterRegistry.findFormatter(Float.class, getFormat());
     }
 }
@@ -18,7 +18,11 @@
 package griffon.core.editors;
 
 import griffon.core.formatters.Formatter;
-import griffon.core.formatters.IntegerFormatter;
+import griffon.core.formatters.FormatterRegistry;
+import griffon.core.formatters.IntParser;
+import griffon.core.formatters.ParseException;
+
+import javax.annotation.Nonnull;
 
 import static griffon.util.GriffonNameUtils.isBlank;
 
@@ -26,7 +30,7 @@ import static griffon.util.GriffonNameUtils.isBlank;
  * @author Andres Almiray
  * @since 2.0.0
  */
-public class IntegerPropertyEditor extends AbstractPropertyEditor {
+public class IntegerPropertyEditor extends AbstractPropertyEditor implements IntValueConverter {
     @Override
     protected void setValueInternal(Object value) {
         if (null == value) {
@@ -54,6 +58,30 @@ public class IntegerPropertyEditor extends AbstractPropertyEditor {
 
     @Override
     protected Formatter<Integer> resolveFormatter() {
-        return isBlank(getFormat()) ? null : new IntegerFormatter(getFormat());
+        return isBlank(getFormat()) ? null : FormatterRegistry.findFormatter(Integer.class, getFormat());
+    }
+
+    @Override
+    public int convertToInt(@Nonnull Object value) {
+        if (value instanceof Number) {
+            return ((Number) value).intValue();
+        } else if (value instanceof CharSequence) {
+            String str = String.valueOf(value);
+            if (isBlank(str)) {
+                throw illegalValue(str, Integer.class);
+            }
+            try {
+                Formatter<Integer> formatter = resolveFormatter();
+                if (formatter instanceof IntParser) {
+                    return ((IntParser) formatter).parseAsInt(str);
+                } else if (formatter != null) {
+                    return formatter.parse(str);
+                }
+                return Integer.parseInt(str);
+            } catch (NumberFormatException | ParseException e) {
+                throw illegalValue(str, Integer.class, e);
+            }
+        }
+        throw illegalValue(value, Integer.class);
     }
 }
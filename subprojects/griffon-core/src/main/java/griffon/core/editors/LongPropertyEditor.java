@@ -18,7 +18,11 @@
 package griffon.core.editors;
 
 import griffon.core.formatters.Formatter;
-import griffon.core.formatters.LongFormatter;
+import griffon.core.formatters.FormatterRegistry;
+import griffon.core.formatters.LongParser;
+import griffon.core.formatters.ParseException;
+
+import javax.annotation.Nonnull;
 
 import static griffon.util.GriffonNameUtils.isBlank;
 
@@ -26,7 +30,7 @@ import static griffon.util.GriffonNameUtils.isBlank;
  * @author Andres Almiray
  * @since 2.0.0
  */
-public class LongPropertyEditor extends AbstractPropertyEditor {
+public class LongPropertyEditor extends AbstractPropertyEditor implements LongValueConverter {
     @Override
     protected void setValueInternal(Object value) {
         if (null == value) {
@@ -54,6 +58,30 @@ public class LongPropertyEditor extends AbstractPropertyEditor {
 
     @Override
     protected Formatter<Long> resolveFormatter() {
-        return isBlank(getFormat()) ? null : new LongFormatter(getFormat());
+        return isBlank(getFormat()) ? null : FormatterRegistry.findFormatter(Long.class, getFormat());
+    }
+
+    @Override
+    public long convertToLong(@Nonnull Object value) {
+        if (value instanceof Number) {
+            return ((Number) value).longValue();
+        } else if (value instanceof CharSequence) {
+            String str = String.valueOf(value);
+            if (isBlank(str)) {
+                throw illegalValue(str, Long.class);
+            }
+            try {
+                Formatter<Long> formatter = resolveFormatter();
+                if (formatter instanceof LongParser) {
+                    return ((LongParser) formatter).parseAsLong(str);
+                } else if (formatter != null) {
+                    return formatter.parse(str);
+                }
+                return Long.parseLong(str);
+            } catch (NumberFormatException | ParseException e) {
+                throw illegalValue(str, Long.class, e);
+            }
+        }
+        throw illegalValue(value, Long.class);
     }
 }
@@ -0,0 +1,137 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package griffon.core.editors;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.beans.PropertyEditor;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * {@code Converter} backed by the {@code PropertyEditor} registered for the target type.
+ * <p>
+ * Every thread reuses its own editor instance, configured once with the converter's format.
+ * Values are fed with {@code setAsText()} when the source type is a {@code CharSequence},
+ * with {@code setValue()} otherwise. Reentrant conversions on the same thread fall back
+ * to a fresh editor, leaving the shared one untouched.
+ *
+ * @author Andres Almiray
+ * @since 2.14.0
+ */
+final class PropertyEditorConverter<S, T> implements Converter<S, T> {
+    private final Class<S> sourceType;
+    private final Class<T> targetType;
+    private final String format;
+    private final boolean text;
+    private final int generation;
+    private final ThreadLocal<EditorSlot> slots = new ThreadLocal<EditorSlot>() {
+        @Override
+        protected EditorSlot initialValue() {
+            return new EditorSlot();
+        }
+    };
+
+    PropertyEditorConverter(@Nonnull Class<S> sourceType, @Nonnull Class<T> targetType, @Nullable String format, int generation) {
+        this.sourceType = requireNonNull(sourceType, "Argument 'sourceType' must not be null");
+        this.targetType = requireNonNull(targetType, "Argument 'targetType' must not be null");
+        this.format = format;
+        this.text = CharSequence.class.isAssignableFrom(sourceType);
+        this.generation = generation;
+    }
+
+    @Nonnull
+    @Override
+    public Class<S> getSourceType() {
+        return sourceType;
+    }
+
+    @Nonnull
+    @Override
+    public Class<T> getTargetType() {
+        return targetType;
+    }
+
+    @Nullable
+    @Override
+    public String getFormat() {
+        return format;
+    }
+
+    int getGeneration() {
+        return generation;
+    }
+
+    @Nullable
+    @Override
+    @SuppressWarnings("unchecked")
+    public T convert(@Nullable S value) {
+        if (value == null) {
+            return null;
+        }
+
+        EditorSlot slot = slots.get();
+        if (slot.busy) {
+            return (T) convert(createEditor(), value);
+        }
+
+        if (slot.editor == null) {
+            slot.editor = createEditor();
+        }
+        slot.busy = true;
+        try {
+            return (T) convert(slot.editor, value);
+        } finally {
+            slot.busy = false;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "[" + sourceType.getName() + " -> " + targetType.getName() +
+            (format != null ? ", format=" + format : "") + "]";
+    }
+
+    @Nullable
+    private Object convert(@Nonnull PropertyEditor editor, @Nonnull Object value) {
+        if (editor instanceof PropertyEditorResolver.NoopPropertyEditor) {
+            return value;
+        }
+
+        if (text) {
+            editor.setAsText(String.valueOf(value));
+        } else {
+            editor.setValue(value);
+        }
+        return editor.getValue();
+    }
+
+    @Nonnull
+    private PropertyEditor createEditor() {
+        PropertyEditor editor = PropertyEditorResolver.findEditor(targetType);
+        if (format != null && editor instanceof ExtendedPropertyEditor) {
+            ((ExtendedPropertyEditor) editor).setFormat(format);
+        }
+        return editor;
+    }
+
+    private static final class EditorSlot {
+        private PropertyEditor editor;
+        private boolean busy;
+    }
+}
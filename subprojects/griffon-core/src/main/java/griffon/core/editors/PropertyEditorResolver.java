@@ -29,9 +29,10 @@ import java.beans.PropertyEditorSupport;
 import java.lang.ref.Reference;
 import java.lang.ref.WeakReference;
 import java.util.Map;
-import java.util.WeakHashMap;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
+import static griffon.util.GriffonNameUtils.isBlank;
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -39,6 +40,9 @@ import static java.util.Objects.requireNonNull;
  * any given type name. This property editor must support the
  * java.beans.PropertyEditor interface for editing a given object.
  * <p>
+ * Lookups do not block; registrations are serialized. Thread-safe {@code Converter}
+ * instances built on top of the registered editors may be obtained with
+ * {@link #findConverter(Class, Class, String)}.
  *
  * @author Andres Almiray
  * @since 2.0.0
@@ -46,11 +50,19 @@ import static java.util.Objects.requireNonNull;
 public final class PropertyEditorResolver {
     private static final Logger LOG = LoggerFactory.getLogger(PropertyEditorResolver.class);
     private static final Object LOCK = new Object[0];
-    @GuardedBy("LOCK")
     private static final WeakCache<String, Class<? extends PropertyEditor>> propertyEditorRegistry = new WeakCache<>();
-    @GuardedBy("LOCK")
     private static final Map<String, PropertyEditorChain> propertyEditorChainRegistry = new ConcurrentHashMap<>();
+    private static final ClassValue<ConcurrentMap<Class<?>, ConcurrentMap<String, PropertyEditorConverter<?, ?>>>> CONVERTERS = new ClassValue<ConcurrentMap<Class<?>, ConcurrentMap<String, PropertyEditorConverter<?, ?>>>>() {
+        @Override
+        protected ConcurrentMap<Class<?>, ConcurrentMap<String, PropertyEditorConverter<?, ?>>> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+    @GuardedBy("LOCK")
+    private static volatile int generation;
+    private static final String ERROR_SOURCE_TYPE_NULL = "Argument 'sourceType' must not be null";
     private static final String ERROR_TARGET_TYPE_NULL = "Argument 'targetType' must not be null";
+    private static final String NO_FORMAT = "";
     public static final PropertyEditor NOOP_PROPERTY_EDITOR = new NoopPropertyEditor();
 
     private PropertyEditorResolver() {
@@ -66,6 +78,7 @@ public final class PropertyEditorResolver {
         synchronized (LOCK) {
             propertyEditorRegistry.clear();
             propertyEditorChainRegistry.clear();
+            generation++;
         }
     }
 
@@ -109,6 +122,66 @@ public final class PropertyEditorResolver {
         return editor;
     }
 
+    /**
+     * Locate a thread-safe converter from {@code sourceType} to {@code targetType}.
+     *
+     * @param sourceType the type of the values to be converted
+     * @param targetType the type of the converted values
+     *
+     * @return a converter backed by the editor registered for {@code targetType}.
+     *
+     * @see #findConverter(Class, Class, String)
+     * @since 2.14.0
+     */
+    @Nonnull
+    public static <S, T> Converter<S, T> findConverter(@Nonnull Class<S> sourceType, @Nonnull Class<T> targetType) {
+        return findConverter(sourceType, targetType, null);
+    }
+
+    /**
+     * Locate a thread-safe converter from {@code sourceType} to {@code targetType}
+     * that applies the given format.
+     * <p>
+     * Converters are cached per source type, target type and format; the cache is
+     * discarded whenever an editor is registered or unregistered. Values of a
+     * {@code CharSequence} source type are parsed as text, any other values are
+     * handed to the editor as is.
+     *
+     * @param sourceType the type of the values to be converted
+     * @param targetType the type of the converted values
+     * @param format     the format to apply, may be {@code null}
+     *
+     * @return a converter backed by the editor registered for {@code targetType}.
+     *
+     * @since 2.14.0
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    public static <S, T> Converter<S, T> findConverter(@Nonnull Class<S> sourceType, @Nonnull Class<T> targetType, @Nullable String format) {
+        requireNonNull(sourceType, ERROR_SOURCE_TYPE_NULL);
+        requireNonNull(targetType, ERROR_TARGET_TYPE_NULL);
+
+        ConcurrentMap<Class<?>, ConcurrentMap<String, PropertyEditorConverter<?, ?>>> bySourceType = CONVERTERS.get(targetType);
+        ConcurrentMap<String, PropertyEditorConverter<?, ?>> byFormat = bySourceType.get(sourceType);
+        if (byFormat == null) {
+            ConcurrentMap<String, PropertyEditorConverter<?, ?>> map = new ConcurrentHashMap<>();
+            byFormat = bySourceType.putIfAbsent(sourceType, map);
+            if (byFormat == null) {
+                byFormat = map;
+            }
+        }
+
+        String key = isBlank(format) ? NO_FORMAT : format;
+        int currentGeneration = generation;
+        PropertyEditorConverter<?, ?> converter = byFormat.get(key);
+        if (converter == null || converter.getGeneration() != currentGeneration) {
+            converter = new PropertyEditorConverter<>(sourceType, targetType, isBlank(format) ? null : format, currentGeneration);
+            byFormat.put(key, converter);
+            LOG.trace("Created {}", converter);
+        }
+        return (Converter<S, T>) converter;
+    }
+
     /**
      * Unregisters an editor class to edit values of the given target class.
      *
@@ -122,6 +195,7 @@ public final class PropertyEditorResolver {
             String targetTypeName = targetType.getName();
             propertyEditorChainRegistry.remove(targetTypeName);
             propertyEditorRegistry.remove(targetTypeName);
+            generation++;
         }
     }
 
@@ -139,69 +213,74 @@ public final class PropertyEditorResolver {
      *
      * @since 2.4.0
      */
-    @SuppressWarnings("unchecked")
     public static void registerEditor(@Nonnull Class<?> targetType, @Nullable Class<? extends PropertyEditor> editorClass) {
         requireNonNull(targetType, ERROR_TARGET_TYPE_NULL);
         synchronized (LOCK) {
-            String targetTypeName = targetType.getName();
-            if (editorClass == null) {
+            doRegisterEditor(targetType, editorClass);
+            generation++;
+        }
+    }
+
+    // lookups do not acquire LOCK, new entries are published before stale ones are removed
+    @GuardedBy("LOCK")
+    @SuppressWarnings("unchecked")
+    private static void doRegisterEditor(@Nonnull Class<?> targetType, @Nullable Class<? extends PropertyEditor> editorClass) {
+        String targetTypeName = targetType.getName();
+        if (editorClass == null) {
+            propertyEditorChainRegistry.remove(targetTypeName);
+            propertyEditorRegistry.remove(targetTypeName);
+            return;
+        }
+
+        // is targetType handled by a chain?
+        PropertyEditorChain chain = propertyEditorChainRegistry.get(targetTypeName);
+        if (chain != null) {
+            PropertyEditorChain propertyEditorChain = chain.copyOf(editorClass);
+            if (propertyEditorChain.getSize() > 1) {
+                propertyEditorChainRegistry.put(targetTypeName, propertyEditorChain);
+            } else {
+                // standard registration
+                propertyEditorRegistry.put(targetTypeName, editorClass);
                 propertyEditorChainRegistry.remove(targetTypeName);
-                propertyEditorRegistry.remove(targetTypeName);
-                return;
             }
-
-            // is targetType handled by a chain?
-            PropertyEditorChain chain = propertyEditorChainRegistry.get(targetTypeName);
-            if (chain != null) {
-                PropertyEditorChain propertyEditorChain = chain.copyOf(editorClass);
+        } else {
+            // is targetType handled by an editor ?
+            Class<? extends PropertyEditor> propertyEditorType = propertyEditorRegistry.get(targetTypeName);
+            if (propertyEditorType != null) {
+                Class<? extends PropertyEditor>[] propertyEditorClasses = new Class[2];
+                propertyEditorClasses[0] = propertyEditorType;
+                propertyEditorClasses[1] = editorClass;
+                PropertyEditorChain propertyEditorChain = new PropertyEditorChain(targetType, propertyEditorClasses);
                 if (propertyEditorChain.getSize() > 1) {
                     propertyEditorChainRegistry.put(targetTypeName, propertyEditorChain);
-                } else {
-                    // standard registration
-                    propertyEditorChainRegistry.remove(targetTypeName);
-                    propertyEditorRegistry.put(targetTypeName, editorClass);
-                }
-            } else {
-                // is targetType handled by an editor ?
-                Class<? extends PropertyEditor> propertyEditorType = propertyEditorRegistry.get(targetTypeName);
-                if (propertyEditorType != null) {
                     propertyEditorRegistry.remove(targetTypeName);
-                    Class<? extends PropertyEditor>[] propertyEditorClasses = new Class[2];
-                    propertyEditorClasses[0] = propertyEditorType;
-                    propertyEditorClasses[1] = editorClass;
-                    PropertyEditorChain propertyEditorChain = new PropertyEditorChain(targetType, propertyEditorClasses);
-                    if (propertyEditorChain.getSize() > 1) {
-                        propertyEditorChainRegistry.put(targetTypeName, propertyEditorChain);
-                    } else {
-                        // standard registration
-                        propertyEditorChainRegistry.remove(targetTypeName);
-                        propertyEditorRegistry.put(targetTypeName, editorClass);
-                    }
                 } else {
                     // standard registration
-                    propertyEditorChainRegistry.remove(targetTypeName);
                     propertyEditorRegistry.put(targetTypeName, editorClass);
+                    propertyEditorChainRegistry.remove(targetTypeName);
                 }
+            } else {
+                // standard registration
+                propertyEditorRegistry.put(targetTypeName, editorClass);
+                propertyEditorChainRegistry.remove(targetTypeName);
             }
         }
     }
 
     @Nullable
     private static PropertyEditor doFindEditor(@Nonnull Class<?> targetType) {
-        synchronized (LOCK) {
-            String targetTypeName = targetType.getName();
-            if (propertyEditorChainRegistry.containsKey(targetTypeName)) {
-                PropertyEditorChain chain = propertyEditorChainRegistry.get(targetTypeName);
-                return chain.copyOf();
-            } else {
-                Class<?> propertyEditorType = propertyEditorRegistry.get(targetTypeName);
-                if (propertyEditorType != null) {
-                    try {
-                        return (PropertyEditor) propertyEditorType.newInstance();
-                    } catch (InstantiationException | IllegalAccessException e) {
-                        throw new IllegalStateException("Can't instantiate " + propertyEditorType, e);
-                    }
-                }
+        String targetTypeName = targetType.getName();
+        PropertyEditorChain chain = propertyEditorChainRegistry.get(targetTypeName);
+        if (chain != null) {
+            return chain.copyOf();
+        }
+
+        Class<?> propertyEditorType = propertyEditorRegistry.get(targetTypeName);
+        if (propertyEditorType != null) {
+            try {
+                return (PropertyEditor) propertyEditorType.newInstance();
+            } catch (InstantiationException | IllegalAccessException e) {
+                throw new IllegalStateException("Can't instantiate " + propertyEditorType, e);
             }
         }
         return null;
@@ -212,7 +291,7 @@ public final class PropertyEditorResolver {
     }
 
     private static final class WeakCache<K, V> {
-        private final Map<K, Reference<V>> map = new WeakHashMap<>();
+        private final Map<K, Reference<V>> map = new ConcurrentHashMap<>();
 
         private V get(K key) {
             Reference<V> reference = this.map.get(key);
@@ -221,7 +300,7 @@ public final class PropertyEditorResolver {
             } else {
                 V value = reference.get();
                 if (value == null) {
-                    this.map.remove(key);
+                    this.map.remove(key, reference);
                 }
 
                 return value;
@@ -18,7 +18,7 @@
 package griffon.core.editors;
 
 import griffon.core.formatters.Formatter;
-import griffon.core.formatters.ShortFormatter;
+import griffon.core.formatters.FormatterRegistry;
 
 import static griffon.util.GriffonNameUtils.isBlank;
 
@@ -54,6 +54,6 @@ public class ShortPropertyEditor extends AbstractPropertyEditor {
 
     @Override
     protected Formatter<Short> resolveFormatter() {
-        return isBlank(getFormat()) ? null : new ShortFormatter(getFormat());
+        return isBlank(getFormat()) ? null : FormatterRegistry.findFormatter(Short.class, getFormat());
     }
 }
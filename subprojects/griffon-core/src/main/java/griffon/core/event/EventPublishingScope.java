@@ -0,0 +1,36 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package griffon.core.event;
+
+/**
+ * A thread-bound override of the event publishing enabled state.<p>
+ * Closing the scope restores the state that was in effect for the current thread
+ * when the scope was opened. Scopes must be closed by the thread that opened them,
+ * preferably with a try-with-resources block.
+ *
+ * @author Andres Almiray
+ * @see EventRouter#scopeEventPublishing(boolean)
+ * @since 2.14.0
+ */
+public interface EventPublishingScope extends AutoCloseable {
+    /**
+     * Restores the previous event publishing state for the current thread.
+     */
+    @Override
+    void close();
+}
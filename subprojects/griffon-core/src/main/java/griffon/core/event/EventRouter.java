@@ -17,6 +17,9 @@
  */
 package griffon.core.event;
 
+import javax.annotation.Nonnull;
+import java.util.concurrent.TimeUnit;
+
 /**
  * An event handling helper.<p>
  * Listeners may be of type<ul>
@@ -29,9 +32,126 @@ package griffon.core.event;
  * "on" + eventName, Maps keys require handlers to be named as eventName only.<p>
  * Some examples of eventHandler names are: onStartupStart, onMyCoolEvent.
  * Event names must follow the camelCase naming convention.<p>
+ * <p/>
+ * Events may also be routed by type with {@code TypedEventListener}s. Typed listeners
+ * are keyed by event class and receive instances of that class and any of its subclasses;
+ * they are only notified by the {@code publishTypedEvent*} methods.
+ * <p/>
+ * Events published at a high rate may be coalesced by name: bursts of publications collapse
+ * into a single delivery of the latest arguments.
+ * <p/>
+ * Event publishing may be enabled or disabled for the current thread only with
+ * {@code scopeEventPublishing}, leaving events published by other threads untouched.
  *
  * @author Andres Almiray
  */
 public interface EventRouter extends EventPublisher {
+    /**
+     * Adds a typed event listener.<p>
+     * The listener will be notified of events of the given type and any of its subtypes.
+     *
+     * @param eventClass the type of the event
+     * @param listener   an event listener
+     * @since 2.14.0
+     */
+    <E extends Event> void addTypedEventListener(@Nonnull Class<E> eventClass, @Nonnull TypedEventListener<? super E> listener);
+
+    /**
+     * Removes a typed event listener.
+     *
+     * @param eventClass the type of the event
+     * @param listener   an event listener
+     * @since 2.14.0
+     */
+    <E extends Event> void removeTypedEventListener(@Nonnull Class<E> eventClass, @Nonnull TypedEventListener<? super E> listener);
+
+    /**
+     * Publishes an event to typed listeners.<p>
+     * Listeners will be notified in the same thread as the publisher.
+     *
+     * @param event the event to be published
+     * @since 2.14.0
+     */
+    void publishTypedEvent(@Nonnull Event event);
+
+    /**
+     * Publishes an event to typed listeners.<p>
+     * Listeners will be notified outside of the UI thread.
+     *
+     * @param event the event to be published
+     * @since 2.14.0
+     */
+    void publishTypedEventOutsideUI(@Nonnull Event event);
+
+    /**
+     * Publishes an event to typed listeners.<p>
+     * Listeners will be notified in a different thread.
+     *
+     * @param event the event to be published
+     * @since 2.14.0
+     */
+    void publishTypedEventAsync(@Nonnull Event event);
+
+    /**
+     * Coalesces publications of the given event within a time window.<p>
+     * The first publication opens a window; publications made before it elapses replace the
+     * arguments of the pending one. Listeners are notified once per window with the latest
+     * arguments, in a different thread, regardless of how the event was published.
+     *
+     * @param eventName the name of the event
+     * @param window    the length of the window
+     * @param unit      the time unit of the window
+     * @since 2.14.0
+     */
+    void setEventCoalescing(@Nonnull String eventName, long window, @Nonnull TimeUnit unit);
+
+    /**
+     * Coalesces publications of the given event until the UI thread delivers the pending one.<p>
+     * Listeners are notified inside the UI thread with the latest arguments, at most once per
+     * pass of the UI thread, regardless of how the event was published.
+     *
+     * @param eventName the name of the event
+     * @since 2.14.0
+     */
+    void setEventCoalescingInsideUI(@Nonnull String eventName);
+
+    /**
+     * Stops coalescing publications of the given event. A pending delivery will still take place.
+     *
+     * @param eventName the name of the event
+     * @since 2.14.0
+     */
+    void removeEventCoalescing(@Nonnull String eventName);
+
+    /**
+     * Overrides the event publishing enabled state for the current thread until the
+     * returned scope is closed.<p>
+     * Events published by other threads are not affected. Scopes may be nested.
+     *
+     * @param enabled the enabled state to use for the current thread
+     * @return a scope that restores the previous state when closed
+     * @since 2.14.0
+     */
+    @Nonnull
+    EventPublishingScope scopeEventPublishing(boolean enabled);
+
+    /**
+     * Disables event publishing for the current thread until the returned scope is closed.
+     *
+     * @return a scope that restores the previous state when closed
+     * @since 2.14.0
+     */
+    @Nonnull
+    EventPublishingScope suppressEventPublishing();
 
+    /**
+     * Adds a bean listener that is held with a weak reference.<p>
+     * The listener is removed automatically once it is no longer strongly reachable, thus it
+     * must be kept alive by its owner for as long as it should receive events.
+     * Functional and Map based listeners can not be held weakly.
+     *
+     * @param listener an event listener
+     * @since 2.14.0
+     */
+    void addWeakEventListener(@Nonnull Object listener);
 }
@@ -0,0 +1,56 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package griffon.core.event;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Receives measurements taken by an {@code EventRouter} while dispatching events.<p>
+ * Implementations are invoked from publishing and listener threads alike, thus they must be
+ * thread safe and should return quickly. Events published through the typed path are reported
+ * with the fully qualified name of their class.
+ *
+ * @author Andres Almiray
+ * @since 2.14.0
+ */
+public interface EventRouterMetrics {
+    /**
+     * Called once per publication that reached the dispatching stage.
+     *
+     * @param eventName the name of the event
+     * @param listeners the number of listeners that will be notified
+     */
+    void eventPublished(@Nonnull String eventName, int listeners);
+
+    /**
+     * Called after a listener has been notified, regardless of the outcome.
+     *
+     * @param eventName the name of the event
+     * @param listener  the listener that was notified
+     * @param nanos     time spent by the listener, in nanoseconds
+     */
+    void listenerInvoked(@Nonnull String eventName, @Nonnull Object listener, long nanos);
+
+    /**
+     * Called when an asynchronous publication starts to be dispatched.
+     *
+     * @param eventName the name of the event
+     * @param nanos     time the publication spent queued, in nanoseconds
+     */
+    void asyncEventDequeued(@Nonnull String eventName, long nanos);
+}
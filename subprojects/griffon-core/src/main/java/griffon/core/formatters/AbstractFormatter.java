@@ -27,6 +27,8 @@ import static java.util.Objects.requireNonNull;
  * @since 2.0.0
  */
 public abstract class AbstractFormatter<T> implements Formatter<T> {
+    protected static final String ERROR_LOCALE_NULL = "Argument 'locale' must not be null";
+
     protected static int parseHexInt(@Nonnull String val, @Nonnull Class<?> klass) throws ParseException {
         try {
             return Integer.parseInt(String.valueOf(requireNonNull(val)).trim(), 16) & 0xFF;
@@ -17,12 +17,16 @@
  */
 package griffon.core.formatters;
 
+import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.math.BigDecimal;
 import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
 import java.text.NumberFormat;
+import java.util.Locale;
 
 import static griffon.util.GriffonNameUtils.isBlank;
+import static java.util.Objects.requireNonNull;
 
 /**
  * @author Andres Almiray
@@ -32,30 +36,37 @@ public class BigDecimalFormatter extends AbstractFormatter<BigDecimal> {
     public static final String PATTERN_CURRENCY = "currency";
     public static final String PATTERN_PERCENT = "percent";
 
-    private final NumberFormat numberFormat;
+    private final FormatHolder<NumberFormat> numberFormat;
 
     public BigDecimalFormatter() {
         this(null);
     }
 
     public BigDecimalFormatter(@Nullable String pattern) {
+        this(pattern, Locale.getDefault(Locale.Category.FORMAT));
+    }
+
+    public BigDecimalFormatter(@Nullable String pattern, @Nonnull Locale locale) {
+        requireNonNull(locale, ERROR_LOCALE_NULL);
+        NumberFormat format;
         if (isBlank(pattern)) {
-            numberFormat = new DecimalFormat();
-            ((DecimalFormat) numberFormat).setParseBigDecimal(true);
+            format = NumberFormat.getNumberInstance(locale);
+            ((DecimalFormat) format).setParseBigDecimal(true);
         } else if (PATTERN_CURRENCY.equalsIgnoreCase(pattern)) {
-            numberFormat = NumberFormat.getCurrencyInstance();
+            format = NumberFormat.getCurrencyInstance(locale);
         } else if (PATTERN_PERCENT.equalsIgnoreCase(pattern)) {
-            numberFormat = NumberFormat.getPercentInstance();
+            format = NumberFormat.getPercentInstance(locale);
         } else {
-            numberFormat = new DecimalFormat(pattern);
-            ((DecimalFormat) numberFormat).setParseBigDecimal(true);
+            format = new DecimalFormat(pattern, DecimalFormatSymbols.getInstance(locale));
+            ((DecimalFormat) format).setParseBigDecimal(true);
         }
+        numberFormat = new FormatHolder<>(format);
     }
 
     @Nullable
     @Override
     public String format(@Nullable BigDecimal number) {
-        return number == null ? null : numberFormat.format(number);
+        return number == null ? null : numberFormat.get().format(number);
     }
 
     @Nullable
@@ -63,7 +74,7 @@ public class BigDecimalFormatter extends AbstractFormatter<BigDecimal> {
     public BigDecimal parse(@Nullable String str) throws ParseException {
         if (isBlank(str)) return null;
         try {
-            Number number = numberFormat.parse(str);
+            Number number = numberFormat.get().parse(str);
             if (number instanceof BigDecimal) {
                 return (BigDecimal) number;
             }
@@ -17,13 +17,17 @@
  */
 package griffon.core.formatters;
 
+import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
 import java.text.NumberFormat;
+import java.util.Locale;
 
 import static griffon.util.GriffonNameUtils.isBlank;
+import static java.util.Objects.requireNonNull;
 
 /**
  * @author Andres Almiray
@@ -33,30 +37,37 @@ public class BigIntegerFormatter extends AbstractFormatter<BigInteger> {
     public static final String PATTERN_CURRENCY = "currency";
     public static final String PATTERN_PERCENT = "percent";
 
-    private final NumberFormat numberFormat;
+    private final FormatHolder<NumberFormat> numberFormat;
 
     public BigIntegerFormatter() {
         this(null);
     }
 
     public BigIntegerFormatter(@Nullable String pattern) {
+        this(pattern, Locale.getDefault(Locale.Category.FORMAT));
+    }
+
+    public BigIntegerFormatter(@Nullable String pattern, @Nonnull Locale locale) {
+        requireNonNull(locale, ERROR_LOCALE_NULL);
+        NumberFormat format;
         if (isBlank(pattern)) {
-            numberFormat = NumberFormat.getIntegerInstance();
+            format = NumberFormat.getIntegerInstance(locale);
         } else if (PATTERN_CURRENCY.equalsIgnoreCase(pattern)) {
-            numberFormat = NumberFormat.getCurrencyInstance();
+            format = NumberFormat.getCurrencyInstance(locale);
         } else if (PATTERN_PERCENT.equalsIgnoreCase(pattern)) {
-            numberFormat = NumberFormat.getPercentInstance();
+            format = NumberFormat.getPercentInstance(locale);
         } else {
-            numberFormat = new DecimalFormat(pattern);
-            numberFormat.setParseIntegerOnly(true);
-            ((DecimalFormat) numberFormat).setParseBigDecimal(true);
+            format = new DecimalFormat(pattern, DecimalFormatSymbols.getInstance(locale));
+            format.setParseIntegerOnly(true);
+            ((DecimalFormat) format).setParseBigDecimal(true);
         }
+        numberFormat = new FormatHolder<>(format);
     }
 
     @Nullable
     @Override
     public String format(@Nullable BigInteger number) {
-        return number == null ? null : numberFormat.format(number);
+        return number == null ? null : numberFormat.get().format(number);
     }
 
     @Nullable
@@ -64,7 +75,7 @@ public class BigIntegerFormatter extends AbstractFormatter<BigInteger> {
     public BigInteger parse(@Nullable String str) throws ParseException {
         if (isBlank(str)) return null;
         try {
-            Number number = numberFormat.parse(str);
+            Number number = numberFormat.get().parse(str);
             if (number instanceof BigDecimal) {
                 return ((BigDecimal) number).toBigInteger();
             }
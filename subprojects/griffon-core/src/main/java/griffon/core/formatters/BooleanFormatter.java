@@ -28,7 +28,7 @@ import static java.util.Objects.requireNonNull;
  * @author Andres Almiray
  * @since 2.0.0
  */
-public class BooleanFormatter extends AbstractFormatter<Boolean> {
+public class BooleanFormatter extends AbstractFormatter<Boolean> implements BooleanParser {
     public static final String PATTERN_BOOL = "boolean";
     public static final String PATTERN_QUERY = "query";
     public static final String PATTERN_SWITCH = "switch";
@@ -52,6 +52,13 @@ public class BooleanFormatter extends AbstractFormatter<Boolean> {
 
     @Nonnull
     public static BooleanFormatter getInstance(@Nullable String pattern) {
+        if (isBlank(pattern) || PATTERN_BOOL.equals(pattern)) {
+            return BOOL;
+        } else if (PATTERN_QUERY.equals(pattern)) {
+            return QUERY;
+        } else if (PATTERN_SWITCH.equals(pattern)) {
+            return SWITCH;
+        }
         return new BooleanFormatter(pattern);
     }
 
@@ -106,6 +113,14 @@ public class BooleanFormatter extends AbstractFormatter<Boolean> {
         return isBlank(str) ? null : delegate.parse(str);
     }
 
+    @Override
+    public boolean parseAsBoolean(@Nonnull String str) throws ParseException {
+        if (isBlank(str)) {
+            throw parseError(str, Boolean.class);
+        }
+        return delegate.parse(str);
+    }
+
     private interface BooleanFormatterDelegate {
         @Nonnull
         String getPattern();
@@ -19,39 +19,47 @@ package griffon.core.formatters;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.util.Calendar;
+import java.util.Locale;
 
 import static griffon.util.GriffonNameUtils.isBlank;
+import static java.util.Objects.requireNonNull;
 
 /**
  * @author Andres Almiray
  * @since 2.0.0
  */
 public class CalendarFormatter extends AbstractFormatter<Calendar> {
-    private final SimpleDateFormat dateFormat;
+    private final FormatHolder<SimpleDateFormat> dateFormat;
 
     public CalendarFormatter() {
         this(null);
     }
 
     public CalendarFormatter(@Nullable String pattern) {
+        this(pattern, Locale.getDefault(Locale.Category.FORMAT));
+    }
+
+    public CalendarFormatter(@Nullable String pattern, @Nonnull Locale locale) {
+        requireNonNull(locale, ERROR_LOCALE_NULL);
         if (isBlank(pattern)) {
-            dateFormat = new SimpleDateFormat();
+            dateFormat = new FormatHolder<>((SimpleDateFormat) DateFormat.getDateTimeInstance(DateFormat.SHORT, DateFormat.SHORT, locale));
         } else {
-            dateFormat = new SimpleDateFormat(pattern);
+            dateFormat = new FormatHolder<>(new SimpleDateFormat(pattern, locale));
         }
     }
 
     @Nonnull
     public String getPattern() {
-        return dateFormat.toPattern();
+        return dateFormat.prototype().toPattern();
     }
 
     @Nullable
     @Override
     public String format(@Nullable Calendar date) {
-        return date == null ? null : dateFormat.format(date.getTime());
+        return date == null ? null : dateFormat.get().format(date.getTime());
     }
 
     @Nullable
@@ -60,7 +68,7 @@ public class CalendarFormatter extends AbstractFormatter<Calendar> {
         if (isBlank(str)) return null;
         try {
             Calendar c = Calendar.getInstance();
-            c.setTime(dateFormat.parse(str));
+            c.setTime(dateFormat.get().parse(str));
             return c;
         } catch (java.text.ParseException e) {
             throw new ParseException(e);
@@ -19,39 +19,47 @@ package griffon.core.formatters;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.Locale;
 
 import static griffon.util.GriffonNameUtils.isBlank;
+import static java.util.Objects.requireNonNull;
 
 /**
  * @author Andres Almiray
  * @since 2.0.0
  */
 public class DateFormatter extends AbstractFormatter<Date> {
-    private final SimpleDateFormat dateFormat;
+    private final FormatHolder<SimpleDateFormat> dateFormat;
 
     public DateFormatter() {
         this(null);
     }
 
     public DateFormatter(@Nullable String pattern) {
+        this(pattern, Locale.getDefault(Locale.Category.FORMAT));
+    }
+
+    public DateFormatter(@Nullable String pattern, @Nonnull Locale locale) {
+        requireNonNull(locale, ERROR_LOCALE_NULL);
         if (isBlank(pattern)) {
-            dateFormat = new SimpleDateFormat();
+            dateFormat = new FormatHolder<>((SimpleDateFormat) DateFormat.getDateTimeInstance(DateFormat.SHORT, DateFormat.SHORT, locale));
         } else {
-            dateFormat = new SimpleDateFormat(pattern);
+            dateFormat = new FormatHolder<>(new SimpleDateFormat(pattern, locale));
         }
     }
 
     @Nonnull
     public String getPattern() {
-        return dateFormat.toPattern();
+        return dateFormat.prototype().toPattern();
     }
 
     @Nullable
     @Override
     public String format(@Nullable Date date) {
-        return date == null ? null : dateFormat.format(date);
+        return date == null ? null : dateFormat.get().format(date);
     }
 
     @Nullable
@@ -59,7 +67,7 @@ public class DateFormatter extends AbstractFormatter<Date> {
     public Date parse(@Nullable String str) throws ParseException {
         if (isBlank(str)) return null;
         try {
-            return dateFormat.parse(str);
+            return dateFormat.get().parse(str);
         } catch (java.text.ParseException e) {
             throw new ParseException(e);
         }
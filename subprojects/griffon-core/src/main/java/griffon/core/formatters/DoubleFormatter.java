@@ -17,50 +17,69 @@
  */
 package griffon.core.formatters;
 
+import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
 import java.text.NumberFormat;
+import java.util.Locale;
 
 import static griffon.util.GriffonNameUtils.isBlank;
+import static java.util.Objects.requireNonNull;
 
 /**
  * @author Andres Almiray
  * @since 2.0.0
  */
-public class DoubleFormatter extends AbstractFormatter<Double> {
+public class DoubleFormatter extends AbstractFormatter<Double> implements DoubleParser {
     public static final String PATTERN_CURRENCY = "currency";
     public static final String PATTERN_PERCENT = "percent";
 
-    private final NumberFormat numberFormat;
+    private final FormatHolder<NumberFormat> numberFormat;
 
     public DoubleFormatter() {
         this(null);
     }
 
     public DoubleFormatter(@Nullable String pattern) {
+        this(pattern, Locale.getDefault(Locale.Category.FORMAT));
+    }
+
+    public DoubleFormatter(@Nullable String pattern, @Nonnull Locale locale) {
+        requireNonNull(locale, ERROR_LOCALE_NULL);
+        NumberFormat format;
         if (isBlank(pattern)) {
-            numberFormat = new DecimalFormat("#.0");
+            format = new DecimalFormat("#.0", DecimalFormatSymbols.getInstance(locale));
         } else if (PATTERN_CURRENCY.equalsIgnoreCase(pattern)) {
-            numberFormat = NumberFormat.getCurrencyInstance();
+            format = NumberFormat.getCurrencyInstance(locale);
         } else if (PATTERN_PERCENT.equalsIgnoreCase(pattern)) {
-            numberFormat = NumberFormat.getPercentInstance();
+            format = NumberFormat.getPercentInstance(locale);
         } else {
-            numberFormat = new DecimalFormat(pattern);
+            format = new DecimalFormat(pattern, DecimalFormatSymbols.getInstance(locale));
         }
+        numberFormat = new FormatHolder<>(format);
     }
 
     @Nullable
     @Override
     public String format(@Nullable Double number) {
-        return number == null ? null : numberFormat.format(number);
+        return number == null ? null : numberFormat.get().format(number);
     }
 
     @Nullable
     @Override
     public Double parse(@Nullable String str) throws ParseException {
         if (isBlank(str)) return null;
+        return parseAsDouble(str);
+    }
+
+    @Override
+    public double parseAsDouble(@Nonnull String str) throws ParseException {
+        if (isBlank(str)) {
+            throw parseError(str, Double.class);
+        }
         try {
-            return numberFormat.parse(str).doubleValue();
+            return numberFormat.get().parse(str).doubleValue();
         } catch (java.text.ParseException e) {
             throw new ParseException(e);
         }
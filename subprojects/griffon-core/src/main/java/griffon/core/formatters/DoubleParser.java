@@ -0,0 +1,38 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package griffon.core.formatters;
+
+import javax.annotation.Nonnull;
+
+/**
+ * <p>Parses literal representations into {@code double} values without boxing.</p>
+ *
+ * @author Andres Almiray
+ * @see griffon.core.editors.DoubleValueConverter
+ * @since 2.14.0
+ */
+public interface DoubleParser {
+    /**
+     * <p>Parses a literal representation into a {@code double} value.</p>
+     *
+     * @param str the {@code String} to be parsed
+     * @return the parsed value.
+     * @throws ParseException if the {@code String} is blank or cannot be parsed.
+     */
+    double parseAsDouble(@Nonnull String str) throws ParseException;
+}
@@ -0,0 +1,58 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package griffon.core.formatters;
+
+import javax.annotation.Nonnull;
+import java.text.Format;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Hands out a private copy of a {@code java.text.Format} to every thread.
+ * <p>
+ * {@code java.text} formats are mutable while formatting and parsing, thus a single
+ * instance can't be shared. The prototype is configured once and never used directly,
+ * copies are cloned from it, skipping pattern compilation.
+ *
+ * @author Andres Almiray
+ * @since 2.14.0
+ */
+final class FormatHolder<F extends Format> {
+    private final F prototype;
+    private final ThreadLocal<F> formats = new ThreadLocal<F>() {
+        @Override
+        @SuppressWarnings("unchecked")
+        protected F initialValue() {
+            return (F) prototype.clone();
+        }
+    };
+
+    FormatHolder(@Nonnull F prototype) {
+        this.prototype = requireNonNull(prototype, "Argument 'prototype' must not be null");
+    }
+
+    @Nonnull
+    F prototype() {
+        return prototype;
+    }
+
+    @Nonnull
+    F get() {
+        return formats.get();
+    }
+}
@@ -0,0 +1,268 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package griffon.core.formatters;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static griffon.util.GriffonNameUtils.isBlank;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Caches {@code Formatter} instances per type, pattern and locale.
+ * <p>
+ * Instances are created by the {@code FormatterFactory} registered for a given type and
+ * shared by every caller afterwards, thus factories must produce thread-safe formatters.
+ * All formatters found in this package comply with this requirement. Factories for
+ * {@code Byte}, {@code Short}, {@code Integer}, {@code Long}, {@code Float}, {@code Double},
+ * {@code BigInteger}, {@code BigDecimal}, {@code Boolean}, {@code Date}, {@code Calendar}
+ * and {@code Locale} are registered by default.
+ *
+ * @author Andres Almiray
+ * @since 2.14.0
+ */
+public final class FormatterRegistry {
+    private static final Logger LOG = LoggerFactory.getLogger(FormatterRegistry.class);
+    private static final String ERROR_TYPE_NULL = "Argument 'type' must not be null";
+    private static final String ERROR_FACTORY_NULL = "Argument 'factory' must not be null";
+    private static final String ERROR_LOCALE_NULL = "Argument 'locale' must not be null";
+    private static final String NO_PATTERN = "";
+
+    private static final Map<String, FormatterFactory<?>> FACTORIES = new ConcurrentHashMap<>();
+    private static final ClassValue<ConcurrentMap<Locale, ConcurrentMap<String, CachedFormatter>>> FORMATTERS = new ClassValue<ConcurrentMap<Locale, ConcurrentMap<String, CachedFormatter>>>() {
+        @Override
+        protected ConcurrentMap<Locale, ConcurrentMap<String, CachedFormatter>> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    static {
+        registerDefaultFormatters();
+    }
+
+    private FormatterRegistry() {
+
+    }
+
+    /**
+     * Creates {@code Formatter} instances for a particular type.
+     *
+     * @param <T> the type of instances the created formatters can handle.
+     */
+    public interface FormatterFactory<T> {
+        /**
+         * Creates a new thread-safe {@code Formatter}.
+         *
+         * @param pattern the pattern to apply, may be {@code null}
+         * @param locale  the locale to apply
+         *
+         * @return a new {@code Formatter}, never {@code null}.
+         *
+         * @throws IllegalArgumentException if the pattern is invalid.
+         */
+        @Nonnull
+        Formatter<T> create(@Nullable String pattern, @Nonnull Locale locale);
+    }
+
+    /**
+     * Registers a factory of formatters for the given type, replacing any previous registration.
+     * Formatters cached for the given type are discarded.
+     *
+     * @param type    the type handled by the formatters
+     * @param factory the factory of formatters
+     */
+    public static <T> void registerFormatter(@Nonnull Class<T> type, @Nonnull FormatterFactory<T> factory) {
+        requireNonNull(type, ERROR_TYPE_NULL);
+        requireNonNull(factory, ERROR_FACTORY_NULL);
+        FACTORIES.put(type.getName(), factory);
+        FORMATTERS.get(type).clear();
+    }
+
+    /**
+     * Unregisters the factory of formatters for the given type.
+     * Formatters cached for the given type are discarded.
+     *
+     * @param type the type handled by the formatters
+     */
+    public static void unregisterFormatter(@Nonnull Class<?> type) {
+        requireNonNull(type, ERROR_TYPE_NULL);
+        FACTORIES.remove(type.getName());
+        FORMATTERS.get(type).clear();
+    }
+
+    /**
+     * Restores the default set of factories, discarding all other registrations.
+     */
+    public static void reset() {
+        FACTORIES.clear();
+        registerDefaultFormatters();
+    }
+
+    /**
+     * Finds a formatter for the given type and pattern using the default locale.
+     *
+     * @param type    the type handled by the formatter
+     * @param pattern the pattern to apply, may be {@code null}
+     *
+     * @return a shared {@code Formatter} or {@code null} if no factory is registered for {@code type}.
+     */
+    @Nullable
+    public static <T> Formatter<T> findFormatter(@Nonnull Class<T> type, @Nullable String pattern) {
+        return findFormatter(type, pattern, Locale.getDefault(Locale.Category.FORMAT));
+    }
+
+    /**
+     * Finds a formatter for the given type, pattern and locale.
+     *
+     * @param type    the type handled by the formatter
+     * @param pattern the pattern to apply, may be {@code null}
+     * @param locale  the locale to apply
+     *
+     * @return a shared {@code Formatter} or {@code null} if no factory is registered for {@code type}.
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public static <T> Formatter<T> findFormatter(@Nonnull Class<T> type, @Nullable String pattern, @Nonnull Locale locale) {
+        requireNonNull(type, ERROR_TYPE_NULL);
+        FormatterFactory<T> factory = (FormatterFactory<T>) FACTORIES.get(type.getName());
+        return factory != null ? doFindFormatter(type, pattern, locale, factory) : null;
+    }
+
+    /**
+     * Finds a formatter for the given type and pattern using the default locale.
+     * The supplied factory is used when no factory has been registered for {@code type}.
+     *
+     * @param type           the type handled by the formatter
+     * @param pattern        the pattern to apply, may be {@code null}
+     * @param defaultFactory the factory to use if none is registered
+     *
+     * @return a shared {@code Formatter}, never {@code null}.
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    public static <T> Formatter<T> findFormatter(@Nonnull Class<T> type, @Nullable String pattern, @Nonnull FormatterFactory<T> defaultFactory) {
+        requireNonNull(type, ERROR_TYPE_NULL);
+        requireNonNull(defaultFactory, ERROR_FACTORY_NULL);
+        FormatterFactory<T> factory = (FormatterFactory<T>) FACTORIES.get(type.getName());
+        return doFindFormatter(type, pattern, Locale.getDefault(Locale.Category.FORMAT), factory != null ? factory : defaultFactory);
+    }
+
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    private static <T> Formatter<T> doFindFormatter(@Nonnull Class<T> type, @Nullable String pattern, @Nonnull Locale locale, @Nonnull FormatterFactory<T> factory) {
+        requireNonNull(locale, ERROR_LOCALE_NULL);
+
+        ConcurrentMap<Locale, ConcurrentMap<String, CachedFormatter>> byLocale = FORMATTERS.get(type);
+        ConcurrentMap<String, CachedFormatter> byPattern = byLocale.get(locale);
+        if (byPattern == null) {
+            ConcurrentMap<String, CachedFormatter> map = new ConcurrentHashMap<>();
+            byPattern = byLocale.putIfAbsent(locale, map);
+            if (byPattern == null) {
+                byPattern = map;
+            }
+        }
+
+        String key = isBlank(pattern) ? NO_PATTERN : pattern;
+        CachedFormatter cached = byPattern.get(key);
+        if (cached == null || cached.factory != factory) {
+            cached = new CachedFormatter(factory, factory.create(isBlank(pattern) ? null : pattern, locale));
+            byPattern.put(key, cached);
+            LOG.trace("Created formatter for {} with pattern '{}' and locale {}", type.getName(), key, locale);
+        }
+        return (Formatter<T>) cached.formatter;
+    }
+
+    private static void registerDefaultFormatters() {
+        registerFormatter(Byte.class, new DefaultFormatterFactory<>(Byte.class));
+        registerFormatter(Short.class, new DefaultFormatterFactory<>(Short.class));
+        registerFormatter(Integer.class, new DefaultFormatterFactory<>(Integer.class));
+        registerFormatter(Long.class, new DefaultFormatterFactory<>(Long.class));
+        registerFormatter(Float.class, new DefaultFormatterFactory<>(Float.class));
+        registerFormatter(Double.class, new DefaultFormatterFactory<>(Double.class));
+        registerFormatter(BigInteger.class, new DefaultFormatterFactory<>(BigInteger.class));
+        registerFormatter(BigDecimal.class, new DefaultFormatterFactory<>(BigDecimal.class));
+        registerFormatter(Boolean.class, new DefaultFormatterFactory<>(Boolean.class));
+        registerFormatter(Date.class, new DefaultFormatterFactory<>(Date.class));
+        registerFormatter(Calendar.class, new DefaultFormatterFactory<>(Calendar.class));
+        registerFormatter(Locale.class, new DefaultFormatterFactory<>(Locale.class));
+    }
+
+    private static final class CachedFormatter {
+        private final FormatterFactory<?> factory;
+        private final Formatter<?> formatter;
+
+        private CachedFormatter(@Nonnull FormatterFactory<?> factory, @Nonnull Formatter<?> formatter) {
+            this.factory = factory;
+            this.formatter = formatter;
+        }
+    }
+
+    private static final class DefaultFormatterFactory<T> implements FormatterFactory<T> {
+        private final Class<T> type;
+
+        private DefaultFormatterFactory(@Nonnull Class<T> type) {
+            this.type = type;
+        }
+
+        @Nonnull
+        @Override
+        @SuppressWarnings("unchecked")
+        public Formatter<T> create(@Nullable String pattern, @Nonnull Locale locale) {
+            return (Formatter<T>) doCreate(pattern, locale);
+        }
+
+        @Nonnull
+        private Formatter<?> doCreate(@Nullable String pattern, @Nonnull Locale locale) {
+            if (Byte.class == type) {
+                return new ByteFormatter(pattern, locale);
+            } else if (Short.class == type) {
+                return new ShortFormatter(pattern, locale);
+            } else if (Integer.class == type) {
+                return new IntegerFormatter(pattern, locale);
+            } else if (Long.class == type) {
+                return new LongFormatter(pattern, locale);
+            } else if (Float.class == type) {
+                return new FloatFormatter(pattern, locale);
+            } else if (Double.class == type) {
+                return new DoubleFormatter(pattern, locale);
+            } else if (BigInteger.class == type) {
+                return new BigIntegerFormatter(pattern, locale);
+            } else if (BigDecimal.class == type) {
+                return new BigDecimalFormatter(pattern, locale);
+            } else if (Boolean.class == type) {
+                return BooleanFormatter.getInstance(pattern);
+            } else if (Date.class == type) {
+                return new DateFormatter(pattern, locale);
+            } else if (Calendar.class == type) {
+                return new CalendarFormatter(pattern, locale);
+            }
+            return new LocaleFormatter();
+        }
+    }
+}
@@ -17,51 +17,70 @@
  */
 package griffon.core.formatters;
 
+import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
 import java.text.NumberFormat;
+import java.util.Locale;
 
 import static griffon.util.GriffonNameUtils.isBlank;
+import static java.util.Objects.requireNonNull;
 
 /**
  * @author Andres Almiray
  * @since 2.0.0
  */
-public class IntegerFormatter extends AbstractFormatter<Integer> {
+public class IntegerFormatter extends AbstractFormatter<Integer> implements IntParser {
     public static final String PATTERN_CURRENCY = "currency";
     public static final String PATTERN_PERCENT = "percent";
 
-    private final NumberFormat numberFormat;
+    private final FormatHolder<NumberFormat> numberFormat;
 
     public IntegerFormatter() {
         this(null);
     }
 
     public IntegerFormatter(@Nullable String pattern) {
+        this(pattern, Locale.getDefault(Locale.Category.FORMAT));
+    }
+
+    public IntegerFormatter(@Nullable String pattern, @Nonnull Locale locale) {
+        requireNonNull(locale, ERROR_LOCALE_NULL);
+        NumberFormat format;
         if (isBlank(pattern)) {
-            numberFormat = NumberFormat.getIntegerInstance();
+            format = NumberFormat.getIntegerInstance(locale);
         } else if (PATTERN_CURRENCY.equalsIgnoreCase(pattern)) {
-            numberFormat = NumberFormat.getCurrencyInstance();
+            format = NumberFormat.getCurrencyInstance(locale);
         } else if (PATTERN_PERCENT.equalsIgnoreCase(pattern)) {
-            numberFormat = NumberFormat.getPercentInstance();
+            format = NumberFormat.getPercentInstance(locale);
         } else {
-            numberFormat = new DecimalFormat(pattern);
-            numberFormat.setParseIntegerOnly(true);
+            format = new DecimalFormat(pattern, DecimalFormatSymbols.getInstance(locale));
+            format.setParseIntegerOnly(true);
         }
+        numberFormat = new FormatHolder<>(format);
     }
 
     @Nullable
     @Override
     public String format(@Nullable Integer number) {
-        return number == null ? null : numberFormat.format(number);
+        return number == null ? null : numberFormat.get().format(number);
     }
 
     @Nullable
     @Override
     public Integer parse(@Nullable String str) throws ParseException {
         if (isBlank(str)) return null;
+        return parseAsInt(str);
+    }
+
+    @Override
+    public int parseAsInt(@Nonnull String str) throws ParseException {
+        if (isBlank(str)) {
+            throw parseError(str, Integer.class);
+        }
         try {
-            return numberFormat.parse(str).intValue();
+            return numberFormat.get().parse(str).intValue();
         } catch (java.text.ParseException e) {
             throw new ParseException(e);
         }
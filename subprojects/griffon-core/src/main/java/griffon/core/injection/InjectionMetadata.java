@@ -0,0 +1,250 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package griffon.core.injection;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static griffon.util.GriffonNameUtils.requireNonBlank;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Describes the contextual injection points and lifecycle methods of a type. Subclasses are generated at
+ * compile time by {@code griffon-core-compile} and named after the type they describe, with the
+ * {@code $$InjectionMetadata} suffix. Generated subclasses access non-private members directly; members
+ * that cannot be reached from generated code have no {@code Setter} or {@code Invoker} and must be bound
+ * by the runtime.
+ *
+ * @author Andres Almiray
+ * @since 2.14.0
+ */
+public abstract class InjectionMetadata {
+    public static final String SUFFIX = "$$InjectionMetadata";
+
+    private static final InjectionMetadata NONE = new InjectionMetadata(Object.class) {};
+    private static final ClassValue<InjectionMetadata> METADATA = new ClassValue<InjectionMetadata>() {
+        @Override
+        protected InjectionMetadata computeValue(Class<?> type) {
+            return loadMetadata(type);
+        }
+    };
+
+    private final Class<?> type;
+    private final List<ContextualMember> contextualMembers = new ArrayList<>();
+    private final List<LifecycleMethod> postConstructMethods = new ArrayList<>();
+    private final List<LifecycleMethod> preDestroyMethods = new ArrayList<>();
+
+    protected InjectionMetadata(@Nonnull Class<?> type) {
+        this.type = requireNonNull(type, "Argument 'type' must not be null");
+    }
+
+    /**
+     * Finds the generated metadata of a type. Lookups are cached per type.
+     *
+     * @param type the type to be described
+     * @return the metadata generated for {@code type} or {@code null} if there is none.
+     */
+    @Nullable
+    public static InjectionMetadata metadataFor(@Nonnull Class<?> type) {
+        requireNonNull(type, "Argument 'type' must not be null");
+        InjectionMetadata metadata = METADATA.get(type);
+        return metadata != NONE ? metadata : null;
+    }
+
+    @Nonnull
+    private static InjectionMetadata loadMetadata(@Nonnull Class<?> type) {
+        ClassLoader classLoader = type.getClassLoader();
+        if (classLoader == null || type.isArray() || type.isPrimitive()) {
+            return NONE;
+        }
+        try {
+            Class<?> metadataClass = Class.forName(type.getName() + SUFFIX, true, classLoader);
+            if (InjectionMetadata.class.isAssignableFrom(metadataClass)) {
+                InjectionMetadata metadata = (InjectionMetadata) metadataClass.newInstance();
+                if (metadata.getType() == type) {
+                    return metadata;
+                }
+            }
+        } catch (ClassNotFoundException | InstantiationException | IllegalAccessException | LinkageError e) {
+            // no usable metadata
+        }
+        return NONE;
+    }
+
+    @Nonnull
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * Returns the members that receive values from the application context, in injection order.
+     */
+    @Nonnull
+    public List<ContextualMember> getContextualMembers() {
+        return Collections.unmodifiableList(contextualMembers);
+    }
+
+    /**
+     * Returns the methods annotated with {@code @PostConstruct}, subclass methods first.
+     */
+    @Nonnull
+    public List<LifecycleMethod> getPostConstructMethods() {
+        return Collections.unmodifiableList(postConstructMethods);
+    }
+
+    /**
+     * Returns the methods annotated with {@code @PreDestroy}, subclass methods first.
+     */
+    @Nonnull
+    public List<LifecycleMethod> getPreDestroyMethods() {
+        return Collections.unmodifiableList(preDestroyMethods);
+    }
+
+    protected final void contextualField(@Nonnull Class<?> declaringClass, @Nonnull String name, @Nonnull String[] keys, boolean nullable, @Nullable Setter setter) {
+        contextualMembers.add(new ContextualMember(ContextualMember.Kind.FIELD, declaringClass, name, name, keys, nullable, setter));
+    }
+
+    protected final void contextualProperty(@Nonnull Class<?> declaringClass, @Nonnull String name, @Nonnull String setterName, @Nonnull String[] keys, boolean nullable, @Nullable Setter setter) {
+        contextualMembers.add(new ContextualMember(ContextualMember.Kind.PROPERTY, declaringClass, name, setterName, keys, nullable, setter));
+    }
+
+    protected final void postConstructMethod(@Nonnull Class<?> declaringClass, @Nonnull String name, @Nullable Invoker invoker) {
+        postConstructMethods.add(new LifecycleMethod(declaringClass, name, invoker));
+    }
+
+    protected final void preDestroyMethod(@Nonnull Class<?> declaringClass, @Nonnull String name, @Nullable Invoker invoker) {
+        preDestroyMethods.add(new LifecycleMethod(declaringClass, name, invoker));
+    }
+
+    /**
+     * Writes a value to a member of an instance.
+     */
+    public interface Setter {
+        void set(@Nonnull Object instance, @Nullable Object value);
+    }
+
+    /**
+     * Invokes a no-args method of an instance.
+     */
+    public interface Invoker {
+        void invoke(@Nonnull Object instance);
+    }
+
+    /**
+     * A field or property that receives a value from the application context.
+     */
+    public static final class ContextualMember {
+        public enum Kind {
+            FIELD, PROPERTY
+        }
+
+        private final Kind kind;
+        private final Class<?> declaringClass;
+        private final String name;
+        private final String memberName;
+        private final String[] keys;
+        private final boolean nullable;
+        private final Setter setter;
+
+        private ContextualMember(@Nonnull Kind kind, @Nonnull Class<?> declaringClass, @Nonnull String name, @Nonnull String memberName, @Nonnull String[] keys, boolean nullable, @Nullable Setter setter) {
+            this.kind = kind;
+            this.declaringClass = requireNonNull(declaringClass, "Argument 'declaringClass' must not be null");
+            this.name = requireNonBlank(name, "Argument 'name' must not be blank");
+            this.memberName = requireNonBlank(memberName, "Argument 'memberName' must not be blank");
+            this.keys = requireNonNull(keys, "Argument 'keys' must not be null").clone();
+            this.nullable = nullable;
+            this.setter = setter;
+        }
+
+        @Nonnull
+        public Kind getKind() {
+            return kind;
+        }
+
+        @Nonnull
+        public Class<?> getDeclaringClass() {
+            return declaringClass;
+        }
+
+        /**
+         * Returns the name of the field or property.
+         */
+        @Nonnull
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Returns the name of the field, or of the setter method of a property.
+         */
+        @Nonnull
+        public String getMemberName() {
+            return memberName;
+        }
+
+        /**
+         * Returns the keys looked up in the application context, in order. The last key is the name of the member's type.
+         */
+        @Nonnull
+        public String[] getKeys() {
+            return keys.clone();
+        }
+
+        public boolean isNullable() {
+            return nullable;
+        }
+
+        @Nullable
+        public Setter getSetter() {
+            return setter;
+        }
+    }
+
+    /**
+     * A no-args lifecycle method.
+     */
+    public static final class LifecycleMethod {
+        private final Class<?> declaringClass;
+        private final String name;
+        private final Invoker invoker;
+
+        private LifecycleMethod(@Nonnull Class<?> declaringClass, @Nonnull String name, @Nullable Invoker invoker) {
+            this.declaringClass = requireNonNull(declaringClass, "Argument 'declaringClass' must not be null");
+            this.name = requireNonBlank(name, "Argument 'name' must not be blank");
+            this.invoker = invoker;
+        }
+
+        @Nonnull
+        public Class<?> getDeclaringClass() {
+            return declaringClass;
+        }
+
+        @Nonnull
+        public String getName() {
+            return name;
+        }
+
+        @Nullable
+        public Invoker getInvoker() {
+            return invoker;
+        }
+    }
+}
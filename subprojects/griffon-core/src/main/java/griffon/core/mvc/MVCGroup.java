@@ -21,6 +21,7 @@ import griffon.core.Context;
 import griffon.core.artifact.GriffonController;
 import griffon.core.artifact.GriffonModel;
 import griffon.core.artifact.GriffonView;
+import griffon.core.threading.TaskScope;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -127,6 +128,15 @@ public interface MVCGroup extends MVCHandler {
     @Nonnull
     Context getContext();
 
+    /**
+     * Returns the scope that tracks background tasks belonging to this group.
+     * Outstanding tasks are cancelled when the group is destroyed.
+     *
+     * @since 2.14.0
+     */
+    @Nonnull
+    TaskScope getTaskScope();
+
     /**
      * Returns the parent {@code MVCGroup} of this group.
      * <p>The parent may be null if this is a top level MVC group.</p>
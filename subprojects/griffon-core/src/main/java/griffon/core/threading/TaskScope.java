@@ -0,0 +1,93 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package griffon.core.threading;
+
+import javax.annotation.Nonnull;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tracks background tasks that belong to a single owner, such as an {@code MVCGroup}.<p>
+ * Tasks are executed by a shared {@code ExecutorService}. Cancelling the scope cancels every
+ * outstanding task and rejects further submissions.
+ *
+ * @author Andres Almiray
+ * @since 2.14.0
+ */
+public interface TaskScope {
+    /**
+     * @return the name of this scope.
+     */
+    @Nonnull
+    String getName();
+
+    /**
+     * Submits a code block for execution.
+     *
+     * @param callable a code block to be executed
+     * @return a Future that contains the result of the execution
+     * @throws java.util.concurrent.RejectedExecutionException if the scope has been cancelled
+     */
+    @Nonnull
+    <R> Future<R> submit(@Nonnull Callable<R> callable);
+
+    /**
+     * Submits a code block for execution.
+     *
+     * @param runnable a code block to be executed
+     * @return a Future that completes once the code block has been executed
+     * @throws java.util.concurrent.RejectedExecutionException if the scope has been cancelled
+     */
+    @Nonnull
+    Future<?> submit(@Nonnull Runnable runnable);
+
+    /**
+     * Cancels all outstanding tasks, interrupting those that are running. Further submissions are rejected.
+     */
+    void cancel();
+
+    boolean isCancelled();
+
+    /**
+     * Waits until all outstanding tasks have finished running.
+     *
+     * @param timeout the maximum time to wait
+     * @param unit    the unit of the timeout
+     * @return {@code true} if no tasks are outstanding, {@code false} if the timeout elapsed first.
+     * @throws InterruptedException if interrupted while waiting
+     */
+    boolean awaitTermination(long timeout, @Nonnull TimeUnit unit) throws InterruptedException;
+
+    /**
+     * @return the number of tasks that are either queued or running.
+     */
+    int getActiveTaskCount();
+
+    long getSubmittedTaskCount();
+
+    long getCompletedTaskCount();
+
+    long getCancelledTaskCount();
+
+    /**
+     * @return CPU time consumed by the tasks of this scope, in nanoseconds, or {@code -1} if the JVM
+     * does not support measuring thread CPU time.
+     */
+    long getCpuTime();
+}
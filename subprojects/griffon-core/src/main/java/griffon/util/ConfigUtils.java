@@ -424,8 +424,8 @@ public final class ConfigUtils {
      * @return the value of the key or the default value if no match is found
      */
     public static boolean getConfigValueAsBoolean(@Nonnull Map<String, Object> config, @Nonnull String key, boolean defaultValue) {
-        Object value = getConfigValue(config, key, defaultValue);
-        return castToBoolean(value);
+        Object value = getConfigValue(config, key, null);
+        return castToBoolean(value, defaultValue);
     }
 
     /**
@@ -450,8 +450,8 @@ public final class ConfigUtils {
      * @return the value of the key or the default value if no match is found
      */
     public static int getConfigValueAsInt(@Nonnull Map<String, Object> config, @Nonnull String key, int defaultValue) {
-        Object value = getConfigValue(config, key, defaultValue);
-        return castToInt(value);
+        Object value = getConfigValue(config, key, null);
+        return castToInt(value, defaultValue);
     }
 
     /**
@@ -476,8 +476,8 @@ public final class ConfigUtils {
      * @return the value of the key or the default value if no match is found
      */
     public static long getConfigValueAsLong(@Nonnull Map<String, Object> config, @Nonnull String key, long defaultValue) {
-        Object value = getConfigValue(config, key, defaultValue);
-        return castToLong(value);
+        Object value = getConfigValue(config, key, null);
+        return castToLong(value, defaultValue);
     }
 
     /**
@@ -502,8 +502,8 @@ public final class ConfigUtils {
      * @return the value of the key or the default value if no match is found
      */
     public static double getConfigValueAsDouble(@Nonnull Map<String, Object> config, @Nonnull String key, double defaultValue) {
-        Object value = getConfigValue(config, key, defaultValue);
-        return castToDouble(value);
+        Object value = getConfigValue(config, key, null);
+        return castToDouble(value, defaultValue);
     }
 
     /**
@@ -17,14 +17,11 @@
  */
 package griffon.util;
 
-import griffon.core.editors.ExtendedPropertyEditor;
 import griffon.core.editors.PropertyEditorResolver;
 import griffon.exceptions.GriffonException;
-import griffon.exceptions.TypeConversionException;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.beans.PropertyEditor;
 import java.lang.reflect.Array;
 import java.math.BigDecimal;
 import java.math.BigInteger;
@@ -36,7 +33,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
-import static griffon.util.GriffonNameUtils.isNotBlank;
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -74,7 +70,7 @@ public final class TypeUtils {
         if (value instanceof Number) {
             return ((Number) value).byteValue();
         }
-        return Byte.valueOf(String.valueOf(value));
+        return Byte.parseByte(String.valueOf(value));
     }
 
     public static short castToShort(@Nonnull Object value) {
@@ -82,7 +78,7 @@ public final class TypeUtils {
         if (value instanceof Number) {
             return ((Number) value).shortValue();
         }
-        return Short.valueOf(String.valueOf(value));
+        return Short.parseShort(String.valueOf(value));
     }
 
     public static int castToInt(@Nonnull Object value) {
@@ -90,7 +86,7 @@ public final class TypeUtils {
         if (value instanceof Number) {
             return ((Number) value).intValue();
         }
-        return Integer.valueOf(String.valueOf(value));
+        return Integer.parseInt(String.valueOf(value));
     }
 
     public static long castToLong(@Nonnull Object value) {
@@ -98,7 +94,7 @@ public final class TypeUtils {
         if (value instanceof Number) {
             return ((Number) value).longValue();
         }
-        return Long.valueOf(String.valueOf(value));
+        return Long.parseLong(String.valueOf(value));
     }
 
     public static float castToFloat(@Nonnull Object value) {
@@ -106,7 +102,7 @@ public final class TypeUtils {
         if (value instanceof Number) {
             return ((Number) value).floatValue();
         }
-        return Float.valueOf(String.valueOf(value));
+        return Float.parseFloat(String.valueOf(value));
     }
 
     public static double castToDouble(@Nonnull Object value) {
@@ -114,7 +110,7 @@ public final class TypeUtils {
         if (value instanceof Number) {
             return ((Number) value).doubleValue();
         }
-        return Double.valueOf(String.valueOf(value));
+        return Double.parseDouble(String.valueOf(value));
     }
 
     public static BigInteger castToBigInteger(@Nonnull Object value) {
@@ -229,27 +225,7 @@ public final class TypeUtils {
             }
         }
 
-        PropertyEditor targetEditor = resolveTargetPropertyEditor(targetType, format);
-        if (targetEditor != null) {
-            targetEditor.setValue(value);
-            return (T) targetEditor.getValue();
-        }
-
-        throw new TypeConversionException(value, targetType);
-    }
-
-    @Nullable
-    private static <T> PropertyEditor resolveTargetPropertyEditor(@Nonnull Class<T> targetType, @Nullable String format) {
-        PropertyEditor editor = doResolveTargetPropertyEditor(targetType);
-        if (editor instanceof ExtendedPropertyEditor && isNotBlank(format)) {
-            ((ExtendedPropertyEditor) editor).setFormat(format);
-        }
-        return editor;
-    }
-
-    @Nullable
-    private static <T> PropertyEditor doResolveTargetPropertyEditor(@Nonnull Class<T> targetType) {
-        return PropertyEditorResolver.findEditor(targetType);
+        return PropertyEditorResolver.findConverter(Object.class, targetType, format).convert(value);
     }
 
     public static boolean isBoolean(@Nonnull Class<?> type) {
@@ -158,12 +158,29 @@ public abstract class AbstractApplicationBootstrapper implements ApplicationBoot
         List<Module> moduleInstances = loadModules();
         moduleInstances.add(0, new DefaultApplicationModule());
         Map<String, Module> sortedModules = sortModules(moduleInstances);
+        configureModules(sortedModules);
         for (Map.Entry<String, Module> entry : sortedModules.entrySet()) {
             LOG.debug("Loading module bindings from {}:{}", entry.getKey(), entry.getValue());
             modules.add(entry.getValue());
         }
     }
 
+    /**
+     * Configures modules before their bindings are collected. Modules are configured one after another unless
+     * parallel startup has been enabled, see {@code StartupScheduler}; bindings are collected in module order either way.
+     *
+     * @param modules the modules to configure, in dependency order
+     * @since 2.14.0
+     */
+    protected void configureModules(@Nonnull Map<String, Module> modules) {
+        new StartupScheduler().schedule("module", modules, new StartupScheduler.Task<Module>() {
+            @Override
+            public void execute(@Nonnull String name, @Nonnull Module module) {
+                module.getBindings();
+            }
+        });
+    }
+
     @Nonnull
     protected Map<String, Module> sortModules(@Nonnull List<Module> moduleInstances) {
         return sortByDependencies(moduleInstances, "Module", "module");
@@ -24,12 +24,11 @@ import griffon.inject.Contextual;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.beans.PropertyDescriptor;
-import java.beans.PropertyEditor;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 
-import static griffon.core.editors.PropertyEditorResolver.findEditor;
+import static griffon.core.editors.PropertyEditorResolver.findConverter;
 import static griffon.util.AnnotationUtils.annotationsOfMethodParameter;
 import static griffon.util.AnnotationUtils.findAnnotation;
 import static griffon.util.AnnotationUtils.nameFor;
@@ -207,9 +206,7 @@ public abstract class AbstractContext implements Context {
             if (type.isAssignableFrom(value.getClass())) {
                 return (T) value;
             } else {
-                PropertyEditor editor = findEditor(type);
-                editor.setValue(value);
-                return (T) editor.getValue();
+                return findConverter(Object.class, type).convert(value);
             }
         }
         return null;
@@ -44,6 +44,8 @@ import griffon.core.resources.ResourceInjector;
 import griffon.core.resources.ResourceResolver;
 import griffon.core.threading.UIThreadManager;
 import griffon.core.view.WindowManager;
+import org.codehaus.griffon.runtime.core.event.AbstractEventRouter;
+import org.codehaus.griffon.runtime.core.event.AsyncEventDispatcher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -262,10 +264,25 @@ public abstract class AbstractGriffonApplication extends AbstractObservable impl
 
     public void initialize() {
         if (getPhase() == ApplicationPhase.INITIALIZE) {
+            registerEventLanes();
             getApplicationConfigurer().init();
         }
     }
 
+    /**
+     * Registers the lanes of the application's event router with the {@code ExecutorServiceManager}.
+     * Lanes of other routers are not registered, as those routers may come and go with their MVC groups.
+     */
+    private void registerEventLanes() {
+        EventRouter eventRouter = getEventRouter();
+        if (eventRouter instanceof AbstractEventRouter) {
+            ExecutorServiceManager executorServiceManager = injector.getInstance(ExecutorServiceManager.class);
+            for (AsyncEventDispatcher.Lane lane : ((AbstractEventRouter) eventRouter).getAsyncEventDispatcher().getLanes()) {
+                executorServiceManager.add(lane);
+            }
+        }
+    }
+
     public void ready() {
         if (getPhase() != ApplicationPhase.STARTUP) return;
 
@@ -37,6 +37,8 @@ import griffon.core.mvc.MVCGroupConfiguration;
 import griffon.core.resources.ResourceInjector;
 import griffon.util.ServiceLoaderUtils;
 import org.codehaus.griffon.runtime.core.controller.NoopActionManager;
+import org.codehaus.griffon.runtime.core.threading.AbstractUIThreadManager;
+import org.codehaus.griffon.runtime.core.threading.UIThreadWatchdog;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -114,6 +116,7 @@ public class DefaultApplicationConfigurer implements ApplicationConfigurer {
 
     protected void doInitialize() {
         initializeEventHandler();
+        initializeUIThreadWatchdog();
 
         event(ApplicationEvent.BOOTSTRAP_START, asList(application));
 
@@ -138,6 +141,38 @@ public class DefaultApplicationConfigurer implements ApplicationConfigurer {
         }
     }
 
+    protected void initializeUIThreadWatchdog() {
+        if (!(application.getUIThreadManager() instanceof AbstractUIThreadManager)) {
+            return;
+        }
+        final UIThreadWatchdog watchdog = ((AbstractUIThreadManager) application.getUIThreadManager()).getUIThreadWatchdog();
+        if (watchdog == null) {
+            return;
+        }
+
+        watchdog.addStallListener(new UIThreadWatchdog.StallListener() {
+            @Override
+            public void stallDetected(@Nonnull UIThreadWatchdog.Stall stall) {
+                event(ApplicationEvent.UI_THREAD_STALLED, asList(stall));
+            }
+
+            @Override
+            public void stallEnded(@Nonnull UIThreadWatchdog.Stall stall) {
+                event(ApplicationEvent.UI_THREAD_RECOVERED, asList(stall));
+            }
+        });
+        application.getEventRouter().addEventListener(ApplicationEvent.READY_END.getName(), new RunnableWithArgs() {
+            public void run(@Nullable Object... args) {
+                watchdog.start();
+            }
+        });
+        application.getEventRouter().addEventListener(ApplicationEvent.SHUTDOWN_START.getName(), new RunnableWithArgs() {
+            public void run(@Nullable Object... args) {
+                watchdog.stop();
+            }
+        });
+    }
+
     protected void event(@Nonnull ApplicationEvent event, @Nullable List<?> args) {
         application.getEventRouter().publishEvent(event.getName(), args);
     }
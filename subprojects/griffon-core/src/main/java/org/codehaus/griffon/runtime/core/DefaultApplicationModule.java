@@ -85,6 +85,8 @@ import org.codehaus.griffon.runtime.core.resources.ResourceResolverDecoratorFact
 import org.codehaus.griffon.runtime.core.resources.ResourceResolverProvider;
 import org.codehaus.griffon.runtime.core.threading.DefaultExecutorServiceProvider;
 import org.codehaus.griffon.runtime.core.threading.DefaultUIThreadManager;
+import org.codehaus.griffon.runtime.core.threading.ExecutorServiceStrategy;
+import org.codehaus.griffon.runtime.core.threading.ExecutorServiceStrategyProvider;
 import org.codehaus.griffon.runtime.core.view.NoopWindowManager;
 import org.codehaus.griffon.runtime.util.ClassResourceBundleLoader;
 import org.codehaus.griffon.runtime.util.DefaultCompositeResourceBundleBuilder;
@@ -218,6 +220,10 @@ public class DefaultApplicationModule extends AbstractModule {
             .to(DefaultApplicationResourceInjector.class)
             .asSingleton();
 
+        bind(ExecutorServiceStrategy.class)
+            .toProvider(ExecutorServiceStrategyProvider.class)
+            .asSingleton();
+
         bind(ExecutorService.class)
             .withClassifier(named("defaultExecutorService"))
             .toProvider(DefaultExecutorServiceProvider.class)
@@ -17,52 +17,171 @@
  */
 package org.codehaus.griffon.runtime.core;
 
-import griffon.core.ExecutorServiceManager;
+import griffon.core.ExecutorServiceStatistics;
+import griffon.core.MonitoredExecutorServiceManager;
+import org.codehaus.griffon.runtime.core.event.AsyncEventDispatcher;
+import org.codehaus.griffon.runtime.core.threading.ExecutorServiceMonitor;
+import org.codehaus.griffon.runtime.core.threading.InstrumentedExecutorService;
+import org.codehaus.griffon.runtime.core.threading.InstrumentedThreadPoolExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.LinkedHashSet;
-import java.util.Set;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
 
-import static java.util.Collections.unmodifiableSet;
+import static java.util.Collections.unmodifiableList;
 
 /**
+ * Keeps track of {@code ExecutorService}s and monitors their state. An {@code ExecutorService} that does not
+ * record task timings by itself is wrapped with an {@code InstrumentedExecutorService} when added; the wrapper
+ * is returned by {@code add()} and only tasks submitted through it are measured. Every managed
+ * {@code ExecutorService} is also registered as an MXBean named {@code griffon:type=ExecutorService,name=<name>,id=<id>}
+ * when the {@code griffon.executor.jmx} System property is set to {@code true}.
+ *
  * @author Andres Almiray
  * @since 2.0.0
  */
-public class DefaultExecutorServiceManager implements ExecutorServiceManager {
-    private final Set<ExecutorService> executorServices = new LinkedHashSet<>();
+public class DefaultExecutorServiceManager implements MonitoredExecutorServiceManager {
+    public static final String KEY_JMX_ENABLED = "griffon.executor.jmx";
+
+    private static final Logger LOG = LoggerFactory.getLogger(DefaultExecutorServiceManager.class);
+    private static final AtomicInteger MONITOR_ID = new AtomicInteger();
+
+    private final Map<ExecutorService, ExecutorServiceMonitor> monitors = new LinkedHashMap<>();
+    private final Map<ExecutorService, ObjectName> objectNames = new LinkedHashMap<>();
+    private final Map<ExecutorService, InstrumentedExecutorService> wrappers = new LinkedHashMap<>();
+    private final boolean jmxEnabled;
+
+    public DefaultExecutorServiceManager() {
+        this(Boolean.getBoolean(KEY_JMX_ENABLED));
+    }
+
+    public DefaultExecutorServiceManager(boolean jmxEnabled) {
+        this.jmxEnabled = jmxEnabled;
+    }
 
     @Nonnull
     @Override
-    public Collection<ExecutorService> getExecutorServices() {
-        return unmodifiableSet(executorServices);
+    public synchronized Collection<ExecutorService> getExecutorServices() {
+        return unmodifiableList(new ArrayList<>(monitors.keySet()));
     }
 
+    /**
+     * Manages the given {@code ExecutorService}. Adding an {@code ExecutorService} that is already managed
+     * has no effect.
+     *
+     * @param executorService the {@code ExecutorService} to be managed
+     * @return the managed {@code ExecutorService}, which may be an {@code InstrumentedExecutorService} wrapping
+     * the given one. Submit tasks to it to have them measured.
+     */
     @Override
     @Nullable
-    public ExecutorService add(@Nullable ExecutorService executorService) {
-        if (executorService != null) {
-            executorServices.add(executorService);
+    public synchronized ExecutorService add(@Nullable ExecutorService executorService) {
+        if (executorService == null || monitors.containsKey(executorService)) {
+            return executorService;
         }
-        return executorService;
+        InstrumentedExecutorService wrapper = wrappers.get(executorService);
+        if (wrapper != null) {
+            return wrapper;
+        }
+
+        ExecutorService managed = executorService;
+        if (!isInstrumented(executorService)) {
+            wrapper = new InstrumentedExecutorService(executorService);
+            wrappers.put(executorService, wrapper);
+            managed = wrapper;
+        }
+        ExecutorServiceMonitor monitor = new ExecutorServiceMonitor(ExecutorServiceMonitor.nameOf(managed), managed);
+        monitors.put(managed, monitor);
+        if (jmxEnabled) {
+            registerMonitor(managed, monitor);
+        }
+        return managed;
     }
 
+    /**
+     * Stops managing the given {@code ExecutorService}, which may be either the one given to {@code add()}
+     * or the one returned by it.
+     *
+     * @param executorService the {@code ExecutorService} to be removed
+     * @return the given {@code ExecutorService}
+     */
     @Override
     @Nullable
-    public ExecutorService remove(@Nullable ExecutorService executorService) {
-        executorServices.remove(executorService);
+    public synchronized ExecutorService remove(@Nullable ExecutorService executorService) {
+        ExecutorService managed = wrappers.remove(executorService);
+        if (managed == null) {
+            managed = executorService;
+            if (executorService instanceof InstrumentedExecutorService) {
+                ExecutorService delegate = ((InstrumentedExecutorService) executorService).getDelegate();
+                if (wrappers.get(delegate) == executorService) {
+                    wrappers.remove(delegate);
+                }
+            }
+        }
+        monitors.remove(managed);
+        unregisterMonitor(objectNames.remove(managed));
         return executorService;
     }
 
     @Override
-    public void shutdownAll() {
-        for (ExecutorService executorService : executorServices) {
+    public synchronized void shutdownAll() {
+        for (ExecutorService executorService : monitors.keySet()) {
             if (!executorService.isShutdown()) {
                 executorService.shutdown();
             }
         }
+        for (ObjectName objectName : objectNames.values()) {
+            unregisterMonitor(objectName);
+        }
+        objectNames.clear();
+    }
+
+    @Nonnull
+    @Override
+    public synchronized Collection<ExecutorServiceStatistics> getStatistics() {
+        List<ExecutorServiceStatistics> statistics = new ArrayList<>(monitors.size());
+        for (ExecutorServiceMonitor monitor : monitors.values()) {
+            statistics.add(monitor.snapshot());
+        }
+        return unmodifiableList(statistics);
+    }
+
+    private static boolean isInstrumented(@Nonnull ExecutorService executorService) {
+        return executorService instanceof InstrumentedExecutorService ||
+            executorService instanceof InstrumentedThreadPoolExecutor ||
+            executorService instanceof AsyncEventDispatcher.Lane;
+    }
+
+    private void registerMonitor(@Nonnull ExecutorService executorService, @Nonnull ExecutorServiceMonitor monitor) {
+        try {
+            ObjectName objectName = new ObjectName("griffon:type=ExecutorService,name=" + ObjectName.quote(monitor.getName()) + ",id=" + MONITOR_ID.incrementAndGet());
+            ManagementFactory.getPlatformMBeanServer().registerMBean(monitor, objectName);
+            objectNames.put(executorService, objectName);
+        } catch (Exception e) {
+            LOG.warn("Could not register MBean for " + monitor.getName(), e);
+        }
+    }
+
+    private static void unregisterMonitor(@Nullable ObjectName objectName) {
+        if (objectName == null) { return; }
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            if (server.isRegistered(objectName)) {
+                server.unregisterMBean(objectName);
+            }
+        } catch (Exception e) {
+            LOG.warn("Could not unregister MBean " + objectName, e);
+        }
     }
 }
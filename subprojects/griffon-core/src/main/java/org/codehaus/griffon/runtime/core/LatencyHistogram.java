@@ -0,0 +1,94 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.core;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock-free histogram with power of two buckets. Bucket {@code i} holds values
+ * in the range {@code [2^(i-1), 2^i)}, bucket zero holds zero.
+ *
+ * @author Andres Almiray
+ * @since 2.14.0
+ */
+public final class LatencyHistogram {
+    private static final int BUCKETS = 64;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong total = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records a value. Negative values are recorded as zero.
+     *
+     * @param value the value to record
+     */
+    public void record(long value) {
+        if (value < 0) { value = 0; }
+        buckets.incrementAndGet(BUCKETS - Long.numberOfLeadingZeros(value));
+        count.incrementAndGet();
+        total.addAndGet(value);
+        long current = max.get();
+        while (value > current && !max.compareAndSet(current, value)) {
+            current = max.get();
+        }
+    }
+
+    public long getCount() {
+        return count.get();
+    }
+
+    public long getTotal() {
+        return total.get();
+    }
+
+    public long getMax() {
+        return max.get();
+    }
+
+    public long getMean() {
+        long c = count.get();
+        return c > 0 ? total.get() / c : 0L;
+    }
+
+    /**
+     * Returns an upper bound of the given percentile, accurate to a power of two.
+     *
+     * @param percentile a value between 0 and 100
+     * @return the upper bound of the bucket holding the percentile, never greater than the maximum value recorded.
+     */
+    public long getPercentile(double percentile) {
+        if (percentile < 0d || percentile > 100d) {
+            throw new IllegalArgumentException("Argument 'percentile' must be between 0 and 100");
+        }
+        long c = count.get();
+        if (c == 0) { return 0L; }
+        long target = Math.max(1L, (long) Math.ceil(c * percentile / 100d));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += buckets.get(i);
+            if (seen >= target) {
+                long upperBound = i == 0 ? 0L : (1L << i) - 1;
+                return Math.min(upperBound, max.get());
+            }
+        }
+        return max.get();
+    }
+}
@@ -0,0 +1,341 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.core;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static griffon.util.AnnotationUtils.getDependsOn;
+import static java.util.Collections.unmodifiableList;
+import static java.util.Collections.unmodifiableMap;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Runs a startup task for every node of a dependency graph, such as modules or addons. Dependencies are taken
+ * from {@code @DependsOn}; nodes must be supplied in dependency order, as computed by
+ * {@code AnnotationUtils.sortByDependencies}. Dependencies on nodes that appear later (cycles) are ignored.
+ * <p>
+ * Nodes run one after another on the calling thread unless parallel startup is enabled with the
+ * {@code griffon.startup.parallel} System property. In that case nodes whose dependencies have completed run
+ * concurrently on a fork-join pool whose size is set by {@code griffon.startup.parallelism} (defaults to the
+ * number of available processors). Either way a {@link Report} with a critical-path breakdown is produced.
+ *
+ * @author Andres Almiray
+ * @since 2.14.0
+ */
+public class StartupScheduler {
+    public static final String KEY_PARALLEL = "griffon.startup.parallel";
+    public static final String KEY_PARALLELISM = "griffon.startup.parallelism";
+
+    private static final Logger LOG = LoggerFactory.getLogger(StartupScheduler.class);
+
+    private final boolean parallel;
+    private final int parallelism;
+
+    public StartupScheduler() {
+        this(Boolean.getBoolean(KEY_PARALLEL), Integer.getInteger(KEY_PARALLELISM, Runtime.getRuntime().availableProcessors()));
+    }
+
+    public StartupScheduler(boolean parallel, int parallelism) {
+        this.parallel = parallel;
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    public boolean isParallel() {
+        return parallel && parallelism > 1;
+    }
+
+    /**
+     * The work to be performed for each node.
+     */
+    public interface Task<T> {
+        void execute(@Nonnull String name, @Nonnull T node);
+    }
+
+    /**
+     * Executes {@code task} for every node, respecting dependencies. Any failure is rethrown once running
+     * nodes have finished; nodes that depend on a failed node are skipped.
+     *
+     * @param type  the kind of nodes, used for logging
+     * @param nodes all nodes, by name, in dependency order
+     * @param task  the work to perform for each node
+     * @return a timing report
+     */
+    @Nonnull
+    public <T> Report schedule(@Nonnull String type, @Nonnull Map<String, T> nodes, @Nonnull Task<T> task) {
+        requireNonNull(type, "Argument 'type' must not be null");
+        requireNonNull(nodes, "Argument 'nodes' must not be null");
+        requireNonNull(task, "Argument 'task' must not be null");
+
+        List<Node<T>> graph = buildGraph(nodes);
+        long start = System.nanoTime();
+        if (isParallel() && graph.size() > 1) {
+            runInParallel(graph, task);
+        } else {
+            for (Node<T> node : graph) {
+                node.run(task, start);
+            }
+        }
+        Report report = new Report(type, graph, System.nanoTime() - start);
+        LOG.debug("{}", report);
+        return report;
+    }
+
+    @Nonnull
+    private static <T> List<Node<T>> buildGraph(@Nonnull Map<String, T> nodes) {
+        Map<String, Node<T>> byName = new HashMap<>();
+        List<Node<T>> graph = new ArrayList<>();
+        for (Map.Entry<String, T> entry : nodes.entrySet()) {
+            Node<T> node = new Node<>(entry.getKey(), entry.getValue());
+            for (String dependency : getDependsOn(entry.getValue())) {
+                Node<T> parent = byName.get(dependency);
+                if (parent != null && !node.dependencies.contains(parent)) {
+                    node.dependencies.add(parent);
+                    parent.dependents.add(node);
+                }
+            }
+            node.pending.set(node.dependencies.size());
+            byName.put(node.name, node);
+            graph.add(node);
+        }
+        return graph;
+    }
+
+    private <T> void runInParallel(@Nonnull List<Node<T>> graph, @Nonnull final Task<T> task) {
+        final ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        final ForkJoinPool pool = new ForkJoinPool(parallelism, new ForkJoinPool.ForkJoinWorkerThreadFactory() {
+            @Override
+            public ForkJoinWorkerThread newThread(ForkJoinPool pool) {
+                ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                thread.setName("griffon-startup-" + thread.getPoolIndex());
+                thread.setContextClassLoader(classLoader);
+                return thread;
+            }
+        }, null, false);
+        final CountDownLatch latch = new CountDownLatch(graph.size());
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        final long start = System.nanoTime();
+
+        try {
+            for (Node<T> node : graph) {
+                if (node.dependencies.isEmpty()) {
+                    submit(pool, node, task, failure, latch, start);
+                }
+            }
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for startup tasks to finish", e);
+        } finally {
+            pool.shutdown();
+        }
+
+        Throwable t = failure.get();
+        if (t instanceof RuntimeException) {
+            throw (RuntimeException) t;
+        } else if (t instanceof Error) {
+            throw (Error) t;
+        } else if (t != null) {
+            throw new IllegalStateException(t);
+        }
+    }
+
+    private static <T> void submit(@Nonnull final ForkJoinPool pool, @Nonnull final Node<T> node, @Nonnull final Task<T> task,
+                                   @Nonnull final AtomicReference<Throwable> failure, @Nonnull final CountDownLatch latch, final long start) {
+        pool.execute(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    if (failure.get() == null) {
+                        node.run(task, start);
+                    }
+                } catch (Throwable t) {
+                    failure.compareAndSet(null, t);
+                } finally {
+                    latch.countDown();
+                    for (Node<T> dependent : node.dependents) {
+                        if (dependent.pending.decrementAndGet() == 0) {
+                            submit(pool, dependent, task, failure, latch, start);
+                        }
+                    }
+                }
+            }
+        });
+    }
+
+    private static final class Node<T> {
+        private final String name;
+        private final T value;
+        private final List<Node<T>> dependencies = new ArrayList<>();
+        private final List<Node<T>> dependents = new ArrayList<>();
+        private final AtomicInteger pending = new AtomicInteger();
+        private volatile long startTime = -1;
+        private volatile long duration = -1;
+        private volatile String threadName;
+
+        private Node(@Nonnull String name, @Nonnull T value) {
+            this.name = name;
+            this.value = value;
+        }
+
+        private void run(@Nonnull Task<T> task, long origin) {
+            threadName = Thread.currentThread().getName();
+            long begin = System.nanoTime();
+            startTime = begin - origin;
+            try {
+                task.execute(name, value);
+            } finally {
+                duration = System.nanoTime() - begin;
+            }
+        }
+    }
+
+    /**
+     * Timing of a scheduled run. The critical path is the chain of dependent nodes with the largest combined
+     * duration; it bounds how fast the run can complete regardless of parallelism.
+     */
+    public static final class Report {
+        private final String type;
+        private final long totalTime;
+        private final Map<String, Long> startTimes = new LinkedHashMap<>();
+        private final Map<String, Long> durations = new LinkedHashMap<>();
+        private final Map<String, String> threads = new LinkedHashMap<>();
+        private final List<String> criticalPath;
+        private final long criticalPathTime;
+
+        private <T> Report(@Nonnull String type, @Nonnull List<Node<T>> graph, long totalTime) {
+            this.type = type;
+            this.totalTime = totalTime;
+
+            Map<Node<T>, Long> pathTimes = new HashMap<>();
+            Map<Node<T>, Node<T>> predecessors = new HashMap<>();
+            Node<T> last = null;
+            for (Node<T> node : graph) {
+                if (node.duration < 0) { continue; }
+                startTimes.put(node.name, node.startTime);
+                durations.put(node.name, node.duration);
+                threads.put(node.name, node.threadName);
+
+                long longest = 0;
+                for (Node<T> dependency : node.dependencies) {
+                    Long time = pathTimes.get(dependency);
+                    if (time != null && time > longest) {
+                        longest = time;
+                        predecessors.put(node, dependency);
+                    }
+                }
+                pathTimes.put(node, longest + node.duration);
+                if (last == null || pathTimes.get(node) > pathTimes.get(last)) {
+                    last = node;
+                }
+            }
+
+            List<String> path = new ArrayList<>();
+            for (Node<T> node = last; node != null; node = predecessors.get(node)) {
+                path.add(node.name);
+            }
+            Collections.reverse(path);
+            this.criticalPath = unmodifiableList(path);
+            this.criticalPathTime = last != null ? pathTimes.get(last) : 0;
+        }
+
+        @Nonnull
+        public String getType() {
+            return type;
+        }
+
+        /**
+         * @return elapsed time of the whole run, in nanoseconds.
+         */
+        public long getTotalTime() {
+            return totalTime;
+        }
+
+        /**
+         * @return the sum of all node durations, in nanoseconds.
+         */
+        public long getTotalWork() {
+            long work = 0;
+            for (Long duration : durations.values()) {
+                work += duration;
+            }
+            return work;
+        }
+
+        /**
+         * @return node durations in nanoseconds, by name. Nodes that did not run are absent.
+         */
+        @Nonnull
+        public Map<String, Long> getDurations() {
+            return unmodifiableMap(durations);
+        }
+
+        /**
+         * @return node start times in nanoseconds relative to the start of the run, by name.
+         */
+        @Nonnull
+        public Map<String, Long> getStartTimes() {
+            return unmodifiableMap(startTimes);
+        }
+
+        @Nonnull
+        public List<String> getCriticalPath() {
+            return criticalPath;
+        }
+
+        /**
+         * @return the combined duration of the nodes in the critical path, in nanoseconds.
+         */
+        public long getCriticalPathTime() {
+            return criticalPathTime;
+        }
+
+        @Override
+        public String toString() {
+            final StringBuilder sb = new StringBuilder("Startup of ").append(type).append("s took ")
+                .append(millis(totalTime)).append(" ms (work ").append(millis(getTotalWork()))
+                .append(" ms, critical path ").append(millis(criticalPathTime)).append(" ms: ")
+                .append(criticalPath).append(')');
+            for (Map.Entry<String, Long> entry : durations.entrySet()) {
+                String name = entry.getKey();
+                sb.append("\n  ").append(criticalPath.contains(name) ? '*' : ' ').append(' ').append(name)
+                    .append(" started at ").append(millis(startTimes.get(name))).append(" ms, took ")
+                    .append(millis(entry.getValue())).append(" ms on ").append(threads.get(name));
+            }
+            return sb.toString();
+        }
+
+        private static String millis(long nanos) {
+            return String.valueOf(TimeUnit.NANOSECONDS.toMillis(nanos));
+        }
+    }
+}
@@ -22,6 +22,7 @@ import griffon.core.GriffonApplication;
 import griffon.core.addon.AddonManager;
 import griffon.core.addon.GriffonAddon;
 import griffon.core.mvc.MVCGroupConfiguration;
+import org.codehaus.griffon.runtime.core.StartupScheduler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -40,6 +41,7 @@ import static griffon.util.CollectionUtils.reverse;
 import static griffon.util.GriffonNameUtils.getPropertyName;
 import static griffon.util.GriffonNameUtils.requireNonBlank;
 import static java.util.Arrays.asList;
+import static java.util.Collections.synchronizedMap;
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -52,10 +54,11 @@ public abstract class AbstractAddonManager implements AddonManager {
     private static final Logger LOG = LoggerFactory.getLogger(AbstractAddonManager.class);
 
     private static final String ERROR_NAME_BLANK = "Argument 'name' must not be blank";
-    private final Map<String, GriffonAddon> addons = new LinkedHashMap<>();
+    private final Map<String, GriffonAddon> addons = synchronizedMap(new LinkedHashMap<String, GriffonAddon>());
     private final Object lock = new Object[0];
     @GuardedBy("lock")
     private boolean initialized;
+    private volatile StartupScheduler.Report startupReport;
 
     private final GriffonApplication application;
 
@@ -98,19 +101,26 @@ public abstract class AbstractAddonManager implements AddonManager {
         Map<String, GriffonAddon> addons = preloadAddons();
         event(ApplicationEvent.LOAD_ADDONS_START);
 
-        for (Map.Entry<String, GriffonAddon> entry : addons.entrySet()) {
-            String name = entry.getKey();
-            GriffonAddon addon = entry.getValue();
-            LOG.debug("Loading addon {} with class {}", name, addon.getClass().getName());
-            event(ApplicationEvent.LOAD_ADDON_START, asList(getApplication(), name, addon));
+        StartupScheduler scheduler = createStartupScheduler();
+        final boolean parallel = scheduler.isParallel();
+        if (parallel) {
+            // the event router and the MVC group manager do not support concurrent registration
+            for (Map.Entry<String, GriffonAddon> entry : addons.entrySet()) {
+                registerAddon(entry.getValue());
+            }
+        }
 
-            getApplication().getEventRouter().addEventListener(addon);
-            addMVCGroups(addon);
-            addon.init(getApplication());
+        startupReport = scheduler.schedule("addon", addons, new StartupScheduler.Task<GriffonAddon>() {
+            @Override
+            public void execute(@Nonnull String name, @Nonnull GriffonAddon addon) {
+                loadAddon(name, addon, !parallel);
+            }
+        });
 
-            this.addons.put(name, addon);
-            event(ApplicationEvent.LOAD_ADDON_END, asList(getApplication(), name, addon));
-            LOG.debug("Loaded addon {}", name);
+        // addons initialized in parallel may have completed out of order
+        synchronized (this.addons) {
+            this.addons.clear();
+            this.addons.putAll(addons);
         }
 
         for (GriffonAddon addon : reverse(addons.values())) {
@@ -121,6 +131,49 @@ public abstract class AbstractAddonManager implements AddonManager {
         event(ApplicationEvent.LOAD_ADDONS_END);
     }
 
+    private void loadAddon(@Nonnull String name, @Nonnull GriffonAddon addon, boolean register) {
+        LOG.debug("Loading addon {} with class {}", name, addon.getClass().getName());
+        event(ApplicationEvent.LOAD_ADDON_START, asList(getApplication(), name, addon));
+
+        if (register) {
+            registerAddon(addon);
+        }
+        addon.init(getApplication());
+
+        this.addons.put(name, addon);
+        event(ApplicationEvent.LOAD_ADDON_END, asList(getApplication(), name, addon));
+        LOG.debug("Loaded addon {}", name);
+    }
+
+    private void registerAddon(@Nonnull GriffonAddon addon) {
+        getApplication().getEventRouter().addEventListener(addon);
+        addMVCGroups(addon);
+    }
+
+    /**
+     * Creates the scheduler used to initialize addons. Addons are initialized one after another unless
+     * parallel startup has been enabled, see {@code StartupScheduler}. When parallel, every addon is
+     * registered as an event listener and its MVC groups are added, one after another, before any
+     * addon is initialized.
+     *
+     * @since 2.14.0
+     */
+    @Nonnull
+    protected StartupScheduler createStartupScheduler() {
+        return new StartupScheduler();
+    }
+
+    /**
+     * Returns timings of addon initialization, including its critical path.
+     *
+     * @return the report of the last initialization or {@code null} if addons have not been initialized yet.
+     * @since 2.14.0
+     */
+    @Nullable
+    public StartupScheduler.Report getStartupReport() {
+        return startupReport;
+    }
+
     @Nonnull
     protected Map<String, GriffonAddon> preloadAddons() {
         Collection<GriffonAddon> addonInstances = getApplication().getInjector().getInstances(GriffonAddon.class);
@@ -22,11 +22,12 @@ import griffon.core.editors.ExtendedPropertyEditor;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.beans.PropertyEditor;
 import java.util.Properties;
 
+import static griffon.core.editors.PropertyEditorResolver.findConverter;
 import static griffon.core.editors.PropertyEditorResolver.findEditor;
 import static griffon.util.CollectionUtils.toProperties;
+import static griffon.util.GriffonNameUtils.isBlank;
 import static griffon.util.GriffonNameUtils.requireNonBlank;
 import static griffon.util.TypeUtils.castToBoolean;
 import static griffon.util.TypeUtils.castToDouble;
@@ -168,9 +169,7 @@ public abstract class AbstractConfiguration implements Configuration {
             if (type.isAssignableFrom(value.getClass())) {
                 return (T) value;
             } else {
-                PropertyEditor editor = findEditor(type);
-                editor.setValue(value);
-                return (T) editor.getValue();
+                return findConverter(Object.class, type).convert(value);
             }
         }
         return null;
@@ -182,13 +181,10 @@ public abstract class AbstractConfiguration implements Configuration {
             if (type.isAssignableFrom(value.getClass())) {
                 return (T) value;
             } else {
-                PropertyEditor editor = findEditor(type);
-                if (editor instanceof ExtendedPropertyEditor) {
+                if (isBlank(format) && findEditor(type) instanceof ExtendedPropertyEditor) {
                     requireNonBlank(format, ERROR_FORMAT_BLANK);
-                    ((ExtendedPropertyEditor) editor).setFormat(format);
                 }
-                editor.setValue(value);
-                return (T) editor.getValue();
+                return findConverter(Object.class, type, format).convert(value);
             }
         }
         return null;
@@ -38,12 +38,15 @@ import java.beans.PropertyDescriptor;
 import java.beans.PropertyEditor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
+import static griffon.core.editors.PropertyEditorResolver.findConverter;
 import static griffon.core.editors.PropertyEditorResolver.findEditor;
 import static griffon.util.GriffonNameUtils.isNotBlank;
 import static java.lang.reflect.Modifier.isStatic;
+import static java.util.Collections.unmodifiableMap;
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -60,6 +63,15 @@ public abstract class AbstractConfigurationManager implements ConfigurationManag
     @Inject
     protected GriffonApplication application;
 
+    private final ClassValue<Map<String, ConfigurationDescriptor>> descriptorsByClass = new ClassValue<Map<String, ConfigurationDescriptor>>() {
+        @Override
+        protected Map<String, ConfigurationDescriptor> computeValue(Class<?> type) {
+            return resolveDescriptors(type);
+        }
+    };
+    private final boolean harvestsPerInstance = overridesDeprecatedHarvestDescriptors(getClass());
+    private final boolean resolvesEditors = overridesResolvePropertyEditor(getClass());
+
     @PostConstruct
     private void initialize() {
         requireNonNull(application, "Argument 'application' cannot ne null");
@@ -77,17 +89,68 @@ public abstract class AbstractConfigurationManager implements ConfigurationManag
     public void injectConfiguration(@Nonnull Object instance) {
         requireNonNull(instance, ERROR_INSTANCE_NULL);
 
+        // descriptors harvested by the deprecated, instance aware overload can not be cached per type
+        Map<String, ConfigurationDescriptor> descriptors = harvestsPerInstance ?
+            resolveDescriptors(instance.getClass(), instance) : descriptorsByClass.get(instance.getClass());
+        if (!descriptors.isEmpty()) {
+            doConfigurationInjection(instance, descriptors);
+        }
+    }
+
+    /**
+     * Resolves the configuration descriptors of a type. Results are cached per type.
+     *
+     * @param type the type to inspect
+     * @return an immutable map of descriptors, keyed by property name.
+     * @since 2.14.0
+     */
+    @Nonnull
+    protected Map<String, ConfigurationDescriptor> resolveDescriptors(@Nonnull Class<?> type) {
+        Map<String, ConfigurationDescriptor> descriptors = new LinkedHashMap<>();
+        Class<?> klass = type;
+        do {
+            harvestDescriptors(type, klass, descriptors);
+            klass = klass.getSuperclass();
+        } while (null != klass);
+        return descriptors.isEmpty() ? Collections.<String, ConfigurationDescriptor>emptyMap() : unmodifiableMap(descriptors);
+    }
+
+    @Nonnull
+    private Map<String, ConfigurationDescriptor> resolveDescriptors(@Nonnull Class<?> type, @Nonnull Object instance) {
         Map<String, ConfigurationDescriptor> descriptors = new LinkedHashMap<>();
-        Class<?> klass = instance.getClass();
+        Class<?> klass = type;
         do {
-            harvestDescriptors(instance.getClass(), klass, instance, descriptors);
+            harvestDescriptors(type, klass, instance, descriptors);
             klass = klass.getSuperclass();
         } while (null != klass);
+        return descriptors;
+    }
 
-        doConfigurationInjection(instance, descriptors);
+    private static boolean overridesDeprecatedHarvestDescriptors(@Nonnull Class<?> type) {
+        for (Class<?> klass = type; klass != AbstractConfigurationManager.class; klass = klass.getSuperclass()) {
+            try {
+                klass.getDeclaredMethod("harvestDescriptors", Class.class, Class.class, Object.class, Map.class);
+                return true;
+            } catch (NoSuchMethodException e) {
+                // continue with the superclass
+            }
+        }
+        return false;
     }
 
+    /**
+     * @deprecated use {@link #harvestDescriptors(Class, Class, Map)} instead. Managers that override this
+     * method are still honored, but their descriptors are resolved for every instance instead of once per type.
+     */
+    @Deprecated
     protected void harvestDescriptors(@Nonnull Class<?> instanceClass, @Nonnull Class<?> currentClass, @Nonnull Object instance, @Nonnull Map<String, ConfigurationDescriptor> descriptors) {
+        harvestDescriptors(instanceClass, currentClass, descriptors);
+    }
+
+    /**
+     * @since 2.14.0
+     */
+    protected void harvestDescriptors(@Nonnull Class<?> instanceClass, @Nonnull Class<?> currentClass, @Nonnull Map<String, ConfigurationDescriptor> descriptors) {
         PropertyDescriptor[] propertyDescriptors = GriffonClassUtils.getPropertyDescriptors(currentClass);
         for (PropertyDescriptor pd : propertyDescriptors) {
             Method writeMethod = pd.getWriteMethod();
@@ -106,7 +169,7 @@ public abstract class AbstractConfigurationManager implements ConfigurationManag
 
             if (LOG.isDebugEnabled()) {
                 LOG.debug("Property " + propertyName +
-                    " of instance " + instance +
+                    " of " + instanceClass.getName() +
                     " [configuration='" + configuration +
                     "', key='" + key +
                     "', defaultValue='" + defaultValue +
@@ -134,7 +197,7 @@ public abstract class AbstractConfigurationManager implements ConfigurationManag
 
             if (LOG.isDebugEnabled()) {
                 LOG.debug("Field " + fqFieldName +
-                    " of instance " + instance +
+                    " of " + instanceClass.getName() +
                     " [configuration='" + configuration +
                     "', key='" + key +
                     "', defaultValue='" + defaultValue +
@@ -175,10 +238,15 @@ public abstract class AbstractConfigurationManager implements ConfigurationManag
     }
 
     @Nonnull
+    @SuppressWarnings("unchecked")
     protected Object convertValue(@Nonnull Class<?> type, @Nonnull Object value, @Nullable String format, @Nonnull Class<? extends PropertyEditor> editor) {
         requireNonNull(type, ERROR_TYPE_NULL);
         requireNonNull(value, ERROR_VALUE_NULL);
 
+        if (isNoopPropertyEditor(editor) && !resolvesEditors) {
+            return findConverter((Class<Object>) value.getClass(), type, format).convert(value);
+        }
+
         PropertyEditor propertyEditor = resolvePropertyEditor(type, format, editor);
         if (isNoopPropertyEditor(propertyEditor.getClass())) { return value; }
         if (value instanceof CharSequence) {
@@ -189,6 +257,22 @@ public abstract class AbstractConfigurationManager implements ConfigurationManag
         return propertyEditor.getValue();
     }
 
+    private static boolean overridesResolvePropertyEditor(@Nonnull Class<?> type) {
+        for (Class<?> klass = type; klass != AbstractConfigurationManager.class; klass = klass.getSuperclass()) {
+            try {
+                klass.getDeclaredMethod("resolvePropertyEditor", Class.class, String.class, Class.class);
+                return true;
+            } catch (NoSuchMethodException e) {
+                // continue with the superclass
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Managers that override this method are still honored, but values without an explicit editor are then
+     * converted through the returned editor instead of a cached {@code Converter}.
+     */
     @Nonnull
     protected PropertyEditor resolvePropertyEditor(@Nonnull Class<?> type, @Nullable String format, @Nonnull Class<? extends PropertyEditor> editor) {
         requireNonNull(type, ERROR_TYPE_NULL);
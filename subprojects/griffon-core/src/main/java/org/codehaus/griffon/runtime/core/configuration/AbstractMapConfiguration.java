@@ -22,15 +22,17 @@ import griffon.util.AbstractMapResourceBundle;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.MissingResourceException;
 import java.util.ResourceBundle;
 
-import static griffon.util.ConfigUtils.getConfigValue;
 import static griffon.util.GriffonNameUtils.requireNonBlank;
 import static java.util.Objects.requireNonNull;
 
 /**
+ * Configuration backed by a {@code Map}. The contents of the map are captured on first access;
+ * changes made to the map (or to any nested map) afterwards are not visible.
+ *
  * @author Andres Almiray
  * @since 2.11.0
  */
@@ -38,6 +40,8 @@ public abstract class AbstractMapConfiguration extends AbstractConfiguration {
     protected static final String ERROR_KEY_BLANK = "Argument 'key' must not be blank";
     private static final String ERROR_MAP_NULL = "Argument 'map' must not be null";
     private final Map<String, Object> map;
+    private final Object lock = new Object[0];
+    private volatile Snapshot snapshot;
 
     protected AbstractMapConfiguration(@Nonnull Map<String, Object> map) {
         this.map = requireNonNull(map, ERROR_MAP_NULL);
@@ -45,13 +49,13 @@ public abstract class AbstractMapConfiguration extends AbstractConfiguration {
 
     @Override
     public boolean containsKey(@Nonnull String key) {
-        return map.containsKey(requireNonBlank(key, ERROR_KEY_BLANK));
+        return snapshot().entries.containsKey(requireNonBlank(key, ERROR_KEY_BLANK));
     }
 
     @Nonnull
     @Override
     public Map<String, Object> asFlatMap() {
-        return Collections.unmodifiableMap(map);
+        return snapshot().entries;
     }
 
     @Nonnull
@@ -60,7 +64,7 @@ public abstract class AbstractMapConfiguration extends AbstractConfiguration {
         return new AbstractMapResourceBundle() {
             @Override
             protected void initialize(@Nonnull Map<String, Object> entries) {
-                entries.putAll(map);
+                entries.putAll(snapshot().entries);
             }
         };
     }
@@ -68,10 +72,34 @@ public abstract class AbstractMapConfiguration extends AbstractConfiguration {
     @Nullable
     @Override
     public Object get(@Nonnull String key) {
-        try {
-            return getConfigValue(map, key);
-        } catch (MissingResourceException mre) {
-            return null;
+        requireNonBlank(key, ERROR_KEY_BLANK);
+        Object value = snapshot().keyIndex.get(key);
+        return value != ConfigurationKeyIndex.MISSING ? value : null;
+    }
+
+    @Nonnull
+    private Snapshot snapshot() {
+        // taken on first access as subclasses may still be populating the map during construction
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (lock) {
+                current = snapshot;
+                if (current == null) {
+                    current = new Snapshot(map);
+                    snapshot = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private static final class Snapshot {
+        private final Map<String, Object> entries;
+        private final ConfigurationKeyIndex keyIndex;
+
+        private Snapshot(@Nonnull Map<String, Object> map) {
+            this.entries = Collections.unmodifiableMap(new LinkedHashMap<>(map));
+            this.keyIndex = ConfigurationKeyIndex.of(entries);
         }
     }
 }
@@ -21,12 +21,11 @@ import griffon.core.Configuration;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.beans.PropertyEditor;
 import java.util.Map;
 import java.util.Properties;
 import java.util.ResourceBundle;
 
-import static griffon.core.editors.PropertyEditorResolver.findEditor;
+import static griffon.core.editors.PropertyEditorResolver.findConverter;
 import static griffon.util.CollectionUtils.toProperties;
 import static griffon.util.TypeUtils.castToBoolean;
 import static griffon.util.TypeUtils.castToDouble;
@@ -198,9 +197,7 @@ public class ConfigurationDecorator implements Configuration {
             if (type.isAssignableFrom(value.getClass())) {
                 return (T) value;
             } else {
-                PropertyEditor editor = findEditor(type);
-                editor.setValue(value);
-                return (T) editor.getValue();
+                return findConverter(Object.class, type).convert(value);
             }
         }
         return null;
@@ -0,0 +1,198 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.core.configuration;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Enumeration;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.MissingResourceException;
+import java.util.ResourceBundle;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Immutable index of fully qualified (dotted) configuration keys.
+ * <p>
+ * Nested maps are flattened when the index is built, thus resolving a key such as
+ * {@code "datasource.url"} takes a single probe into an open addressing table instead
+ * of splitting the key and walking every intermediate map. Lookups that find no match
+ * return {@link #MISSING} rather than throwing an exception.</p>
+ * <p>
+ * Resolution rules match those of {@code ConfigUtils.getConfigValue()}: a top level key
+ * takes precedence over a nested path with the same name, a nested path is only reachable
+ * by walking simple (dot-free) keys, and {@code null} nested values are treated as missing.</p>
+ *
+ * @author Andres Almiray
+ * @since 2.14.0
+ */
+final class ConfigurationKeyIndex {
+    static final Object MISSING = new Object();
+
+    private static final String ERROR_MAP_NULL = "Argument 'map' must not be null";
+    private static final String ERROR_RESOURCE_BUNDLE_NULL = "Argument 'resourceBundle' must not be null";
+    private static final int MINIMUM_CAPACITY = 16;
+
+    private final String[] keys;
+    private final Object[] values;
+    private final int mask;
+    private final int size;
+
+    private ConfigurationKeyIndex(@Nonnull Map<String, Object> entries) {
+        int capacity = MINIMUM_CAPACITY;
+        // keep the load factor at or below 0.5 so that probe sequences stay short
+        while (capacity < entries.size() * 2) {
+            capacity <<= 1;
+        }
+        this.keys = new String[capacity];
+        this.values = new Object[capacity];
+        this.mask = capacity - 1;
+        this.size = entries.size();
+
+        for (Map.Entry<String, Object> entry : entries.entrySet()) {
+            int index = indexFor(entry.getKey());
+            while (keys[index] != null) {
+                index = (index + 1) & mask;
+            }
+            keys[index] = entry.getKey();
+            values[index] = entry.getValue();
+        }
+    }
+
+    @Nonnull
+    static ConfigurationKeyIndex of(@Nonnull Map<String, Object> map) {
+        requireNonNull(map, ERROR_MAP_NULL);
+        Map<String, Object> entries = new LinkedHashMap<>(map);
+        flattenNested(entries, map);
+        return new ConfigurationKeyIndex(entries);
+    }
+
+    @Nonnull
+    static ConfigurationKeyIndex of(@Nonnull ResourceBundle resourceBundle) {
+        requireNonNull(resourceBundle, ERROR_RESOURCE_BUNDLE_NULL);
+        Map<String, Object> entries = new LinkedHashMap<>();
+        Enumeration<String> keys = resourceBundle.getKeys();
+        while (keys.hasMoreElements()) {
+            String key = keys.nextElement();
+            try {
+                Object value = resourceBundle.getObject(key);
+                if (value != null) {
+                    entries.put(key, value);
+                }
+            } catch (MissingResourceException mre) {
+                // listed but not resolvable, treat it as missing
+            }
+        }
+        flattenNested(entries, new LinkedHashMap<>(entries));
+        return new ConfigurationKeyIndex(entries);
+    }
+
+    /**
+     * Resolves a key against a (possibly nested) map without building an index.
+     * Equivalent to {@code ConfigUtils.getConfigValue(map, key)} except that a miss
+     * is signaled with {@link #MISSING}.
+     */
+    @Nullable
+    static Object lookup(@Nonnull Map<String, Object> map, @Nonnull String key) {
+        if (map.containsKey(key)) {
+            return map.get(key);
+        }
+
+        Map<?, ?> node = map;
+        int start = 0;
+        int dot;
+        while ((dot = key.indexOf('.', start)) != -1) {
+            Object child = node.get(key.substring(start, dot));
+            if (!(child instanceof Map)) {
+                return MISSING;
+            }
+            node = (Map<?, ?>) child;
+            start = dot + 1;
+        }
+        if (start == 0) {
+            return MISSING;
+        }
+        Object value = node.get(key.substring(start));
+        return value != null ? value : MISSING;
+    }
+
+    /**
+     * Returns the value associated with the given key, or {@link #MISSING} if there is no match.
+     */
+    @Nullable
+    Object get(@Nonnull String key) {
+        int index = indexFor(key);
+        String candidate;
+        while ((candidate = keys[index]) != null) {
+            if (candidate.equals(key)) {
+                return values[index];
+            }
+            index = (index + 1) & mask;
+        }
+        return MISSING;
+    }
+
+    boolean containsKey(@Nonnull String key) {
+        return get(key) != MISSING;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private int indexFor(@Nonnull String key) {
+        int h = key.hashCode();
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    private static void flattenNested(@Nonnull Map<String, Object> entries, @Nonnull Map<String, Object> source) {
+        IdentityHashMap<Map<?, ?>, Boolean> path = new IdentityHashMap<>();
+        for (Map.Entry<String, Object> entry : source.entrySet()) {
+            if (entry.getValue() instanceof Map && entry.getKey().indexOf('.') == -1) {
+                flatten(entries, entry.getKey(), (Map<?, ?>) entry.getValue(), path);
+            }
+        }
+    }
+
+    private static void flatten(@Nonnull Map<String, Object> entries, @Nonnull String prefix, @Nonnull Map<?, ?> node, @Nonnull IdentityHashMap<Map<?, ?>, Boolean> path) {
+        if (path.put(node, Boolean.TRUE) != null) {
+            // cyclic structure, the nested path was already visited
+            return;
+        }
+        for (Map.Entry<?, ?> entry : node.entrySet()) {
+            if (!(entry.getKey() instanceof String) || entry.getValue() == null) {
+                continue;
+            }
+            String key = (String) entry.getKey();
+            if (key.indexOf('.') != -1) {
+                // unreachable by walking the dotted path
+                continue;
+            }
+            String fullKey = prefix + "." + key;
+            if (!entries.containsKey(fullKey)) {
+                entries.put(fullKey, entry.getValue());
+            }
+            if (entry.getValue() instanceof Map) {
+                flatten(entries, fullKey, (Map<?, ?>) entry.getValue(), path);
+            }
+        }
+        path.remove(node);
+    }
+}
@@ -18,21 +18,26 @@
 package org.codehaus.griffon.runtime.core.configuration;
 
 import griffon.core.Configuration;
-import griffon.core.MutableConfiguration;
+import griffon.core.ObservableConfiguration;
 import griffon.util.AbstractMapResourceBundle;
 import griffon.util.CompositeResourceBundle;
 import griffon.util.ConfigUtils;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
-import java.util.MissingResourceException;
+import java.util.Queue;
 import java.util.ResourceBundle;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
 
-import static griffon.util.ConfigUtils.getConfigValue;
 import static griffon.util.GriffonNameUtils.requireNonBlank;
 import static java.util.Arrays.asList;
 import static java.util.Collections.unmodifiableMap;
@@ -42,36 +47,85 @@ import static java.util.Objects.requireNonNull;
  * @author Andres Almiray
  * @since 2.2.0
  */
-public class DelegatingMutableConfiguration extends ConfigurationDecorator implements MutableConfiguration {
+public class DelegatingMutableConfiguration extends ConfigurationDecorator implements ObservableConfiguration {
     private static final String ERROR_KEY_BLANK = "Argument 'key' must not be blank";
+    private static final String ERROR_KEY_PREFIX_BLANK = "Argument 'keyPrefix' must not be blank";
     private static final String ERROR_VALUE_NULL = "Argument 'value' must not be null";
+    private static final String ERROR_LISTENER_NULL = "Argument 'listener' must not be null";
 
-    private final Map<String, Object> mutableKeyValues = new LinkedHashMap<>();
-    private final Set<String> removedKeys = new LinkedHashSet<>();
+    private final Object lock = new Object[0];
+    private final List<ListenerRegistration> listeners = new CopyOnWriteArrayList<>();
+    private final Queue<ConfigurationChangeEvent> pendingEvents = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean delivering = new AtomicBoolean(false);
+    private volatile Snapshot snapshot = new Snapshot(Collections.<String, Object>emptyMap(), Collections.<String>emptySet(), 0L);
 
     public DelegatingMutableConfiguration(@Nonnull Configuration delegate) {
         super(delegate);
     }
 
+    @Override
+    public long getVersion() {
+        return snapshot.version;
+    }
+
     @Override
     public void set(@Nonnull String key, @Nonnull Object value) {
         requireNonBlank(key, ERROR_KEY_BLANK);
         requireNonNull(value, ERROR_VALUE_NULL);
-        mutableKeyValues.put(key, value);
+
+        Object oldValue;
+        synchronized (lock) {
+            Snapshot current = snapshot;
+            oldValue = get(current, key);
+            if (value.equals(oldValue) && current.mutableKeyValues.containsKey(key)) {
+                return;
+            }
+
+            Map<String, Object> mutableKeyValues = new LinkedHashMap<>(current.mutableKeyValues);
+            mutableKeyValues.put(key, value);
+            Set<String> removedKeys = current.removedKeys;
+            if (removedKeys.contains(key)) {
+                removedKeys = new LinkedHashSet<>(removedKeys);
+                removedKeys.remove(key);
+            }
+            Snapshot next = new Snapshot(mutableKeyValues, removedKeys, current.version + 1);
+            snapshot = next;
+            pendingEvents.offer(new ConfigurationChangeEvent(oldValue == null ? ConfigurationChangeEvent.Type.ADD : ConfigurationChangeEvent.Type.UPDATE, key, oldValue, value, next.version));
+        }
+
+        deliverPendingEvents();
     }
 
     @Nullable
     @Override
     public Object remove(@Nonnull String key) {
         requireNonBlank(key, ERROR_KEY_BLANK);
-        if (mutableKeyValues.containsKey(key)) {
-            removedKeys.add(key);
-            return mutableKeyValues.remove(key);
-        } else if (!removedKeys.contains(key) && delegate.containsKey(key)) {
+
+        Object oldValue;
+        synchronized (lock) {
+            Snapshot current = snapshot;
+            if (current.mutableKeyValues.containsKey(key)) {
+                oldValue = current.mutableKeyValues.get(key);
+            } else if (!current.removedKeys.contains(key) && delegate.containsKey(key)) {
+                oldValue = delegate.get(key);
+            } else {
+                return null;
+            }
+
+            Map<String, Object> mutableKeyValues = current.mutableKeyValues;
+            if (mutableKeyValues.containsKey(key)) {
+                mutableKeyValues = new LinkedHashMap<>(mutableKeyValues);
+                mutableKeyValues.remove(key);
+            }
+            Set<String> removedKeys = new LinkedHashSet<>(current.removedKeys);
             removedKeys.add(key);
-            return delegate.get(key);
+            Snapshot next = new Snapshot(mutableKeyValues, removedKeys, current.version + 1);
+            snapshot = next;
+            pendingEvents.offer(new ConfigurationChangeEvent(ConfigurationChangeEvent.Type.REMOVE, key, oldValue, null, next.version));
         }
-        return null;
+
+        deliverPendingEvents();
+        return oldValue;
     }
 
     @Nullable
@@ -91,12 +145,7 @@ public class DelegatingMutableConfiguration extends ConfigurationDecorator imple
     @Nonnull
     @Override
     public Map<String, Object> asFlatMap() {
-        Map<String, Object> flatMap = new LinkedHashMap<>(delegate.asFlatMap());
-        flatMap.putAll(mutableKeyValues);
-        for (String removedKey : removedKeys) {
-            flatMap.remove(removedKey);
-        }
-        return unmodifiableMap(flatMap);
+        return snapshot.asFlatMap(delegate);
     }
 
     @Nonnull
@@ -109,14 +158,7 @@ public class DelegatingMutableConfiguration extends ConfigurationDecorator imple
     @Override
     public Object get(@Nonnull String key) {
         requireNonBlank(key, ERROR_KEY_BLANK);
-        try {
-            return getConfigValue(mutableKeyValues, key);
-        } catch (MissingResourceException mre) {
-            if (removedKeys.contains(key)) {
-                return null;
-            }
-            return super.get(key);
-        }
+        return get(snapshot, key);
     }
 
     @Nullable
@@ -136,7 +178,161 @@ public class DelegatingMutableConfiguration extends ConfigurationDecorator imple
     @Override
     public boolean containsKey(@Nonnull String key) {
         requireNonBlank(key, ERROR_KEY_BLANK);
-        return ConfigUtils.containsKey(mutableKeyValues, key) || (!removedKeys.contains(key) && delegate.containsKey(key));
+        Snapshot current = snapshot;
+        return ConfigUtils.containsKey(current.mutableKeyValues, key) || (!current.removedKeys.contains(key) && delegate.containsKey(key));
+    }
+
+    @Override
+    public void addConfigurationChangeListener(@Nonnull ConfigurationChangeListener listener) {
+        requireNonNull(listener, ERROR_LISTENER_NULL);
+        addListenerRegistration(new ListenerRegistration(null, listener));
+    }
+
+    @Override
+    public void addConfigurationChangeListener(@Nonnull String keyPrefix, @Nonnull ConfigurationChangeListener listener) {
+        requireNonBlank(keyPrefix, ERROR_KEY_PREFIX_BLANK);
+        requireNonNull(listener, ERROR_LISTENER_NULL);
+        addListenerRegistration(new ListenerRegistration(keyPrefix, listener));
+    }
+
+    @Override
+    public void removeConfigurationChangeListener(@Nonnull ConfigurationChangeListener listener) {
+        requireNonNull(listener, ERROR_LISTENER_NULL);
+        for (ListenerRegistration registration : listeners) {
+            if (registration.listener.equals(listener)) {
+                listeners.remove(registration);
+            }
+        }
+    }
+
+    @Nonnull
+    @Override
+    public ConfigurationChangeListener[] getConfigurationChangeListeners() {
+        List<ConfigurationChangeListener> list = new ArrayList<>();
+        for (ListenerRegistration registration : listeners) {
+            list.add(registration.listener);
+        }
+        return list.toArray(new ConfigurationChangeListener[list.size()]);
+    }
+
+    protected void fireConfigurationChangeEvent(@Nonnull ConfigurationChangeEvent event) {
+        for (ListenerRegistration registration : listeners) {
+            if (registration.matches(event.getKey())) {
+                registration.listener.configurationChanged(event);
+            }
+        }
+    }
+
+    private void deliverPendingEvents() {
+        // events are queued in version order while holding the lock and delivered by one thread at a time;
+        // a change made by another thread, or by a listener, is delivered by whichever thread is draining the queue
+        while (!pendingEvents.isEmpty() && delivering.compareAndSet(false, true)) {
+            try {
+                ConfigurationChangeEvent event;
+                while ((event = pendingEvents.poll()) != null) {
+                    fireConfigurationChangeEvent(event);
+                }
+            } finally {
+                delivering.set(false);
+            }
+        }
+    }
+
+    private void addListenerRegistration(@Nonnull ListenerRegistration registration) {
+        if (!listeners.contains(registration)) {
+            listeners.add(registration);
+        }
+    }
+
+    @Nullable
+    private Object get(@Nonnull Snapshot current, @Nonnull String key) {
+        Object value = current.keyIndex().get(key);
+        if (value != ConfigurationKeyIndex.MISSING) {
+            return value;
+        }
+        return current.removedKeys.contains(key) ? null : super.get(key);
+    }
+
+    /**
+     * Immutable view of the mutable keys and removed keys. Writers publish a new
+     * snapshot, readers never observe a partially applied change.
+     */
+    private static final class Snapshot {
+        private final Map<String, Object> mutableKeyValues;
+        private final Set<String> removedKeys;
+        private final long version;
+        private volatile ConfigurationKeyIndex keyIndex;
+        private volatile Map<String, Object> flatMap;
+
+        private Snapshot(@Nonnull Map<String, Object> mutableKeyValues, @Nonnull Set<String> removedKeys, long version) {
+            this.mutableKeyValues = mutableKeyValues;
+            this.removedKeys = removedKeys;
+            this.version = version;
+        }
+
+        @Nonnull
+        private ConfigurationKeyIndex keyIndex() {
+            ConfigurationKeyIndex index = keyIndex;
+            if (index == null) {
+                index = ConfigurationKeyIndex.of(mutableKeyValues);
+                keyIndex = index;
+            }
+            return index;
+        }
+
+        @Nonnull
+        private Map<String, Object> asFlatMap(@Nonnull Configuration delegate) {
+            Map<String, Object> map = flatMap;
+            if (map == null) {
+                map = new LinkedHashMap<>(delegate.asFlatMap());
+                map.putAll(mutableKeyValues);
+                for (String removedKey : removedKeys) {
+                    map.remove(removedKey);
+                }
+                map = unmodifiableMap(map);
+                flatMap = map;
+            }
+            return map;
+        }
+    }
+
+    private static final class ListenerRegistration {
+        private final String keyPrefix;
+        private final ConfigurationChangeListener listener;
+
+        private ListenerRegistration(@Nullable String keyPrefix, @Nonnull ConfigurationChangeListener listener) {
+            this.keyPrefix = keyPrefix;
+            this.listener = listener;
+        }
+
+        private boolean matches(@Nonnull String key) {
+            return keyPrefix == null ||
+                key.equals(keyPrefix) ||
+                isNestedUnder(key, keyPrefix) ||
+                isNestedUnder(keyPrefix, key);
+        }
+
+        private static boolean isNestedUnder(@Nonnull String key, @Nonnull String parent) {
+            return key.length() > parent.length() && key.charAt(parent.length()) == '.' && key.startsWith(parent);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+
+            ListenerRegistration that = (ListenerRegistration) o;
+
+            if (keyPrefix != null ? !keyPrefix.equals(that.keyPrefix) : that.keyPrefix != null) return false;
+            return listener.equals(that.listener);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = keyPrefix != null ? keyPrefix.hashCode() : 0;
+            result = 31 * result + listener.hashCode();
+            return result;
+        }
     }
 
     private static class PrivateMapResourceBundle extends AbstractMapResourceBundle {
@@ -23,7 +23,6 @@ import javax.inject.Inject;
 import java.util.Enumeration;
 import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.MissingResourceException;
 import java.util.ResourceBundle;
 
 import static griffon.util.ConfigUtils.getConfigValue;
@@ -39,6 +38,7 @@ public class ResourceBundleConfiguration extends AbstractConfiguration {
     protected static final String ERROR_KEY_BLANK = "Argument 'key' must not be blank";
     private final ResourceBundle resourceBundle;
     private final Map<String, Object> flatMap = new LinkedHashMap<>();
+    private final ConfigurationKeyIndex keyIndex;
 
     @Inject
     public ResourceBundleConfiguration(@Nonnull ResourceBundle resourceBundle) {
@@ -48,6 +48,7 @@ public class ResourceBundleConfiguration extends AbstractConfiguration {
             String key = keys.nextElement();
             flatMap.put(key, getConfigValue(resourceBundle, key));
         }
+        keyIndex = ConfigurationKeyIndex.of(resourceBundle);
     }
 
     public boolean containsKey(@Nonnull String key) {
@@ -69,10 +70,8 @@ public class ResourceBundleConfiguration extends AbstractConfiguration {
     @Nullable
     @Override
     public Object get(@Nonnull String key) {
-        try {
-            return getConfigValue(resourceBundle, key);
-        } catch (MissingResourceException mre) {
-            return null;
-        }
+        requireNonBlank(key, ERROR_KEY_BLANK);
+        Object value = keyIndex.get(key);
+        return value != ConfigurationKeyIndex.MISSING ? value : null;
     }
 }
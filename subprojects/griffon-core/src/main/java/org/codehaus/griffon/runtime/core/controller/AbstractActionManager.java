@@ -20,6 +20,7 @@ package org.codehaus.griffon.runtime.core.controller;
 import griffon.core.Configuration;
 import griffon.core.Context;
 import griffon.core.GriffonApplication;
+import griffon.core.ObservableConfiguration;
 import griffon.core.artifact.GriffonController;
 import griffon.core.artifact.GriffonControllerClass;
 import griffon.core.controller.AbortActionExecution;
@@ -56,6 +57,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 import static griffon.core.GriffonExceptionHandler.sanitize;
@@ -92,6 +94,13 @@ public abstract class AbstractActionManager implements ActionManager {
     private final ActionCache actionCache = new ActionCache();
     private final Map<String, Threading.Policy> threadingPolicies = new ConcurrentHashMap<>();
     private final List<ActionHandler> handlers = new CopyOnWriteArrayList<>();
+    private final AtomicBoolean threadingSettingsListenerRegistered = new AtomicBoolean(false);
+    private final ObservableConfiguration.ConfigurationChangeListener threadingSettingsListener = new ObservableConfiguration.ConfigurationChangeListener() {
+        @Override
+        public void configurationChanged(@Nonnull ObservableConfiguration.ConfigurationChangeEvent configurationChangeEvent) {
+            threadingPolicies.clear();
+        }
+    };
 
     private final GriffonApplication application;
     private final ActionFactory actionFactory;
@@ -347,14 +356,20 @@ public abstract class AbstractActionManager implements ActionManager {
 
     private void invokeAction(@Nonnull GriffonController controller, @Nonnull String actionName, @Nonnull Runnable runnable) {
         String fullQualifiedActionName = controller.getTypeClass().getName() + "." + actionName;
+        registerThreadingSettingsListener();
         Threading.Policy policy = threadingPolicies.get(fullQualifiedActionName);
         if (policy == null) {
+            long version = settingsVersion();
             if (isThreadingDisabled(fullQualifiedActionName)) {
                 policy = Threading.Policy.SKIP;
             } else {
                 policy = resolveThreadingPolicy(controller, actionName);
             }
             threadingPolicies.put(fullQualifiedActionName, policy);
+            if (settingsVersion() != version) {
+                // settings changed while resolving, the listener may have cleared the cache before the put
+                threadingPolicies.remove(fullQualifiedActionName, policy);
+            }
         }
 
         LOG.debug("Executing {} with policy {}", fullQualifiedActionName, policy);
@@ -434,6 +449,23 @@ public abstract class AbstractActionManager implements ActionManager {
         }
     }
 
+    private void registerThreadingSettingsListener() {
+        // cached policies are only valid as long as the threading settings remain unchanged
+        if (threadingSettingsListenerRegistered.compareAndSet(false, true)) {
+            Configuration configuration = getConfiguration();
+            if (configuration instanceof ObservableConfiguration) {
+                ObservableConfiguration observableConfiguration = (ObservableConfiguration) configuration;
+                observableConfiguration.addConfigurationChangeListener(KEY_THREADING, threadingSettingsListener);
+                observableConfiguration.addConfigurationChangeListener(KEY_DISABLE_THREADING_INJECTION, threadingSettingsListener);
+            }
+        }
+    }
+
+    private long settingsVersion() {
+        Configuration configuration = getConfiguration();
+        return configuration instanceof ObservableConfiguration ? ((ObservableConfiguration) configuration).getVersion() : 0L;
+    }
+
     protected boolean isThreadingDisabled(@Nonnull String actionName) {
         if (getConfiguration().getAsBoolean(KEY_DISABLE_THREADING_INJECTION, false)) {
             return true;
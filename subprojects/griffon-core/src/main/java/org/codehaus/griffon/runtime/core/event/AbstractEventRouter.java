@@ -22,35 +22,58 @@ import griffon.core.ExceptionHandler;
 import griffon.core.ExecutorServiceManager;
 import griffon.core.RunnableWithArgs;
 import griffon.core.event.Event;
+import griffon.core.event.EventPublishingScope;
 import griffon.core.event.EventRouter;
+import griffon.core.event.EventRouterMetrics;
+import griffon.core.event.TypedEventListener;
+import griffon.exceptions.InstanceMethodInvocationException;
 import griffon.util.GriffonClassUtils;
 import griffon.util.MethodDescriptor;
 import griffon.util.MethodUtils;
+import org.codehaus.griffon.runtime.core.threading.ExecutorServiceStrategy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.inject.Inject;
+import javax.inject.Named;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.AbstractExecutorService;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
-import static griffon.util.GriffonClassUtils.convertToTypeArray;
 import static griffon.util.GriffonNameUtils.capitalize;
+import static griffon.util.GriffonNameUtils.isBlank;
 import static griffon.util.GriffonNameUtils.requireNonBlank;
 import static java.util.Arrays.asList;
 import static java.util.Collections.EMPTY_LIST;
+import static java.util.Collections.emptyList;
 import static java.util.Collections.unmodifiableCollection;
 import static java.util.Objects.requireNonNull;
 
@@ -65,6 +88,7 @@ public abstract class AbstractEventRouter implements EventRouter {
     private static final String ERROR_LISTENER_NULL = "Argument 'listener' must not be null";
     private static final String ERROR_EVENT_CLASS_NULL = "Argument 'eventClass' must not be null";
     private static final String ERROR_EVENT_NULL = "Argument 'event' must not be null";
+    private static final TypedEventListener<?>[] NO_TYPED_LISTENERS = new TypedEventListener<?>[0];
     private static final String ERROR_CALLABLE_NULL = "Argument 'callable' must not be null";
     private static final String ERROR_RUNNABLE_NULL = "Argument 'runnable' must not be null";
     private static final String ERROR_PARAMS_NULL = "Argument 'params' must not be null";
@@ -73,36 +97,216 @@ public abstract class AbstractEventRouter implements EventRouter {
     private static final Logger LOG = LoggerFactory.getLogger(AbstractEventRouter.class);
     protected final Map<String, List<Object>> instanceListeners = new ConcurrentHashMap<>();
     protected final Map<String, List<Object>> functionalListeners = new ConcurrentHashMap<>();
+    private final Map<String, List<WeakEventListener>> weakListeners = new ConcurrentHashMap<>();
+    private final ReferenceQueue<Object> staleListeners = new ReferenceQueue<>();
+    private final Map<String, EventDispatch> dispatchTable = new ConcurrentHashMap<>();
+    private final Object[] listenersLock = new Object[0];
+    private final Map<String, EventCoalescer> coalescers = new ConcurrentHashMap<>();
+    private volatile Map<Class<?>, TypedEventListener<?>[]> typedListeners = new LinkedHashMap<>();
+    private volatile Map<Class<?>, TypedEventListener<?>[]> typedDispatchCache = new ConcurrentHashMap<>();
     private final MethodCache methodCache = new MethodCache();
-    private boolean enabled = true;
+    private final ThreadLocal<Boolean> scopedEnabled = new ThreadLocal<>();
+    private final AtomicInteger activeScopes = new AtomicInteger();
+    private volatile boolean enabled = true;
+    private volatile EventRouterMetrics metrics;
 
     protected static final AtomicInteger EVENT_ROUTER_ID = new AtomicInteger(1);
 
     protected ExecutorServiceManager executorServiceManager;
-    protected final ExecutorService executorService;
+    protected final AsyncEventDispatcher asyncEventDispatcher;
     protected final int eventRouterId;
+    private final Object[] executorServiceLock = new Object[0];
+    private volatile ExecutorService currentExecutorService;
+    private volatile ExecutorServiceStrategy executorServiceStrategy;
+    /**
+     * @deprecated use {@link #getExecutorService()} instead. This view forwards to the executor shared by routers;
+     * shutting it down has no effect unless the router created its own executor.
+     */
+    @Deprecated
+    protected final ExecutorService executorService = new SharedExecutorServiceView();
+    private boolean ownsExecutorService;
 
     @Inject
     private ExceptionHandler exceptionHandler;
 
     public AbstractEventRouter() {
         eventRouterId = EVENT_ROUTER_ID.getAndIncrement();
-        executorService = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), new DefaultThreadFactory(eventRouterId));
+        asyncEventDispatcher = createAsyncEventDispatcher();
+        if (Boolean.getBoolean(DefaultEventRouterMetrics.KEY_METRICS_ENABLED)) {
+            metrics = new DefaultEventRouterMetrics();
+        }
+    }
+
+    /**
+     * Sets the metrics that will receive measurements taken while dispatching events.
+     * Measurements are not taken when no metrics have been set. A {@code DefaultEventRouterMetrics}
+     * is set on construction when the {@code griffon.event.metrics} System property is {@code true}.
+     *
+     * @param metrics the metrics to use, may be null
+     * @since 2.14.0
+     */
+    public void setEventRouterMetrics(@Nullable EventRouterMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Returns the metrics that receive measurements taken while dispatching events.
+     *
+     * @return the current metrics or {@code null} if measurements are disabled.
+     * @since 2.14.0
+     */
+    @Nullable
+    public EventRouterMetrics getEventRouterMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Sets the {@code ExecutorService} used to notify listeners outside of the publishing thread.
+     * Routers share the application's default {@code ExecutorService}, thus the number of threads
+     * does not grow with the number of routers.
+     *
+     * @param executorService the {@code ExecutorService} to use
+     * @since 2.14.0
+     */
+    @Inject
+    public void setExecutorService(@Nonnull @Named("defaultExecutorService") ExecutorService executorService) {
+        requireNonNull(executorService, "Argument 'executorService' must not be null");
+        synchronized (executorServiceLock) {
+            if (ownsExecutorService) {
+                if (executorServiceManager != null) {
+                    executorServiceManager.remove(this.currentExecutorService);
+                }
+                this.currentExecutorService.shutdown();
+                ownsExecutorService = false;
+            }
+            this.currentExecutorService = executorServiceManager != null ? manage(executorService) : executorService;
+        }
+    }
+
+    /**
+     * Sets the strategy used to create an {@code ExecutorService} when none has been given. The
+     * {@code griffon.executor.strategy} System property is used when no strategy has been set.
+     *
+     * @param executorServiceStrategy the application's strategy
+     * @since 2.14.0
+     */
+    @Inject
+    public void setExecutorServiceStrategy(@Nonnull ExecutorServiceStrategy executorServiceStrategy) {
+        this.executorServiceStrategy = requireNonNull(executorServiceStrategy, "Argument 'executorServiceStrategy' must not be null");
+    }
+
+    /**
+     * Returns the {@code ExecutorService} used to notify listeners outside of the publishing thread.
+     * Routers that were not given one create their own on demand.
+     *
+     * @return the {@code ExecutorService} used by this router
+     * @since 2.14.0
+     */
+    @Nonnull
+    protected ExecutorService getExecutorService() {
+        ExecutorService service = currentExecutorService;
+        if (service != null) { return service; }
+
+        synchronized (executorServiceLock) {
+            if (currentExecutorService == null) {
+                ExecutorServiceStrategy strategy = executorServiceStrategy != null ? executorServiceStrategy : ExecutorServiceStrategy.resolve();
+                currentExecutorService = strategy.create("event-router-" + eventRouterId);
+                ownsExecutorService = true;
+                if (executorServiceManager != null) {
+                    currentExecutorService = manage(currentExecutorService);
+                }
+            }
+            return currentExecutorService;
+        }
+    }
+
+    /**
+     * Creates the dispatcher used for asynchronous publications. Capacity, overflow policy and ordering
+     * are read from the {@code griffon.event.async.capacity}, {@code griffon.event.async.overflow} and
+     * {@code griffon.event.async.ordered} System properties. When ordered, publications of the same
+     * event are delivered in order.<p>
+     * This method is invoked from the constructor; subclasses that override it must not rely on
+     * their own state.
+     *
+     * @return a dispatcher that executes publications on this router's {@code ExecutorService}.
+     * @since 2.14.0
+     */
+    @Nonnull
+    protected AsyncEventDispatcher createAsyncEventDispatcher() {
+        int capacity = Integer.getInteger(AsyncEventDispatcher.KEY_CAPACITY, AsyncEventDispatcher.DEFAULT_CAPACITY);
+        AsyncEventDispatcher.OverflowPolicy overflowPolicy = AsyncEventDispatcher.OverflowPolicy.BLOCK;
+        String policyName = System.getProperty(AsyncEventDispatcher.KEY_OVERFLOW_POLICY);
+        if (!isBlank(policyName)) {
+            try {
+                overflowPolicy = AsyncEventDispatcher.OverflowPolicy.valueOf(policyName.trim().toUpperCase(Locale.ENGLISH));
+            } catch (IllegalArgumentException e) {
+                LOG.warn("Unknown async event overflow policy '{}'. Using {} instead", policyName, overflowPolicy);
+            }
+        }
+
+        Executor executor = new Executor() {
+            @Override
+            public void execute(@Nonnull Runnable command) {
+                getExecutorService().execute(command);
+            }
+        };
+
+        return new AsyncEventDispatcher(executor, new Thread.UncaughtExceptionHandler() {
+            @Override
+            public void uncaughtException(Thread thread, Throwable throwable) {
+                handleUncaughtException(thread, throwable);
+            }
+        }, capacity, Runtime.getRuntime().availableProcessors(), overflowPolicy, Boolean.getBoolean(AsyncEventDispatcher.KEY_ORDERED));
+    }
+
+    /**
+     * Returns the dispatcher used for asynchronous publications, which exposes queue depth and drop counters.
+     *
+     * @return the dispatcher used by {@code publishEventAsync}.
+     * @since 2.14.0
+     */
+    @Nonnull
+    public AsyncEventDispatcher getAsyncEventDispatcher() {
+        return asyncEventDispatcher;
+    }
+
+    private void handleUncaughtException(@Nonnull Thread thread, @Nonnull Throwable throwable) {
+        if (exceptionHandler != null) {
+            exceptionHandler.uncaughtException(thread, throwable);
+        } else {
+            LOG.error("An error occurred while dispatching an event", throwable);
+        }
     }
 
     @Inject
     public void setExecutorServiceManager(@Nonnull ExecutorServiceManager executorServiceManager) {
         requireNonNull(executorServiceManager, "Argument 'executorServiceManager' must not be null");
-        if (this.executorServiceManager != null) {
-            this.executorServiceManager.remove(executorService);
+        synchronized (executorServiceLock) {
+            if (this.executorServiceManager != null) {
+                if (ownsExecutorService) {
+                    this.executorServiceManager.remove(currentExecutorService);
+                }
+            }
+            this.executorServiceManager = executorServiceManager;
+            if (currentExecutorService != null) {
+                currentExecutorService = manage(currentExecutorService);
+            }
         }
-        this.executorServiceManager = executorServiceManager;
-        this.executorServiceManager.add(executorService);
+    }
+
+    /**
+     * Adds the given {@code ExecutorService} to the {@code ExecutorServiceManager} and returns the
+     * instance to be used from now on, as the manager may wrap it to take measurements.
+     */
+    @Nonnull
+    private ExecutorService manage(@Nonnull ExecutorService executorService) {
+        ExecutorService managed = executorServiceManager.add(executorService);
+        return managed != null ? managed : executorService;
     }
 
     protected void runInsideExecutorService(@Nonnull final Runnable runnable) {
         requireNonNull(runnable, ERROR_RUNNABLE_NULL);
-        executorService.submit(new Runnable() {
+        getExecutorService().execute(new Runnable() {
             public void run() {
                 try {
                     runnable.run();
@@ -115,16 +319,30 @@ public abstract class AbstractEventRouter implements EventRouter {
 
     @Override
     public boolean isEventPublishingEnabled() {
-        synchronized (LOCK) {
-            return this.enabled;
+        if (activeScopes.get() > 0) {
+            Boolean scoped = scopedEnabled.get();
+            if (scoped != null) {
+                return scoped;
+            }
         }
+        return this.enabled;
     }
 
     @Override
     public void setEventPublishingEnabled(boolean enabled) {
-        synchronized (LOCK) {
-            this.enabled = enabled;
-        }
+        this.enabled = enabled;
+    }
+
+    @Nonnull
+    @Override
+    public EventPublishingScope scopeEventPublishing(boolean enabled) {
+        return new ThreadEventPublishingScope(enabled);
+    }
+
+    @Nonnull
+    @Override
+    public EventPublishingScope suppressEventPublishing() {
+        return scopeEventPublishing(false);
     }
 
     @Override
@@ -137,6 +355,7 @@ public abstract class AbstractEventRouter implements EventRouter {
         if (!isEventPublishingEnabled()) { return; }
         requireNonBlank(eventName, ERROR_EVENT_NAME_BLANK);
         if (params == null) { params = EMPTY_LIST; }
+        if (coalesce(eventName, params)) { return; }
         buildPublisher(eventName, params, "synchronously").run();
     }
 
@@ -150,12 +369,25 @@ public abstract class AbstractEventRouter implements EventRouter {
         if (!isEventPublishingEnabled()) { return; }
         requireNonBlank(eventName, ERROR_EVENT_NAME_BLANK);
         if (params == null) { params = EMPTY_LIST; }
+        if (coalesce(eventName, params)) { return; }
         final Runnable publisher = buildPublisher(eventName, params, "outside UI");
         doPublishOutsideUI(publisher);
     }
 
     protected abstract void doPublishOutsideUI(@Nonnull Runnable publisher);
 
+    /**
+     * Publishes an event inside the UI thread without blocking the caller. Used by events
+     * coalesced with {@code setEventCoalescingInsideUI}. Runs the publisher in the current
+     * thread by default.
+     *
+     * @param publisher the publication
+     * @since 2.14.0
+     */
+    protected void doPublishInsideUI(@Nonnull Runnable publisher) {
+        requireNonNull(publisher, "Argument 'publisher' must not be null").run();
+    }
+
     @Override
     public void publishEventAsync(@Nonnull String eventName) {
         publishEventAsync(eventName, EMPTY_LIST);
@@ -166,12 +398,42 @@ public abstract class AbstractEventRouter implements EventRouter {
         if (!isEventPublishingEnabled()) { return; }
         requireNonBlank(eventName, ERROR_EVENT_NAME_BLANK);
         if (params == null) { params = EMPTY_LIST; }
+        if (coalesce(eventName, params)) { return; }
         final Runnable publisher = buildPublisher(eventName, params, "asynchronously");
-        doPublishAsync(publisher);
+        doPublishAsync(eventName, metrics != null ? measureWaitTime(capitalize(eventName), publisher) : publisher);
     }
 
     protected abstract void doPublishAsync(@Nonnull Runnable publisher);
 
+    /**
+     * Publishes an event asynchronously. The event name may be used to coalesce publications.
+     *
+     * @param eventName the name of the event, may be null
+     * @param publisher the publication
+     * @return {@code true} if the publication was accepted, {@code false} if it was discarded.
+     * @since 2.14.0
+     */
+    protected boolean doPublishAsync(@Nullable String eventName, @Nonnull Runnable publisher) {
+        doPublishAsync(publisher);
+        return true;
+    }
+
+    @Nonnull
+    private Runnable measureWaitTime(@Nonnull final String eventName, @Nonnull final Runnable publisher) {
+        if (metrics == null) { return publisher; }
+        final long enqueued = System.nanoTime();
+        return new Runnable() {
+            @Override
+            public void run() {
+                EventRouterMetrics m = metrics;
+                if (m != null) {
+                    m.asyncEventDequeued(eventName, System.nanoTime() - enqueued);
+                }
+                publisher.run();
+            }
+        };
+    }
+
     @Override
     public void publishEvent(@Nonnull Event event) {
         requireNonNull(event, ERROR_EVENT_NULL);
@@ -190,6 +452,163 @@ public abstract class AbstractEventRouter implements EventRouter {
         publishEventAsync(event.getClass().getSimpleName(), asList(event));
     }
 
+    @Override
+    public void publishTypedEvent(@Nonnull Event event) {
+        requireNonNull(event, ERROR_EVENT_NULL);
+        if (!isEventPublishingEnabled()) { return; }
+        buildTypedPublisher(event, "synchronously").run();
+    }
+
+    @Override
+    public void publishTypedEventOutsideUI(@Nonnull Event event) {
+        requireNonNull(event, ERROR_EVENT_NULL);
+        if (!isEventPublishingEnabled()) { return; }
+        doPublishOutsideUI(buildTypedPublisher(event, "outside UI"));
+    }
+
+    @Override
+    public void publishTypedEventAsync(@Nonnull Event event) {
+        requireNonNull(event, ERROR_EVENT_NULL);
+        if (!isEventPublishingEnabled()) { return; }
+        String eventName = event.getClass().getName();
+        doPublishAsync(eventName, measureWaitTime(eventName, buildTypedPublisher(event, "asynchronously")));
+    }
+
+    @Override
+    public <E extends Event> void addTypedEventListener(@Nonnull Class<E> eventClass, @Nonnull TypedEventListener<? super E> listener) {
+        requireNonNull(eventClass, ERROR_EVENT_CLASS_NULL);
+        requireNonNull(listener, ERROR_LISTENER_NULL);
+        synchronized (listenersLock) {
+            TypedEventListener<?>[] listeners = typedListeners.get(eventClass);
+            if (listeners == null) {
+                listeners = NO_TYPED_LISTENERS;
+            }
+            if (asList(listeners).contains(listener)) { return; }
+            LOG.debug("Adding listener {} on {}", listener.getClass().getName(), eventClass.getName());
+            TypedEventListener<?>[] copy = Arrays.copyOf(listeners, listeners.length + 1);
+            copy[listeners.length] = listener;
+            updateTypedListeners(eventClass, copy);
+        }
+    }
+
+    @Override
+    public <E extends Event> void removeTypedEventListener(@Nonnull Class<E> eventClass, @Nonnull TypedEventListener<? super E> listener) {
+        requireNonNull(eventClass, ERROR_EVENT_CLASS_NULL);
+        requireNonNull(listener, ERROR_LISTENER_NULL);
+        synchronized (listenersLock) {
+            TypedEventListener<?>[] listeners = typedListeners.get(eventClass);
+            if (listeners == null) { return; }
+            List<TypedEventListener<?>> list = new ArrayList<>(asList(listeners));
+            if (!list.remove(listener)) { return; }
+            LOG.debug("Removing listener {} on {}", listener.getClass().getName(), eventClass.getName());
+            updateTypedListeners(eventClass, list.toArray(new TypedEventListener<?>[list.size()]));
+        }
+    }
+
+    /**
+     * Replaces the typed listeners registered for the given event class. Must be called while holding
+     * the listeners lock. Resolved listener arrays are discarded as they may no longer be accurate.
+     */
+    private void updateTypedListeners(@Nonnull Class<?> eventClass, @Nonnull TypedEventListener<?>[] listeners) {
+        Map<Class<?>, TypedEventListener<?>[]> copy = new LinkedHashMap<>(typedListeners);
+        if (listeners.length == 0) {
+            copy.remove(eventClass);
+        } else {
+            copy.put(eventClass, listeners);
+        }
+        typedListeners = copy;
+        typedDispatchCache = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Resolves all typed listeners interested in the given event class, starting with those registered
+     * for the class itself and following with those registered for its superclasses.
+     */
+    @Nonnull
+    private TypedEventListener<?>[] resolveTypedListeners(@Nonnull Class<?> eventClass) {
+        Map<Class<?>, TypedEventListener<?>[]> cache = typedDispatchCache;
+        TypedEventListener<?>[] resolved = cache.get(eventClass);
+        if (resolved != null) { return resolved; }
+
+        Map<Class<?>, TypedEventListener<?>[]> registry = typedListeners;
+        List<TypedEventListener<?>> listeners = new ArrayList<>();
+        for (Class<?> type = eventClass; type != null && Event.class.isAssignableFrom(type); type = type.getSuperclass()) {
+            TypedEventListener<?>[] registered = registry.get(type);
+            if (registered != null) {
+                for (TypedEventListener<?> listener : registered) {
+                    if (!listeners.contains(listener)) { listeners.add(listener); }
+                }
+            }
+        }
+
+        resolved = listeners.isEmpty() ? NO_TYPED_LISTENERS : listeners.toArray(new TypedEventListener<?>[listeners.size()]);
+        cache.put(eventClass, resolved);
+        return resolved;
+    }
+
+    protected Runnable buildTypedPublisher(@Nonnull final Event event, @Nonnull final String mode) {
+        requireNonNull(event, ERROR_EVENT_NULL);
+        requireNonBlank(mode, ERROR_MODE_BLANK);
+        return new Runnable() {
+            @SuppressWarnings("unchecked")
+            public void run() {
+                String eventName = event.getClass().getName();
+                LOG.debug("Triggering event {} {}", eventName, mode);
+                TypedEventListener<?>[] listeners = resolveTypedListeners(event.getClass());
+                EventRouterMetrics m = metrics;
+                if (m == null) {
+                    for (TypedEventListener<?> listener : listeners) {
+                        ((TypedEventListener<Event>) listener).onEvent(event);
+                    }
+                    return;
+                }
+
+                m.eventPublished(eventName, listeners.length);
+                for (TypedEventListener<?> listener : listeners) {
+                    long start = System.nanoTime();
+                    try {
+                        ((TypedEventListener<Event>) listener).onEvent(event);
+                    } finally {
+                        m.listenerInvoked(eventName, listener, System.nanoTime() - start);
+                    }
+                }
+            }
+        };
+    }
+
+    @Override
+    public void setEventCoalescing(@Nonnull String eventName, long window, @Nonnull TimeUnit unit) {
+        requireNonBlank(eventName, ERROR_EVENT_NAME_BLANK);
+        requireNonNull(unit, "Argument 'unit' must not be null");
+        if (window <= 0) {
+            throw new IllegalArgumentException("Argument 'window' must be greater than zero");
+        }
+        coalescers.put(capitalize(eventName), new EventCoalescer(capitalize(eventName), unit.toNanos(window)));
+    }
+
+    @Override
+    public void setEventCoalescingInsideUI(@Nonnull String eventName) {
+        requireNonBlank(eventName, ERROR_EVENT_NAME_BLANK);
+        coalescers.put(capitalize(eventName), new EventCoalescer(capitalize(eventName), 0L));
+    }
+
+    @Override
+    public void removeEventCoalescing(@Nonnull String eventName) {
+        requireNonBlank(eventName, ERROR_EVENT_NAME_BLANK);
+        coalescers.remove(capitalize(eventName));
+    }
+
+    private boolean coalesce(@Nonnull String eventName, @Nonnull List<?> params) {
+        if (coalescers.isEmpty()) { return false; }
+        EventCoalescer coalescer = coalescers.get(eventName);
+        if (coalescer == null && !Character.isUpperCase(eventName.charAt(0))) {
+            coalescer = coalescers.get(capitalize(eventName));
+        }
+        if (coalescer == null) { return false; }
+        coalescer.publish(params);
+        return true;
+    }
+
     @Override
     public <E extends Event> void removeEventListener(@Nonnull Class<E> eventClass, @Nonnull CallableWithArgs<?> listener) {
         requireNonNull(eventClass, ERROR_EVENT_CLASS_NULL);
@@ -219,12 +638,12 @@ public abstract class AbstractEventRouter implements EventRouter {
         requireNonBlank(eventHandler, ERROR_EVENT_HANDLER_BLANK);
         requireNonNull(params, ERROR_PARAMS_NULL);
 
-        Class[] argTypes = convertToTypeArray(asArray(params));
-        MethodDescriptor target = new MethodDescriptor(eventHandler, argTypes);
-        Method method = methodCache.findMatchingMethodFor(instance.getClass(), target);
-
-        if (method != null) {
-            MethodUtils.invokeUnwrapping(method, instance, asArray(params));
+        Object[] args = asArray(params);
+        for (EventHandlerInvoker invoker : methodCache.findInvokersFor(instance.getClass(), eventHandler)) {
+            if (invoker.accepts(args)) {
+                invoker.invoke(instance, args);
+                return;
+            }
         }
     }
 
@@ -263,17 +682,18 @@ public abstract class AbstractEventRouter implements EventRouter {
         }
 
         boolean added = false;
-        for (String eventName : methodCache.fetchMethodMetadata(listener.getClass()).keySet()) {
-            eventName = eventName.substring(2); // cut off "on" from the name
-            List<Object> instances = instanceListeners.get(eventName);
-            if (instances == null) {
-                instances = new ArrayList<>();
-                instanceListeners.put(eventName, instances);
-            }
-            synchronized (instances) {
-                if (!instances.contains(listener)) {
+        synchronized (listenersLock) {
+            for (String eventName : methodCache.getMethodMetadata(listener.getClass()).keySet()) {
+                eventName = eventName.substring(2); // cut off "on" from the name
+                List<Object> instances = instanceListeners.get(eventName);
+                if (instances == null) {
+                    instances = new ArrayList<>();
+                    instanceListeners.put(eventName, instances);
+                }
+                if (!instances.contains(listener) && !containsWeakListener(eventName, listener)) {
                     added = true;
                     instances.add(listener);
+                    updateDispatchTable(eventName);
                 }
             }
         }
@@ -287,6 +707,116 @@ public abstract class AbstractEventRouter implements EventRouter {
         }
     }
 
+    @Override
+    public void addWeakEventListener(@Nonnull Object listener) {
+        requireNonNull(listener, ERROR_LISTENER_NULL);
+        if (listener instanceof RunnableWithArgs || listener instanceof CallableWithArgs || listener instanceof Map) {
+            throw new IllegalArgumentException("Cannot add a weak event listener of type " + listener.getClass().getName() +
+                ". Only bean listeners may be held weakly. " + listener);
+        }
+
+        if (!methodCache.isEventListener(listener.getClass())) {
+            return;
+        }
+
+        expungeStaleListeners();
+        boolean added = false;
+        synchronized (listenersLock) {
+            List<String> eventNames = new ArrayList<>();
+            for (String eventName : methodCache.getMethodMetadata(listener.getClass()).keySet()) {
+                eventName = eventName.substring(2); // cut off "on" from the name
+                List<Object> instances = instanceListeners.get(eventName);
+                if ((instances == null || !instances.contains(listener)) && !containsWeakListener(eventName, listener)) {
+                    eventNames.add(eventName);
+                }
+            }
+
+            if (!eventNames.isEmpty()) {
+                added = true;
+                WeakEventListener reference = new WeakEventListener(listener, eventNames.toArray(new String[eventNames.size()]), staleListeners);
+                for (String eventName : eventNames) {
+                    List<WeakEventListener> references = weakListeners.get(eventName);
+                    if (references == null) {
+                        references = new ArrayList<>();
+                        weakListeners.put(eventName, references);
+                    }
+                    references.add(reference);
+                    updateDispatchTable(eventName);
+                }
+            }
+        }
+
+        if (added) {
+            try {
+                LOG.debug("Adding weak listener {}", listener);
+            } catch (UnsupportedOperationException uoe) {
+                LOG.debug("Adding weak listener {}", listener.getClass().getName());
+            }
+        }
+    }
+
+    private boolean containsWeakListener(@Nonnull String eventName, @Nonnull Object listener) {
+        List<WeakEventListener> references = weakListeners.get(eventName);
+        if (references == null) { return false; }
+        for (WeakEventListener reference : references) {
+            if (listener.equals(reference.get())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean removeWeakListener(@Nonnull String eventName, @Nonnull Object listener) {
+        List<WeakEventListener> references = weakListeners.get(eventName);
+        if (references == null) { return false; }
+        boolean removed = false;
+        for (Iterator<WeakEventListener> it = references.iterator(); it.hasNext(); ) {
+            WeakEventListener reference = it.next();
+            if (listener.equals(reference.get())) {
+                reference.clear();
+                it.remove();
+                removed = true;
+            }
+        }
+        if (references.isEmpty()) {
+            weakListeners.remove(eventName);
+        }
+        return removed;
+    }
+
+    /**
+     * Removes weak listeners whose referents have been garbage collected.
+     */
+    protected void expungeStaleListeners() {
+        Reference<?> reference = staleListeners.poll();
+        if (reference == null) { return; }
+
+        synchronized (listenersLock) {
+            Set<String> eventNames = new HashSet<>();
+            for (; reference != null; reference = staleListeners.poll()) {
+                WeakEventListener stale = (WeakEventListener) reference;
+                for (String eventName : stale.eventNames) {
+                    List<WeakEventListener> references = weakListeners.get(eventName);
+                    if (references != null && references.remove(stale)) {
+                        eventNames.add(eventName);
+                        if (references.isEmpty()) {
+                            weakListeners.remove(eventName);
+                        }
+                    }
+                }
+            }
+            for (String eventName : eventNames) {
+                LOG.debug("Removing stale listeners on {}", eventName);
+                updateDispatchTable(eventName);
+            }
+        }
+    }
+
+    @Nullable
+    private static Object resolveListener(@Nonnull Object entry) {
+        return entry instanceof WeakEventListener ? ((WeakEventListener) entry).get() : entry;
+    }
+
     @Override
     public void addEventListener(@Nonnull Map<String, Object> listener) {
         requireNonNull(listener, ERROR_LISTENER_NULL);
@@ -321,14 +851,21 @@ public abstract class AbstractEventRouter implements EventRouter {
         }
 
         boolean removed = false;
-        for (String eventName : methodCache.fetchMethodMetadata(listener.getClass()).keySet()) {
-            eventName = eventName.substring(2); // cut off "on" from the name
-            List<Object> instances = instanceListeners.get(eventName);
-            if (instances != null && instances.contains(listener)) {
-                instances.remove(listener);
-                removed = true;
-                if (instances.isEmpty()) {
-                    instanceListeners.remove(eventName);
+        synchronized (listenersLock) {
+            for (String eventName : methodCache.getMethodMetadata(listener.getClass()).keySet()) {
+                eventName = eventName.substring(2); // cut off "on" from the name
+                List<Object> instances = instanceListeners.get(eventName);
+                if (instances != null && instances.contains(listener)) {
+                    instances.remove(listener);
+                    removed = true;
+                    if (instances.isEmpty()) {
+                        instanceListeners.remove(eventName);
+                    }
+                    updateDispatchTable(eventName);
+                }
+                if (removeWeakListener(eventName, listener)) {
+                    removed = true;
+                    updateDispatchTable(eventName);
                 }
             }
         }
@@ -363,56 +900,51 @@ public abstract class AbstractEventRouter implements EventRouter {
     public void addEventListener(@Nonnull String eventName, @Nonnull CallableWithArgs<?> listener) {
         requireNonBlank(eventName, ERROR_EVENT_NAME_BLANK);
         requireNonNull(listener, ERROR_LISTENER_NULL);
-        synchronized (functionalListeners) {
-            List<Object> list = functionalListeners.get(capitalize(eventName));
-            if (list == null) {
-                list = new ArrayList<>();
-                functionalListeners.put(capitalize(eventName), list);
-            }
-            if (list.contains(listener)) { return; }
-            LOG.debug("Adding listener {} on {}", listener.getClass().getName(), capitalize(eventName));
-            list.add(listener);
-        }
+        addFunctionalListener(capitalize(eventName), listener);
     }
 
     @Override
     public void addEventListener(@Nonnull String eventName, @Nonnull RunnableWithArgs listener) {
         requireNonBlank(eventName, ERROR_EVENT_NAME_BLANK);
         requireNonNull(listener, ERROR_LISTENER_NULL);
-        synchronized (functionalListeners) {
-            List<Object> list = functionalListeners.get(capitalize(eventName));
-            if (list == null) {
-                list = new ArrayList<>();
-                functionalListeners.put(capitalize(eventName), list);
-            }
-            if (list.contains(listener)) { return; }
-            LOG.debug("Adding listener {} on {}", listener.getClass().getName(), capitalize(eventName));
-            list.add(listener);
-        }
+        addFunctionalListener(capitalize(eventName), listener);
     }
 
     @Override
     public void removeEventListener(@Nonnull String eventName, @Nonnull CallableWithArgs<?> listener) {
         requireNonBlank(eventName, ERROR_EVENT_NAME_BLANK);
         requireNonNull(listener, ERROR_LISTENER_NULL);
-        synchronized (functionalListeners) {
-            List<Object> list = functionalListeners.get(capitalize(eventName));
-            if (list != null) {
-                LOG.debug("Removing listener {} on {}", listener.getClass().getName(), capitalize(eventName));
-                list.remove(listener);
-            }
-        }
+        removeFunctionalListener(capitalize(eventName), listener);
     }
 
     @Override
     public void removeEventListener(@Nonnull String eventName, @Nonnull RunnableWithArgs listener) {
         requireNonBlank(eventName, ERROR_EVENT_NAME_BLANK);
         requireNonNull(listener, ERROR_LISTENER_NULL);
-        synchronized (functionalListeners) {
-            List<Object> list = functionalListeners.get(capitalize(eventName));
+        removeFunctionalListener(capitalize(eventName), listener);
+    }
+
+    private void addFunctionalListener(@Nonnull String eventName, @Nonnull Object listener) {
+        synchronized (listenersLock) {
+            List<Object> list = functionalListeners.get(eventName);
+            if (list == null) {
+                list = new ArrayList<>();
+                functionalListeners.put(eventName, list);
+            }
+            if (list.contains(listener)) { return; }
+            LOG.debug("Adding listener {} on {}", listener.getClass().getName(), eventName);
+            list.add(listener);
+            updateDispatchTable(eventName);
+        }
+    }
+
+    private void removeFunctionalListener(@Nonnull String eventName, @Nonnull Object listener) {
+        synchronized (listenersLock) {
+            List<Object> list = functionalListeners.get(eventName);
             if (list != null) {
-                LOG.debug("Removing listener {} on {}", listener.getClass().getName(), capitalize(eventName));
+                LOG.debug("Removing listener {} on {}", listener.getClass().getName(), eventName);
                 list.remove(listener);
+                updateDispatchTable(eventName);
             }
         }
     }
@@ -421,18 +953,28 @@ public abstract class AbstractEventRouter implements EventRouter {
     @Override
     public Collection<Object> getEventListeners() {
         List<Object> listeners = new ArrayList<>();
-        synchronized (instanceListeners) {
+        synchronized (listenersLock) {
             Set<Object> instances = new HashSet<>();
             for (List<Object> objects : instanceListeners.values()) {
                 instances.addAll(objects);
             }
+            for (List<WeakEventListener> references : weakListeners.values()) {
+                for (WeakEventListener reference : references) {
+                    Object listener = reference.get();
+                    if (listener != null) {
+                        instances.add(listener);
+                    }
+                }
+            }
             listeners.addAll(instances);
-        }
 
-        synchronized (functionalListeners) {
             for (List<Object> objects : functionalListeners.values()) {
                 listeners.addAll(objects);
             }
+
+            for (TypedEventListener<?>[] objects : typedListeners.values()) {
+                listeners.addAll(asList(objects));
+            }
         }
 
         return unmodifiableCollection(listeners);
@@ -442,54 +984,125 @@ public abstract class AbstractEventRouter implements EventRouter {
     @Override
     public Collection<Object> getEventListeners(@Nonnull String eventName) {
         requireNonBlank(eventName, ERROR_EVENT_NAME_BLANK);
-        List<Object> listeners = new ArrayList<>();
-        List<Object> instances = instanceListeners.get(eventName);
-        if (instances != null) { listeners.addAll(instances); }
-        instances = functionalListeners.get(eventName);
-        if (instances != null) { listeners.addAll(instances); }
+        EventDispatch dispatch = dispatchTable.get(eventName);
+        if (dispatch == null) { return emptyList(); }
+        List<Object> listeners = new ArrayList<>(dispatch.listeners.length);
+        for (Object entry : dispatch.listeners) {
+            Object listener = resolveListener(entry);
+            if (listener != null) {
+                listeners.add(listener);
+            }
+        }
         return unmodifiableCollection(listeners);
     }
 
+    /**
+     * Rebuilds the dispatch entry of the given event. Must be called while holding the listeners lock
+     * every time the listeners registered for that event change.
+     *
+     * @param eventName the capitalized name of the event
+     */
+    private void updateDispatchTable(@Nonnull String eventName) {
+        List<Object> instances = instanceListeners.get(eventName);
+        List<WeakEventListener> references = weakListeners.get(eventName);
+        List<Object> functions = functionalListeners.get(eventName);
+        int size = (instances != null ? instances.size() : 0) +
+            (references != null ? references.size() : 0) +
+            (functions != null ? functions.size() : 0);
+        if (size == 0) {
+            dispatchTable.remove(eventName);
+            return;
+        }
+
+        Object[] listeners = new Object[size];
+        int index = 0;
+        if (instances != null) {
+            for (Object listener : instances) {
+                listeners[index++] = listener;
+            }
+        }
+        if (references != null) {
+            for (WeakEventListener reference : references) {
+                listeners[index++] = reference;
+            }
+        }
+        if (functions != null) {
+            for (Object listener : functions) {
+                listeners[index++] = listener;
+            }
+        }
+        dispatchTable.put(eventName, new EventDispatch(eventName, listeners));
+    }
+
+    @Nullable
+    private EventDispatch resolveDispatch(@Nonnull String event) {
+        EventDispatch dispatch = dispatchTable.get(event);
+        if (dispatch == null && !Character.isUpperCase(event.charAt(0))) {
+            dispatch = dispatchTable.get(capitalize(event));
+        }
+        return dispatch;
+    }
+
     protected Runnable buildPublisher(@Nonnull final String event, @Nonnull final List<?> params, @Nonnull final String mode) {
         requireNonNull(event, ERROR_EVENT_NULL);
         requireNonNull(params, ERROR_PARAMS_NULL);
         requireNonBlank(mode, ERROR_MODE_BLANK);
+        expungeStaleListeners();
         return new Runnable() {
             public void run() {
-                String eventName = capitalize(event);
-                LOG.debug("Triggering event '{}' {}", eventName, mode);
-                String eventHandler = "on" + eventName;
-                // defensive copying to avoid CME during event dispatching
-                List<Object> listenersCopy = new ArrayList<>();
-                List<Object> instances = instanceListeners.get(eventName);
-                if (instances != null) {
-                    listenersCopy.addAll(instances);
+                // dispatch entries are immutable, listeners registered while
+                // dispatching will be notified on the next publication
+                EventDispatch dispatch = resolveDispatch(event);
+                EventRouterMetrics m = metrics;
+                if (dispatch == null) {
+                    LOG.debug("Triggering event '{}' {}", event, mode);
+                    if (m != null) {
+                        m.eventPublished(capitalize(event), 0);
+                    }
+                    return;
                 }
-                synchronized (functionalListeners) {
-                    List<?> list = functionalListeners.get(eventName);
-                    if (list != null) {
-                        listenersCopy.addAll(list);
+                LOG.debug("Triggering event '{}' {}", dispatch.eventName, mode);
+
+                if (m == null) {
+                    for (Object entry : dispatch.listeners) {
+                        Object listener = resolveListener(entry);
+                        if (listener != null) {
+                            notifyListener(listener, dispatch.eventHandler, params);
+                        }
                     }
+                    return;
                 }
 
-                for (Object listener : listenersCopy) {
-                    if (listener instanceof RunnableWithArgs) {
-                        fireEvent((RunnableWithArgs) listener, params);
-                    } else if (listener instanceof CallableWithArgs) {
-                        fireEvent((CallableWithArgs<?>) listener, params);
-                    } else {
-                        fireEvent(listener, eventHandler, params);
+                m.eventPublished(dispatch.eventName, dispatch.listeners.length);
+                for (Object entry : dispatch.listeners) {
+                    Object listener = resolveListener(entry);
+                    if (listener == null) { continue; }
+                    long start = System.nanoTime();
+                    try {
+                        notifyListener(listener, dispatch.eventHandler, params);
+                    } finally {
+                        m.listenerInvoked(dispatch.eventName, listener, System.nanoTime() - start);
                     }
                 }
             }
         };
     }
 
+    private void notifyListener(@Nonnull Object listener, @Nonnull String eventHandler, @Nonnull List<?> params) {
+        if (listener instanceof RunnableWithArgs) {
+            fireEvent((RunnableWithArgs) listener, params);
+        } else if (listener instanceof CallableWithArgs) {
+            fireEvent((CallableWithArgs<?>) listener, params);
+        } else {
+            fireEvent(listener, eventHandler, params);
+        }
+    }
+
     protected boolean removeNestedListeners(@Nonnull Object owner) {
         requireNonNull(owner, ERROR_OWNER_NULL);
 
         boolean removed = false;
-        synchronized (functionalListeners) {
+        synchronized (listenersLock) {
             for (Map.Entry<String, List<Object>> event : functionalListeners.entrySet()) {
                 String eventName = event.getKey();
                 List<Object> listenerList = event.getValue();
@@ -499,11 +1112,13 @@ public abstract class AbstractEventRouter implements EventRouter {
                         toRemove.add(listener);
                     }
                 }
-                removed = !toRemove.isEmpty();
+                if (toRemove.isEmpty()) { continue; }
+                removed = true;
                 for (Object listener : toRemove) {
-                    LOG.debug("Removing listener {} on {}", listener.getClass().getName(), capitalize(eventName));
+                    LOG.debug("Removing listener {} on {}", listener.getClass().getName(), eventName);
                     listenerList.remove(listener);
                 }
+                updateDispatchTable(eventName);
             }
         }
 
@@ -523,25 +1138,208 @@ public abstract class AbstractEventRouter implements EventRouter {
         return list.toArray(new Object[list.size()]);
     }
 
-    protected static class MethodCache {
-        private final Map<Class<?>, Map<String, List<MethodInfo>>> methodMap = new ConcurrentHashMap<>();
+    /**
+     * Suppresses or enables event publishing for the thread that opened it until closed.
+     */
+    private final class ThreadEventPublishingScope implements EventPublishingScope {
+        private final Thread owner = Thread.currentThread();
+        private final Boolean previous;
+        private boolean closed;
+
+        private ThreadEventPublishingScope(boolean enabled) {
+            previous = scopedEnabled.get();
+            scopedEnabled.set(enabled);
+            activeScopes.incrementAndGet();
+        }
 
-        public boolean isEventListener(@Nonnull Class<?> klass) {
-            Map<String, List<MethodInfo>> methodMetadata = methodMap.get(klass);
-            if (methodMetadata == null) {
-                methodMetadata = fetchMethodMetadata(klass);
-                if (!methodMetadata.isEmpty()) {
-                    methodMap.put(klass, methodMetadata);
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            if (Thread.currentThread() != owner) {
+                throw new IllegalStateException("Event publishing scope must be closed by thread " + owner.getName());
+            }
+            closed = true;
+            if (previous != null) {
+                scopedEnabled.set(previous);
+            } else {
+                scopedEnabled.remove();
+            }
+            activeScopes.decrementAndGet();
+        }
+    }
+
+    /**
+     * A bean listener held weakly. Registered once for all the events it handles, it is
+     * enqueued for removal once its referent has been garbage collected.
+     */
+    private static final class WeakEventListener extends WeakReference<Object> {
+        private final String[] eventNames;
+
+        private WeakEventListener(@Nonnull Object listener, @Nonnull String[] eventNames, @Nonnull ReferenceQueue<Object> queue) {
+            super(listener, queue);
+            this.eventNames = eventNames;
+        }
+    }
+
+    /**
+     * Immutable, pre-resolved set of listeners for a single event.
+     * Entries are replaced as a whole whenever listeners are added or removed.
+     */
+    private static final class EventDispatch {
+        private final String eventName;
+        private final String eventHandler;
+        private final Object[] listeners;
+
+        private EventDispatch(@Nonnull String eventName, @Nonnull Object[] listeners) {
+            this.eventName = eventName;
+            this.eventHandler = "on" + eventName;
+            this.listeners = listeners;
+        }
+    }
+
+    /**
+     * Keeps the latest arguments of a coalesced event until they are delivered. A delivery is
+     * scheduled by the publication that finds no pending arguments. A delivery discarded by the dispatcher
+     * clears the pending arguments, thus the next publication schedules a new delivery.
+     */
+    private final class EventCoalescer implements Runnable, AsyncEventDispatcher.Discardable {
+        private final String eventName;
+        private final long windowNanos;
+        private final AtomicReference<List<?>> pending = new AtomicReference<>();
+        private final Runnable asyncDelivery = new Runnable() {
+            @Override
+            public void run() {
+                if (asyncEventDispatcher.getOverflowPolicy() == AsyncEventDispatcher.OverflowPolicy.BLOCK) {
+                    // a full queue must not stall the timer shared by all routers
+                    try {
+                        getExecutorService().execute(dispatch);
+                    } catch (RejectedExecutionException ree) {
+                        discard();
+                    }
                 } else {
-                    methodMetadata = null;
+                    dispatch.run();
+                }
+            }
+        };
+        private final Runnable dispatch = new Runnable() {
+            @Override
+            public void run() {
+                boolean accepted;
+                try {
+                    accepted = doPublishAsync(eventName, EventCoalescer.this);
+                } catch (RejectedExecutionException ree) {
+                    accepted = false;
+                }
+                if (!accepted) {
+                    discard();
                 }
             }
-            return methodMetadata != null;
+        };
+
+        private EventCoalescer(@Nonnull String eventName, long windowNanos) {
+            this.eventName = eventName;
+            this.windowNanos = windowNanos;
+        }
+
+        private void publish(@Nonnull List<?> params) {
+            if (pending.getAndSet(params) != null) {
+                LOG.trace("Coalesced event '{}'", eventName);
+                return;
+            }
+
+            if (windowNanos > 0) {
+                CoalescingScheduler.INSTANCE.schedule(asyncDelivery, windowNanos, TimeUnit.NANOSECONDS);
+            } else {
+                doPublishInsideUI(this);
+            }
+        }
+
+        @Override
+        public void discard() {
+            // clearing pending lets the next publication schedule a new delivery
+            if (pending.getAndSet(null) != null) {
+                LOG.debug("Discarded coalesced event '{}'", eventName);
+            }
+        }
+
+        @Override
+        public void run() {
+            List<?> params = pending.getAndSet(null);
+            if (params != null) {
+                buildPublisher(eventName, params, windowNanos > 0 ? "asynchronously (coalesced)" : "inside UI (coalesced)").run();
+            }
+        }
+    }
+
+    /**
+     * Backs the deprecated {@code executorService} field.
+     */
+    private final class SharedExecutorServiceView extends AbstractExecutorService {
+        @Override
+        public void execute(@Nonnull Runnable command) {
+            getExecutorService().execute(command);
+        }
+
+        @Override
+        public void shutdown() {
+            synchronized (executorServiceLock) {
+                if (ownsExecutorService) { currentExecutorService.shutdown(); }
+            }
+        }
+
+        @Nonnull
+        @Override
+        public List<Runnable> shutdownNow() {
+            synchronized (executorServiceLock) {
+                if (ownsExecutorService) { return currentExecutorService.shutdownNow(); }
+            }
+            return emptyList();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return getExecutorService().isShutdown();
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return getExecutorService().isTerminated();
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, @Nonnull TimeUnit unit) throws InterruptedException {
+            return getExecutorService().awaitTermination(timeout, unit);
+        }
+    }
+
+    /**
+     * Timer shared by all routers to close coalescing windows. Created on first use.
+     */
+    private static final class CoalescingScheduler {
+        private static final ScheduledExecutorService INSTANCE = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread t = new Thread(r, "event-router-coalescing-timer");
+                t.setDaemon(true);
+                return t;
+            }
+        });
+    }
+
+    protected static class MethodCache {
+        private static final EventHandlerInvoker[] NO_INVOKERS = new EventHandlerInvoker[0];
+        private final Map<Class<?>, Map<String, List<MethodInfo>>> methodMap = new ConcurrentHashMap<>();
+        private final Map<Class<?>, Map<String, EventHandlerInvoker[]>> invokerMap = new ConcurrentHashMap<>();
+
+        public boolean isEventListener(@Nonnull Class<?> klass) {
+            return !getMethodMetadata(klass).isEmpty();
         }
 
         @Nullable
         public Method findMatchingMethodFor(@Nonnull Class<?> klass, @Nonnull MethodDescriptor target) {
-            Map<String, List<MethodInfo>> methodMetadata = methodMap.get(klass);
+            Map<String, List<MethodInfo>> methodMetadata = getMethodMetadata(klass);
 
             List<MethodInfo> descriptors = methodMetadata.get(target.getName());
             if (descriptors != null) {
@@ -555,6 +1353,43 @@ public abstract class AbstractEventRouter implements EventRouter {
             return null;
         }
 
+        @Nonnull
+        private Map<String, List<MethodInfo>> getMethodMetadata(@Nonnull Class<?> klass) {
+            Map<String, List<MethodInfo>> methodMetadata = methodMap.get(klass);
+            if (methodMetadata == null) {
+                methodMetadata = fetchMethodMetadata(klass);
+                methodMap.put(klass, methodMetadata);
+            }
+            return methodMetadata;
+        }
+
+        @Nonnull
+        private EventHandlerInvoker[] findInvokersFor(@Nonnull Class<?> klass, @Nonnull String eventHandler) {
+            Map<String, EventHandlerInvoker[]> invokers = invokerMap.get(klass);
+            if (invokers == null) {
+                invokers = resolveInvokers(getMethodMetadata(klass));
+                invokerMap.put(klass, invokers);
+            }
+            EventHandlerInvoker[] candidates = invokers.get(eventHandler);
+            return candidates != null ? candidates : NO_INVOKERS;
+        }
+
+        @Nonnull
+        private Map<String, EventHandlerInvoker[]> resolveInvokers(@Nonnull Map<String, List<MethodInfo>> methodMetadata) {
+            Map<String, EventHandlerInvoker[]> invokers = new LinkedHashMap<>();
+            for (Map.Entry<String, List<MethodInfo>> entry : methodMetadata.entrySet()) {
+                List<EventHandlerInvoker> candidates = new ArrayList<>();
+                for (MethodInfo info : entry.getValue()) {
+                    // same constraint as matching against a MethodDescriptor with default modifiers
+                    if (info.method.getModifiers() == Modifier.PUBLIC) {
+                        candidates.add(new EventHandlerInvoker(info.method));
+                    }
+                }
+                invokers.put(entry.getKey(), candidates.toArray(new EventHandlerInvoker[candidates.size()]));
+            }
+            return invokers;
+        }
+
         private Map<String, List<MethodInfo>> fetchMethodMetadata(Class<?> klass) {
             Map<String, List<MethodInfo>> methodMetadata = new LinkedHashMap<>();
 
@@ -593,23 +1428,64 @@ public abstract class AbstractEventRouter implements EventRouter {
         }
     }
 
-    private static class DefaultThreadFactory implements ThreadFactory {
-        private final ThreadGroup group;
-        private final AtomicInteger threadNumber = new AtomicInteger(1);
-        private final String namePrefix;
+    /**
+     * Invokes an event handler method through a pre-adapted {@code MethodHandle}, falling back
+     * to reflection when the method cannot be unreflected.
+     */
+    private static final class EventHandlerInvoker {
+        private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+
+        private final Method method;
+        private final Class<?>[] declaredTypes;
+        private final Class<?>[] parameterTypes;
+        private final MethodHandle handle;
 
-        private DefaultThreadFactory(int eventRouterId) {
-            SecurityManager s = System.getSecurityManager();
-            group = (s != null) ? s.getThreadGroup() :
-                Thread.currentThread().getThreadGroup();
-            namePrefix = "event-router-" + eventRouterId + "-thread-";
+        private EventHandlerInvoker(@Nonnull Method method) {
+            this.method = method;
+            this.declaredTypes = method.getParameterTypes();
+            this.parameterTypes = new Class<?>[declaredTypes.length];
+            for (int i = 0; i < declaredTypes.length; i++) {
+                Class<?> type = declaredTypes[i];
+                parameterTypes[i] = type.isPrimitive() ? GriffonClassUtils.PRIMITIVE_TYPE_COMPATIBLE_CLASSES.get(type) : type;
+            }
+            this.handle = unreflect(method);
         }
 
-        public Thread newThread(Runnable r) {
-            Thread t = new Thread(group, r, namePrefix + threadNumber.getAndIncrement(), 0);
-            if (t.isDaemon()) { t.setDaemon(false); }
-            if (t.getPriority() != Thread.NORM_PRIORITY) { t.setPriority(Thread.NORM_PRIORITY); }
-            return t;
+        @Nullable
+        private static MethodHandle unreflect(@Nonnull Method method) {
+            try {
+                method.setAccessible(true);
+                return MethodHandles.lookup().unreflect(method)
+                    .asSpreader(Object[].class, method.getParameterTypes().length)
+                    .asType(INVOKER_TYPE);
+            } catch (IllegalAccessException | RuntimeException e) {
+                LOG.trace("Could not create a method handle for {}. Reflection will be used instead", method, e);
+                return null;
+            }
+        }
+
+        private boolean accepts(@Nonnull Object[] args) {
+            if (args.length != parameterTypes.length) { return false; }
+            for (int i = 0; i < args.length; i++) {
+                if (args[i] == null ? declaredTypes[i].isPrimitive() : !parameterTypes[i].isInstance(args[i])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void invoke(@Nonnull Object instance, @Nonnull Object[] args) {
+            if (handle == null) {
+                MethodUtils.invokeUnwrapping(method, instance, args);
+                return;
+            }
+
+            try {
+                // the cast is required for invokeExact to match the adapted handle type
+                Object ignored = (Object) handle.invokeExact(instance, args);
+            } catch (Throwable throwable) {
+                throw new InstanceMethodInvocationException(instance, method, throwable);
+            }
         }
     }
 }
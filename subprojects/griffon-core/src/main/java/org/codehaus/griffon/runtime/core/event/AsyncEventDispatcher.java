@@ -0,0 +1,587 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.core.event;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static java.util.Collections.unmodifiableList;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Bounded queue of asynchronous event publications drained by a limited number of workers.<p>
+ * Publications are stored in fixed size ring buffers; the configured {@code OverflowPolicy}
+ * decides what happens when a publication arrives while a buffer is full.<p>
+ * When ordered, publications are sharded by key onto single worker lanes, thus publications
+ * sharing the same key are delivered in the order they were made while publications with
+ * different keys may still be delivered in parallel.
+ *
+ * @author Andres Almiray
+ * @since 2.14.0
+ */
+public class AsyncEventDispatcher {
+    /**
+     * "griffon.event.async.capacity"
+     */
+    public static final String KEY_CAPACITY = "griffon.event.async.capacity";
+
+    /**
+     * "griffon.event.async.overflow"
+     */
+    public static final String KEY_OVERFLOW_POLICY = "griffon.event.async.overflow";
+
+    /**
+     * "griffon.event.async.ordered"
+     */
+    public static final String KEY_ORDERED = "griffon.event.async.ordered";
+
+    public static final int DEFAULT_CAPACITY = 65536;
+
+    private static final Logger LOG = LoggerFactory.getLogger(AsyncEventDispatcher.class);
+    private static final String ERROR_EXECUTOR_NULL = "Argument 'executor' must not be null";
+    private static final String ERROR_POLICY_NULL = "Argument 'overflowPolicy' must not be null";
+    private static final String ERROR_TASK_NULL = "Argument 'task' must not be null";
+
+    /**
+     * Defines how publications are handled when the queue is full.
+     */
+    public enum OverflowPolicy {
+        /**
+         * Blocks the publisher until space becomes available. Publications made by a worker of
+         * the same dispatcher, onto any of its lanes, are executed in place instead to avoid deadlocks.
+         */
+        BLOCK,
+        /**
+         * Discards the oldest pending publication.
+         */
+        DROP_OLDEST,
+        /**
+         * Discards the incoming publication.
+         */
+        DROP_NEWEST,
+        /**
+         * Replaces the latest pending publication of the same event; the incoming
+         * publication is discarded if there is none.
+         */
+        COALESCE
+    }
+
+    /**
+     * Publications that need to know when they are discarded without being executed, either because
+     * of the overflow policy or because their lane was shut down.
+     */
+    public interface Discardable {
+        void discard();
+    }
+
+    private final Executor executor;
+    private final Thread.UncaughtExceptionHandler exceptionHandler;
+    private final OverflowPolicy overflowPolicy;
+    private final boolean ordered;
+    private final Lane[] lanes;
+    private final List<Lane> laneList;
+    private final ThreadLocal<Lane> worker = new ThreadLocal<>();
+    private final AtomicInteger nextLane = new AtomicInteger();
+
+    public AsyncEventDispatcher(@Nonnull Executor executor, @Nonnull Thread.UncaughtExceptionHandler exceptionHandler, int capacity, int parallelism, @Nonnull OverflowPolicy overflowPolicy) {
+        this(executor, exceptionHandler, capacity, parallelism, overflowPolicy, false);
+    }
+
+    /**
+     * Creates a new dispatcher.
+     *
+     * @param executor         the executor that runs the workers
+     * @param exceptionHandler receives failures raised by publications
+     * @param capacity         the maximum number of pending publications. Split evenly between lanes when ordered.
+     * @param parallelism      the maximum number of concurrent workers. Also the number of lanes when ordered.
+     * @param overflowPolicy   how to handle publications when full
+     * @param ordered          whether publications sharing a key must be delivered in order
+     */
+    public AsyncEventDispatcher(@Nonnull Executor executor, @Nonnull Thread.UncaughtExceptionHandler exceptionHandler, int capacity, int parallelism, @Nonnull OverflowPolicy overflowPolicy, boolean ordered) {
+        this.executor = requireNonNull(executor, ERROR_EXECUTOR_NULL);
+        this.exceptionHandler = requireNonNull(exceptionHandler, "Argument 'exceptionHandler' must not be null");
+        this.overflowPolicy = requireNonNull(overflowPolicy, ERROR_POLICY_NULL);
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Argument 'capacity' must be greater than zero");
+        }
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Argument 'parallelism' must be greater than zero");
+        }
+        this.ordered = ordered;
+
+        if (ordered) {
+            lanes = new Lane[parallelism];
+            for (int i = 0; i < parallelism; i++) {
+                lanes[i] = new Lane(i, Math.max(1, capacity / parallelism), 1);
+            }
+        } else {
+            lanes = new Lane[]{new Lane(0, capacity, parallelism)};
+        }
+
+        List<Lane> list = new ArrayList<>();
+        for (Lane lane : lanes) {
+            list.add(lane);
+        }
+        laneList = unmodifiableList(list);
+    }
+
+    /**
+     * Queues a publication.
+     *
+     * @param key  the name of the event, used to select a lane when ordered and to coalesce publications. May be null.
+     * @param task the publication
+     * @return {@code true} if the publication was queued or executed, {@code false} if it was discarded.
+     */
+    public boolean dispatch(@Nullable String key, @Nonnull Runnable task) {
+        requireNonNull(task, ERROR_TASK_NULL);
+        return laneFor(key).dispatch(key, task);
+    }
+
+    @Nonnull
+    private Lane laneFor(@Nullable String key) {
+        if (lanes.length == 1) { return lanes[0]; }
+        int hash = key != null ? key.hashCode() : nextLane.getAndIncrement();
+        return lanes[(hash & Integer.MAX_VALUE) % lanes.length];
+    }
+
+    private void dropped(@Nonnull Lane lane) {
+        if (lane.droppedCount.getAndIncrement() == 0) {
+            LOG.warn("Async event queue is full (capacity {}). Events will be discarded according to {} policy", lane.buffer.length, overflowPolicy);
+        }
+    }
+
+    private void runSafely(@Nonnull Runnable task) {
+        try {
+            task.run();
+        } catch (Throwable throwable) {
+            exceptionHandler.uncaughtException(Thread.currentThread(), throwable);
+        }
+    }
+
+    @Nonnull
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    public boolean isOrdered() {
+        return ordered;
+    }
+
+    public int getCapacity() {
+        int capacity = 0;
+        for (Lane lane : lanes) {
+            capacity += lane.buffer.length;
+        }
+        return capacity;
+    }
+
+    /**
+     * Returns the lanes of this dispatcher. An unordered dispatcher has a single lane.
+     */
+    @Nonnull
+    public List<Lane> getLanes() {
+        return laneList;
+    }
+
+    /**
+     * Returns the number of publications waiting to be executed.
+     */
+    public int getQueueDepth() {
+        int depth = 0;
+        for (Lane lane : lanes) {
+            depth += lane.getQueueDepth();
+        }
+        return depth;
+    }
+
+    /**
+     * Returns the number of publications executed so far.
+     */
+    public long getDispatchedCount() {
+        long count = 0;
+        for (Lane lane : lanes) {
+            count += lane.getDispatchedCount();
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of publications discarded due to overflow.
+     */
+    public long getDroppedCount() {
+        long count = 0;
+        for (Lane lane : lanes) {
+            count += lane.getDroppedCount();
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of publications that replaced a pending publication of the same event.
+     */
+    public long getCoalescedCount() {
+        long count = 0;
+        for (Lane lane : lanes) {
+            count += lane.getCoalescedCount();
+        }
+        return count;
+    }
+
+    /**
+     * A bounded queue of publications together with the workers that drain it.<p>
+     * Lanes are {@code ExecutorService}s so that they can be tracked by an {@code ExecutorServiceManager};
+     * shutting down a lane discards further publications.
+     */
+    public final class Lane extends AbstractExecutorService {
+        private final int index;
+        private final int parallelism;
+        private final Entry[] buffer;
+        private final Map<String, Entry> pendingByKey = new HashMap<>();
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition notFull = lock.newCondition();
+        private final Condition idle = lock.newCondition();
+        private final AtomicLong dispatchedCount = new AtomicLong();
+        private final AtomicLong droppedCount = new AtomicLong();
+        private final AtomicLong coalescedCount = new AtomicLong();
+        private final AtomicLong totalWaitTime = new AtomicLong();
+        private final AtomicLong totalRunTime = new AtomicLong();
+        private final AtomicLong maxLatency = new AtomicLong();
+        private int head;
+        private int size;
+        private int activeWorkers;
+        private boolean shutdown;
+
+        private Lane(int index, int capacity, int parallelism) {
+            this.index = index;
+            this.buffer = new Entry[capacity];
+            this.parallelism = parallelism;
+        }
+
+        private boolean dispatch(@Nullable String key, @Nonnull Runnable task) {
+            boolean startWorker = false;
+            boolean runInPlace = false;
+            boolean coalesced = false;
+            Runnable discarded = null;
+            lock.lock();
+            try {
+                if (shutdown) { return false; }
+                if (size == buffer.length) {
+                    switch (overflowPolicy) {
+                        case DROP_OLDEST:
+                            discarded = dequeue().task;
+                            dropped(this);
+                            break;
+                        case DROP_NEWEST:
+                            dropped(this);
+                            return false;
+                        case COALESCE:
+                            Entry pending = key != null ? pendingByKey.get(key) : null;
+                            if (pending == null) {
+                                dropped(this);
+                                return false;
+                            }
+                            if (pending.task != task) {
+                                discarded = pending.task;
+                                pending.task = task;
+                            }
+                            coalescedCount.incrementAndGet();
+                            coalesced = true;
+                            break;
+                        case BLOCK:
+                        default:
+                            if (worker.get() != null) {
+                                // a worker waiting for space could end up waiting on itself, or on a worker
+                                // of another lane that is waiting for space on this worker's lane
+                                runInPlace = true;
+                            } else {
+                                while (size == buffer.length && !shutdown) {
+                                    notFull.awaitUninterruptibly();
+                                }
+                                if (shutdown) { return false; }
+                            }
+                    }
+                }
+
+                if (!runInPlace && !coalesced) {
+                    enqueue(new Entry(key, task));
+                    if (activeWorkers < parallelism) {
+                        activeWorkers++;
+                        startWorker = true;
+                    }
+                }
+            } finally {
+                lock.unlock();
+            }
+
+            discard(discarded);
+            if (runInPlace) {
+                run(task, System.nanoTime());
+            } else if (startWorker) {
+                startWorker();
+            }
+            return true;
+        }
+
+        private void discard(@Nullable Runnable task) {
+            if (task instanceof Discardable) {
+                try {
+                    ((Discardable) task).discard();
+                } catch (Throwable throwable) {
+                    exceptionHandler.uncaughtException(Thread.currentThread(), throwable);
+                }
+            }
+        }
+
+        private void enqueue(@Nonnull Entry entry) {
+            buffer[(head + size) % buffer.length] = entry;
+            size++;
+            if (entry.key != null && overflowPolicy == OverflowPolicy.COALESCE) {
+                pendingByKey.put(entry.key, entry);
+            }
+        }
+
+        @Nullable
+        private Entry dequeue() {
+            if (size == 0) { return null; }
+            Entry entry = buffer[head];
+            buffer[head] = null;
+            head = (head + 1) % buffer.length;
+            size--;
+            if (entry.key != null && pendingByKey.get(entry.key) == entry) {
+                pendingByKey.remove(entry.key);
+            }
+            notFull.signal();
+            return entry;
+        }
+
+        private void startWorker() {
+            try {
+                executor.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        drain();
+                    }
+                });
+            } catch (RuntimeException e) {
+                lock.lock();
+                try {
+                    activeWorkers--;
+                    idle.signalAll();
+                } finally {
+                    lock.unlock();
+                }
+                throw e;
+            }
+        }
+
+        private void drain() {
+            worker.set(this);
+            try {
+                while (true) {
+                    Entry entry;
+                    lock.lock();
+                    try {
+                        entry = dequeue();
+                        if (entry == null) {
+                            activeWorkers--;
+                            idle.signalAll();
+                            return;
+                        }
+                    } finally {
+                        lock.unlock();
+                    }
+                    run(entry.task, entry.timestamp);
+                }
+            } finally {
+                worker.remove();
+            }
+        }
+
+        private void run(@Nonnull Runnable task, long timestamp) {
+            long start = System.nanoTime();
+            runSafely(task);
+            long end = System.nanoTime();
+
+            dispatchedCount.incrementAndGet();
+            totalWaitTime.addAndGet(start - timestamp);
+            totalRunTime.addAndGet(end - start);
+            long latency = end - timestamp;
+            long max = maxLatency.get();
+            while (latency > max && !maxLatency.compareAndSet(max, latency)) {
+                max = maxLatency.get();
+            }
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public int getCapacity() {
+            return buffer.length;
+        }
+
+        public int getQueueDepth() {
+            lock.lock();
+            try {
+                return size;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        public long getDispatchedCount() {
+            return dispatchedCount.get();
+        }
+
+        public long getDroppedCount() {
+            return droppedCount.get();
+        }
+
+        public long getCoalescedCount() {
+            return coalescedCount.get();
+        }
+
+        /**
+         * Returns the average time publications spent queued, in nanoseconds.
+         */
+        public long getAverageWaitTime() {
+            long count = dispatchedCount.get();
+            return count > 0 ? totalWaitTime.get() / count : 0L;
+        }
+
+        /**
+         * Returns the average time spent delivering publications, in nanoseconds.
+         */
+        public long getAverageRunTime() {
+            long count = dispatchedCount.get();
+            return count > 0 ? totalRunTime.get() / count : 0L;
+        }
+
+        /**
+         * Returns the longest time between queueing and delivering a publication, in nanoseconds.
+         */
+        public long getMaxLatency() {
+            return maxLatency.get();
+        }
+
+        @Override
+        public void execute(@Nonnull Runnable command) {
+            requireNonNull(command, ERROR_TASK_NULL);
+            if (!dispatch(null, command) && isShutdown()) {
+                throw new RejectedExecutionException("Lane " + index + " has been shut down");
+            }
+        }
+
+        @Override
+        public void shutdown() {
+            lock.lock();
+            try {
+                shutdown = true;
+                notFull.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Nonnull
+        @Override
+        public List<Runnable> shutdownNow() {
+            List<Runnable> pending = new ArrayList<>();
+            lock.lock();
+            try {
+                shutdown = true;
+                notFull.signalAll();
+                for (Entry entry = dequeue(); entry != null; entry = dequeue()) {
+                    pending.add(entry.task);
+                }
+            } finally {
+                lock.unlock();
+            }
+            for (Runnable task : pending) {
+                discard(task);
+            }
+            return pending;
+        }
+
+        @Override
+        public boolean isShutdown() {
+            lock.lock();
+            try {
+                return shutdown;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public boolean isTerminated() {
+            lock.lock();
+            try {
+                return shutdown && size == 0 && activeWorkers == 0;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, @Nonnull TimeUnit unit) throws InterruptedException {
+            long nanos = unit.toNanos(timeout);
+            lock.lock();
+            try {
+                while (!(shutdown && size == 0 && activeWorkers == 0)) {
+                    if (nanos <= 0) { return false; }
+                    nanos = idle.awaitNanos(nanos);
+                }
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "AsyncEventDispatcher.Lane[" + index + "]";
+        }
+    }
+
+    private static final class Entry {
+        private final String key;
+        private final long timestamp = System.nanoTime();
+        private Runnable task;
+
+        private Entry(@Nullable String key, @Nonnull Runnable task) {
+            this.key = key;
+            this.task = task;
+        }
+    }
+}
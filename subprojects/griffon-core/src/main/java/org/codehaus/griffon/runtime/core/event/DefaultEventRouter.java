@@ -20,6 +20,7 @@ package org.codehaus.griffon.runtime.core.event;
 import griffon.core.threading.UIThreadManager;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import javax.inject.Inject;
 
 import static java.util.Objects.requireNonNull;
@@ -30,6 +31,19 @@ import static java.util.Objects.requireNonNull;
 public class DefaultEventRouter extends AbstractEventRouter {
     private static final String ERROR_PUBLISHER_NULL = "Argument 'publisher' must not be null";
     private UIThreadManager uiThreadManager;
+    private final boolean publishAsyncOverridden = overridesPublishAsync(getClass());
+
+    private static boolean overridesPublishAsync(@Nonnull Class<?> type) {
+        for (Class<?> klass = type; klass != DefaultEventRouter.class; klass = klass.getSuperclass()) {
+            try {
+                klass.getDeclaredMethod("doPublishAsync", Runnable.class);
+                return true;
+            } catch (NoSuchMethodException e) {
+                // continue with the superclass
+            }
+        }
+        return false;
+    }
 
     @Inject
     public void setUIThreadManager(@Nonnull UIThreadManager uiThreadManager) {
@@ -45,7 +59,28 @@ public class DefaultEventRouter extends AbstractEventRouter {
         }
     }
 
+    @Override
+    protected void doPublishInsideUI(@Nonnull Runnable publisher) {
+        requireNonNull(publisher, ERROR_PUBLISHER_NULL);
+        uiThreadManager.runInsideUIAsync(publisher);
+    }
+
     protected void doPublishAsync(@Nonnull Runnable publisher) {
-        executorService.submit(publisher);
+        requireNonNull(publisher, ERROR_PUBLISHER_NULL);
+        asyncEventDispatcher.dispatch(null, publisher);
+    }
+
+    /**
+     * Hands the publication over to the {@code AsyncEventDispatcher}. Subclasses that override
+     * {@code doPublishAsync(Runnable)} keep receiving every asynchronous publication through it.
+     */
+    @Override
+    protected boolean doPublishAsync(@Nullable String eventName, @Nonnull Runnable publisher) {
+        requireNonNull(publisher, ERROR_PUBLISHER_NULL);
+        if (publishAsyncOverridden) {
+            doPublishAsync(publisher);
+            return true;
+        }
+        return asyncEventDispatcher.dispatch(eventName, publisher);
     }
 }
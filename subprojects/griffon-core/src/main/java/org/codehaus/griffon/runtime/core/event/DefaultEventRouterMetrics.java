@@ -0,0 +1,245 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.core.event;
+
+import griffon.core.event.EventRouterMetrics;
+import org.codehaus.griffon.runtime.core.LatencyHistogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static griffon.util.GriffonNameUtils.requireNonBlank;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Keeps counters and latency histograms per event name and per listener type.<p>
+ * Listeners are grouped by class, hence statistics do not retain listener instances.
+ * Invocations that take longer than the slow listener threshold are counted and logged.
+ *
+ * @author Andres Almiray
+ * @since 2.14.0
+ */
+public class DefaultEventRouterMetrics implements EventRouterMetrics {
+    public static final String KEY_METRICS_ENABLED = "griffon.event.metrics";
+    public static final String KEY_SLOW_LISTENER_THRESHOLD = "griffon.event.metrics.slow.threshold";
+    public static final long DEFAULT_SLOW_LISTENER_THRESHOLD = 100L;
+
+    private static final Logger LOG = LoggerFactory.getLogger(DefaultEventRouterMetrics.class);
+    private static final String ERROR_EVENT_NAME_BLANK = "Argument 'eventName' must not be blank";
+    private static final String ERROR_LISTENER_NULL = "Argument 'listener' must not be null";
+
+    private final ConcurrentMap<String, EventStatistics> events = new ConcurrentHashMap<>();
+    private final long slowListenerThreshold;
+
+    /**
+     * Creates a new instance with a slow listener threshold read from the
+     * {@code griffon.event.metrics.slow.threshold} System property, in milliseconds.
+     */
+    public DefaultEventRouterMetrics() {
+        this(Long.getLong(KEY_SLOW_LISTENER_THRESHOLD, DEFAULT_SLOW_LISTENER_THRESHOLD), TimeUnit.MILLISECONDS);
+    }
+
+    public DefaultEventRouterMetrics(long slowListenerThreshold, @Nonnull TimeUnit unit) {
+        requireNonNull(unit, "Argument 'unit' must not be null");
+        if (slowListenerThreshold <= 0) {
+            throw new IllegalArgumentException("Argument 'slowListenerThreshold' must be greater than zero");
+        }
+        this.slowListenerThreshold = unit.toNanos(slowListenerThreshold);
+    }
+
+    public long getSlowListenerThreshold() {
+        return slowListenerThreshold;
+    }
+
+    @Override
+    public void eventPublished(@Nonnull String eventName, int listeners) {
+        EventStatistics statistics = resolveEventStatistics(eventName);
+        statistics.publications.incrementAndGet();
+        statistics.fanOut.addAndGet(listeners);
+        updateMax(statistics.maxFanOut, listeners);
+    }
+
+    @Override
+    public void listenerInvoked(@Nonnull String eventName, @Nonnull Object listener, long nanos) {
+        requireNonNull(listener, ERROR_LISTENER_NULL);
+        ListenerStatistics statistics = resolveEventStatistics(eventName).resolveListenerStatistics(listener.getClass().getName());
+        statistics.latency.record(nanos);
+        if (nanos >= slowListenerThreshold) {
+            statistics.slowInvocations.incrementAndGet();
+            LOG.warn("Listener {} took {} ms to handle event '{}'", statistics.getListenerType(), TimeUnit.NANOSECONDS.toMillis(nanos), eventName);
+        }
+    }
+
+    @Override
+    public void asyncEventDequeued(@Nonnull String eventName, long nanos) {
+        resolveEventStatistics(eventName).waitTime.record(nanos);
+    }
+
+    /**
+     * Returns the names of all events that have been measured so far.
+     *
+     * @return an unmodifiable view of the measured event names.
+     */
+    @Nonnull
+    public Set<String> getEventNames() {
+        return Collections.unmodifiableSet(events.keySet());
+    }
+
+    /**
+     * Returns the statistics gathered for the given event.
+     *
+     * @param eventName the name of the event
+     * @return the statistics for the event or {@code null} if the event has not been measured.
+     */
+    @Nullable
+    public EventStatistics getEventStatistics(@Nonnull String eventName) {
+        requireNonBlank(eventName, ERROR_EVENT_NAME_BLANK);
+        return events.get(eventName);
+    }
+
+    /**
+     * Discards all gathered statistics.
+     */
+    public void reset() {
+        events.clear();
+    }
+
+    @Nonnull
+    private EventStatistics resolveEventStatistics(@Nonnull String eventName) {
+        EventStatistics statistics = events.get(eventName);
+        if (statistics == null) {
+            requireNonBlank(eventName, ERROR_EVENT_NAME_BLANK);
+            EventStatistics candidate = new EventStatistics(eventName);
+            statistics = events.putIfAbsent(eventName, candidate);
+            if (statistics == null) {
+                statistics = candidate;
+            }
+        }
+        return statistics;
+    }
+
+    private static void updateMax(@Nonnull AtomicLong max, long value) {
+        long current = max.get();
+        while (value > current && !max.compareAndSet(current, value)) {
+            current = max.get();
+        }
+    }
+
+    /**
+     * Statistics of a single event.
+     */
+    public static final class EventStatistics {
+        private final String eventName;
+        private final AtomicLong publications = new AtomicLong();
+        private final AtomicLong fanOut = new AtomicLong();
+        private final AtomicLong maxFanOut = new AtomicLong();
+        private final LatencyHistogram waitTime = new LatencyHistogram();
+        private final ConcurrentMap<String, ListenerStatistics> listeners = new ConcurrentHashMap<>();
+
+        private EventStatistics(@Nonnull String eventName) {
+            this.eventName = eventName;
+        }
+
+        @Nonnull
+        public String getEventName() {
+            return eventName;
+        }
+
+        public long getPublications() {
+            return publications.get();
+        }
+
+        public long getMaxFanOut() {
+            return maxFanOut.get();
+        }
+
+        public double getAverageFanOut() {
+            long count = publications.get();
+            return count > 0 ? (double) fanOut.get() / count : 0d;
+        }
+
+        /**
+         * Returns time spent by asynchronous publications waiting to be dispatched.
+         *
+         * @return a histogram of wait times, in nanoseconds.
+         */
+        @Nonnull
+        public LatencyHistogram getWaitTime() {
+            return waitTime;
+        }
+
+        @Nonnull
+        public Map<String, ListenerStatistics> getListenerStatistics() {
+            return Collections.<String, ListenerStatistics>unmodifiableMap(listeners);
+        }
+
+        @Nonnull
+        private ListenerStatistics resolveListenerStatistics(@Nonnull String listenerType) {
+            ListenerStatistics statistics = listeners.get(listenerType);
+            if (statistics == null) {
+                ListenerStatistics candidate = new ListenerStatistics(listenerType);
+                statistics = listeners.putIfAbsent(listenerType, candidate);
+                if (statistics == null) {
+                    statistics = candidate;
+                }
+            }
+            return statistics;
+        }
+    }
+
+    /**
+     * Statistics of all listeners of a given type for a single event.
+     */
+    public static final class ListenerStatistics {
+        private final String listenerType;
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final AtomicLong slowInvocations = new AtomicLong();
+
+        private ListenerStatistics(@Nonnull String listenerType) {
+            this.listenerType = listenerType;
+        }
+
+        @Nonnull
+        public String getListenerType() {
+            return listenerType;
+        }
+
+        /**
+         * Returns time spent by listeners handling the event.
+         *
+         * @return a histogram of invocation times, in nanoseconds.
+         */
+        @Nonnull
+        public LatencyHistogram getLatency() {
+            return latency;
+        }
+
+        public long getSlowInvocations() {
+            return slowInvocations.get();
+        }
+    }
+}
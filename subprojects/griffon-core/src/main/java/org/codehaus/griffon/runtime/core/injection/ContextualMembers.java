@@ -0,0 +1,245 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.core.injection;
+
+import griffon.core.Context;
+import griffon.core.injection.InjectionMetadata;
+import griffon.exceptions.FieldException;
+import griffon.exceptions.NewInstanceException;
+import griffon.exceptions.PropertyException;
+import griffon.inject.Contextual;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.inject.Inject;
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static griffon.util.AnnotationUtils.annotationsOfMethodParameter;
+import static griffon.util.AnnotationUtils.findAnnotation;
+import static griffon.util.AnnotationUtils.namesFor;
+import static griffon.util.GriffonClassUtils.getAllDeclaredFields;
+import static griffon.util.GriffonClassUtils.getPropertyDescriptors;
+import static griffon.util.GriffonClassUtils.setFieldValue;
+import static griffon.util.GriffonClassUtils.setPropertyValue;
+
+/**
+ * Fields and properties of a class annotated with {@code @Contextual}, resolved once per class.
+ * Properties take precedence over fields of the same name. Types with generated {@code InjectionMetadata}
+ * are described without scanning their members.
+ *
+ * @author Andres Almiray
+ * @since 2.14.0
+ */
+public final class ContextualMembers {
+    public static final ClassValue<ContextualMembers> MEMBERS = new ClassValue<ContextualMembers>() {
+        @Override
+        protected ContextualMembers computeValue(Class<?> type) {
+            return new ContextualMembers(type);
+        }
+    };
+
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final List<Member> members = new ArrayList<>();
+
+    private ContextualMembers(@Nonnull Class<?> type) {
+        InjectionMetadata metadata = InjectionMetadata.metadataFor(type);
+        if (metadata != null) {
+            for (InjectionMetadata.ContextualMember member : metadata.getContextualMembers()) {
+                boolean field = member.getKind() == InjectionMetadata.ContextualMember.Kind.FIELD;
+                InjectionMetadata.Setter setter = member.getSetter();
+                if (setter == null) {
+                    setter = field ? fieldSetter(member.getDeclaringClass(), member.getMemberName()) : propertySetter(member.getName());
+                }
+                members.add(new Member(member.getName(), field, member.getKeys(), member.isNullable(), setter));
+            }
+            return;
+        }
+
+        Field[] allFields = getAllDeclaredFields(type);
+        Map<String, Field> fields = new LinkedHashMap<>();
+        for (Field field : allFields) {
+            fields.put(field.getName(), field);
+        }
+
+        Set<String> visited = new HashSet<>();
+        for (PropertyDescriptor descriptor : getPropertyDescriptors(type)) {
+            Method method = descriptor.getWriteMethod();
+            if (method == null || method.isAnnotationPresent(Inject.class)) { continue; }
+            visited.add(descriptor.getName());
+            boolean contextual = method.isAnnotationPresent(Contextual.class);
+            boolean nullable = method.getAnnotation(Nonnull.class) == null && findAnnotation(annotationsOfMethodParameter(method, 0), Nonnull.class) == null;
+            Field field = fields.get(descriptor.getName());
+            if (field != null && !contextual) {
+                contextual = field.isAnnotationPresent(Contextual.class);
+                nullable = field.getAnnotation(Nonnull.class) == null;
+            }
+            if (contextual) {
+                members.add(new Member(descriptor.getName(), false, namesFor(method), nullable, methodSetter(method, descriptor.getName())));
+            }
+        }
+
+        for (Field field : allFields) {
+            if (Modifier.isStatic(field.getModifiers()) || field.isAnnotationPresent(Inject.class)) { continue; }
+            if (visited.add(field.getName()) && field.isAnnotationPresent(Contextual.class)) {
+                members.add(new Member(field.getName(), true, namesFor(field), field.getAnnotation(Nonnull.class) == null, fieldSetter(field)));
+            }
+        }
+    }
+
+    public boolean isEmpty() {
+        return members.isEmpty();
+    }
+
+    public void apply(@Nonnull Context context, @Nonnull Object instance) {
+        for (Member member : members) {
+            member.apply(context, instance);
+        }
+    }
+
+    @Nonnull
+    private static InjectionMetadata.Setter fieldSetter(@Nonnull Class<?> declaringClass, @Nonnull String name) {
+        try {
+            return fieldSetter(declaringClass.getDeclaredField(name));
+        } catch (NoSuchFieldException | SecurityException e) {
+            return reflectiveSetter(name, true);
+        }
+    }
+
+    @Nonnull
+    private static InjectionMetadata.Setter fieldSetter(@Nonnull Field field) {
+        if (!Modifier.isFinal(field.getModifiers())) {
+            try {
+                field.setAccessible(true);
+                return new HandleSetter(MethodHandles.lookup().unreflectSetter(field));
+            } catch (IllegalAccessException | SecurityException e) {
+                // fall back to reflection
+            }
+        }
+        return reflectiveSetter(field.getName(), true);
+    }
+
+    @Nonnull
+    private static InjectionMetadata.Setter methodSetter(@Nonnull Method method, @Nonnull String name) {
+        try {
+            return new HandleSetter(MethodHandles.lookup().unreflect(method));
+        } catch (IllegalAccessException e) {
+            return reflectiveSetter(name, false);
+        }
+    }
+
+    @Nonnull
+    private static InjectionMetadata.Setter propertySetter(@Nonnull String name) {
+        return reflectiveSetter(name, false);
+    }
+
+    @Nonnull
+    private static InjectionMetadata.Setter reflectiveSetter(@Nonnull final String name, final boolean field) {
+        return new InjectionMetadata.Setter() {
+            @Override
+            public void set(Object instance, Object value) {
+                if (field) {
+                    setFieldValue(instance, name, value);
+                } else {
+                    setPropertyValue(instance, name, value);
+                }
+            }
+        };
+    }
+
+    private static final class HandleSetter implements InjectionMetadata.Setter {
+        private final MethodHandle handle;
+
+        private HandleSetter(@Nonnull MethodHandle handle) {
+            this.handle = handle.asType(SETTER_TYPE);
+        }
+
+        @Override
+        public void set(Object instance, Object value) {
+            try {
+                handle.invokeExact(instance, value);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new IllegalStateException(t);
+            }
+        }
+    }
+
+    private static final class Member {
+        private final String name;
+        private final boolean field;
+        private final String[] keys;
+        private final boolean nullable;
+        private final InjectionMetadata.Setter setter;
+
+        private Member(@Nonnull String name, boolean field, @Nonnull String[] keys, boolean nullable, @Nonnull InjectionMetadata.Setter setter) {
+            this.name = name;
+            this.field = field;
+            this.keys = keys;
+            this.nullable = nullable;
+            this.setter = setter;
+        }
+
+        private void apply(@Nonnull Context context, @Nonnull Object instance) {
+            Object value = resolveValue(context);
+
+            try {
+                if (value == null) {
+                    if (!nullable) {
+                        throw new IllegalStateException("Could not find an instance of type " +
+                            keys[keys.length - 1] + " under keys '" + Arrays.toString(keys) +
+                            "' in the application context to be injected on " + (field ? "field" : "property") + " '" + name +
+                            "' in " + instance.getClass().getName() + ". " + (field ? "Field" : "Property") + " does not accept null values.");
+                    }
+                    return;
+                }
+
+                setter.set(instance, value);
+            } catch (IllegalStateException | FieldException | PropertyException e) {
+                throw new NewInstanceException(instance.getClass(), e);
+            } catch (RuntimeException e) {
+                throw new NewInstanceException(instance.getClass(), field ? new FieldException(instance, name, value, e) : new InvocationTargetException(e));
+            }
+        }
+
+        @Nullable
+        private Object resolveValue(@Nonnull Context context) {
+            for (String key : keys) {
+                if (context.containsKey(key)) {
+                    return context.get(key);
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.core.injection;
+
+import griffon.core.injection.InjectionMetadata;
+import griffon.exceptions.InstanceMethodInvocationException;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import static griffon.util.GriffonClassUtils.invokeAnnotatedMethod;
+import static java.lang.reflect.Modifier.isStatic;
+
+/**
+ * No-args methods of a class annotated with a lifecycle annotation, resolved once per class.
+ * Methods declared by subclasses are invoked before those of their superclasses. Types with generated
+ * {@code InjectionMetadata} are described without scanning their methods.
+ *
+ * @author Andres Almiray
+ * @since 2.14.0
+ */
+public final class LifecycleMethods {
+    public static final ClassValue<LifecycleMethods> POST_CONSTRUCT = forAnnotation(PostConstruct.class);
+    public static final ClassValue<LifecycleMethods> PRE_DESTROY = forAnnotation(PreDestroy.class);
+
+    private final Class<? extends Annotation> annotation;
+    private final String[] names;
+    private final MethodHandle[] handles;
+    private final InjectionMetadata.Invoker[] invokers;
+    private final boolean reflective;
+
+    private LifecycleMethods(@Nonnull Class<?> type, @Nonnull Class<? extends Annotation> annotation) {
+        this.annotation = annotation;
+        InjectionMetadata metadata = InjectionMetadata.metadataFor(type);
+        boolean duplicates = false;
+        if (metadata != null) {
+            // generated metadata already lists every method in invocation order
+            List<InjectionMetadata.LifecycleMethod> described = annotation == PostConstruct.class ? metadata.getPostConstructMethods() : metadata.getPreDestroyMethods();
+            this.names = new String[described.size()];
+            this.handles = new MethodHandle[described.size()];
+            this.invokers = new InjectionMetadata.Invoker[described.size()];
+            for (int i = 0; i < names.length; i++) {
+                InjectionMetadata.LifecycleMethod method = described.get(i);
+                names[i] = method.getName();
+                invokers[i] = method.getInvoker();
+                if (invokers[i] == null) {
+                    handles[i] = unreflect(method.getDeclaringClass(), method.getName());
+                    duplicates |= handles[i] == null;
+                }
+            }
+            this.reflective = duplicates;
+            return;
+        }
+
+        List<Method> found = new ArrayList<>();
+        for (Class<?> klass = type; klass != null; klass = klass.getSuperclass()) {
+            boolean foundInClass = false;
+            for (Method method : klass.getDeclaredMethods()) {
+                if (method.isAnnotationPresent(annotation) && method.getParameterTypes().length == 0) {
+                    duplicates |= foundInClass;
+                    found.add(method);
+                    foundInClass = true;
+                }
+            }
+        }
+        this.names = new String[found.size()];
+        this.handles = new MethodHandle[found.size()];
+        this.invokers = new InjectionMetadata.Invoker[found.size()];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = found.get(i).getName();
+            handles[i] = unreflect(found.get(i));
+            duplicates |= handles[i] == null;
+        }
+        // ambiguous, inaccessible or static methods are left to GriffonClassUtils, which reports them as it always did
+        this.reflective = duplicates;
+    }
+
+    private static ClassValue<LifecycleMethods> forAnnotation(@Nonnull final Class<? extends Annotation> annotation) {
+        return new ClassValue<LifecycleMethods>() {
+            @Override
+            protected LifecycleMethods computeValue(Class<?> type) {
+                return new LifecycleMethods(type, annotation);
+            }
+        };
+    }
+
+    @Nullable
+    private static MethodHandle unreflect(@Nonnull Method method) {
+        if (isStatic(method.getModifiers())) {
+            // static methods do not take the instance; GriffonClassUtils invokes them as it always did
+            return null;
+        }
+        try {
+            method.setAccessible(true);
+            return MethodHandles.lookup().unreflect(method);
+        } catch (IllegalAccessException | SecurityException e) {
+            return null;
+        }
+    }
+
+    @Nullable
+    private static MethodHandle unreflect(@Nonnull Class<?> declaringClass, @Nonnull String name) {
+        try {
+            return unreflect(declaringClass.getDeclaredMethod(name));
+        } catch (NoSuchMethodException | SecurityException e) {
+            return null;
+        }
+    }
+
+    public boolean isEmpty() {
+        return names.length == 0;
+    }
+
+    public void invoke(@Nonnull Object instance) {
+        if (reflective) {
+            invokeAnnotatedMethod(instance, annotation);
+            return;
+        }
+        for (int i = 0; i < names.length; i++) {
+            try {
+                if (invokers[i] != null) {
+                    invokers[i].invoke(instance);
+                } else {
+                    handles[i].invoke(instance);
+                }
+            } catch (Throwable t) {
+                throw new InstanceMethodInvocationException(instance, names[i], null, t);
+            }
+        }
+    }
+}
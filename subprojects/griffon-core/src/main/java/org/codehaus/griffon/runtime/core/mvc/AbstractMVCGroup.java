@@ -32,6 +32,8 @@ import griffon.core.mvc.MVCGroupFunction;
 import griffon.core.mvc.MVCGroupManager;
 import griffon.core.mvc.TypedMVCGroup;
 import griffon.core.mvc.TypedMVCGroupFunction;
+import griffon.core.threading.TaskScope;
+import org.codehaus.griffon.runtime.core.threading.DefaultTaskScope;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -41,7 +43,9 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
 
+import static griffon.util.AnnotationUtils.named;
 import static griffon.util.GriffonClassUtils.requireState;
 import static griffon.util.GriffonClassUtils.setPropertyOrFieldValue;
 import static griffon.util.GriffonNameUtils.isBlank;
@@ -65,6 +69,7 @@ public abstract class AbstractMVCGroup extends AbstractMVCHandler implements MVC
     protected MVCGroup parentGroup;
     private boolean alive;
     private final List<Object> injectedInstances = new ArrayList<>();
+    private TaskScope taskScope;
 
     public AbstractMVCGroup(@Nonnull MVCGroupManager mvcGroupManager, @Nonnull MVCGroupConfiguration configuration, @Nullable String mvcId, @Nonnull Map<String, Object> members, @Nullable MVCGroup parentGroup) {
         super(mvcGroupManager);
@@ -93,6 +98,47 @@ public abstract class AbstractMVCGroup extends AbstractMVCHandler implements MVC
         return context;
     }
 
+    @Nonnull
+    @Override
+    public TaskScope getTaskScope() {
+        synchronized (lock) {
+            if (taskScope == null) {
+                checkIfAlive();
+                taskScope = createTaskScope();
+            }
+            return taskScope;
+        }
+    }
+
+    /**
+     * Creates the scope returned by {@code getTaskScope()}. Tasks run on the application's
+     * default {@code ExecutorService}.
+     *
+     * @return a new {@code TaskScope}
+     * @since 2.14.0
+     */
+    @Nonnull
+    protected TaskScope createTaskScope() {
+        ExecutorService executorService = getMvcGroupManager().getApplication().getInjector()
+            .getInstance(ExecutorService.class, named("defaultExecutorService"));
+        return new DefaultTaskScope(getMvcType() + ":" + mvcId, executorService);
+    }
+
+    /**
+     * Cancels all outstanding tasks of this group. Does nothing if no tasks have been submitted.
+     *
+     * @since 2.14.0
+     */
+    public void cancelTasks() {
+        TaskScope scope;
+        synchronized (lock) {
+            scope = taskScope;
+        }
+        if (scope != null) {
+            scope.cancel();
+        }
+    }
+
     @Nullable
     @Override
     public MVCGroup getParentGroup() {
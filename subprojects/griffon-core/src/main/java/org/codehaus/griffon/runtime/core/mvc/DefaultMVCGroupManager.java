@@ -28,6 +28,7 @@ import griffon.core.artifact.GriffonMvcArtifact;
 import griffon.core.artifact.GriffonView;
 import griffon.core.editors.ExtendedPropertyEditor;
 import griffon.core.editors.PropertyEditorResolver;
+import griffon.core.event.EventPublishingScope;
 import griffon.core.mvc.MVCGroup;
 import griffon.core.mvc.MVCGroupConfiguration;
 import griffon.exceptions.FieldException;
@@ -59,6 +60,7 @@ import java.util.List;
 import java.util.Map;
 
 import static griffon.core.GriffonExceptionHandler.sanitize;
+import static griffon.core.editors.PropertyEditorResolver.findConverter;
 import static griffon.core.editors.PropertyEditorResolver.findEditor;
 import static griffon.util.AnnotationUtils.annotationsOfMethodParameter;
 import static griffon.util.AnnotationUtils.findAnnotation;
@@ -90,6 +92,7 @@ public class DefaultMVCGroupManager extends AbstractMVCGroupManager {
     protected static final String CONFIG_KEY_EVENTS_INSTANTIATION = "events.instantiation";
     protected static final String CONFIG_KEY_EVENTS_DESTRUCTION = "events.destruction";
     protected static final String CONFIG_KEY_EVENTS_LISTENER = "events.listener";
+    protected static final String CONFIG_KEY_EVENTS_WEAK_LISTENER = "events.weakListener";
     protected static final String KEY_PARENT_GROUP = "parentGroup";
 
     protected final ApplicationClassLoader applicationClassLoader;
@@ -128,8 +131,6 @@ public class DefaultMVCGroupManager extends AbstractMVCGroupManager {
             selectClassesPerMember(memberType, memberClassName, classMap);
         }
 
-        boolean isEventPublishingEnabled = getApplication().getEventRouter().isEventPublishingEnabled();
-        getApplication().getEventRouter().setEventPublishingEnabled(isConfigFlagEnabled(configuration, CONFIG_KEY_EVENTS_INSTANTIATION));
         Map<String, Object> instances = new LinkedHashMap<>();
         List<Object> injectedInstances = new ArrayList<>();
 
@@ -139,10 +140,15 @@ public class DefaultMVCGroupManager extends AbstractMVCGroupManager {
             throw new MVCGroupInstantiationException("Can not instantiate MVC group '" + configuration.getMvcType() + "' with id '" + mvcId + "'", configuration.getMvcType(), mvcId, ise);
         }
 
+        EventPublishingScope eventPublishingScope = null;
         try {
+            eventPublishingScope = getApplication().getEventRouter()
+                .scopeEventPublishing(isConfigFlagEnabled(configuration, CONFIG_KEY_EVENTS_INSTANTIATION));
             instances.putAll(instantiateMembers(classMap, argsCopy));
         } finally {
-            getApplication().getEventRouter().setEventPublishingEnabled(isEventPublishingEnabled);
+            if (eventPublishingScope != null) {
+                eventPublishingScope.close();
+            }
             try {
                 injectedInstances.addAll(InjectionUnitOfWork.finish());
             } catch (IllegalStateException ise) {
@@ -162,7 +168,11 @@ public class DefaultMVCGroupManager extends AbstractMVCGroupManager {
         if (isConfigFlagEnabled(group.getConfiguration(), CONFIG_KEY_EVENTS_LISTENER)) {
             GriffonController controller = group.getController();
             if (controller != null) {
-                getApplication().getEventRouter().addEventListener(controller);
+                if (getConfigValueAsBoolean(group.getConfiguration().getConfig(), CONFIG_KEY_EVENTS_WEAK_LISTENER, false)) {
+                    getApplication().getEventRouter().addWeakEventListener(controller);
+                } else {
+                    getApplication().getEventRouter().addEventListener(controller);
+                }
             }
         }
 
@@ -320,6 +330,21 @@ public class DefaultMVCGroupManager extends AbstractMVCGroupManager {
     }
 
     protected abstract static class InjectionPoint {
+        private static final ClassValue<Boolean> EDITOR_RESOLVERS = new ClassValue<Boolean>() {
+            @Override
+            protected Boolean computeValue(Class<?> type) {
+                for (Class<?> klass = type; klass != InjectionPoint.class; klass = klass.getSuperclass()) {
+                    try {
+                        klass.getDeclaredMethod("resolvePropertyEditor", Class.class, String.class, Class.class);
+                        return true;
+                    } catch (NoSuchMethodException e) {
+                        // continue with the superclass
+                    }
+                }
+                return false;
+            }
+        };
+
         protected final String name;
         protected final boolean nullable;
         protected final Kind kind;
@@ -344,10 +369,15 @@ public class DefaultMVCGroupManager extends AbstractMVCGroupManager {
         protected abstract void apply(@Nonnull MVCGroup group, @Nonnull String memberType, @Nonnull Object instance, @Nonnull Map<String, Object> args);
 
         @Nonnull
+        @SuppressWarnings("unchecked")
         protected Object convertValue(@Nonnull Class<?> type, @Nonnull Object value, @Nullable String format, @Nonnull Class<? extends PropertyEditor> editor) {
             requireNonNull(type, ERROR_TYPE_NULL);
             requireNonNull(value, ERROR_VALUE_NULL);
 
+            if (isNoopPropertyEditor(editor) && !EDITOR_RESOLVERS.get(getClass())) {
+                return findConverter((Class<Object>) value.getClass(), type, format).convert(value);
+            }
+
             PropertyEditor propertyEditor = resolvePropertyEditor(type, format, editor);
             if (isNoopPropertyEditor(propertyEditor.getClass())) { return value; }
             if (value instanceof CharSequence) {
@@ -358,6 +388,10 @@ public class DefaultMVCGroupManager extends AbstractMVCGroupManager {
             return propertyEditor.getValue();
         }
 
+        /**
+         * Injection points that override this method are still honored, but values without an explicit editor
+         * are then converted through the returned editor instead of a cached {@code Converter}.
+         */
         @Nonnull
         protected PropertyEditor resolvePropertyEditor(@Nonnull Class<?> type, @Nullable String format, @Nonnull Class<? extends PropertyEditor> editor) {
             requireNonNull(type, ERROR_TYPE_NULL);
@@ -612,6 +646,10 @@ public class DefaultMVCGroupManager extends AbstractMVCGroupManager {
 
         LOG.debug("Destroying MVC group identified by '{}'", mvcId);
 
+        if (group instanceof AbstractMVCGroup) {
+            ((AbstractMVCGroup) group).cancelTasks();
+        }
+
         if (isConfigFlagEnabled(group.getConfiguration(), CONFIG_KEY_EVENTS_LISTENER)) {
             GriffonController controller = group.getController();
             if (controller != null) {
@@ -28,6 +28,7 @@ import griffon.core.mvc.MVCGroupConfiguration;
 import griffon.core.mvc.MVCGroupFunction;
 import griffon.core.mvc.TypedMVCGroup;
 import griffon.core.mvc.TypedMVCGroupFunction;
+import griffon.core.threading.TaskScope;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -116,6 +117,12 @@ public abstract class DelegatingMVCGroup implements MVCGroup {
         return delegate.getContext();
     }
 
+    @Nonnull
+    @Override
+    public TaskScope getTaskScope() {
+        return delegate.getTaskScope();
+    }
+
     @Override
     @Nullable
     public griffon.core.mvc.MVCGroup getParentGroup() {
@@ -36,6 +36,7 @@ import java.util.Arrays;
 import java.util.List;
 
 import static griffon.core.GriffonExceptionHandler.sanitize;
+import static griffon.core.editors.PropertyEditorResolver.findConverter;
 import static griffon.core.editors.PropertyEditorResolver.findEditor;
 import static griffon.util.GriffonClassUtils.getPropertyDescriptors;
 import static griffon.util.GriffonClassUtils.invokeExactInstanceMethod;
@@ -61,6 +62,8 @@ public abstract class AbstractResourceInjector implements ResourceInjector {
     protected static final String ERROR_FULLY_QUALIFIED_NAME_BLANK = "Argument 'fqName' must not be blank";
     protected static final String ERROR_FULLY_QUALIFIED_FIELD_NAME_BLANK = "Argument 'fqFieldName' must not be blank";
 
+    private final boolean resolvesEditors = overridesResolvePropertyEditor(getClass());
+
     @Override
     public void injectResources(@Nonnull Object instance) {
         requireNonNull(instance, ERROR_INSTANCE_NULL);
@@ -173,11 +176,16 @@ public abstract class AbstractResourceInjector implements ResourceInjector {
     protected abstract Object resolveResource(@Nonnull String key, @Nonnull String[] args, @Nonnull String defaultValue);
 
     @Nonnull
+    @SuppressWarnings("unchecked")
     protected Object convertValue(@Nonnull Class<?> type, @Nonnull Object value, @Nullable String format) {
         requireNonNull(type, ERROR_TYPE_NULL);
         requireNonNull(value, ERROR_VALUE_NULL);
+        if (!resolvesEditors) {
+            return findConverter((Class<Object>) value.getClass(), type, format).convert(value);
+        }
+
         PropertyEditor propertyEditor = resolvePropertyEditor(type, format);
-        if (null == propertyEditor) return value;
+        if (null == propertyEditor) { return value; }
         if (value instanceof CharSequence) {
             propertyEditor.setAsText(String.valueOf(value));
         } else {
@@ -186,6 +194,23 @@ public abstract class AbstractResourceInjector implements ResourceInjector {
         return propertyEditor.getValue();
     }
 
+    private static boolean overridesResolvePropertyEditor(@Nonnull Class<?> type) {
+        for (Class<?> klass = type; klass != AbstractResourceInjector.class; klass = klass.getSuperclass()) {
+            try {
+                klass.getDeclaredMethod("resolvePropertyEditor", Class.class, String.class);
+                return true;
+            } catch (NoSuchMethodException e) {
+                // continue with the superclass
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Injectors that override this method are still honored, but values are then converted through
+     * the returned editor instead of a cached {@code Converter}.
+     */
+
     @Nullable
     protected PropertyEditor resolvePropertyEditor(@Nonnull Class<?> type, @Nullable String format) {
         requireNonNull(type, ERROR_TYPE_NULL);
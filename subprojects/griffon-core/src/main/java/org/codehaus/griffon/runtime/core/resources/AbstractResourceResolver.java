@@ -23,14 +23,13 @@ import griffon.core.resources.ResourceResolver;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.beans.PropertyEditor;
 import java.text.MessageFormat;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.MissingResourceException;
 
-import static griffon.core.editors.PropertyEditorResolver.findEditor;
+import static griffon.core.editors.PropertyEditorResolver.findConverter;
 import static griffon.util.GriffonNameUtils.requireNonBlank;
 import static java.util.Objects.requireNonNull;
 
@@ -349,9 +348,7 @@ public abstract class AbstractResourceResolver implements ResourceResolver {
             if (type.isAssignableFrom(value.getClass())) {
                 return (T) value;
             } else {
-                PropertyEditor editor = findEditor(type);
-                editor.setValue(value);
-                return (T) editor.getValue();
+                return findConverter(Object.class, type).convert(value);
             }
         }
         return null;
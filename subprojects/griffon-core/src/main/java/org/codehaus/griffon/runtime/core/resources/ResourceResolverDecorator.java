@@ -22,12 +22,11 @@ import griffon.core.resources.ResourceResolver;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.beans.PropertyEditor;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 
-import static griffon.core.editors.PropertyEditorResolver.findEditor;
+import static griffon.core.editors.PropertyEditorResolver.findConverter;
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -268,9 +267,7 @@ public class ResourceResolverDecorator implements ResourceResolver {
             if (type.isAssignableFrom(value.getClass())) {
                 return (T) value;
             } else {
-                PropertyEditor editor = findEditor(type);
-                editor.setValue(value);
-                return (T) editor.getValue();
+                return findConverter(Object.class, type).convert(value);
             }
         }
         return null;
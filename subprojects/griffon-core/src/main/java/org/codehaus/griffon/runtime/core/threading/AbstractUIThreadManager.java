@@ -28,9 +28,11 @@ import javax.inject.Inject;
 import javax.inject.Named;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
 
 import static java.util.Objects.requireNonNull;
 
@@ -44,12 +46,157 @@ public abstract class AbstractUIThreadManager implements UIThreadManager {
 
     private ExecutorServiceManager executorServiceManager;
 
-    @Inject @Named("defaultExecutorService")
     private ExecutorService executorService;
 
     @Inject
     private ExceptionHandler exceptionHandler;
 
+    private final BatchingUIDispatcher batchingDispatcher;
+    private final UIThreadWatchdog watchdog;
+
+    public AbstractUIThreadManager() {
+        batchingDispatcher = createBatchingDispatcher();
+        watchdog = createUIThreadWatchdog();
+    }
+
+    /**
+     * Creates the dispatcher that batches tasks submitted with {@code runInsideUIAsync}. Batching is
+     * enabled with the {@code griffon.ui.batching} System property; the time budget of a single pass
+     * is read from {@code griffon.ui.batching.budget}, in milliseconds.<p>
+     * This method is invoked from the constructor; subclasses that override it must not rely on
+     * their own state.
+     *
+     * @return a dispatcher or {@code null} if batching is disabled.
+     * @since 2.14.0
+     */
+    @Nullable
+    protected BatchingUIDispatcher createBatchingDispatcher() {
+        if (!Boolean.getBoolean(BatchingUIDispatcher.KEY_BATCHING_ENABLED)) {
+            return null;
+        }
+        return newBatchingDispatcher();
+    }
+
+    /**
+     * Creates a dispatcher that posts its drains with {@code postInsideUIAsync}. The time budget of
+     * a single pass is read from the {@code griffon.ui.batching.budget} System property, in milliseconds.
+     *
+     * @return a new dispatcher.
+     * @since 2.14.0
+     */
+    @Nonnull
+    protected final BatchingUIDispatcher newBatchingDispatcher() {
+        long budget = Long.getLong(BatchingUIDispatcher.KEY_BATCHING_BUDGET, BatchingUIDispatcher.DEFAULT_BUDGET);
+        return new BatchingUIDispatcher(new Executor() {
+            @Override
+            public void execute(@Nonnull Runnable command) {
+                postInsideUIAsync(command);
+            }
+        }, new Thread.UncaughtExceptionHandler() {
+            @Override
+            public void uncaughtException(Thread thread, Throwable throwable) {
+                exceptionHandler.uncaughtException(thread, throwable);
+            }
+        }, budget, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Returns the dispatcher that batches tasks submitted with {@code runInsideUIAsync}, which exposes
+     * backlog size and drain latency.
+     *
+     * @return the dispatcher or {@code null} if batching is disabled.
+     * @since 2.14.0
+     */
+    @Nullable
+    public BatchingUIDispatcher getBatchingDispatcher() {
+        return batchingDispatcher;
+    }
+
+    /**
+     * Creates the watchdog that detects stalls of the UI thread. The watchdog is enabled with the
+     * {@code griffon.ui.watchdog} System property; its latency budget is read from
+     * {@code griffon.ui.watchdog.budget}, in milliseconds. Heartbeats are posted with {@code runInsideUIAsync}.<p>
+     * This method is invoked from the constructor; subclasses that override it must not rely on
+     * their own state.
+     *
+     * @return a watchdog or {@code null} if stall detection is disabled.
+     * @since 2.14.0
+     */
+    @Nullable
+    protected UIThreadWatchdog createUIThreadWatchdog() {
+        if (!Boolean.getBoolean(UIThreadWatchdog.KEY_WATCHDOG_ENABLED)) {
+            return null;
+        }
+        long budget = Long.getLong(UIThreadWatchdog.KEY_WATCHDOG_BUDGET, UIThreadWatchdog.DEFAULT_BUDGET);
+        return new UIThreadWatchdog(new Executor() {
+            @Override
+            public void execute(@Nonnull Runnable command) {
+                runInsideUIAsync(command);
+            }
+        }, budget, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Returns the watchdog that detects stalls of the UI thread.
+     *
+     * @return the watchdog or {@code null} if stall detection is disabled.
+     * @since 2.14.0
+     */
+    @Nullable
+    public UIThreadWatchdog getUIThreadWatchdog() {
+        return watchdog;
+    }
+
+    /**
+     * Executes a code block asynchronously inside the UI thread. Code blocks are batched when
+     * batching is enabled, otherwise they are posted to the UI toolkit one by one.
+     *
+     * @param runnable a code block to be executed
+     */
+    @Override
+    public void runInsideUIAsync(@Nonnull Runnable runnable) {
+        requireNonNull(runnable, ERROR_RUNNABLE_NULL);
+        if (batchingDispatcher != null) {
+            batchingDispatcher.submit(runnable);
+        } else {
+            postInsideUIAsync(runnable);
+        }
+    }
+
+    /**
+     * Wraps a code block posted by {@code runInsideUISync} from outside the UI thread so that code blocks
+     * submitted earlier with {@code runInsideUIAsync}, and still waiting in a batch, run before it.
+     *
+     * @param runnable a code block to be executed
+     * @return the wrapped code block, or the code block itself if batching is disabled.
+     * @since 2.14.0
+     */
+    @Nonnull
+    protected Runnable afterPendingUIAsync(@Nonnull final Runnable runnable) {
+        requireNonNull(runnable, ERROR_RUNNABLE_NULL);
+        if (batchingDispatcher == null) {
+            return runnable;
+        }
+        return new Runnable() {
+            @Override
+            public void run() {
+                batchingDispatcher.flush();
+                runnable.run();
+            }
+        };
+    }
+
+    /**
+     * Posts a code block to the UI toolkit's event queue. Runs the code block in the current thread
+     * by default.
+     *
+     * @param runnable a code block to be executed
+     * @since 2.14.0
+     */
+    protected void postInsideUIAsync(@Nonnull Runnable runnable) {
+        runnable.run();
+    }
+
     @Inject
     public void setExecutorServiceManager(@Nonnull ExecutorServiceManager executorServiceManager) {
         requireNonNull(executorServiceManager, "Argument 'executorServiceManager' must not be null");
@@ -57,7 +204,29 @@ public abstract class AbstractUIThreadManager implements UIThreadManager {
             this.executorServiceManager.remove(executorService);
         }
         this.executorServiceManager = executorServiceManager;
-        this.executorServiceManager.add(executorService);
+        manageExecutorService();
+    }
+
+    /**
+     * Sets the {@code ExecutorService} used to run code blocks outside of the UI thread.
+     *
+     * @param executorService the {@code ExecutorService} to use
+     * @since 2.14.0
+     */
+    @Inject
+    public void setExecutorService(@Nonnull @Named("defaultExecutorService") ExecutorService executorService) {
+        this.executorService = requireNonNull(executorService, "Argument 'executorService' must not be null");
+        manageExecutorService();
+    }
+
+    private void manageExecutorService() {
+        // the manager may wrap the executor to take measurements; tasks must be submitted to the wrapper
+        if (executorServiceManager != null && executorService != null) {
+            ExecutorService managed = executorServiceManager.add(executorService);
+            if (managed != null) {
+                executorService = managed;
+            }
+        }
     }
 
     /**
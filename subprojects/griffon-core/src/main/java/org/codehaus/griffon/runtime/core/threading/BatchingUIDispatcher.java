@@ -0,0 +1,186 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.core.threading;
+
+import javax.annotation.Nonnull;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Gathers tasks destined to the UI thread and runs them in batches.<p>
+ * Submissions are appended to a lock-free queue; a single drain is posted to the UI toolkit
+ * for as long as the queue holds tasks. Each drain runs queued tasks in order until the queue
+ * is empty or the time budget is spent, in which case another drain is posted, giving the
+ * toolkit the chance to process input and paint events in between. Work posted to the toolkit
+ * in the meantime would run ahead of the remaining tasks; {@code flush()} lets such work run
+ * the pending tasks first.
+ *
+ * @author Andres Almiray
+ * @since 2.14.0
+ */
+public final class BatchingUIDispatcher {
+    public static final String KEY_BATCHING_ENABLED = "griffon.ui.batching";
+    public static final String KEY_BATCHING_BUDGET = "griffon.ui.batching.budget";
+    public static final long DEFAULT_BUDGET = 8L;
+
+    private final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final AtomicInteger backlog = new AtomicInteger();
+    private final AtomicLong drainCount = new AtomicLong();
+    private final AtomicLong executedCount = new AtomicLong();
+    private final AtomicLong totalDrainLatency = new AtomicLong();
+    private final AtomicLong maxDrainLatency = new AtomicLong();
+    private final Executor uiExecutor;
+    private final Thread.UncaughtExceptionHandler exceptionHandler;
+    private final long budget;
+    private volatile long scheduledAt;
+
+    private final Runnable drain = new Runnable() {
+        @Override
+        public void run() {
+            drain();
+        }
+    };
+
+    /**
+     * @param uiExecutor       posts drains to the UI toolkit's event queue
+     * @param exceptionHandler receives failures of individual tasks
+     * @param budget           maximum time a single drain may take before yielding to the toolkit
+     * @param unit             the unit of the budget
+     */
+    public BatchingUIDispatcher(@Nonnull Executor uiExecutor, @Nonnull Thread.UncaughtExceptionHandler exceptionHandler, long budget, @Nonnull TimeUnit unit) {
+        this.uiExecutor = requireNonNull(uiExecutor, "Argument 'uiExecutor' must not be null");
+        this.exceptionHandler = requireNonNull(exceptionHandler, "Argument 'exceptionHandler' must not be null");
+        requireNonNull(unit, "Argument 'unit' must not be null");
+        if (budget <= 0) {
+            throw new IllegalArgumentException("Argument 'budget' must be greater than zero");
+        }
+        this.budget = unit.toNanos(budget);
+    }
+
+    public void submit(@Nonnull Runnable task) {
+        requireNonNull(task, "Argument 'task' must not be null");
+        queue.offer(task);
+        backlog.incrementAndGet();
+        schedule();
+    }
+
+    /**
+     * Runs every pending task in the current thread, regardless of the time budget. Must be
+     * invoked inside the UI thread.
+     */
+    public void flush() {
+        Runnable task;
+        while ((task = queue.poll()) != null) {
+            run(task);
+        }
+    }
+
+    private void schedule() {
+        if (scheduled.compareAndSet(false, true)) {
+            scheduledAt = System.nanoTime();
+            try {
+                uiExecutor.execute(drain);
+            } catch (RuntimeException | Error e) {
+                // pending tasks are picked up by the drain posted on the next submission
+                scheduled.set(false);
+                throw e;
+            }
+        }
+    }
+
+    private void drain() {
+        long start = System.nanoTime();
+        long latency = start - scheduledAt;
+        drainCount.incrementAndGet();
+        totalDrainLatency.addAndGet(latency);
+        long max = maxDrainLatency.get();
+        while (latency > max && !maxDrainLatency.compareAndSet(max, latency)) {
+            max = maxDrainLatency.get();
+        }
+
+        long deadline = start + budget;
+        Runnable task;
+        while ((task = queue.poll()) != null) {
+            run(task);
+            if (System.nanoTime() - deadline >= 0) {
+                break;
+            }
+        }
+
+        scheduled.set(false);
+        // tasks may have been submitted after the last poll but before the flag was cleared
+        if (!queue.isEmpty()) {
+            schedule();
+        }
+    }
+
+    private void run(@Nonnull Runnable task) {
+        backlog.decrementAndGet();
+        try {
+            task.run();
+        } catch (Throwable throwable) {
+            exceptionHandler.uncaughtException(Thread.currentThread(), throwable);
+        }
+        executedCount.incrementAndGet();
+    }
+
+    /**
+     * @return the time budget of a single drain, in nanoseconds.
+     */
+    public long getBudget() {
+        return budget;
+    }
+
+    /**
+     * @return the number of tasks waiting to be run.
+     */
+    public int getBacklog() {
+        return backlog.get();
+    }
+
+    public long getDrainCount() {
+        return drainCount.get();
+    }
+
+    public long getExecutedCount() {
+        return executedCount.get();
+    }
+
+    /**
+     * @return average time between posting a drain and the UI thread starting it, in nanoseconds.
+     */
+    public long getAverageDrainLatency() {
+        long count = drainCount.get();
+        return count > 0 ? totalDrainLatency.get() / count : 0L;
+    }
+
+    /**
+     * @return maximum time between posting a drain and the UI thread starting it, in nanoseconds.
+     */
+    public long getMaxDrainLatency() {
+        return maxDrainLatency.get();
+    }
+}
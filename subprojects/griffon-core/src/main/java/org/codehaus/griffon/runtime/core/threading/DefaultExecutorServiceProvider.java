@@ -17,42 +17,41 @@
  */
 package org.codehaus.griffon.runtime.core.threading;
 
+import javax.annotation.Nonnull;
+import javax.inject.Inject;
 import javax.inject.Provider;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import static java.util.Objects.requireNonNull;
+
 /**
+ * Provides the {@code ExecutorService} shared by the application. The kind of pool is chosen by
+ * the injected {@code ExecutorServiceStrategy}; when created without one, by the
+ * {@code griffon.executor.strategy} System property (one of {@code fixed}, {@code fork_join}
+ * or {@code virtual}).
+ *
  * @author Andres Almiray
  * @since 2.2.0
  */
 public class DefaultExecutorServiceProvider implements Provider<ExecutorService> {
-    @Override
-    public ExecutorService get() {
-        return Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), new DefaultThreadFactory());
-    }
+    private static final AtomicInteger POOL_NUMBER = new AtomicInteger(1);
+    private final ExecutorServiceStrategy strategy;
 
-    private static class DefaultThreadFactory implements ThreadFactory {
-        private static final AtomicInteger poolNumber = new AtomicInteger(1);
-        private final ThreadGroup group;
-        private final AtomicInteger threadNumber = new AtomicInteger(1);
-        private final String namePrefix;
+    public DefaultExecutorServiceProvider() {
+        this(ExecutorServiceStrategy.resolve());
+    }
 
-        private DefaultThreadFactory() {
-            SecurityManager s = System.getSecurityManager();
-            group = (s != null) ? s.getThreadGroup() :
-                Thread.currentThread().getThreadGroup();
-            namePrefix = "griffon-pool-" +
-                poolNumber.getAndIncrement() +
-                "-thread-";
-        }
+    /**
+     * @since 2.14.0
+     */
+    @Inject
+    public DefaultExecutorServiceProvider(@Nonnull ExecutorServiceStrategy strategy) {
+        this.strategy = requireNonNull(strategy, "Argument 'strategy' must not be null");
+    }
 
-        public Thread newThread(Runnable r) {
-            Thread t = new Thread(group, r, namePrefix + threadNumber.getAndIncrement(), 0);
-            if (t.isDaemon()) t.setDaemon(false);
-            if (t.getPriority() != Thread.NORM_PRIORITY) t.setPriority(Thread.NORM_PRIORITY);
-            return t;
-        }
+    @Override
+    public ExecutorService get() {
+        return strategy.create("griffon-pool-" + POOL_NUMBER.getAndIncrement());
     }
 }
@@ -0,0 +1,223 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.core.threading;
+
+import griffon.core.threading.TaskScope;
+
+import javax.annotation.Nonnull;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static griffon.util.GriffonNameUtils.requireNonBlank;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * @author Andres Almiray
+ * @since 2.14.0
+ */
+public class DefaultTaskScope implements TaskScope {
+    private final String name;
+    private final Executor executor;
+    private final Set<ScopedTask<?>> tasks = Collections.newSetFromMap(new ConcurrentHashMap<ScopedTask<?>, Boolean>());
+    private final AtomicLong submittedCount = new AtomicLong();
+    private final AtomicLong completedCount = new AtomicLong();
+    private final AtomicLong cancelledCount = new AtomicLong();
+    private final AtomicLong cpuTime = new AtomicLong();
+    private final Object[] lock = new Object[0];
+    private volatile boolean cancelled;
+
+    public DefaultTaskScope(@Nonnull String name, @Nonnull Executor executor) {
+        this.name = requireNonBlank(name, "Argument 'name' must not be blank");
+        this.executor = requireNonNull(executor, "Argument 'executor' must not be null");
+    }
+
+    @Nonnull
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Nonnull
+    @Override
+    public <R> Future<R> submit(@Nonnull Callable<R> callable) {
+        requireNonNull(callable, "Argument 'callable' must not be null");
+        return schedule(new ScopedTask<>(callable));
+    }
+
+    @Nonnull
+    @Override
+    public Future<?> submit(@Nonnull Runnable runnable) {
+        requireNonNull(runnable, "Argument 'runnable' must not be null");
+        return schedule(new ScopedTask<Void>(runnable, null));
+    }
+
+    @Nonnull
+    private <R> Future<R> schedule(@Nonnull ScopedTask<R> task) {
+        tasks.add(task);
+        // a concurrent cancel() either sees the task or is seen here
+        if (cancelled) {
+            tasks.remove(task);
+            throw new RejectedExecutionException("Task scope " + name + " has been cancelled");
+        }
+
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            tasks.remove(task);
+            throw e;
+        }
+        submittedCount.incrementAndGet();
+        return task;
+    }
+
+    @Override
+    public void cancel() {
+        cancelled = true;
+        for (ScopedTask<?> task : tasks) {
+            task.cancel(true);
+        }
+        if (executor instanceof ThreadPoolExecutor) {
+            // drop cancelled tasks that are still queued
+            ((ThreadPoolExecutor) executor).purge();
+        }
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, @Nonnull TimeUnit unit) throws InterruptedException {
+        requireNonNull(unit, "Argument 'unit' must not be null");
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        synchronized (lock) {
+            while (!tasks.isEmpty()) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                TimeUnit.NANOSECONDS.timedWait(lock, remaining);
+            }
+            return true;
+        }
+    }
+
+    @Override
+    public int getActiveTaskCount() {
+        return tasks.size();
+    }
+
+    @Override
+    public long getSubmittedTaskCount() {
+        return submittedCount.get();
+    }
+
+    @Override
+    public long getCompletedTaskCount() {
+        return completedCount.get();
+    }
+
+    @Override
+    public long getCancelledTaskCount() {
+        return cancelledCount.get();
+    }
+
+    @Override
+    public long getCpuTime() {
+        return CpuClock.SUPPORTED ? cpuTime.get() : -1L;
+    }
+
+    @Override
+    public String toString() {
+        return "TaskScope[" + name + "]";
+    }
+
+    private void release(@Nonnull ScopedTask<?> task) {
+        if (!tasks.remove(task)) {
+            return;
+        }
+        if (task.isCancelled()) {
+            cancelledCount.incrementAndGet();
+        } else {
+            completedCount.incrementAndGet();
+        }
+        if (tasks.isEmpty()) {
+            synchronized (lock) {
+                lock.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * A task that stays registered with its scope until it has stopped running, even if it was
+     * cancelled while running.
+     */
+    private final class ScopedTask<V> extends FutureTask<V> {
+        private volatile boolean running;
+
+        private ScopedTask(@Nonnull Callable<V> callable) {
+            super(callable);
+        }
+
+        private ScopedTask(@Nonnull Runnable runnable, V result) {
+            super(runnable, result);
+        }
+
+        @Override
+        public void run() {
+            running = true;
+            long start = CpuClock.now();
+            try {
+                super.run();
+            } finally {
+                if (start >= 0) {
+                    cpuTime.addAndGet(CpuClock.now() - start);
+                }
+                release(this);
+            }
+        }
+
+        @Override
+        protected void done() {
+            if (!running) {
+                release(this);
+            }
+        }
+    }
+
+    private static final class CpuClock {
+        private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+        private static final boolean SUPPORTED = THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported() && THREAD_MX_BEAN.isThreadCpuTimeEnabled();
+
+        private static long now() {
+            return SUPPORTED ? THREAD_MX_BEAN.getCurrentThreadCpuTime() : -1L;
+        }
+    }
+}
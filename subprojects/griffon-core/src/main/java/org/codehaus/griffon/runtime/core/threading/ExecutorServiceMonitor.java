@@ -0,0 +1,250 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.core.threading;
+
+import griffon.core.ExecutorServiceStatistics;
+import org.codehaus.griffon.runtime.core.LatencyHistogram;
+import org.codehaus.griffon.runtime.core.event.AsyncEventDispatcher;
+
+import javax.annotation.Nonnull;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import static griffon.util.GriffonNameUtils.requireNonBlank;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Reads the state of an {@code ExecutorService}. Understands {@code InstrumentedThreadPoolExecutor},
+ * {@code InstrumentedExecutorService}, {@code ThreadPoolExecutor}, {@code ForkJoinPool} and the lanes of
+ * {@code AsyncEventDispatcher}; any other {@code ExecutorService} only reports whether it has been shut down.
+ * Pool sizes of an {@code InstrumentedExecutorService} are read from the {@code ExecutorService} it decorates.
+ *
+ * @author Andres Almiray
+ * @since 2.14.0
+ */
+public class ExecutorServiceMonitor implements ExecutorServiceMonitorMXBean {
+    private static final int UNKNOWN = -1;
+
+    private final String name;
+    private final ExecutorService executorService;
+    private final ExecutorService pool;
+
+    public ExecutorServiceMonitor(@Nonnull String name, @Nonnull ExecutorService executorService) {
+        this.name = requireNonBlank(name, "Argument 'name' must not be blank");
+        this.executorService = requireNonNull(executorService, "Argument 'executorService' must not be null");
+        this.pool = executorService instanceof InstrumentedExecutorService ? ((InstrumentedExecutorService) executorService).getDelegate() : executorService;
+    }
+
+    /**
+     * Computes a name for the given {@code ExecutorService}.
+     *
+     * @param executorService the {@code ExecutorService} to be named
+     * @return the pool name of an {@code InstrumentedThreadPoolExecutor}, the simple class name otherwise.
+     * An {@code InstrumentedExecutorService} is named after the {@code ExecutorService} it decorates.
+     */
+    @Nonnull
+    public static String nameOf(@Nonnull ExecutorService executorService) {
+        requireNonNull(executorService, "Argument 'executorService' must not be null");
+        if (executorService instanceof InstrumentedExecutorService) {
+            return nameOf(((InstrumentedExecutorService) executorService).getDelegate());
+        } else if (executorService instanceof InstrumentedThreadPoolExecutor) {
+            return ((InstrumentedThreadPoolExecutor) executorService).getName();
+        } else if (executorService instanceof AsyncEventDispatcher.Lane) {
+            return executorService.toString();
+        }
+        String simpleName = executorService.getClass().getSimpleName();
+        return simpleName.length() > 0 ? simpleName : executorService.getClass().getName();
+    }
+
+    @Nonnull
+    public ExecutorService getExecutorService() {
+        return executorService;
+    }
+
+    /**
+     * Takes a snapshot of the current state of the {@code ExecutorService}.
+     *
+     * @return an immutable snapshot.
+     */
+    @Nonnull
+    public ExecutorServiceStatistics snapshot() {
+        return new ExecutorServiceStatistics(getName(), getType(),
+            getPoolSize(), getMaximumPoolSize(), getActiveCount(), getQueueDepth(),
+            getCompletedTaskCount(), getRejectedTaskCount(),
+            getAverageWaitTime(), getMaxWaitTime(), getWaitTimePercentile99(),
+            getAverageRunTime(), getMaxRunTime(), getRunTimePercentile99(),
+            isShutdown());
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String getType() {
+        return pool.getClass().getName();
+    }
+
+    @Override
+    public int getPoolSize() {
+        if (pool instanceof ThreadPoolExecutor) {
+            return ((ThreadPoolExecutor) pool).getPoolSize();
+        } else if (pool instanceof ForkJoinPool) {
+            return ((ForkJoinPool) pool).getPoolSize();
+        }
+        return UNKNOWN;
+    }
+
+    @Override
+    public int getMaximumPoolSize() {
+        if (pool instanceof ThreadPoolExecutor) {
+            return ((ThreadPoolExecutor) pool).getMaximumPoolSize();
+        } else if (pool instanceof ForkJoinPool) {
+            return ((ForkJoinPool) pool).getParallelism();
+        }
+        return UNKNOWN;
+    }
+
+    @Override
+    public int getActiveCount() {
+        if (executorService instanceof InstrumentedExecutorService) {
+            return ((InstrumentedExecutorService) executorService).getActiveCount();
+        } else if (executorService instanceof ThreadPoolExecutor) {
+            return ((ThreadPoolExecutor) executorService).getActiveCount();
+        } else if (executorService instanceof ForkJoinPool) {
+            return ((ForkJoinPool) executorService).getActiveThreadCount();
+        }
+        return UNKNOWN;
+    }
+
+    @Override
+    public int getQueueDepth() {
+        if (executorService instanceof InstrumentedExecutorService) {
+            return ((InstrumentedExecutorService) executorService).getQueueDepth();
+        } else if (executorService instanceof ThreadPoolExecutor) {
+            return ((ThreadPoolExecutor) executorService).getQueue().size();
+        } else if (executorService instanceof ForkJoinPool) {
+            ForkJoinPool pool = (ForkJoinPool) executorService;
+            return (int) Math.min(Integer.MAX_VALUE, pool.getQueuedSubmissionCount() + pool.getQueuedTaskCount());
+        } else if (executorService instanceof AsyncEventDispatcher.Lane) {
+            return ((AsyncEventDispatcher.Lane) executorService).getQueueDepth();
+        }
+        return UNKNOWN;
+    }
+
+    @Override
+    public long getCompletedTaskCount() {
+        if (executorService instanceof InstrumentedExecutorService) {
+            return ((InstrumentedExecutorService) executorService).getCompletedTaskCount();
+        } else if (executorService instanceof ThreadPoolExecutor) {
+            return ((ThreadPoolExecutor) executorService).getCompletedTaskCount();
+        } else if (executorService instanceof AsyncEventDispatcher.Lane) {
+            return ((AsyncEventDispatcher.Lane) executorService).getDispatchedCount();
+        }
+        return UNKNOWN;
+    }
+
+    @Override
+    public long getRejectedTaskCount() {
+        if (executorService instanceof InstrumentedExecutorService) {
+            return ((InstrumentedExecutorService) executorService).getRejectedTaskCount();
+        } else if (executorService instanceof InstrumentedThreadPoolExecutor) {
+            return ((InstrumentedThreadPoolExecutor) executorService).getRejectedTaskCount();
+        } else if (executorService instanceof AsyncEventDispatcher.Lane) {
+            return ((AsyncEventDispatcher.Lane) executorService).getDroppedCount();
+        }
+        return UNKNOWN;
+    }
+
+    @Override
+    public long getAverageWaitTime() {
+        LatencyHistogram histogram = waitTime();
+        if (histogram != null) {
+            return histogram.getMean();
+        } else if (executorService instanceof AsyncEventDispatcher.Lane) {
+            return ((AsyncEventDispatcher.Lane) executorService).getAverageWaitTime();
+        }
+        return UNKNOWN;
+    }
+
+    @Override
+    public long getMaxWaitTime() {
+        LatencyHistogram histogram = waitTime();
+        return histogram != null ? histogram.getMax() : UNKNOWN;
+    }
+
+    @Override
+    public long getWaitTimePercentile99() {
+        LatencyHistogram histogram = waitTime();
+        return histogram != null ? histogram.getPercentile(99d) : UNKNOWN;
+    }
+
+    @Override
+    public long getAverageRunTime() {
+        LatencyHistogram histogram = runTime();
+        if (histogram != null) {
+            return histogram.getMean();
+        } else if (executorService instanceof AsyncEventDispatcher.Lane) {
+            return ((AsyncEventDispatcher.Lane) executorService).getAverageRunTime();
+        }
+        return UNKNOWN;
+    }
+
+    @Override
+    public long getMaxRunTime() {
+        LatencyHistogram histogram = runTime();
+        return histogram != null ? histogram.getMax() : UNKNOWN;
+    }
+
+    @Override
+    public long getRunTimePercentile99() {
+        LatencyHistogram histogram = runTime();
+        return histogram != null ? histogram.getPercentile(99d) : UNKNOWN;
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return executorService.isShutdown();
+    }
+
+    @Override
+    public boolean isSaturated() {
+        int maximumPoolSize = getMaximumPoolSize();
+        return maximumPoolSize > 0 && getActiveCount() >= maximumPoolSize && getQueueDepth() > 0;
+    }
+
+    private LatencyHistogram waitTime() {
+        if (executorService instanceof InstrumentedExecutorService) {
+            return ((InstrumentedExecutorService) executorService).getWaitTime();
+        } else if (executorService instanceof InstrumentedThreadPoolExecutor) {
+            return ((InstrumentedThreadPoolExecutor) executorService).getWaitTime();
+        }
+        return null;
+    }
+
+    private LatencyHistogram runTime() {
+        if (executorService instanceof InstrumentedExecutorService) {
+            return ((InstrumentedExecutorService) executorService).getRunTime();
+        } else if (executorService instanceof InstrumentedThreadPoolExecutor) {
+            return ((InstrumentedThreadPoolExecutor) executorService).getRunTime();
+        }
+        return null;
+    }
+}
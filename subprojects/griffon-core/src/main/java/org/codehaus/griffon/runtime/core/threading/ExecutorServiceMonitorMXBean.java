@@ -0,0 +1,60 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.core.threading;
+
+/**
+ * Management interface of an {@code ExecutorService} registered with {@code ExecutorServiceManager}.<p>
+ * Values that cannot be determined for a particular kind of {@code ExecutorService} are reported as {@code -1}.
+ * Times are given in nanoseconds.
+ *
+ * @author Andres Almiray
+ * @since 2.14.0
+ */
+public interface ExecutorServiceMonitorMXBean {
+    String getName();
+
+    String getType();
+
+    int getPoolSize();
+
+    int getMaximumPoolSize();
+
+    int getActiveCount();
+
+    int getQueueDepth();
+
+    long getCompletedTaskCount();
+
+    long getRejectedTaskCount();
+
+    long getAverageWaitTime();
+
+    long getMaxWaitTime();
+
+    long getWaitTimePercentile99();
+
+    long getAverageRunTime();
+
+    long getMaxRunTime();
+
+    long getRunTimePercentile99();
+
+    boolean isShutdown();
+
+    boolean isSaturated();
+}
@@ -0,0 +1,162 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.core.threading;
+
+import griffon.core.Configuration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.lang.reflect.Method;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static griffon.util.GriffonNameUtils.isBlank;
+import static griffon.util.GriffonNameUtils.requireNonBlank;
+
+/**
+ * Strategies for creating the {@code ExecutorService} shared by the application for background work.
+ *
+ * @author Andres Almiray
+ * @since 2.14.0
+ */
+public enum ExecutorServiceStrategy {
+    /**
+     * A fixed pool of non-daemon threads, one per available processor. Records task wait and run times.
+     */
+    FIXED {
+        @Nonnull
+        @Override
+        public ExecutorService create(@Nonnull String poolName) {
+            requireNonBlank(poolName, ERROR_POOL_NAME_BLANK);
+            int poolSize = Runtime.getRuntime().availableProcessors();
+            return new InstrumentedThreadPoolExecutor(poolName, poolSize, poolSize, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<Runnable>(), new DefaultThreadFactory(poolName));
+        }
+    },
+    /**
+     * A work-stealing {@code ForkJoinPool} in async mode, with parallelism equal to the number of available processors.
+     */
+    FORK_JOIN {
+        @Nonnull
+        @Override
+        public ExecutorService create(@Nonnull final String poolName) {
+            requireNonBlank(poolName, ERROR_POOL_NAME_BLANK);
+            final AtomicInteger threadNumber = new AtomicInteger(1);
+            return new ForkJoinPool(Runtime.getRuntime().availableProcessors(), new ForkJoinPool.ForkJoinWorkerThreadFactory() {
+                @Override
+                public ForkJoinWorkerThread newThread(ForkJoinPool pool) {
+                    ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                    thread.setName(poolName + "-thread-" + threadNumber.getAndIncrement());
+                    return thread;
+                }
+            }, null, true);
+        }
+    },
+    /**
+     * A virtual thread per task. Falls back to {@code FORK_JOIN} when the running JVM does not support virtual threads.
+     */
+    VIRTUAL {
+        @Nonnull
+        @Override
+        public ExecutorService create(@Nonnull String poolName) {
+            requireNonBlank(poolName, ERROR_POOL_NAME_BLANK);
+            try {
+                Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+                return (ExecutorService) factory.invoke(null);
+            } catch (Exception e) {
+                LOG.warn("Virtual threads are not supported by this JVM. Using {} instead", FORK_JOIN);
+                return FORK_JOIN.create(poolName);
+            }
+        }
+    };
+
+    /**
+     * "griffon.executor.strategy"
+     */
+    public static final String KEY_EXECUTOR_STRATEGY = "griffon.executor.strategy";
+
+    private static final Logger LOG = LoggerFactory.getLogger(ExecutorServiceStrategy.class);
+    private static final String ERROR_POOL_NAME_BLANK = "Argument 'poolName' must not be blank";
+
+    /**
+     * Creates a new {@code ExecutorService}.
+     *
+     * @param poolName prefix used to name the threads of the pool, if applicable
+     * @return a new {@code ExecutorService}
+     */
+    @Nonnull
+    public abstract ExecutorService create(@Nonnull String poolName);
+
+    /**
+     * Resolves the strategy configured with the {@code griffon.executor.strategy} System property.
+     *
+     * @return the configured strategy or {@code FIXED} if none or an unknown value was configured.
+     */
+    @Nonnull
+    public static ExecutorServiceStrategy resolve() {
+        return resolve(null);
+    }
+
+    /**
+     * Resolves the strategy configured with the {@code griffon.executor.strategy} key of the given
+     * configuration. The System property of the same name is used when the key is not set.
+     *
+     * @param configuration the application's configuration, may be null
+     * @return the configured strategy or {@code FIXED} if none or an unknown value was configured.
+     */
+    @Nonnull
+    public static ExecutorServiceStrategy resolve(@Nullable Configuration configuration) {
+        String name = configuration != null ? configuration.getAsString(KEY_EXECUTOR_STRATEGY, null) : null;
+        if (isBlank(name)) { name = System.getProperty(KEY_EXECUTOR_STRATEGY); }
+        if (isBlank(name)) { return FIXED; }
+        try {
+            return valueOf(name.trim().toUpperCase(Locale.ENGLISH).replace('-', '_'));
+        } catch (IllegalArgumentException e) {
+            LOG.warn("Unknown executor strategy '{}'. Using {} instead", name, FIXED);
+            return FIXED;
+        }
+    }
+
+    private static class DefaultThreadFactory implements ThreadFactory {
+        private final ThreadGroup group;
+        private final AtomicInteger threadNumber = new AtomicInteger(1);
+        private final String namePrefix;
+
+        private DefaultThreadFactory(String poolName) {
+            SecurityManager s = System.getSecurityManager();
+            group = (s != null) ? s.getThreadGroup() :
+                Thread.currentThread().getThreadGroup();
+            namePrefix = poolName + "-thread-";
+        }
+
+        public Thread newThread(Runnable r) {
+            Thread t = new Thread(group, r, namePrefix + threadNumber.getAndIncrement(), 0);
+            if (t.isDaemon()) t.setDaemon(false);
+            if (t.getPriority() != Thread.NORM_PRIORITY) t.setPriority(Thread.NORM_PRIORITY);
+            return t;
+        }
+    }
+}
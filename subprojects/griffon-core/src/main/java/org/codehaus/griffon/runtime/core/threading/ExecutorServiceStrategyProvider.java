@@ -0,0 +1,40 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.core.threading;
+
+import griffon.core.Configuration;
+
+import javax.inject.Inject;
+import javax.inject.Provider;
+
+/**
+ * Resolves the {@code ExecutorServiceStrategy} of the application from the {@code griffon.executor.strategy}
+ * configuration key, falling back to the System property of the same name.
+ *
+ * @author Andres Almiray
+ * @since 2.14.0
+ */
+public class ExecutorServiceStrategyProvider implements Provider<ExecutorServiceStrategy> {
+    @Inject
+    private Configuration configuration;
+
+    @Override
+    public ExecutorServiceStrategy get() {
+        return ExecutorServiceStrategy.resolve(configuration);
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.core.threading;
+
+import org.codehaus.griffon.runtime.core.LatencyHistogram;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Decorates an {@code ExecutorService} so that the same figures recorded by {@code InstrumentedThreadPoolExecutor}
+ * are available for any kind of pool: how long tasks wait before they run, how long they run, how many of them
+ * are waiting or running, and how many of them were rejected. Lifecycle methods are forwarded to the decorated
+ * {@code ExecutorService}.
+ *
+ * @author Andres Almiray
+ * @since 2.14.0
+ */
+public class InstrumentedExecutorService extends AbstractExecutorService {
+    private final ExecutorService delegate;
+    private final LatencyHistogram waitTime = new LatencyHistogram();
+    private final LatencyHistogram runTime = new LatencyHistogram();
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final AtomicInteger activeCount = new AtomicInteger();
+    private final AtomicLong completedTaskCount = new AtomicLong();
+    private final AtomicLong rejectedTaskCount = new AtomicLong();
+
+    public InstrumentedExecutorService(@Nonnull ExecutorService delegate) {
+        this.delegate = requireNonNull(delegate, "Argument 'delegate' must not be null");
+    }
+
+    @Nonnull
+    public ExecutorService getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * Returns the time tasks spent waiting before a thread picked them up, in nanoseconds.
+     */
+    @Nonnull
+    public LatencyHistogram getWaitTime() {
+        return waitTime;
+    }
+
+    /**
+     * Returns the time tasks spent running, in nanoseconds.
+     */
+    @Nonnull
+    public LatencyHistogram getRunTime() {
+        return runTime;
+    }
+
+    public int getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    public int getActiveCount() {
+        return activeCount.get();
+    }
+
+    public long getCompletedTaskCount() {
+        return completedTaskCount.get();
+    }
+
+    public long getRejectedTaskCount() {
+        return rejectedTaskCount.get();
+    }
+
+    @Override
+    public void execute(@Nonnull Runnable command) {
+        requireNonNull(command, "Argument 'command' must not be null");
+        queueDepth.incrementAndGet();
+        try {
+            delegate.execute(new InstrumentedTask(command));
+        } catch (RejectedExecutionException e) {
+            queueDepth.decrementAndGet();
+            rejectedTaskCount.incrementAndGet();
+            throw e;
+        } catch (RuntimeException e) {
+            queueDepth.decrementAndGet();
+            throw e;
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        delegate.shutdown();
+    }
+
+    @Nonnull
+    @Override
+    public List<Runnable> shutdownNow() {
+        List<Runnable> tasks = delegate.shutdownNow();
+        List<Runnable> commands = new ArrayList<>(tasks.size());
+        for (Runnable task : tasks) {
+            if (task instanceof InstrumentedTask) {
+                queueDepth.decrementAndGet();
+                commands.add(((InstrumentedTask) task).command);
+            } else {
+                commands.add(task);
+            }
+        }
+        return commands;
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return delegate.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return delegate.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, @Nonnull TimeUnit unit) throws InterruptedException {
+        return delegate.awaitTermination(timeout, unit);
+    }
+
+    @Override
+    public String toString() {
+        return "InstrumentedExecutorService[" + delegate + "]";
+    }
+
+    private final class InstrumentedTask implements Runnable {
+        private final Runnable command;
+        private final long queuedAt = System.nanoTime();
+
+        private InstrumentedTask(@Nonnull Runnable command) {
+            this.command = command;
+        }
+
+        @Override
+        public void run() {
+            long start = System.nanoTime();
+            waitTime.record(start - queuedAt);
+            queueDepth.decrementAndGet();
+            activeCount.incrementAndGet();
+            try {
+                command.run();
+            } finally {
+                activeCount.decrementAndGet();
+                completedTaskCount.incrementAndGet();
+                runTime.record(System.nanoTime() - start);
+            }
+        }
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.core.threading;
+
+import org.codehaus.griffon.runtime.core.LatencyHistogram;
+
+import javax.annotation.Nonnull;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static griffon.util.GriffonNameUtils.requireNonBlank;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@code ThreadPoolExecutor} that records how long tasks wait in the queue, how long they run
+ * and how many of them were rejected. Tasks are queued as given, timings are taken in
+ * {@code beforeExecute()} and {@code afterExecute()}.
+ *
+ * @author Andres Almiray
+ * @since 2.14.0
+ */
+public class InstrumentedThreadPoolExecutor extends ThreadPoolExecutor {
+    private final String name;
+    private final LatencyHistogram waitTime = new LatencyHistogram();
+    private final LatencyHistogram runTime = new LatencyHistogram();
+    private final AtomicLong rejectedTaskCount = new AtomicLong();
+    private final Map<Runnable, Long> queuedAt = new ConcurrentHashMap<>();
+    private final ThreadLocal<Long> startedAt = new ThreadLocal<>();
+
+    public InstrumentedThreadPoolExecutor(@Nonnull String name, int corePoolSize, int maximumPoolSize, long keepAliveTime, @Nonnull TimeUnit unit, @Nonnull BlockingQueue<Runnable> workQueue, @Nonnull ThreadFactory threadFactory) {
+        this(name, corePoolSize, maximumPoolSize, keepAliveTime, unit, workQueue, threadFactory, new AbortPolicy());
+    }
+
+    public InstrumentedThreadPoolExecutor(@Nonnull String name, int corePoolSize, int maximumPoolSize, long keepAliveTime, @Nonnull TimeUnit unit, @Nonnull BlockingQueue<Runnable> workQueue, @Nonnull ThreadFactory threadFactory, @Nonnull RejectedExecutionHandler handler) {
+        super(corePoolSize, maximumPoolSize, keepAliveTime, unit, workQueue, threadFactory, handler);
+        this.name = requireNonBlank(name, "Argument 'name' must not be blank");
+        super.setRejectedExecutionHandler(new CountingRejectedExecutionHandler(handler));
+    }
+
+    @Nonnull
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the time tasks spent in the queue before a thread picked them up, in nanoseconds.
+     */
+    @Nonnull
+    public LatencyHistogram getWaitTime() {
+        return waitTime;
+    }
+
+    /**
+     * Returns the time tasks spent running, in nanoseconds.
+     */
+    @Nonnull
+    public LatencyHistogram getRunTime() {
+        return runTime;
+    }
+
+    public long getRejectedTaskCount() {
+        return rejectedTaskCount.get();
+    }
+
+    @Override
+    public void execute(@Nonnull Runnable command) {
+        requireNonNull(command, "Argument 'command' must not be null");
+        queuedAt.put(command, System.nanoTime());
+        try {
+            super.execute(command);
+        } catch (RuntimeException e) {
+            queuedAt.remove(command);
+            throw e;
+        }
+    }
+
+    @Override
+    protected void beforeExecute(Thread thread, Runnable runnable) {
+        super.beforeExecute(thread, runnable);
+        long start = System.nanoTime();
+        Long queued = queuedAt.remove(runnable);
+        if (queued != null) {
+            waitTime.record(start - queued);
+        }
+        startedAt.set(start);
+    }
+
+    @Override
+    protected void afterExecute(Runnable runnable, Throwable throwable) {
+        Long start = startedAt.get();
+        if (start != null) {
+            startedAt.remove();
+            runTime.record(System.nanoTime() - start);
+        }
+        super.afterExecute(runnable, throwable);
+    }
+
+    @Override
+    public boolean remove(Runnable task) {
+        boolean removed = super.remove(task);
+        if (removed) {
+            queuedAt.remove(task);
+        }
+        return removed;
+    }
+
+    @Override
+    public void purge() {
+        super.purge();
+        // cancelled tasks leave the queue without ever reaching beforeExecute()
+        queuedAt.keySet().retainAll(getQueue());
+    }
+
+    @Override
+    public void setRejectedExecutionHandler(@Nonnull RejectedExecutionHandler handler) {
+        requireNonNull(handler, "Argument 'handler' must not be null");
+        super.setRejectedExecutionHandler(new CountingRejectedExecutionHandler(handler));
+    }
+
+    @Override
+    public RejectedExecutionHandler getRejectedExecutionHandler() {
+        RejectedExecutionHandler handler = super.getRejectedExecutionHandler();
+        return handler instanceof CountingRejectedExecutionHandler ? ((CountingRejectedExecutionHandler) handler).delegate : handler;
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        List<Runnable> tasks = super.shutdownNow();
+        for (Runnable task : tasks) {
+            queuedAt.remove(task);
+        }
+        return tasks;
+    }
+
+    @Override
+    public String toString() {
+        return "InstrumentedThreadPoolExecutor[" + name + "]";
+    }
+
+    private final class CountingRejectedExecutionHandler implements RejectedExecutionHandler {
+        private final RejectedExecutionHandler delegate;
+
+        private CountingRejectedExecutionHandler(@Nonnull RejectedExecutionHandler delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void rejectedExecution(Runnable runnable, ThreadPoolExecutor executor) {
+            rejectedTaskCount.incrementAndGet();
+            queuedAt.remove(runnable);
+            delegate.rejectedExecution(runnable, executor);
+        }
+    }
+}
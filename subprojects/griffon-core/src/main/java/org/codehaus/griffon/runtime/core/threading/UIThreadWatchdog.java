@@ -0,0 +1,337 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.core.threading;
+
+import org.codehaus.griffon.runtime.core.LatencyHistogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Detects stalls of the UI thread regardless of the UI toolkit in use.<p>
+ * A background thread posts a heartbeat to the UI thread at regular intervals. Whenever a heartbeat has not
+ * run within the latency budget the UI thread is considered stalled; its stack trace is sampled on every check
+ * until the heartbeat runs, and registered {@code StallListener}s are notified when the stall is detected and
+ * when it ends. Stack traces are only taken while the UI thread is stalled, keeping the overhead of a responsive
+ * UI down to a single heartbeat per check interval.
+ *
+ * @author Andres Almiray
+ * @since 2.14.0
+ */
+public final class UIThreadWatchdog {
+    public static final String KEY_WATCHDOG_ENABLED = "griffon.ui.watchdog";
+    public static final String KEY_WATCHDOG_BUDGET = "griffon.ui.watchdog.budget";
+    public static final long DEFAULT_BUDGET = 500L;
+
+    private static final Logger LOG = LoggerFactory.getLogger(UIThreadWatchdog.class);
+    private static final int MAX_SAMPLES = 16;
+    private static final long MIN_CHECK_INTERVAL = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final Executor uiExecutor;
+    private final long budget;
+    private final long checkInterval;
+    private final List<StallListener> listeners = new CopyOnWriteArrayList<>();
+    private final LatencyHistogram heartbeatLatency = new LatencyHistogram();
+    private final AtomicLong stallCount = new AtomicLong();
+    private final AtomicLong longestStall = new AtomicLong();
+    private final Object lock = new Object();
+
+    private ScheduledExecutorService scheduler;
+    private volatile Thread uiThread;
+
+    // confined to the scheduler thread
+    private Heartbeat pending;
+    private Stall stall;
+
+    /**
+     * Creates a new watchdog.
+     *
+     * @param uiExecutor posts heartbeats to the UI thread
+     * @param budget     the time a heartbeat may wait before the UI thread is considered stalled
+     * @param unit       the unit of {@code budget}
+     */
+    public UIThreadWatchdog(@Nonnull Executor uiExecutor, long budget, @Nonnull TimeUnit unit) {
+        this.uiExecutor = requireNonNull(uiExecutor, "Argument 'uiExecutor' must not be null");
+        requireNonNull(unit, "Argument 'unit' must not be null");
+        if (budget <= 0) {
+            throw new IllegalArgumentException("Argument 'budget' must be greater than zero");
+        }
+        this.budget = unit.toNanos(budget);
+        this.checkInterval = Math.max(MIN_CHECK_INTERVAL, this.budget / 4);
+    }
+
+    public void addStallListener(@Nonnull StallListener listener) {
+        listeners.add(requireNonNull(listener, "Argument 'listener' must not be null"));
+    }
+
+    public void removeStallListener(@Nonnull StallListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Starts posting heartbeats. Has no effect if the watchdog is already running.
+     */
+    public void start() {
+        synchronized (lock) {
+            if (scheduler != null) { return; }
+            pending = null;
+            stall = null;
+            scheduler = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+                @Override
+                public Thread newThread(@Nonnull Runnable runnable) {
+                    Thread thread = new Thread(runnable, "griffon-ui-watchdog");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+            scheduler.scheduleWithFixedDelay(new Runnable() {
+                @Override
+                public void run() {
+                    check();
+                }
+            }, checkInterval, checkInterval, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Stops posting heartbeats. A stall in progress is not reported as ended.
+     */
+    public void stop() {
+        synchronized (lock) {
+            if (scheduler == null) { return; }
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    public boolean isRunning() {
+        synchronized (lock) {
+            return scheduler != null;
+        }
+    }
+
+    /**
+     * Returns the latency budget, in milliseconds.
+     */
+    public long getBudget() {
+        return TimeUnit.NANOSECONDS.toMillis(budget);
+    }
+
+    /**
+     * Returns the time heartbeats waited before running inside the UI thread, in nanoseconds.
+     */
+    @Nonnull
+    public LatencyHistogram getHeartbeatLatency() {
+        return heartbeatLatency;
+    }
+
+    public long getStallCount() {
+        return stallCount.get();
+    }
+
+    /**
+     * Returns the duration of the longest stall that has ended, in milliseconds.
+     */
+    public long getLongestStall() {
+        return longestStall.get();
+    }
+
+    private void check() {
+        try {
+            long now = System.nanoTime();
+            Heartbeat heartbeat = pending;
+            if (heartbeat != null) {
+                long completedAt = heartbeat.completedAt;
+                if (completedAt == 0L) {
+                    long elapsed = now - heartbeat.postedAt;
+                    if (elapsed >= budget) {
+                        sample(TimeUnit.NANOSECONDS.toMillis(elapsed));
+                    }
+                    return;
+                }
+                if (stall != null) {
+                    endStall(TimeUnit.NANOSECONDS.toMillis(completedAt - heartbeat.postedAt));
+                }
+            }
+            pending = new Heartbeat(now);
+            uiExecutor.execute(pending);
+        } catch (RuntimeException e) {
+            pending = null;
+            LOG.debug("Could not post heartbeat to the UI thread", e);
+        }
+    }
+
+    private void sample(long elapsed) {
+        Thread thread = uiThread;
+        StackTraceElement[] stackTrace = thread != null ? thread.getStackTrace() : new StackTraceElement[0];
+        if (stall == null) {
+            stall = new Stall(stallCount.incrementAndGet(), thread != null ? thread.getName() : "", elapsed, stackTrace);
+            if (LOG.isWarnEnabled()) {
+                LOG.warn("(stall #" + stall.getNumber() + ") UI thread unresponsive for " + elapsed + " ms:" + stackTraceToString(stackTrace));
+            }
+            for (StallListener listener : listeners) {
+                listener.stallDetected(stall);
+            }
+        } else {
+            stall.addSample(stackTrace);
+        }
+    }
+
+    private void endStall(long duration) {
+        Stall ended = stall;
+        stall = null;
+        ended.duration = duration;
+        long current = longestStall.get();
+        while (duration > current && !longestStall.compareAndSet(current, duration)) {
+            current = longestStall.get();
+        }
+        if (LOG.isWarnEnabled()) {
+            LOG.warn("(stall #" + ended.getNumber() + ") UI thread responsive again after " + duration + " ms");
+        }
+        for (StallListener listener : listeners) {
+            listener.stallEnded(ended);
+        }
+    }
+
+    private static String stackTraceToString(StackTraceElement[] stackTrace) {
+        StringBuilder b = new StringBuilder();
+        for (StackTraceElement element : stackTrace) {
+            b.append("\n    ").append(element);
+        }
+        return b.toString();
+    }
+
+    private final class Heartbeat implements Runnable {
+        private final long postedAt;
+        private volatile long completedAt;
+
+        private Heartbeat(long postedAt) {
+            this.postedAt = postedAt;
+        }
+
+        @Override
+        public void run() {
+            uiThread = Thread.currentThread();
+            long now = System.nanoTime();
+            heartbeatLatency.record(now - postedAt);
+            completedAt = now == 0L ? 1L : now;
+        }
+    }
+
+    /**
+     * Receives notifications of UI thread stalls. Listeners are invoked by the watchdog thread.
+     */
+    public interface StallListener {
+        /**
+         * Invoked once the UI thread has been unresponsive for longer than the latency budget.
+         *
+         * @param stall the stall, holding a single stack trace sample
+         */
+        void stallDetected(@Nonnull Stall stall);
+
+        /**
+         * Invoked once the UI thread is responsive again.
+         *
+         * @param stall the stall, holding every stack trace sample taken while it lasted
+         */
+        void stallEnded(@Nonnull Stall stall);
+    }
+
+    /**
+     * A period during which the UI thread did not run heartbeats.
+     */
+    public static final class Stall {
+        private final long number;
+        private final String threadName;
+        private final long detectedAfter;
+        private final List<StackTraceElement[]> samples = new CopyOnWriteArrayList<>();
+        private volatile long duration = -1L;
+
+        private Stall(long number, @Nonnull String threadName, long detectedAfter, @Nonnull StackTraceElement[] stackTrace) {
+            this.number = number;
+            this.threadName = threadName;
+            this.detectedAfter = detectedAfter;
+            this.samples.add(stackTrace);
+        }
+
+        private void addSample(@Nonnull StackTraceElement[] stackTrace) {
+            if (samples.size() < MAX_SAMPLES && !Arrays.equals(samples.get(samples.size() - 1), stackTrace)) {
+                samples.add(stackTrace);
+            }
+        }
+
+        /**
+         * Returns the sequence number of this stall, starting at 1.
+         */
+        public long getNumber() {
+            return number;
+        }
+
+        /**
+         * Returns the name of the UI thread, or an empty String if no heartbeat ever ran.
+         */
+        @Nonnull
+        public String getThreadName() {
+            return threadName;
+        }
+
+        /**
+         * Returns how long the UI thread had been unresponsive when the stall was detected, in milliseconds.
+         */
+        public long getDetectedAfter() {
+            return detectedAfter;
+        }
+
+        /**
+         * Returns how long the stall lasted, in milliseconds, or {@code -1} if it is still in progress.
+         */
+        public long getDuration() {
+            return duration;
+        }
+
+        /**
+         * Returns the stack trace of the UI thread taken when the stall was detected.
+         */
+        @Nonnull
+        public StackTraceElement[] getStackTrace() {
+            return samples.get(0);
+        }
+
+        /**
+         * Returns the distinct stack traces of the UI thread sampled while the stall lasted, oldest first.
+         */
+        @Nonnull
+        public List<StackTraceElement[]> getStackTraces() {
+            return Collections.unmodifiableList(new ArrayList<>(samples));
+        }
+    }
+}
@@ -74,4 +74,39 @@ class BooleanPropertyEditorSpec extends Specification {
             new Object()
         ]
     }
+
+    void "Boolean literal '#literal' with format '#format' converts to boolean #value"() {
+        setup:
+        BooleanPropertyEditor editor = new BooleanPropertyEditor()
+        editor.format = format
+
+        expect:
+        value == editor.convertToBoolean(literal)
+
+        where:
+        literal | format   | value
+        'true'  | null     | true
+        'false' | null     | false
+        true    | null     | true
+        'yes'   | 'query'  | true
+        'off'   | 'switch' | false
+    }
+
+    void "Invalid boolean literal '#literal' can not be converted to boolean"() {
+        setup:
+        BooleanPropertyEditor editor = new BooleanPropertyEditor()
+        editor.format = format
+
+        when:
+        editor.convertToBoolean(literal)
+
+        then:
+        thrown(ValueConversionException)
+
+        where:
+        literal | format
+        ''      | null
+        1       | null
+        'maybe' | 'query'
+    }
 }
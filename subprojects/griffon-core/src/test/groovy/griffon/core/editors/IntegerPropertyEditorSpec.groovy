@@ -69,4 +69,32 @@ class IntegerPropertyEditorSpec extends PropertyEditorSpecSupport {
             new Object()
         ]
     }
+
+    void "Integer literal '#literal' with format '#format' converts to int #value"() {
+        setup:
+        IntegerPropertyEditor editor = new IntegerPropertyEditor()
+        editor.format = format
+
+        expect:
+        value == editor.convertToInt(literal)
+
+        where:
+        literal | format     | value
+        '1'     | null       | 1
+        '100%'  | 'percent'  | 1
+        '$1.00' | 'currency' | 1
+        1       | null       | 1
+        1.5d    | null       | 1
+    }
+
+    void "Invalid integer literal '#literal' can not be converted to int"() {
+        when:
+        new IntegerPropertyEditor().convertToInt(literal)
+
+        then:
+        thrown(ValueConversionException)
+
+        where:
+        literal << ['', 'garbage', [1, 2, 3], new Object()]
+    }
 }
@@ -21,6 +21,9 @@ import spock.lang.Specification
 import spock.lang.Unroll
 
 import java.beans.PropertyEditor
+import java.util.concurrent.Callable
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
 
 @Unroll
 class PropertyEditorResolverSpec extends Specification {
@@ -126,6 +129,96 @@ class PropertyEditorResolverSpec extends Specification {
         !(editor instanceof APropertyEditor)
     }
 
+    void "Converters are cached per source type, target type and format"() {
+        given:
+        PropertyEditorResolver.clear()
+        PropertyEditorResolver.registerEditor(Integer, IntegerPropertyEditor)
+
+        when:
+        Converter<String, Integer> converter = PropertyEditorResolver.findConverter(String, Integer)
+
+        then:
+        converter.is(PropertyEditorResolver.findConverter(String, Integer))
+        converter.is(PropertyEditorResolver.findConverter(String, Integer, ''))
+        !converter.is(PropertyEditorResolver.findConverter(Object, Integer))
+        !converter.is(PropertyEditorResolver.findConverter(String, Integer, 'currency'))
+        converter.convert('42') == 42
+        converter.convert(null) == null
+    }
+
+    void "Converters apply their format"() {
+        given:
+        PropertyEditorResolver.clear()
+        PropertyEditorResolver.registerEditor(Integer, IntegerPropertyEditor)
+
+        when:
+        Converter<String, Integer> converter = PropertyEditorResolver.findConverter(String, Integer, 'percent')
+
+        then:
+        converter.format == 'percent'
+        converter.convert('4200%') == 42
+    }
+
+    void "Converters are discarded when editors are registered"() {
+        given:
+        PropertyEditorResolver.clear()
+        Converter<Object, Object> converter = PropertyEditorResolver.findConverter(Object, Object)
+
+        expect:
+        converter.convert(1) == 1
+
+        when:
+        APropertyEditor.called = 0
+        PropertyEditorResolver.registerEditor(Object, APropertyEditor)
+        Converter<Object, Object> other = PropertyEditorResolver.findConverter(Object, Object)
+
+        then:
+        !converter.is(other)
+        other.convert('Groovy') == 'Groovy'
+        APropertyEditor.called == 1
+
+        when:
+        PropertyEditorResolver.unregisterEditor(Object)
+
+        then:
+        !other.is(PropertyEditorResolver.findConverter(Object, Object))
+    }
+
+    void "Converters may be shared across threads"() {
+        given:
+        PropertyEditorResolver.clear()
+        PropertyEditorResolver.registerEditor(Integer, IntegerPropertyEditor)
+        Converter<String, Integer> converter = PropertyEditorResolver.findConverter(String, Integer)
+        ExecutorService executor = Executors.newFixedThreadPool(4)
+
+        when:
+        List<Integer> results = executor.invokeAll((0..<200).collect { int i ->
+            ({ -> converter.convert(String.valueOf(i)) } as Callable<Integer>)
+        })*.get()
+
+        then:
+        results == (0..<200).toList()
+
+        cleanup:
+        executor.shutdownNow()
+    }
+
+    void "Reentrant conversions do not clobber the thread's editor"() {
+        given:
+        PropertyEditorResolver.clear()
+        PropertyEditorResolver.registerEditor(Integer, IntegerPropertyEditor)
+        PropertyEditorResolver.registerEditor(Object, ReentrantPropertyEditor)
+
+        when:
+        Object value = PropertyEditorResolver.findConverter(String, Object).convert('outer')
+
+        then:
+        value == 'outer'
+
+        cleanup:
+        PropertyEditorResolver.clear()
+    }
+
     static class APropertyEditor extends AbstractPropertyEditor {
         static int called = 0
 
@@ -153,4 +246,14 @@ class PropertyEditorResolverSpec extends Specification {
             }
         }
     }
+
+    static class ReentrantPropertyEditor extends AbstractPropertyEditor {
+        @Override
+        protected void setValueInternal(Object value) {
+            if (value == 'outer') {
+                assert PropertyEditorResolver.findConverter(String, Object).convert('inner') == 'inner'
+            }
+            super.setValueInternal(value)
+        }
+    }
 }
@@ -0,0 +1,154 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package griffon.core.formatters
+
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.util.concurrent.Callable
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+
+@Unroll
+class FormatterRegistrySpec extends Specification {
+    void cleanup() {
+        FormatterRegistry.reset()
+    }
+
+    void "Formatter for #type with pattern '#pattern' is a cached #formatterClass"() {
+        when:
+        Formatter formatter = FormatterRegistry.findFormatter(type, pattern)
+
+        then:
+        formatterClass.isInstance(formatter)
+        formatter.is(FormatterRegistry.findFormatter(type, pattern))
+
+        where:
+        type       | pattern      | formatterClass
+        Integer    | null         | IntegerFormatter
+        Integer    | 'percent'    | IntegerFormatter
+        Long       | 'currency'   | LongFormatter
+        Double     | '#.00'       | DoubleFormatter
+        BigDecimal | null         | BigDecimalFormatter
+        Boolean    | 'query'      | BooleanFormatter
+        Date       | 'yyyy-MM-dd' | DateFormatter
+        Calendar   | 'yyyy-MM-dd' | CalendarFormatter
+        Locale     | null         | LocaleFormatter
+    }
+
+    void "Formatters are cached per pattern and locale"() {
+        when:
+        Formatter<Double> formatter = FormatterRegistry.findFormatter(Double, '#,##0.00', Locale.US)
+
+        then:
+        formatter.is(FormatterRegistry.findFormatter(Double, '#,##0.00', Locale.US))
+        !formatter.is(FormatterRegistry.findFormatter(Double, '#,##0.00', Locale.GERMANY))
+        !formatter.is(FormatterRegistry.findFormatter(Double, '#,##0.0', Locale.US))
+        formatter.format(1234.5d) == '1,234.50'
+        FormatterRegistry.findFormatter(Double, '#,##0.00', Locale.GERMANY).format(1234.5d) == '1.234,50'
+    }
+
+    void "Unknown types resolve to null unless a default factory is supplied"() {
+        given:
+        FormatterRegistry.FormatterFactory<StringBuilder> factory = new SampleFormatterFactory()
+
+        expect:
+        FormatterRegistry.findFormatter(StringBuilder, null) == null
+        FormatterRegistry.findFormatter(StringBuilder, 'upper', factory) instanceof SampleFormatter
+        FormatterRegistry.findFormatter(StringBuilder, 'upper', factory).is(FormatterRegistry.findFormatter(StringBuilder, 'upper', factory))
+    }
+
+    void "Registering a factory discards cached formatters"() {
+        given:
+        Formatter<Integer> formatter = FormatterRegistry.findFormatter(Integer, null)
+        FormatterRegistry.FormatterFactory<Integer> factory = Mock(FormatterRegistry.FormatterFactory)
+        Formatter<Integer> replacement = new IntegerFormatter()
+
+        when:
+        FormatterRegistry.registerFormatter(Integer, factory)
+        Formatter<Integer> other = FormatterRegistry.findFormatter(Integer, null)
+
+        then:
+        1 * factory.create(null, _ as Locale) >> replacement
+        other.is(replacement)
+        !other.is(formatter)
+
+        when:
+        FormatterRegistry.unregisterFormatter(Integer)
+
+        then:
+        FormatterRegistry.findFormatter(Integer, null) == null
+
+        when:
+        FormatterRegistry.reset()
+
+        then:
+        FormatterRegistry.findFormatter(Integer, null) instanceof IntegerFormatter
+    }
+
+    void "Invalid patterns are not cached"() {
+        when:
+        FormatterRegistry.findFormatter(Boolean, 'garbage')
+
+        then:
+        thrown(IllegalArgumentException)
+
+        when:
+        FormatterRegistry.findFormatter(Boolean, 'garbage')
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+
+    void "Cached formatters may be shared across threads"() {
+        given:
+        Formatter<Date> formatter = FormatterRegistry.findFormatter(Date, 'yyyy-MM-dd HH:mm:ss')
+        List<String> literals = (0..<200).collect { int i -> String.format('2018-%02d-%02d 10:%02d:00', i % 12 + 1, i % 28 + 1, i % 60) }
+        ExecutorService executor = Executors.newFixedThreadPool(4)
+
+        when:
+        List<String> results = executor.invokeAll(literals.collect { String literal ->
+            ({ -> formatter.format(formatter.parse(literal)) } as Callable<String>)
+        })*.get()
+
+        then:
+        results == literals
+
+        cleanup:
+        executor.shutdownNow()
+    }
+
+    static class SampleFormatter extends AbstractFormatter<StringBuilder> {
+        @Override
+        String format(StringBuilder obj) {
+            obj?.toString()
+        }
+
+        @Override
+        StringBuilder parse(String str) throws ParseException {
+            str != null ? new StringBuilder(str) : null
+        }
+    }
+
+    static class SampleFormatterFactory implements FormatterRegistry.FormatterFactory<StringBuilder> {
+        @Override
+        Formatter<StringBuilder> create(String pattern, Locale locale) {
+            new SampleFormatter()
+        }
+    }
+}
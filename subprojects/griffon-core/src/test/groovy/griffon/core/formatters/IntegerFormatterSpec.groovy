@@ -90,4 +90,29 @@ class IntegerFormatterSpec extends FormatterSpecSupport {
         where:
         pattern << [';garbage*@%&']
     }
+
+    void "Literal '#literal' with pattern '#pattern' parses as int #value"() {
+        given:
+        IntegerFormatter formatter = new IntegerFormatter(pattern)
+
+        expect:
+        value == formatter.parseAsInt(literal)
+
+        where:
+        pattern          | literal   | value
+        null             | '100'     | 100
+        PATTERN_CURRENCY | '$100.00' | 100
+        PATTERN_PERCENT  | '100%'    | 1
+    }
+
+    void "Blank literal '#literal' can not be parsed as int"() {
+        when:
+        new IntegerFormatter().parseAsInt(literal)
+
+        then:
+        thrown(ParseException)
+
+        where:
+        literal << ['', ' ']
+    }
 }
@@ -72,6 +72,27 @@ class ConfigUtilsSpec extends Specification {
         expandableResourceBundle | 'key'        | [string: 'string', number: 'number']
     }
 
+    def 'Calling getConfigValueAsInt() with #key gives #value'() {
+        given:
+        Map<String, Object> config = [
+            'int.number': 42,
+            'int.string': '21',
+            'int.null'  : null,
+            nested      : [int: '7']
+        ]
+
+        expect:
+        value == ConfigUtils.getConfigValueAsInt(config, key, -1)
+
+        where:
+        key          | value
+        'int.number' | 42
+        'int.string' | 21
+        'int.null'   | -1
+        'nested.int' | 7
+        'missing'    | -1
+    }
+
 
     def 'Calling isValueDefined() on #source.getClass() with #key gives #value'() {
         expect:
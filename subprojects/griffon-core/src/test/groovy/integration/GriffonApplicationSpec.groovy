@@ -19,6 +19,7 @@ package integration
 
 import griffon.core.ApplicationBootstrapper
 import griffon.core.ApplicationEvent
+import griffon.core.ExecutorServiceManager
 import griffon.core.GriffonApplication
 import griffon.core.LifecycleHandler
 import griffon.core.ShutdownHandler
@@ -35,17 +36,20 @@ import griffon.core.controller.ActionHandler
 import griffon.core.controller.ActionManager
 import griffon.core.env.ApplicationPhase
 import griffon.core.env.Lifecycle
+import griffon.core.event.EventRouter
 import griffon.core.mvc.MVCFunction
 import griffon.core.mvc.MVCGroup
 import griffon.exceptions.InstanceNotFoundException
 import griffon.exceptions.NewInstanceException
 import org.codehaus.griffon.runtime.core.DefaultApplicationBootstrapper
+import org.codehaus.griffon.runtime.core.event.AbstractEventRouter
 import spock.lang.Shared
 import spock.lang.Specification
 import spock.lang.Stepwise
 
 import javax.annotation.Nonnull
 import javax.annotation.Nullable
+import java.util.concurrent.ExecutorService
 
 import static griffon.util.AnnotationUtils.named
 import static griffon.util.AnnotationUtils.typed
@@ -100,6 +104,18 @@ class GriffonApplicationSpec extends Specification {
         ApplicationPhase.MAIN == application.phase
     }
 
+    def 'Only the lanes of the application event router are managed'() {
+        given:
+        Collection<ExecutorService> executorServices = application.injector.getInstance(ExecutorServiceManager).executorServices
+        AbstractEventRouter applicationEventRouter = (AbstractEventRouter) application.eventRouter
+        AbstractEventRouter groupEventRouter = (AbstractEventRouter) application.injector.getInstance(EventRouter)
+
+        expect:
+        applicationEventRouter.asyncEventDispatcher.lanes
+        executorServices.containsAll(applicationEventRouter.asyncEventDispatcher.lanes)
+        !groupEventRouter.asyncEventDispatcher.lanes.any { executorServices.contains(it) }
+    }
+
     def 'Check artifact controller'() {
         given:
         GriffonControllerClass controllerClass = application.artifactManager.findGriffonClass(IntegrationController)
@@ -21,12 +21,19 @@ import griffon.core.ApplicationBootstrapper
 import griffon.core.GriffonApplication
 import griffon.core.env.ApplicationPhase
 import griffon.core.mvc.MVCGroup
+import griffon.core.threading.TaskScope
 import griffon.exceptions.MVCGroupInstantiationException
 import org.codehaus.griffon.runtime.core.DefaultApplicationBootstrapper
+import org.codehaus.griffon.runtime.core.injection.InjectionUnitOfWork
 import spock.lang.Shared
 import spock.lang.Specification
 import spock.lang.Stepwise
 
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Future
+import java.util.concurrent.RejectedExecutionException
+import java.util.concurrent.TimeUnit
+
 @Stepwise
 class MVCGroupSpec extends Specification {
     @Shared
@@ -325,6 +332,34 @@ class MVCGroupSpec extends Specification {
         !controller.value
     }
 
+    def 'Destroying an MVCGroup cancels its outstanding tasks'() {
+        given:
+        MVCGroup root = application.mvcGroupManager.createMVCGroup('root')
+        CountDownLatch started = new CountDownLatch(1)
+        TaskScope taskScope = root.taskScope
+
+        when:
+        Future<?> future = taskScope.submit({
+            started.countDown()
+            Thread.sleep(60000)
+        } as Runnable)
+        started.await(5, TimeUnit.SECONDS)
+        root.destroy()
+
+        then:
+        future.cancelled
+        taskScope.cancelled
+        taskScope.awaitTermination(5, TimeUnit.SECONDS)
+        taskScope.activeTaskCount == 0
+        taskScope.cancelledTaskCount == 1
+
+        when:
+        taskScope.submit({} as Runnable)
+
+        then:
+        thrown(RejectedExecutionException)
+    }
+
     def 'Creating an MVCGroup through a group does set implicit parent group (typed mvcgroup)'() {
         given:
         List checks = []
@@ -641,4 +676,19 @@ class MVCGroupSpec extends Specification {
         and:
         root.destroy()
     }
-}
\ No newline at end of file
+
+    def 'Event publishing is restored when the injection unit of work can not be started'() {
+        given:
+        InjectionUnitOfWork.start()
+
+        when:
+        application.mvcGroupManager.createMVCGroup('simple')
+
+        then:
+        thrown(MVCGroupInstantiationException)
+        application.eventRouter.eventPublishingEnabled
+
+        cleanup:
+        InjectionUnitOfWork.finish()
+    }
+}
@@ -28,6 +28,7 @@ import griffon.core.threading.ThreadingHandler
 import griffon.core.threading.UIThreadManager
 import griffon.util.AnnotationUtils
 import org.codehaus.griffon.runtime.core.threading.DefaultExecutorServiceProvider
+import org.codehaus.griffon.runtime.core.threading.ExecutorServiceStrategy
 import org.codehaus.griffon.runtime.core.threading.UIThreadManagerTestSupport
 import org.junit.Rule
 import spock.lang.Specification
@@ -141,6 +142,7 @@ class AbstractLifecycleHandlerSpec extends Specification {
             bind(ThreadingHandler).to(TestThreadingHandler).in(Singleton)
             bind(LifecycleHandler).to(TestLifecycleHandler).in(Singleton)
             bind(ExceptionHandler).toProvider(ExceptionHandlerProvider).in(Singleton)
+            bind(ExecutorServiceStrategy).toInstance(ExecutorServiceStrategy.FIXED)
             bind(ExecutorService).annotatedWith(AnnotationUtils.named('defaultExecutorService')).toProvider(DefaultExecutorServiceProvider).in(Singleton)
             bind(GriffonApplication).to(TestGriffonApplication).in(Singleton)
         }
@@ -26,6 +26,7 @@ import griffon.core.threading.ThreadingHandler
 import griffon.core.threading.UIThreadManager
 import griffon.util.AnnotationUtils
 import org.codehaus.griffon.runtime.core.threading.DefaultExecutorServiceProvider
+import org.codehaus.griffon.runtime.core.threading.ExecutorServiceStrategy
 import org.codehaus.griffon.runtime.core.threading.UIThreadManagerTestSupport
 import org.junit.Rule
 import spock.lang.Specification
@@ -137,6 +138,7 @@ class AbstractUIThreadHandlerSpec extends Specification {
             bind(UIThreadManager).to(UIThreadManagerTestSupport).in(Singleton)
             bind(ThreadingHandler).to(TestThreadingHandler).in(Singleton)
             bind(ExceptionHandler).toProvider(ExceptionHandlerProvider).in(Singleton)
+            bind(ExecutorServiceStrategy).toInstance(ExecutorServiceStrategy.FIXED)
             bind(ExecutorService).annotatedWith(AnnotationUtils.named('defaultExecutorService')).toProvider(DefaultExecutorServiceProvider).in(Singleton)
         }
     }
@@ -22,12 +22,21 @@ import com.google.guiceberry.junit4.GuiceBerryRule
 import com.google.inject.AbstractModule
 import com.google.inject.Inject
 import griffon.core.ExecutorServiceManager
+import griffon.core.ExecutorServiceStatistics
+import org.codehaus.griffon.runtime.core.threading.InstrumentedExecutorService
+import org.codehaus.griffon.runtime.core.threading.InstrumentedThreadPoolExecutor
 import org.junit.Rule
 import spock.lang.Specification
 import spock.lang.Unroll
 
+import javax.management.ObjectName
+import java.lang.management.ManagementFactory
+import java.util.concurrent.CountDownLatch
 import java.util.concurrent.ExecutorService
 import java.util.concurrent.Executors
+import java.util.concurrent.ForkJoinPool
+import java.util.concurrent.LinkedBlockingQueue
+import java.util.concurrent.TimeUnit
 
 @Unroll
 class ExecutorServiceManagerSpec extends Specification {
@@ -61,6 +70,117 @@ class ExecutorServiceManagerSpec extends Specification {
         s3.shutdown
     }
 
+    def 'Statistics report the state of managed executor services'() {
+        given:
+        CountDownLatch release = new CountDownLatch(1)
+        InstrumentedThreadPoolExecutor executor = new InstrumentedThreadPoolExecutor('stats-pool', 1, 1, 0L, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<Runnable>(), Executors.defaultThreadFactory())
+        executorServiceManager.add(executor)
+
+        when:
+        executor.submit({ release.await() } as Runnable)
+        executor.submit({} as Runnable)
+        while (executor.activeCount == 0) { Thread.sleep(1) }
+        ExecutorServiceStatistics statistics = executorServiceManager.statistics.find { it.name == 'stats-pool' }
+
+        then:
+        statistics.type == InstrumentedThreadPoolExecutor.name
+        statistics.maximumPoolSize == 1
+        statistics.activeCount == 1
+        statistics.queueDepth == 1
+        statistics.saturated
+        !statistics.shutdown
+
+        when:
+        release.countDown()
+        executor.shutdown()
+        executor.awaitTermination(5, TimeUnit.SECONDS)
+        statistics = executorServiceManager.statistics.find { it.name == 'stats-pool' }
+
+        then:
+        statistics.completedTaskCount == 2
+        statistics.rejectedTaskCount == 0
+        statistics.queueDepth == 0
+        !statistics.saturated
+        statistics.shutdown
+        statistics.maxRunTime >= statistics.averageRunTime
+
+        cleanup:
+        executorServiceManager.remove(executor)
+    }
+
+    def 'Managed executor services are registered as MXBeans'() {
+        given:
+        DefaultExecutorServiceManager manager = new DefaultExecutorServiceManager(true)
+        ExecutorService executor = Executors.newSingleThreadExecutor()
+        ObjectName query = new ObjectName('griffon:type=ExecutorService,*')
+        int before = ManagementFactory.platformMBeanServer.queryNames(query, null).size()
+
+        when:
+        manager.add(executor)
+
+        then:
+        ManagementFactory.platformMBeanServer.queryNames(query, null).size() == before + 1
+
+        when:
+        manager.remove(executor)
+
+        then:
+        ManagementFactory.platformMBeanServer.queryNames(query, null).size() == before
+
+        cleanup:
+        executor.shutdownNow()
+    }
+
+    def 'Executor services that do not measure their tasks are wrapped when added'() {
+        given:
+        ForkJoinPool pool = new ForkJoinPool(1)
+
+        when:
+        ExecutorService managed = executorServiceManager.add(pool)
+        managed.submit({ Thread.sleep(10) } as Runnable).get(5, TimeUnit.SECONDS)
+        ExecutorServiceStatistics statistics = executorServiceManager.statistics.find { it.name == 'ForkJoinPool' }
+
+        then:
+        managed instanceof InstrumentedExecutorService
+        executorServiceManager.add(pool).is(managed)
+        executorServiceManager.add(managed).is(managed)
+        statistics.type == ForkJoinPool.name
+        statistics.maximumPoolSize == 1
+        statistics.completedTaskCount == 1
+        statistics.queueDepth == 0
+        statistics.activeCount == 0
+        statistics.maxRunTime >= TimeUnit.MILLISECONDS.toNanos(10)
+        statistics.maxWaitTime >= 0
+
+        when:
+        executorServiceManager.remove(pool)
+
+        then:
+        !executorServiceManager.executorServices.contains(managed)
+
+        cleanup:
+        pool.shutdownNow()
+    }
+
+    def 'Managed executor services are not registered as MXBeans by default'() {
+        given:
+        DefaultExecutorServiceManager manager = new DefaultExecutorServiceManager()
+        ExecutorService executor = Executors.newSingleThreadExecutor()
+        ObjectName query = new ObjectName('griffon:type=ExecutorService,*')
+        int before = ManagementFactory.platformMBeanServer.queryNames(query, null).size()
+
+        when:
+        manager.add(executor)
+
+        then:
+        ManagementFactory.platformMBeanServer.queryNames(query, null).size() == before
+
+        cleanup:
+        manager.remove(executor)
+        executor.shutdownNow()
+    }
+
     static final class TestModule extends AbstractModule {
         @Override
         protected void configure() {
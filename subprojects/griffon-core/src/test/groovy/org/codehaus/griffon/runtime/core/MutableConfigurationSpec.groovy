@@ -23,6 +23,9 @@ import com.google.inject.AbstractModule
 import com.google.inject.Inject
 import griffon.core.Configuration
 import griffon.core.MutableConfiguration
+import griffon.core.ObservableConfiguration
+import griffon.core.ObservableConfiguration.ConfigurationChangeEvent
+import griffon.core.ObservableConfiguration.ConfigurationChangeListener
 import griffon.core.editors.IntegerPropertyEditor
 import griffon.core.editors.PropertyEditorResolver
 import org.codehaus.griffon.runtime.core.configuration.ConfigurationDecoratorFactory
@@ -353,6 +356,122 @@ class MutableConfigurationSpec extends Specification {
         'key.foo'            || _
     }
 
+    def 'Setting and removing keys increments the version'() {
+        given:
+        assert configuration instanceof ObservableConfiguration
+        long version = configuration.version
+
+        when:
+        configuration.set('key.foo', 'foo')
+
+        then:
+        configuration.version == version + 1
+
+        when:
+        configuration.set('key.foo', 'foo')
+
+        then:
+        configuration.version == version + 1
+
+        when:
+        configuration.remove('key.foo')
+        configuration.remove('key.foo')
+
+        then:
+        configuration.version == version + 2
+    }
+
+    def 'Flat map snapshots are not affected by later changes'() {
+        given:
+        assert configuration instanceof ObservableConfiguration
+        Map<String, Object> before = configuration.asFlatMap()
+
+        when:
+        configuration.set('key.foo', 'foo')
+        configuration.remove('key.string')
+
+        then:
+        before.containsKey('key.string')
+        !before.containsKey('key.foo')
+        configuration.asFlatMap().containsKey('key.foo')
+        !configuration.asFlatMap().containsKey('key.string')
+
+        when:
+        configuration.set('key.string', 'again')
+
+        then:
+        configuration.asFlatMap().get('key.string') == 'again'
+    }
+
+    def 'Listeners are notified of changes to keys matching their prefix'() {
+        given:
+        assert configuration instanceof ObservableConfiguration
+        List<ConfigurationChangeEvent> all = []
+        List<ConfigurationChangeEvent> prefixed = []
+        ConfigurationChangeListener allListener = { ConfigurationChangeEvent e -> all << e } as ConfigurationChangeListener
+        ConfigurationChangeListener prefixedListener = { ConfigurationChangeEvent e -> prefixed << e } as ConfigurationChangeListener
+        configuration.addConfigurationChangeListener(allListener)
+        configuration.addConfigurationChangeListener('key.int', prefixedListener)
+
+        when:
+        configuration.set('key.int.type', 21)
+        configuration.set('key.foo', 'foo')
+        configuration.set('key', [int: [type: 7]])
+        configuration.remove('key.int.type')
+
+        then:
+        all*.key == ['key.int.type', 'key.foo', 'key', 'key.int.type']
+        all*.type == [ConfigurationChangeEvent.Type.UPDATE, ConfigurationChangeEvent.Type.ADD, ConfigurationChangeEvent.Type.ADD, ConfigurationChangeEvent.Type.REMOVE]
+        all*.version == (1..4).collect { all[0].version + it - 1 }
+        all[0].oldValue == 42
+        all[0].newValue == 21
+        all[3].oldValue == 21
+        prefixed*.key == ['key.int.type', 'key', 'key.int.type']
+        configuration.configurationChangeListeners.length == 2
+
+        when:
+        configuration.removeConfigurationChangeListener(allListener)
+        configuration.removeConfigurationChangeListener(prefixedListener)
+        configuration.set('key.int.type', 1)
+
+        then:
+        all.size() == 4
+        prefixed.size() == 3
+        configuration.configurationChangeListeners.length == 0
+    }
+
+    def 'Listeners receive events in version order'() {
+        given:
+        List<Long> versions = Collections.synchronizedList([])
+        ConfigurationChangeListener listener = { ConfigurationChangeEvent e ->
+            versions << e.version
+            if (e.key == 'order.trigger') {
+                // a change made from within a listener is delivered after the current event
+                configuration.set('order.nested', e.version)
+            }
+        } as ConfigurationChangeListener
+        configuration.addConfigurationChangeListener('order', listener)
+        long start = configuration.version
+
+        when:
+        List<Thread> threads = (1..4).collect { int t ->
+            Thread.start {
+                50.times { int i -> configuration.set("order.key${t}" as String, i) }
+            }
+        }
+        threads*.join()
+        configuration.set('order.trigger', true)
+
+        then:
+        versions == versions.sort(false)
+        versions.size() == 202
+        versions.last() == start + 202
+        configuration.get('order.nested') == start + 201
+
+        cleanup:
+        configuration.removeConfigurationChangeListener(listener)
+    }
+
     static final class TestModule extends AbstractModule {
         @Override
         protected void configure() {
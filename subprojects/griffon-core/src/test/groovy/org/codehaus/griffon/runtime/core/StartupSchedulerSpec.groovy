@@ -0,0 +1,121 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.core
+
+import griffon.inject.DependsOn
+import spock.lang.Specification
+
+import javax.annotation.Nonnull
+import java.util.concurrent.CopyOnWriteArrayList
+
+class StartupSchedulerSpec extends Specification {
+    private static final Map<String, Object> NODES = [
+        alpha: new Alpha(), beta: new Beta(), gamma: new Gamma(), delta: new Delta()
+    ]
+
+    void 'Nodes run in order on the calling thread by default'() {
+        given:
+        StartupScheduler scheduler = new StartupScheduler(false, 4)
+        List<String> executed = []
+        Set<Thread> threads = []
+
+        when:
+        StartupScheduler.Report report = scheduler.schedule('node', NODES, new StartupScheduler.Task<Object>() {
+            @Override
+            void execute(@Nonnull String name, @Nonnull Object node) {
+                executed << name
+                threads << Thread.currentThread()
+                Thread.sleep(node.delay)
+            }
+        })
+
+        then:
+        executed == ['alpha', 'beta', 'gamma', 'delta']
+        threads == [Thread.currentThread()] as Set
+        report.criticalPath == ['alpha', 'beta', 'delta']
+        report.criticalPathTime >= report.durations.alpha + report.durations.beta + report.durations.delta
+        report.totalTime >= report.totalWork
+    }
+
+    void 'Independent nodes run in parallel once their dependencies have completed'() {
+        given:
+        StartupScheduler scheduler = new StartupScheduler(true, 4)
+        List<String> started = new CopyOnWriteArrayList<>()
+        List<String> finished = new CopyOnWriteArrayList<>()
+
+        when:
+        StartupScheduler.Report report = scheduler.schedule('node', NODES, new StartupScheduler.Task<Object>() {
+            @Override
+            void execute(@Nonnull String name, @Nonnull Object node) {
+                started << name
+                Thread.sleep(node.delay)
+                finished << name
+            }
+        })
+
+        then:
+        finished.size() == 4
+        started.indexOf('beta') > finished.indexOf('alpha')
+        started.indexOf('delta') > finished.indexOf('beta')
+        started.indexOf('delta') > finished.indexOf('gamma')
+        report.startTimes.gamma < report.startTimes.alpha + report.durations.alpha
+        report.criticalPath == ['alpha', 'beta', 'delta']
+        report.totalTime < report.totalWork
+    }
+
+    void 'Failures are rethrown and dependent nodes are skipped'() {
+        given:
+        StartupScheduler scheduler = new StartupScheduler(parallel, 4)
+        List<String> executed = new CopyOnWriteArrayList<>()
+
+        when:
+        scheduler.schedule('node', [alpha: new Alpha(), beta: new Beta()], new StartupScheduler.Task<Object>() {
+            @Override
+            void execute(@Nonnull String name, @Nonnull Object node) {
+                executed << name
+                throw new IllegalArgumentException(name)
+            }
+        })
+
+        then:
+        IllegalArgumentException e = thrown()
+        e.message == 'alpha'
+        executed == ['alpha']
+
+        where:
+        parallel << [false, true]
+    }
+
+    static class Alpha {
+        long delay = 150
+    }
+
+    @DependsOn('alpha')
+    static class Beta {
+        long delay = 100
+    }
+
+    static class Gamma {
+        long delay = 150
+    }
+
+    @DependsOn(['beta', 'gamma'])
+    static class Delta {
+        long delay = 50
+    }
+}
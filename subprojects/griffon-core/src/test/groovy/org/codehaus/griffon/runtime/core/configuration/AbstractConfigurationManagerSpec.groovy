@@ -0,0 +1,84 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.core.configuration
+
+import griffon.core.Configuration
+import griffon.core.editors.PropertyEditorResolver
+import spock.lang.Specification
+
+import javax.annotation.Nonnull
+import javax.annotation.Nullable
+import java.beans.PropertyEditor
+import java.beans.PropertyEditorSupport
+
+class AbstractConfigurationManagerSpec extends Specification {
+    def 'Managers overriding the deprecated harvestDescriptors overload are still invoked'() {
+        given:
+        LegacyConfigurationManager manager = new LegacyConfigurationManager()
+        Object instance = new Object()
+
+        when:
+        manager.injectConfiguration(instance)
+
+        then:
+        manager.instances == [instance]
+    }
+
+    def 'Managers overriding resolvePropertyEditor are still consulted'() {
+        given:
+        LegacyConfigurationManager manager = new LegacyConfigurationManager()
+
+        expect:
+        manager.convertValue(Integer, '41', null, PropertyEditorResolver.NoopPropertyEditor) == 42
+    }
+
+    private static class LegacyConfigurationManager extends AbstractConfigurationManager {
+        final List<Object> instances = []
+
+        @Override
+        protected void harvestDescriptors(@Nonnull Class<?> instanceClass, @Nonnull Class<?> currentClass, @Nonnull Object instance, @Nonnull Map<String, ConfigurationDescriptor> descriptors) {
+            if (currentClass == instanceClass) {
+                instances << instance
+            }
+            super.harvestDescriptors(instanceClass, currentClass, instance, descriptors)
+        }
+
+        @Nonnull
+        @Override
+        protected PropertyEditor resolvePropertyEditor(@Nonnull Class<?> type, @Nullable String format, @Nonnull Class<? extends PropertyEditor> editor) {
+            new PropertyEditorSupport() {
+                @Override
+                void setAsText(String text) {
+                    setValue(Integer.parseInt(text) + 1)
+                }
+            }
+        }
+
+        @Nonnull
+        @Override
+        Configuration getConfiguration() {
+            throw new UnsupportedOperationException()
+        }
+
+        @Nonnull
+        @Override
+        Configuration getConfiguration(@Nonnull String name) {
+            throw new UnsupportedOperationException()
+        }
+    }
+}
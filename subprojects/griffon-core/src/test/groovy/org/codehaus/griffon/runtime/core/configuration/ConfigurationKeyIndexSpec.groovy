@@ -0,0 +1,127 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.core.configuration
+
+import griffon.util.AbstractMapResourceBundle
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import javax.annotation.Nonnull
+
+import static org.codehaus.griffon.runtime.core.configuration.ConfigurationKeyIndex.MISSING
+
+@Unroll
+class ConfigurationKeyIndexSpec extends Specification {
+    private static final Map<String, Object> CONFIG = [
+        'key.string'  : 'string',
+        'top'         : [nested: [deep: 'value', 'dotted.key': 'unreachable'], empty: null],
+        'top.override': 'exact',
+        'top.nested'  : null,
+        'nil'         : null
+    ]
+
+    def 'Resolving key #key from a map index returns #expected'() {
+        given:
+        ConfigurationKeyIndex index = ConfigurationKeyIndex.of(CONFIG)
+
+        expect:
+        expected == index.get(key)
+        expected == ConfigurationKeyIndex.lookup(CONFIG, key)
+
+        where:
+        key                          || expected
+        'key.string'                 || 'string'
+        'top.override'               || 'exact'
+        'top.nested'                 || null
+        'nil'                        || null
+        'top.nested.deep'            || 'value'
+        'top.empty'                  || MISSING
+        'top.nested.dotted.key'      || MISSING
+        'top.nested.deep.deeper'     || MISSING
+        'missing'                    || MISSING
+        'missing.key'                || MISSING
+    }
+
+    def 'Resolving key #key from a resource bundle index returns #expected'() {
+        given:
+        ConfigurationKeyIndex index = ConfigurationKeyIndex.of(new ConfigResourceBundle())
+
+        expect:
+        expected == index.get(key)
+
+        where:
+        key               || expected
+        'key.string'      || 'string'
+        'top.override'    || 'exact'
+        'top.nested.deep' || 'value'
+        'top.empty'       || MISSING
+        'missing'         || MISSING
+    }
+
+    def 'Index holds every flattened key'() {
+        given:
+        Map<String, Object> map = [:]
+        1000.times { map['key' + it] = [value: it] }
+
+        when:
+        ConfigurationKeyIndex index = ConfigurationKeyIndex.of(map)
+
+        then:
+        index.size() == 2000
+        (0..<1000).every { index.get('key' + it + '.value') == it }
+        !index.containsKey('key1000.value')
+    }
+
+    def 'Cyclic maps are flattened without recursing forever'() {
+        given:
+        Map<String, Object> node = [value: 'v']
+        node.self = node
+
+        when:
+        ConfigurationKeyIndex index = ConfigurationKeyIndex.of([root: node])
+
+        then:
+        index.get('root.value') == 'v'
+        index.get('root.self') == node
+        index.get('root.self.value') == MISSING
+    }
+
+    def 'Map configurations keep serving the contents captured on first access'() {
+        given:
+        Map<String, Object> map = [key: 'value']
+        AbstractMapConfiguration configuration = new AbstractMapConfiguration(map) {}
+
+        when:
+        configuration.get('key')
+        map.key = 'changed'
+        map.other = 'added'
+
+        then:
+        configuration.get('key') == 'value'
+        configuration.asFlatMap() == [key: 'value']
+        !configuration.containsKey('other')
+        configuration.get('other') == null
+    }
+
+    private static class ConfigResourceBundle extends AbstractMapResourceBundle {
+        @Override
+        protected void initialize(@Nonnull Map<String, Object> entries) {
+            entries.putAll(CONFIG.findAll { it.value != null })
+        }
+    }
+}
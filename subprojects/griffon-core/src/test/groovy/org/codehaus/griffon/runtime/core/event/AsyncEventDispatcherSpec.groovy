@@ -0,0 +1,306 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.core.event
+
+import spock.lang.Specification
+import spock.lang.Timeout
+
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executor
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+
+import static org.codehaus.griffon.runtime.core.event.AsyncEventDispatcher.OverflowPolicy.BLOCK
+import static org.codehaus.griffon.runtime.core.event.AsyncEventDispatcher.OverflowPolicy.COALESCE
+import static org.codehaus.griffon.runtime.core.event.AsyncEventDispatcher.OverflowPolicy.DROP_NEWEST
+import static org.codehaus.griffon.runtime.core.event.AsyncEventDispatcher.OverflowPolicy.DROP_OLDEST
+
+class AsyncEventDispatcherSpec extends Specification {
+    private final DeferredExecutor executor = new DeferredExecutor()
+    private final List<String> executed = []
+    private final Thread.UncaughtExceptionHandler exceptionHandler = Mock(Thread.UncaughtExceptionHandler)
+
+    def 'Overflowing with DROP_NEWEST discards incoming publications'() {
+        given:
+        AsyncEventDispatcher dispatcher = new AsyncEventDispatcher(executor, exceptionHandler, 2, 1, DROP_NEWEST)
+
+        when:
+        boolean r1 = dispatcher.dispatch('A', task('a'))
+        boolean r2 = dispatcher.dispatch('B', task('b'))
+        boolean r3 = dispatcher.dispatch('C', task('c'))
+
+        then:
+        r1 && r2 && !r3
+        dispatcher.queueDepth == 2
+        dispatcher.droppedCount == 1
+
+        when:
+        executor.runAll()
+
+        then:
+        executed == ['a', 'b']
+        dispatcher.queueDepth == 0
+        dispatcher.dispatchedCount == 2
+    }
+
+    def 'Overflowing with DROP_OLDEST discards pending publications'() {
+        given:
+        AsyncEventDispatcher dispatcher = new AsyncEventDispatcher(executor, exceptionHandler, 2, 1, DROP_OLDEST)
+
+        when:
+        dispatcher.dispatch('A', task('a'))
+        dispatcher.dispatch('B', task('b'))
+        dispatcher.dispatch('C', task('c'))
+        executor.runAll()
+
+        then:
+        executed == ['b', 'c']
+        dispatcher.droppedCount == 1
+    }
+
+    def 'Overflowing with COALESCE replaces pending publications of the same event'() {
+        given:
+        AsyncEventDispatcher dispatcher = new AsyncEventDispatcher(executor, exceptionHandler, 2, 1, COALESCE)
+
+        when:
+        dispatcher.dispatch('A', task('a1'))
+        dispatcher.dispatch('B', task('b'))
+        boolean coalesced = dispatcher.dispatch('A', task('a2'))
+        boolean dropped = dispatcher.dispatch('C', task('c'))
+        executor.runAll()
+
+        then:
+        coalesced
+        !dropped
+        executed == ['a2', 'b']
+        dispatcher.coalescedCount == 1
+        dispatcher.droppedCount == 1
+    }
+
+    def 'Overflowing with BLOCK delivers all publications'() {
+        given:
+        ExecutorService executorService = Executors.newFixedThreadPool(2)
+        AsyncEventDispatcher dispatcher = new AsyncEventDispatcher(executorService, exceptionHandler, 1, 2, BLOCK)
+        CountDownLatch latch = new CountDownLatch(100)
+
+        when:
+        100.times {
+            dispatcher.dispatch('A', { latch.countDown() } as Runnable)
+        }
+
+        then:
+        latch.await(5, TimeUnit.SECONDS)
+        dispatcher.droppedCount == 0
+
+        cleanup:
+        executorService.shutdownNow()
+    }
+
+    def 'Publications made by a worker while full are executed in place with BLOCK'() {
+        given:
+        AsyncEventDispatcher dispatcher = new AsyncEventDispatcher(executor, exceptionHandler, 1, 1, BLOCK)
+
+        when:
+        dispatcher.dispatch('A', {
+            executed << 'a'
+            dispatcher.dispatch('B', task('b'))
+            dispatcher.dispatch('C', task('c'))
+        } as Runnable)
+        executor.runAll()
+
+        then:
+        executed == ['a', 'c', 'b']
+    }
+
+    @Timeout(10)
+    def 'Publications made by a worker onto another full lane are executed in place with BLOCK'() {
+        given:
+        // 'B' and 'A' are assigned to different lanes
+        AsyncEventDispatcher dispatcher = new AsyncEventDispatcher(executor, exceptionHandler, 2, 2, BLOCK, true)
+
+        when:
+        dispatcher.dispatch('B', {
+            executed << 'b'
+            dispatcher.dispatch('A', task('a1'))
+            dispatcher.dispatch('A', task('a2'))
+        } as Runnable)
+        executor.runAll()
+
+        then:
+        executed == ['b', 'a2', 'a1']
+    }
+
+    def 'Failures are sent to the exception handler'() {
+        given:
+        AsyncEventDispatcher dispatcher = new AsyncEventDispatcher(executor, exceptionHandler, 2, 1, BLOCK)
+
+        when:
+        dispatcher.dispatch('A', { throw new IllegalStateException() } as Runnable)
+        dispatcher.dispatch('B', task('b'))
+        executor.runAll()
+
+        then:
+        1 * exceptionHandler.uncaughtException(_, { it instanceof IllegalStateException })
+        executed == ['b']
+    }
+
+    def 'Ordered publications sharing a key are delivered in order'() {
+        given:
+        ExecutorService executorService = Executors.newFixedThreadPool(4)
+        AsyncEventDispatcher dispatcher = new AsyncEventDispatcher(executorService, exceptionHandler, 1024, 4, BLOCK, true)
+        Map<String, List<Integer>> received = [:].asSynchronized()
+        CountDownLatch latch = new CountDownLatch(400)
+        ['A', 'B', 'C', 'D'].each { received[it] = [].asSynchronized() }
+
+        when:
+        100.times { int i ->
+            ['A', 'B', 'C', 'D'].each { String key ->
+                dispatcher.dispatch(key, {
+                    received[key] << i
+                    latch.countDown()
+                } as Runnable)
+            }
+        }
+
+        then:
+        latch.await(5, TimeUnit.SECONDS)
+        dispatcher.ordered
+        dispatcher.lanes.size() == 4
+        received.values().every { it == (0..<100).toList() }
+
+        cleanup:
+        executorService.shutdownNow()
+    }
+
+    def 'Lanes record latency metrics'() {
+        given:
+        AsyncEventDispatcher dispatcher = new AsyncEventDispatcher(executor, exceptionHandler, 8, 2, BLOCK, true)
+
+        when:
+        dispatcher.dispatch('A', { Thread.sleep(10) } as Runnable)
+        dispatcher.dispatch('A', task('a'))
+        executor.runAll()
+        AsyncEventDispatcher.Lane lane = dispatcher.lanes.find { it.dispatchedCount }
+
+        then:
+        dispatcher.capacity == 8
+        lane.capacity == 4
+        lane.dispatchedCount == 2
+        lane.averageRunTime > 0
+        lane.maxLatency >= TimeUnit.MILLISECONDS.toNanos(10)
+    }
+
+    def 'Shutting down a lane discards further publications'() {
+        given:
+        AsyncEventDispatcher dispatcher = new AsyncEventDispatcher(executor, exceptionHandler, 8, 1, BLOCK)
+        AsyncEventDispatcher.Lane lane = dispatcher.lanes[0]
+
+        when:
+        dispatcher.dispatch('A', task('a'))
+        lane.shutdown()
+        boolean dispatched = dispatcher.dispatch('B', task('b'))
+
+        then:
+        !dispatched
+        lane.shutdown
+        !lane.terminated
+
+        when:
+        executor.runAll()
+
+        then:
+        executed == ['a']
+        lane.terminated
+        lane.awaitTermination(1, TimeUnit.SECONDS)
+    }
+
+    def 'Publishers blocked on a full lane are released when the lane shuts down'() {
+        given:
+        AsyncEventDispatcher dispatcher = new AsyncEventDispatcher(executor, exceptionHandler, 1, 1, BLOCK)
+        AsyncEventDispatcher.Lane lane = dispatcher.lanes[0]
+        boolean dispatched = true
+        dispatcher.dispatch('A', task('a'))
+        Thread publisher = Thread.start { dispatched = dispatcher.dispatch('B', task('b')) }
+
+        when:
+        while (publisher.state != Thread.State.WAITING) { Thread.sleep(1) }
+        lane.shutdown()
+        publisher.join(5000)
+        executor.runAll()
+
+        then:
+        !publisher.alive
+        !dispatched
+        executed == ['a']
+    }
+
+    def 'Discardable publications are notified when dropped'() {
+        given:
+        AsyncEventDispatcher dispatcher = new AsyncEventDispatcher(executor, exceptionHandler, 1, 1, DROP_OLDEST)
+        List<String> discarded = []
+
+        when:
+        dispatcher.dispatch('A', discardable('a', discarded))
+        dispatcher.dispatch('B', discardable('b', discarded))
+        dispatcher.lanes[0].shutdownNow()
+        executor.runAll()
+
+        then:
+        discarded == ['a', 'b']
+        executed == []
+    }
+
+    private Runnable discardable(String name, List<String> discarded) {
+        return new DiscardableTask(run: { executed << name }, discard: { discarded << name })
+    }
+
+    private static class DiscardableTask implements Runnable, AsyncEventDispatcher.Discardable {
+        Closure run
+        Closure discard
+
+        @Override
+        void run() {
+            run.call()
+        }
+
+        @Override
+        void discard() {
+            discard.call()
+        }
+    }
+
+    private Runnable task(String name) {
+        return { executed << name } as Runnable
+    }
+
+    private static class DeferredExecutor implements Executor {
+        private final List<Runnable> tasks = []
+
+        @Override
+        void execute(Runnable command) {
+            tasks << command
+        }
+
+        void runAll() {
+            while (tasks) {
+                tasks.remove(0).run()
+            }
+        }
+    }
+}
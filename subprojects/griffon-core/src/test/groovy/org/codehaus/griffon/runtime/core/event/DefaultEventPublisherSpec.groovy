@@ -32,6 +32,7 @@ import griffon.util.AnnotationUtils
 import org.codehaus.griffon.runtime.core.DefaultExecutorServiceManager
 import org.codehaus.griffon.runtime.core.ExceptionHandlerProvider
 import org.codehaus.griffon.runtime.core.threading.DefaultExecutorServiceProvider
+import org.codehaus.griffon.runtime.core.threading.ExecutorServiceStrategy
 import org.codehaus.griffon.runtime.core.threading.UIThreadManagerTestSupport
 import org.junit.Rule
 import spock.lang.Specification
@@ -768,6 +769,7 @@ class DefaultEventPublisherSpec extends Specification {
             bind(EventRouter).to(DefaultEventRouter)
             bind(EventPublisher).to(DefaultEventPublisher)
             bind(ExceptionHandler).toProvider(ExceptionHandlerProvider)
+            bind(ExecutorServiceStrategy).toInstance(ExecutorServiceStrategy.FIXED)
             bind(ExecutorService).annotatedWith(AnnotationUtils.named('defaultExecutorService')).toProvider(DefaultExecutorServiceProvider)
         }
     }
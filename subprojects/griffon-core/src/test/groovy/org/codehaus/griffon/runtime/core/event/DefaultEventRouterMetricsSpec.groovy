@@ -0,0 +1,92 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.core.event
+
+import org.codehaus.griffon.runtime.core.LatencyHistogram
+import spock.lang.Specification
+
+import java.util.concurrent.TimeUnit
+
+class DefaultEventRouterMetricsSpec extends Specification {
+    def 'Publications and fan-out are counted per event'() {
+        given:
+        DefaultEventRouterMetrics metrics = new DefaultEventRouterMetrics()
+
+        when:
+        metrics.eventPublished('Foo', 2)
+        metrics.eventPublished('Foo', 4)
+        metrics.eventPublished('Bar', 0)
+
+        then:
+        metrics.eventNames == ['Foo', 'Bar'] as Set
+        metrics.getEventStatistics('Foo').publications == 2
+        metrics.getEventStatistics('Foo').maxFanOut == 4
+        metrics.getEventStatistics('Foo').averageFanOut == 3d
+        metrics.getEventStatistics('Bar').publications == 1
+        metrics.getEventStatistics('Baz') == null
+    }
+
+    def 'Listener latencies are grouped by listener type and slow invocations are flagged'() {
+        given:
+        DefaultEventRouterMetrics metrics = new DefaultEventRouterMetrics(1, TimeUnit.MILLISECONDS)
+
+        when:
+        metrics.listenerInvoked('Foo', new Object(), 1000)
+        metrics.listenerInvoked('Foo', new Object(), 3000)
+        metrics.listenerInvoked('Foo', 'listener', TimeUnit.MILLISECONDS.toNanos(5))
+
+        then:
+        DefaultEventRouterMetrics.EventStatistics statistics = metrics.getEventStatistics('Foo')
+        statistics.listenerStatistics.keySet() == [Object.name, String.name] as Set
+        statistics.listenerStatistics[Object.name].latency.count == 2
+        statistics.listenerStatistics[Object.name].latency.total == 4000
+        statistics.listenerStatistics[Object.name].latency.max == 3000
+        statistics.listenerStatistics[Object.name].latency.mean == 2000
+        statistics.listenerStatistics[Object.name].slowInvocations == 0
+        statistics.listenerStatistics[String.name].slowInvocations == 1
+    }
+
+    def 'Histogram percentiles are bounded by power of two buckets'() {
+        given:
+        DefaultEventRouterMetrics metrics = new DefaultEventRouterMetrics()
+
+        when:
+        (1..99).each { metrics.asyncEventDequeued('Foo', 100) }
+        metrics.asyncEventDequeued('Foo', 10000)
+
+        then:
+        LatencyHistogram waitTime = metrics.getEventStatistics('Foo').waitTime
+        waitTime.count == 100
+        waitTime.getPercentile(50) == 127
+        waitTime.getPercentile(99) == 127
+        waitTime.getPercentile(100) == 10000
+        waitTime.max == 10000
+    }
+
+    def 'Reset discards all statistics'() {
+        given:
+        DefaultEventRouterMetrics metrics = new DefaultEventRouterMetrics()
+        metrics.eventPublished('Foo', 1)
+
+        when:
+        metrics.reset()
+
+        then:
+        metrics.eventNames.empty
+    }
+}
@@ -25,19 +25,29 @@ import griffon.core.ExceptionHandler
 import griffon.core.ExecutorServiceManager
 import griffon.core.RunnableWithArgs
 import griffon.core.event.Event
+import griffon.core.event.EventPublishingScope
 import griffon.core.event.EventRouter
+import griffon.core.event.TypedEventListener
 import griffon.core.threading.UIThreadManager
+import griffon.exceptions.InstanceMethodInvocationException
 import griffon.util.AnnotationUtils
 import org.codehaus.griffon.runtime.core.DefaultExecutorServiceManager
 import org.codehaus.griffon.runtime.core.ExceptionHandlerProvider
 import org.codehaus.griffon.runtime.core.threading.DefaultExecutorServiceProvider
+import org.codehaus.griffon.runtime.core.threading.ExecutorServiceStrategy
 import org.codehaus.griffon.runtime.core.threading.UIThreadManagerTestSupport
 import org.junit.Rule
 import spock.lang.Specification
 
 import javax.annotation.Nullable
 import javax.inject.Inject
+import java.lang.ref.WeakReference
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executor
 import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.RejectedExecutionException
+import java.util.concurrent.TimeUnit
 
 class DefaultEventRouterSpec extends Specification {
     @Rule
@@ -731,6 +741,486 @@ class DefaultEventRouterSpec extends Specification {
         eventRouter.getEventListeners(eventName2).size() == 2
     }
 
+    def 'Invoking an event by uncapitalized name reaches listeners registered with capitalized name'() {
+        given:
+
+        TestRunnableEventHandler eventHandler = new TestRunnableEventHandler()
+        eventRouter.addEventListener(MyEvent1.simpleName, eventHandler)
+
+        when:
+
+        eventRouter.publishEvent('myEvent1', [1, 'one'])
+
+        then:
+
+        eventHandler.args == [1, 'one']
+    }
+
+    def 'Listeners registered while dispatching are notified on the next publication'() {
+        given:
+
+        String eventName = MyEvent1.simpleName
+        TestRunnableEventHandler eventHandler = new TestRunnableEventHandler()
+        RunnableWithArgs registrar = new RunnableWithArgs() {
+            @Override
+            void run(@Nullable Object... args) {
+                eventRouter.addEventListener(eventName, eventHandler)
+            }
+        }
+        eventRouter.addEventListener(eventName, registrar)
+
+        when:
+
+        eventRouter.publishEvent(eventName, [1, 'one'])
+
+        then:
+
+        !eventHandler.args
+        eventRouter.getEventListeners(eventName).size() == 2
+
+        when:
+
+        eventRouter.publishEvent(eventName, [2, 'two'])
+
+        then:
+
+        eventHandler.args == [2, 'two']
+    }
+
+    def 'Invoking an event with arguments that match no handler method of a bean listener'() {
+        given:
+
+        EventHandler eventHandler = new EventHandler()
+        eventRouter.addEventListener(eventHandler)
+
+        when:
+
+        eventRouter.publishEvent(MyEvent1.simpleName, ['one', 1])
+
+        then:
+
+        !eventHandler.args
+    }
+
+    def 'Exceptions thrown by a bean listener are wrapped'() {
+        given:
+
+        eventRouter.addEventListener(new FailingEventHandler())
+
+        when:
+
+        eventRouter.publishEvent(MyEvent1.simpleName, [1, 'one'])
+
+        then:
+
+        InstanceMethodInvocationException e = thrown(InstanceMethodInvocationException)
+        e.cause instanceof IllegalStateException
+    }
+
+    def 'Invoking a typed event in synchronous mode'() {
+        given:
+
+        TestTypedEventListener eventListener = new TestTypedEventListener()
+        eventRouter.addTypedEventListener(MyEvent1, eventListener)
+        MyEvent1 event1 = new MyEvent1(this)
+
+        when:
+
+        eventRouter.publishTypedEvent(event1)
+        eventRouter.publishTypedEvent(new MyEvent2(this))
+
+        then:
+
+        eventListener.events == [event1]
+    }
+
+    def 'Invoking a typed event in asynchronous mode'() {
+        given:
+
+        TestTypedEventListener eventListener = new TestTypedEventListener()
+        eventRouter.addTypedEventListener(MyEvent1, eventListener)
+        MyEvent1 event1 = new MyEvent1(this)
+
+        when:
+
+        eventRouter.publishTypedEventAsync(event1)
+        Thread.sleep(200L)
+
+        then:
+
+        eventListener.events == [event1]
+    }
+
+    def 'Invoking a typed event in outside mode'() {
+        given:
+
+        TestTypedEventListener eventListener = new TestTypedEventListener()
+        eventRouter.addTypedEventListener(MyEvent1, eventListener)
+        MyEvent1 event1 = new MyEvent1(this)
+
+        when:
+
+        eventRouter.publishTypedEventOutsideUI(event1)
+
+        then:
+
+        eventListener.events == [event1]
+    }
+
+    def 'Typed listeners are notified of subtypes and do not collide on simple names'() {
+        given:
+
+        TestTypedEventListener baseListener = new TestTypedEventListener()
+        TestTypedEventListener subListener = new TestTypedEventListener()
+        TestTypedEventListener otherListener = new TestTypedEventListener()
+        eventRouter.addTypedEventListener(Event, baseListener)
+        eventRouter.addTypedEventListener(MyEvent1, subListener)
+        eventRouter.addTypedEventListener(Nested.MyEvent1, otherListener)
+        MyEvent1 event1 = new MyEvent1(this)
+        MyEvent2 event2 = new MyEvent2(this)
+
+        when:
+
+        eventRouter.publishTypedEvent(event1)
+        eventRouter.publishTypedEvent(event2)
+
+        then:
+
+        baseListener.events == [event1, event2]
+        subListener.events == [event1]
+        !otherListener.events
+        eventRouter.eventListeners.size() == 3
+    }
+
+    def 'Register and unregister a typed listener'() {
+        given:
+
+        TestTypedEventListener eventListener = new TestTypedEventListener()
+        eventRouter.addTypedEventListener(MyEvent1, eventListener)
+        eventRouter.publishTypedEvent(new MyEvent1(this))
+        eventRouter.removeTypedEventListener(MyEvent1, eventListener)
+
+        when:
+
+        eventRouter.publishTypedEvent(new MyEvent1(this))
+
+        then:
+
+        eventListener.events.size() == 1
+        !eventRouter.eventListeners
+    }
+
+    def 'Coalescing publications of an event within a time window'() {
+        given:
+
+        String eventName = MyEvent1.simpleName
+        CountingRunnableEventHandler eventHandler = new CountingRunnableEventHandler()
+        eventRouter.addEventListener(eventName, eventHandler)
+        eventRouter.setEventCoalescing(eventName, 100, TimeUnit.MILLISECONDS)
+
+        when:
+
+        10.times { eventRouter.publishEvent(eventName, [it]) }
+        Thread.sleep(500L)
+
+        then:
+
+        eventHandler.count == 1
+        eventHandler.args == [9]
+
+        when:
+
+        eventRouter.removeEventCoalescing(eventName)
+        eventRouter.publishEvent(eventName, [10])
+
+        then:
+
+        eventHandler.count == 2
+        eventHandler.args == [10]
+    }
+
+    def 'A rejected coalesced delivery does not swallow later publications'() {
+        given:
+
+        String eventName = MyEvent1.simpleName
+        CountingRunnableEventHandler eventHandler = new CountingRunnableEventHandler()
+        RejectingEventRouter router = new RejectingEventRouter(rejections: 1)
+        router.addEventListener(eventName, eventHandler)
+        router.setEventCoalescing(eventName, 10, TimeUnit.MILLISECONDS)
+
+        when:
+
+        router.publishEvent(eventName, [1])
+        Thread.sleep(300L)
+        router.publishEvent(eventName, [2])
+        Thread.sleep(300L)
+
+        then:
+
+        eventHandler.count == 1
+        eventHandler.args == [2]
+    }
+
+    def 'A coalesced delivery dropped by a full queue does not swallow later publications'() {
+        given:
+
+        String eventName = MyEvent1.simpleName
+        CountingRunnableEventHandler eventHandler = new CountingRunnableEventHandler()
+        DroppingEventRouter router = new DroppingEventRouter()
+        router.addEventListener(eventName, eventHandler)
+        router.setEventCoalescing(eventName, 10, TimeUnit.MILLISECONDS)
+
+        when:
+
+        router.publishEvent(eventName, [1])
+        Thread.sleep(300L)
+        router.publishEventAsync(MyEvent2.simpleName)
+        router.runPendingWorkers()
+        router.publishEvent(eventName, [2])
+        Thread.sleep(300L)
+        router.runPendingWorkers()
+
+        then:
+
+        eventHandler.count == 1
+        eventHandler.args == [2]
+    }
+
+    def 'Asynchronous publications go through an overridden doPublishAsync(Runnable)'() {
+        given:
+
+        String eventName = MyEvent1.simpleName
+        CountingRunnableEventHandler eventHandler = new CountingRunnableEventHandler()
+        InlineEventRouter router = new InlineEventRouter()
+        router.addEventListener(eventName, eventHandler)
+
+        when:
+
+        router.publishEventAsync(eventName, [1])
+        router.publishEventAsync(MyEvent2.simpleName)
+
+        then:
+
+        router.publications == 2
+        eventHandler.count == 1
+        eventHandler.args == [1]
+    }
+
+    def 'The deprecated executorService field forwards to the shared executor'() {
+        given:
+
+        ExecutorService shared = Executors.newSingleThreadExecutor()
+        RejectingEventRouter router = new RejectingEventRouter()
+        router.setExecutorService(shared)
+        CountDownLatch latch = new CountDownLatch(1)
+
+        when:
+
+        router.@executorService.execute { latch.countDown() }
+        router.@executorService.shutdown()
+
+        then:
+
+        latch.await(5, TimeUnit.SECONDS)
+        !shared.shutdown
+
+        cleanup:
+
+        shared.shutdownNow()
+    }
+
+    def 'Coalescing publications of an event inside the UI thread'() {
+        given:
+
+        String eventName = MyEvent1.simpleName
+        CountingRunnableEventHandler eventHandler = new CountingRunnableEventHandler()
+        eventRouter.addEventListener(eventName, eventHandler)
+        eventRouter.setEventCoalescingInsideUI('myEvent1')
+
+        when:
+
+        eventRouter.publishEventOutsideUI(eventName, [1, 'one'])
+
+        then:
+
+        eventHandler.count == 1
+        eventHandler.args == [1, 'one']
+    }
+
+    def 'Suppressing event publishing only affects the current thread'() {
+        given:
+
+        String eventName = MyEvent1.simpleName
+        CountingRunnableEventHandler eventHandler = new CountingRunnableEventHandler()
+        eventRouter.addEventListener(eventName, eventHandler)
+        boolean enabledInScope
+        boolean enabledInOtherThread
+
+        when:
+
+        EventPublishingScope scope = eventRouter.suppressEventPublishing()
+        try {
+            enabledInScope = eventRouter.isEventPublishingEnabled()
+            eventRouter.publishEvent(eventName, [1, 'one'])
+            Thread thread = Thread.start {
+                enabledInOtherThread = eventRouter.isEventPublishingEnabled()
+                eventRouter.publishEvent(eventName, [2, 'two'])
+            }
+            thread.join()
+        } finally {
+            scope.close()
+        }
+        eventRouter.publishEvent(eventName, [3, 'three'])
+
+        then:
+
+        !enabledInScope
+        enabledInOtherThread
+        eventRouter.isEventPublishingEnabled()
+        eventHandler.count == 2
+        eventHandler.args == [3, 'three']
+    }
+
+    def 'Nested event publishing scopes restore the previous state'() {
+        given:
+
+        eventRouter.eventPublishingEnabled = false
+        List<Boolean> states = []
+
+        when:
+
+        EventPublishingScope outer = eventRouter.scopeEventPublishing(true)
+        states << eventRouter.isEventPublishingEnabled()
+        EventPublishingScope inner = eventRouter.suppressEventPublishing()
+        states << eventRouter.isEventPublishingEnabled()
+        inner.close()
+        states << eventRouter.isEventPublishingEnabled()
+        outer.close()
+        states << eventRouter.isEventPublishingEnabled()
+        outer.close()
+        states << eventRouter.isEventPublishingEnabled()
+
+        then:
+
+        states == [true, false, true, false, false]
+
+        cleanup:
+
+        eventRouter.eventPublishingEnabled = true
+    }
+
+    def 'Event router metrics are notified of publications and listener invocations'() {
+        given:
+
+        DefaultEventRouterMetrics metrics = new DefaultEventRouterMetrics()
+        ((AbstractEventRouter) eventRouter).eventRouterMetrics = metrics
+        String eventName = MyEvent1.simpleName
+        eventRouter.addEventListener(eventName, new CountingRunnableEventHandler())
+        eventRouter.addEventListener(eventName, new TestCallableEventHandler())
+        eventRouter.addTypedEventListener(MyEvent1, new TestTypedEventListener())
+
+        when:
+
+        eventRouter.publishEvent(eventName, [1, 'one'])
+        eventRouter.publishEventAsync('myEvent1', [2, 'two'])
+        eventRouter.publishEvent(MyEvent2.simpleName, [3, 'three'])
+        eventRouter.publishTypedEvent(new MyEvent1(this))
+        Thread.sleep(300)
+
+        then:
+
+        DefaultEventRouterMetrics.EventStatistics statistics = metrics.getEventStatistics(eventName)
+        statistics.publications == 2
+        statistics.maxFanOut == 2
+        statistics.waitTime.count == 1
+        statistics.listenerStatistics.keySet() == [CountingRunnableEventHandler.name, TestCallableEventHandler.name] as Set
+        statistics.listenerStatistics[CountingRunnableEventHandler.name].latency.count == 2
+        metrics.getEventStatistics(MyEvent2.simpleName).publications == 1
+        metrics.getEventStatistics(MyEvent2.simpleName).maxFanOut == 0
+        metrics.getEventStatistics(MyEvent1.name).listenerStatistics.keySet() == [TestTypedEventListener.name] as Set
+
+        cleanup:
+
+        ((AbstractEventRouter) eventRouter).eventRouterMetrics = null
+    }
+
+    def 'Invoking an event with a weak bean listener'() {
+        given:
+
+        String eventName = MyEvent1.simpleName
+        EventHandler eventHandler = new EventHandler()
+        eventRouter.addWeakEventListener(eventHandler)
+        eventRouter.addEventListener(eventHandler)
+
+        when:
+
+        eventRouter.publishEvent(eventName, [1, 'one'])
+
+        then:
+
+        eventHandler.args == [1, 'one']
+        eventRouter.getEventListeners(eventName) as List == [eventHandler]
+        eventRouter.eventListeners.contains(eventHandler)
+    }
+
+    def 'Register and unregister a weak bean listener'() {
+        given:
+
+        EventHandler eventHandler = new EventHandler()
+        eventRouter.addWeakEventListener(eventHandler)
+        eventRouter.removeEventListener(eventHandler)
+
+        when:
+
+        eventRouter.publishEvent(MyEvent1.simpleName, [1, 'one'])
+
+        then:
+
+        !eventHandler.args
+        eventRouter.getEventListeners(MyEvent1.simpleName).empty
+    }
+
+    def 'Functional listeners can not be held weakly'() {
+        when:
+
+        eventRouter.addWeakEventListener(new TestRunnableEventHandler())
+
+        then:
+
+        thrown(IllegalArgumentException)
+    }
+
+    def 'Weak bean listeners are purged once garbage collected'() {
+        given:
+
+        String eventName = MyEvent1.simpleName
+        WeakReference<EventHandler> probe = registerWeakListener()
+
+        when:
+
+        for (int i = 0; i < 50 && probe.get() != null; i++) {
+            System.gc()
+            Thread.sleep(20)
+        }
+        eventRouter.publishEvent(eventName, [1, 'one'])
+        Map dispatchTable = AbstractEventRouter.getDeclaredField('dispatchTable').with {
+            accessible = true
+            get(eventRouter)
+        }
+
+        then:
+
+        probe.get() == null
+        !dispatchTable.containsKey(eventName)
+        eventRouter.getEventListeners(eventName).empty
+    }
+
+    private WeakReference<EventHandler> registerWeakListener() {
+        EventHandler eventHandler = new EventHandler()
+        eventRouter.addWeakEventListener(eventHandler)
+        new WeakReference<EventHandler>(eventHandler)
+    }
+
     static final class TestModule extends AbstractModule {
         @Override
         protected void configure() {
@@ -739,6 +1229,7 @@ class DefaultEventRouterSpec extends Specification {
             bind(UIThreadManager).to(UIThreadManagerTestSupport)
             bind(EventRouter).to(DefaultEventRouter)
             bind(ExceptionHandler).toProvider(ExceptionHandlerProvider)
+            bind(ExecutorServiceStrategy).toInstance(ExecutorServiceStrategy.FIXED)
             bind(ExecutorService).annotatedWith(AnnotationUtils.named('defaultExecutorService')).toProvider(DefaultExecutorServiceProvider)
         }
     }
@@ -763,6 +1254,99 @@ class DefaultEventRouterSpec extends Specification {
         }
     }
 
+    static class TestTypedEventListener implements TypedEventListener<Event> {
+        List<Event> events = []
+
+        @Override
+        void onEvent(Event event) {
+            events << event
+        }
+    }
+
+    static class RejectingEventRouter extends AbstractEventRouter {
+        volatile int rejections
+
+        @Override
+        protected void doPublishOutsideUI(Runnable publisher) {
+            publisher.run()
+        }
+
+        @Override
+        protected void doPublishAsync(Runnable publisher) {
+            publisher.run()
+        }
+
+        @Override
+        protected boolean doPublishAsync(String eventName, Runnable publisher) {
+            if (rejections-- > 0) {
+                throw new RejectedExecutionException()
+            }
+            publisher.run()
+            true
+        }
+    }
+
+    static class InlineEventRouter extends DefaultEventRouter {
+        int publications
+
+        @Override
+        protected void doPublishAsync(Runnable publisher) {
+            publications++
+            publisher.run()
+        }
+    }
+
+    static class DroppingEventRouter extends AbstractEventRouter {
+        // assigned while the superclass constructor creates the dispatcher
+        List<Runnable> workers
+
+        @Override
+        protected AsyncEventDispatcher createAsyncEventDispatcher() {
+            workers = []
+            new AsyncEventDispatcher({ Runnable worker -> workers << worker } as Executor, { t, e -> } as Thread.UncaughtExceptionHandler, 1, 1, AsyncEventDispatcher.OverflowPolicy.DROP_OLDEST)
+        }
+
+        @Override
+        protected void doPublishOutsideUI(Runnable publisher) {
+            publisher.run()
+        }
+
+        @Override
+        protected void doPublishAsync(Runnable publisher) {
+            doPublishAsync(null, publisher)
+        }
+
+        @Override
+        protected boolean doPublishAsync(String eventName, Runnable publisher) {
+            asyncEventDispatcher.dispatch(eventName, publisher)
+        }
+
+        void runPendingWorkers() {
+            while (workers) {
+                workers.remove(0).run()
+            }
+        }
+    }
+
+    static class CountingRunnableEventHandler implements RunnableWithArgs {
+        volatile Object[] args
+        volatile int count
+
+        @Override
+        void run(@Nullable Object... args) {
+            this.args = args
+            count++
+        }
+    }
+
+    static class Nested {
+        static class MyEvent1 extends Event {
+            MyEvent1(Object source) {
+                super(source)
+            }
+        }
+    }
+
     static class MyEvent1 extends Event {
         MyEvent1(Object source) {
             super(source)
@@ -775,6 +1359,12 @@ class DefaultEventRouterSpec extends Specification {
         }
     }
 
+    static class FailingEventHandler {
+        void onMyEvent1(int arg0, String arg1) {
+            throw new IllegalStateException()
+        }
+    }
+
     static class EventHandler {
         List args
 
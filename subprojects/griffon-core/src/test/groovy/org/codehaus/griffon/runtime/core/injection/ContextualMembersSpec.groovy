@@ -0,0 +1,112 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.core.injection
+
+import griffon.core.Context
+import griffon.core.injection.InjectionMetadata
+import griffon.exceptions.NewInstanceException
+import griffon.inject.Contextual
+import org.codehaus.griffon.runtime.core.DefaultContext
+import spock.lang.Specification
+
+import javax.annotation.Nonnull
+import javax.inject.Named
+
+class ContextualMembersSpec extends Specification {
+    void 'Contextual members are resolved once per class'() {
+        expect:
+        ContextualMembers.MEMBERS.get(Bean).is(ContextualMembers.MEMBERS.get(Bean))
+        !ContextualMembers.MEMBERS.get(Bean).empty
+        ContextualMembers.MEMBERS.get(Object).empty
+    }
+
+    void 'Fields and properties receive values from the context'() {
+        given:
+        Context context = new DefaultContext()
+        context['key'] = 'field'
+        context['other'] = 'property'
+        Bean bean = new Bean()
+
+        when:
+        ContextualMembers.MEMBERS.get(Bean).apply(context, bean)
+
+        then:
+        bean.value == 'field'
+        bean.other == 'property'
+        bean.ignored == null
+    }
+
+    void 'Missing values are rejected by non nullable members'() {
+        when:
+        ContextualMembers.MEMBERS.get(Strict).apply(new DefaultContext(), new Strict())
+
+        then:
+        thrown(NewInstanceException)
+    }
+
+    void 'Generated metadata is used instead of scanning members'() {
+        given:
+        Context context = new DefaultContext()
+        context['key'] = 'value'
+        Described described = new Described()
+
+        when:
+        ContextualMembers.MEMBERS.get(Described).apply(context, described)
+
+        then:
+        described.value == 'generated:value'
+    }
+
+    static class Bean {
+        @Contextual
+        @Named('key')
+        private String value
+
+        private String other
+        String ignored
+
+        String getValue() { value }
+
+        String getOther() { other }
+
+        @Contextual
+        void setOther(@Named('other') String other) { this.other = other }
+    }
+
+    static class Strict {
+        @Contextual
+        @Nonnull
+        @Named('missing')
+        private String value
+    }
+
+    static class Described {
+        @Contextual
+        @Named('key')
+        private String value
+
+        String getValue() { value }
+    }
+
+    static class Described$$InjectionMetadata extends InjectionMetadata {
+        Described$$InjectionMetadata() {
+            super(Described)
+            contextualField(Described, 'value', ['key'] as String[], true, { Described instance, Object v -> instance.@value = 'generated:' + v } as InjectionMetadata.Setter)
+        }
+    }
+}
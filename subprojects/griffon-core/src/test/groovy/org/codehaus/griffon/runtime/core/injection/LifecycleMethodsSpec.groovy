@@ -0,0 +1,147 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.core.injection
+
+import griffon.core.injection.InjectionMetadata
+import griffon.exceptions.InstanceMethodInvocationException
+import spock.lang.Specification
+
+import javax.annotation.PostConstruct
+import javax.annotation.PreDestroy
+
+class LifecycleMethodsSpec extends Specification {
+    void 'Lifecycle methods are resolved once per class'() {
+        expect:
+        LifecycleMethods.POST_CONSTRUCT.get(Child).is(LifecycleMethods.POST_CONSTRUCT.get(Child))
+        !LifecycleMethods.POST_CONSTRUCT.get(Child).empty
+        LifecycleMethods.PRE_DESTROY.get(Parent).empty
+    }
+
+    void 'Subclass methods are invoked before superclass methods'() {
+        given:
+        Child child = new Child()
+
+        when:
+        LifecycleMethods.POST_CONSTRUCT.get(Child).invoke(child)
+
+        then:
+        child.calls == ['child', 'parent']
+    }
+
+    void 'Failures are reported as InstanceMethodInvocationException'() {
+        when:
+        LifecycleMethods.PRE_DESTROY.get(Failing).invoke(new Failing())
+
+        then:
+        InstanceMethodInvocationException e = thrown()
+        e.cause instanceof IllegalStateException
+    }
+
+    void 'Several annotated methods in the same class are rejected'() {
+        when:
+        LifecycleMethods.POST_CONSTRUCT.get(Ambiguous).invoke(new Ambiguous())
+
+        then:
+        thrown(InstanceMethodInvocationException)
+    }
+
+    void 'Generated metadata is used instead of scanning methods'() {
+        given:
+        Described described = new Described()
+
+        when:
+        LifecycleMethods.POST_CONSTRUCT.get(Described).invoke(described)
+        LifecycleMethods.PRE_DESTROY.get(Described).invoke(described)
+
+        then:
+        described.calls == ['generated', 'destroy']
+    }
+
+    void 'Static lifecycle methods are invoked'() {
+        given:
+        StaticInit.calls.clear()
+
+        when:
+        LifecycleMethods.POST_CONSTRUCT.get(StaticInit).invoke(new StaticInit())
+
+        then:
+        StaticInit.calls == ['static']
+    }
+
+    static class StaticInit {
+        static final List<String> calls = []
+
+        @PostConstruct
+        static void init() {
+            calls << 'static'
+        }
+    }
+
+    static class Parent {
+        final List<String> calls = []
+
+        @PostConstruct
+        private void initParent() {
+            calls << 'parent'
+        }
+    }
+
+    static class Child extends Parent {
+        @PostConstruct
+        private void initChild() {
+            calls << 'child'
+        }
+    }
+
+    static class Failing {
+        @PreDestroy
+        void destroy() {
+            throw new IllegalStateException()
+        }
+    }
+
+    static class Ambiguous {
+        @PostConstruct
+        void init1() {}
+
+        @PostConstruct
+        void init2() {}
+    }
+
+    static class Described {
+        final List<String> calls = []
+
+        @PostConstruct
+        void init() {
+            calls << 'scanned'
+        }
+
+        @PreDestroy
+        private void destroy() {
+            calls << 'destroy'
+        }
+    }
+
+    static class Described$$InjectionMetadata extends InjectionMetadata {
+        Described$$InjectionMetadata() {
+            super(Described)
+            postConstructMethod(Described, 'init', { Described instance -> instance.calls << 'generated' } as InjectionMetadata.Invoker)
+            preDestroyMethod(Described, 'destroy', null)
+        }
+    }
+}
@@ -42,10 +42,14 @@ import org.junit.BeforeClass
 import org.junit.Rule
 import org.junit.Test
 
+import javax.annotation.Nonnull
+import javax.annotation.Nullable
 import javax.inject.Inject
 import javax.inject.Named
 import javax.inject.Provider
 import javax.inject.Singleton
+import java.beans.PropertyEditor
+import java.beans.PropertyEditorSupport
 
 import static com.google.inject.util.Providers.guicify
 import static org.mockito.Mockito.mock
@@ -95,6 +99,27 @@ class DefaultResourceInjectorTests {
         assert !bean.@notFound
     }
 
+    @Test
+    void resolvePropertyEditorOverridesAreHonored() {
+        ResourceResolver resourceResolver = new DefaultResourceResolver(bundleBuilder, 'org.codehaus.griffon.runtime.core.resources.injector')
+        ResourceInjector resourcesInjector = new DefaultResourceInjector(resourceResolver) {
+            @Override
+            protected PropertyEditor resolvePropertyEditor(@Nonnull Class<?> type, @Nullable String format) {
+                new PropertyEditorSupport() {
+                    @Override
+                    void setAsText(String text) {
+                        setValue(Integer.parseInt(text) + 1)
+                    }
+                }
+            }
+        }
+        Bean bean = new Bean()
+        resourcesInjector.injectResources(bean)
+
+        assert bean.@privateIntField == 43
+        assert bean.@intFieldBySetter == 22
+    }
+
     static final class TestModule extends AbstractModule {
         @Override
         protected void configure() {
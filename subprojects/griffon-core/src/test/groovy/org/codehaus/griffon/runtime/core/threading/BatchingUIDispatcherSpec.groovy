@@ -0,0 +1,170 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.core.threading
+
+import spock.lang.Specification
+
+import javax.annotation.Nonnull
+import java.util.concurrent.Executor
+import java.util.concurrent.RejectedExecutionException
+import java.util.concurrent.TimeUnit
+
+class BatchingUIDispatcherSpec extends Specification {
+    private final DeferredExecutor uiExecutor = new DeferredExecutor()
+    private final List<Throwable> failures = []
+    private final Thread.UncaughtExceptionHandler exceptionHandler = { Thread t, Throwable e -> failures << e } as Thread.UncaughtExceptionHandler
+
+    def 'Submissions are drained in order in a single pass'() {
+        given:
+        BatchingUIDispatcher dispatcher = new BatchingUIDispatcher(uiExecutor, exceptionHandler, 1, TimeUnit.SECONDS)
+        List<Integer> values = []
+
+        when:
+        (1..100).each { int i -> dispatcher.submit({ values << i } as Runnable) }
+
+        then:
+        uiExecutor.tasks.size() == 1
+        dispatcher.backlog == 100
+
+        when:
+        uiExecutor.runAll()
+
+        then:
+        values == (1..100).toList()
+        dispatcher.backlog == 0
+        dispatcher.drainCount == 1
+        dispatcher.executedCount == 100
+        dispatcher.maxDrainLatency >= dispatcher.averageDrainLatency
+    }
+
+    def 'A pass that exceeds its budget yields to the UI toolkit'() {
+        given:
+        BatchingUIDispatcher dispatcher = new BatchingUIDispatcher(uiExecutor, exceptionHandler, 1, TimeUnit.MILLISECONDS)
+        List<Integer> values = []
+
+        when:
+        (1..3).each { int i -> dispatcher.submit({ Thread.sleep(5); values << i } as Runnable) }
+        uiExecutor.runNext()
+
+        then:
+        values == [1]
+        dispatcher.backlog == 2
+        uiExecutor.tasks.size() == 1
+
+        when:
+        uiExecutor.runAll()
+
+        then:
+        values == [1, 2, 3]
+        dispatcher.drainCount == 3
+    }
+
+    def 'Failing tasks do not prevent other tasks in the batch from running'() {
+        given:
+        BatchingUIDispatcher dispatcher = new BatchingUIDispatcher(uiExecutor, exceptionHandler, 1, TimeUnit.SECONDS)
+        List<Integer> values = []
+
+        when:
+        dispatcher.submit({ throw new IllegalStateException('boom') } as Runnable)
+        dispatcher.submit({ values << 1 } as Runnable)
+        uiExecutor.runAll()
+
+        then:
+        values == [1]
+        failures.size() == 1
+        failures[0] instanceof IllegalStateException
+    }
+
+    def 'Submissions made while draining are picked up'() {
+        given:
+        BatchingUIDispatcher dispatcher = new BatchingUIDispatcher(uiExecutor, exceptionHandler, 1, TimeUnit.SECONDS)
+        List<Integer> values = []
+
+        when:
+        dispatcher.submit({
+            values << 1
+            dispatcher.submit({ values << 2 } as Runnable)
+        } as Runnable)
+        uiExecutor.runAll()
+
+        then:
+        values == [1, 2]
+        dispatcher.backlog == 0
+    }
+
+    def 'Flushing runs pending tasks ahead of work that overtook a yielding pass'() {
+        given:
+        BatchingUIDispatcher dispatcher = new BatchingUIDispatcher(uiExecutor, exceptionHandler, 1, TimeUnit.MILLISECONDS)
+        List<Object> values = []
+
+        when:
+        (1..3).each { int i -> dispatcher.submit({ Thread.sleep(5); values << i } as Runnable) }
+        uiExecutor.runNext()
+        uiExecutor.tasks.add(0, { dispatcher.flush(); values << 'sync' } as Runnable)
+        uiExecutor.runAll()
+
+        then:
+        values == [1, 2, 3, 'sync']
+        dispatcher.backlog == 0
+        dispatcher.executedCount == 3
+    }
+
+    def 'A drain that could not be posted does not wedge the dispatcher'() {
+        given:
+        int failures = 1
+        Executor executor = { Runnable command ->
+            if (failures-- > 0) { throw new RejectedExecutionException() }
+            uiExecutor.execute(command)
+        } as Executor
+        BatchingUIDispatcher dispatcher = new BatchingUIDispatcher(executor, exceptionHandler, 1, TimeUnit.SECONDS)
+        List<Integer> values = []
+
+        when:
+        dispatcher.submit({ values << 1 } as Runnable)
+
+        then:
+        thrown(RejectedExecutionException)
+
+        when:
+        dispatcher.submit({ values << 2 } as Runnable)
+        uiExecutor.runAll()
+
+        then:
+        values == [1, 2]
+        dispatcher.backlog == 0
+    }
+
+    private static class DeferredExecutor implements Executor {
+        final List<Runnable> tasks = []
+
+        @Override
+        void execute(@Nonnull Runnable command) {
+            tasks << command
+        }
+
+        void runNext() {
+            tasks.remove(0).run()
+        }
+
+        void runAll() {
+            while (tasks) {
+                runNext()
+            }
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.core.threading
+
+import spock.lang.Specification
+
+import java.util.concurrent.Callable
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.Future
+import java.util.concurrent.RejectedExecutionException
+import java.util.concurrent.TimeUnit
+
+class DefaultTaskScopeSpec extends Specification {
+    private final ExecutorService executorService = Executors.newFixedThreadPool(1)
+
+    def cleanup() {
+        executorService.shutdownNow()
+    }
+
+    def 'Tasks are tracked until they complete'() {
+        given:
+        DefaultTaskScope scope = new DefaultTaskScope('test', executorService)
+        CountDownLatch latch = new CountDownLatch(1)
+
+        when:
+        Future<String> first = scope.submit({ latch.await(); 'done' } as Callable<String>)
+        Future<?> second = scope.submit({} as Runnable)
+
+        then:
+        scope.activeTaskCount == 2
+        scope.submittedTaskCount == 2
+
+        when:
+        latch.countDown()
+
+        then:
+        first.get(5, TimeUnit.SECONDS) == 'done'
+        second.get(5, TimeUnit.SECONDS) == null
+        scope.awaitTermination(5, TimeUnit.SECONDS)
+        scope.activeTaskCount == 0
+        scope.completedTaskCount == 2
+        scope.cancelledTaskCount == 0
+        scope.cpuTime >= 0
+    }
+
+    def 'Cancelling a scope interrupts running tasks and drops queued ones'() {
+        given:
+        DefaultTaskScope scope = new DefaultTaskScope('test', executorService)
+        CountDownLatch started = new CountDownLatch(1)
+        boolean interrupted = false
+        boolean queuedRan = false
+
+        when:
+        Future<?> running = scope.submit({
+            started.countDown()
+            try {
+                Thread.sleep(60000)
+            } catch (InterruptedException e) {
+                interrupted = true
+            }
+        } as Runnable)
+        Future<?> queued = scope.submit({ queuedRan = true } as Runnable)
+        started.await(5, TimeUnit.SECONDS)
+        scope.cancel()
+
+        then:
+        scope.cancelled
+        running.cancelled
+        queued.cancelled
+        scope.awaitTermination(5, TimeUnit.SECONDS)
+        interrupted
+        !queuedRan
+        scope.activeTaskCount == 0
+        scope.cancelledTaskCount == 2
+
+        when:
+        scope.submit({} as Runnable)
+
+        then:
+        thrown(RejectedExecutionException)
+    }
+
+    def 'Rejected submissions are not tracked'() {
+        given:
+        executorService.shutdown()
+        DefaultTaskScope scope = new DefaultTaskScope('test', executorService)
+
+        when:
+        scope.submit({} as Runnable)
+
+        then:
+        thrown(RejectedExecutionException)
+        scope.activeTaskCount == 0
+        scope.submittedTaskCount == 0
+    }
+}
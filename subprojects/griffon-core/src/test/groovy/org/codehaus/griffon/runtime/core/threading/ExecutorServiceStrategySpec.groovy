@@ -0,0 +1,121 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.core.threading
+
+import griffon.core.Configuration
+import org.codehaus.griffon.runtime.core.configuration.AbstractMapConfiguration
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.util.concurrent.Callable
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.ForkJoinPool
+import java.util.concurrent.TimeUnit
+
+@Unroll
+class ExecutorServiceStrategySpec extends Specification {
+    def 'Strategy #strategy creates a working ExecutorService'() {
+        given:
+        ExecutorService executorService = strategy.create('test-pool')
+
+        when:
+        String threadName = executorService.submit({ Thread.currentThread().name } as Callable<String>).get(5, TimeUnit.SECONDS)
+
+        then:
+        threadName != null
+
+        cleanup:
+        executorService.shutdownNow()
+
+        where:
+        strategy << ExecutorServiceStrategy.values()
+    }
+
+    def 'Fork join strategy creates a named work stealing pool'() {
+        given:
+        ExecutorService executorService = ExecutorServiceStrategy.FORK_JOIN.create('test-pool')
+
+        when:
+        String threadName = executorService.submit({ Thread.currentThread().name } as Callable<String>).get(5, TimeUnit.SECONDS)
+
+        then:
+        executorService instanceof ForkJoinPool
+        ((ForkJoinPool) executorService).asyncMode
+        threadName.startsWith('test-pool-thread-')
+
+        cleanup:
+        executorService.shutdownNow()
+    }
+
+    def 'Resolving strategy from value "#value"'() {
+        given:
+        String previous = System.getProperty(ExecutorServiceStrategy.KEY_EXECUTOR_STRATEGY)
+        if (value != null) {
+            System.setProperty(ExecutorServiceStrategy.KEY_EXECUTOR_STRATEGY, value)
+        } else {
+            System.clearProperty(ExecutorServiceStrategy.KEY_EXECUTOR_STRATEGY)
+        }
+
+        expect:
+        ExecutorServiceStrategy.resolve() == strategy
+
+        cleanup:
+        if (previous != null) {
+            System.setProperty(ExecutorServiceStrategy.KEY_EXECUTOR_STRATEGY, previous)
+        } else {
+            System.clearProperty(ExecutorServiceStrategy.KEY_EXECUTOR_STRATEGY)
+        }
+
+        where:
+        value       || strategy
+        null        || ExecutorServiceStrategy.FIXED
+        'fixed'     || ExecutorServiceStrategy.FIXED
+        'fork-join' || ExecutorServiceStrategy.FORK_JOIN
+        'VIRTUAL'   || ExecutorServiceStrategy.VIRTUAL
+        'unknown'   || ExecutorServiceStrategy.FIXED
+    }
+
+    def 'Resolving strategy from configuration value "#value" with System property "#property"'() {
+        given:
+        String previous = System.getProperty(ExecutorServiceStrategy.KEY_EXECUTOR_STRATEGY)
+        if (property != null) {
+            System.setProperty(ExecutorServiceStrategy.KEY_EXECUTOR_STRATEGY, property)
+        } else {
+            System.clearProperty(ExecutorServiceStrategy.KEY_EXECUTOR_STRATEGY)
+        }
+        Map<String, Object> map = value != null ? [(ExecutorServiceStrategy.KEY_EXECUTOR_STRATEGY): value] : [:]
+        Configuration configuration = new AbstractMapConfiguration(map) {}
+
+        expect:
+        ExecutorServiceStrategy.resolve(configuration) == strategy
+
+        cleanup:
+        if (previous != null) {
+            System.setProperty(ExecutorServiceStrategy.KEY_EXECUTOR_STRATEGY, previous)
+        } else {
+            System.clearProperty(ExecutorServiceStrategy.KEY_EXECUTOR_STRATEGY)
+        }
+
+        where:
+        value       | property    || strategy
+        'fork-join' | null        || ExecutorServiceStrategy.FORK_JOIN
+        'fork-join' | 'virtual'   || ExecutorServiceStrategy.FORK_JOIN
+        null        | 'fork_join' || ExecutorServiceStrategy.FORK_JOIN
+        null        | null        || ExecutorServiceStrategy.FIXED
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.core.threading
+
+import spock.lang.Specification
+
+import java.util.concurrent.ArrayBlockingQueue
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.Future
+import java.util.concurrent.RejectedExecutionException
+import java.util.concurrent.ThreadPoolExecutor
+import java.util.concurrent.TimeUnit
+
+class InstrumentedThreadPoolExecutorSpec extends Specification {
+    private InstrumentedThreadPoolExecutor executor
+
+    def setup() {
+        executor = new InstrumentedThreadPoolExecutor('test-pool', 1, 1, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<Runnable>(1), Executors.defaultThreadFactory())
+    }
+
+    def cleanup() {
+        executor.shutdownNow()
+    }
+
+    def 'Wait and run times are recorded per task'() {
+        when:
+        2.times { executor.submit({ Thread.sleep(5) } as Runnable) }
+        executor.shutdown()
+        executor.awaitTermination(5, TimeUnit.SECONDS)
+
+        then:
+        executor.waitTime.count == 2
+        executor.runTime.count == 2
+        executor.runTime.max >= TimeUnit.MILLISECONDS.toNanos(5)
+        executor.waitTime.max >= TimeUnit.MILLISECONDS.toNanos(5)
+    }
+
+    def 'Rejections are counted and handed to the configured handler'() {
+        given:
+        CountDownLatch release = new CountDownLatch(1)
+        Runnable rejected = {} as Runnable
+        executor.submit({ release.await() } as Runnable)
+        executor.submit({} as Runnable)
+
+        when:
+        executor.execute(rejected)
+
+        then:
+        thrown(RejectedExecutionException)
+        executor.rejectedTaskCount == 1
+
+        when:
+        executor.rejectedExecutionHandler = new ThreadPoolExecutor.DiscardPolicy()
+        executor.execute(rejected)
+
+        then:
+        executor.rejectedTaskCount == 2
+        executor.rejectedExecutionHandler instanceof ThreadPoolExecutor.DiscardPolicy
+
+        cleanup:
+        release.countDown()
+    }
+
+    def 'Cancelled tasks can be purged and pending tasks are returned on shutdown'() {
+        given:
+        CountDownLatch release = new CountDownLatch(1)
+        executor.submit({ release.await() } as Runnable)
+        Runnable pending = {} as Runnable
+
+        when:
+        Future<?> cancelled = executor.submit({} as Runnable)
+        cancelled.cancel(false)
+        executor.purge()
+
+        then:
+        executor.queue.empty
+
+        when:
+        executor.execute(pending)
+        List<Runnable> tasks = executor.shutdownNow()
+
+        then:
+        tasks == [pending]
+
+        cleanup:
+        release.countDown()
+    }
+
+    def 'Queued tasks are the submitted ones and can be removed'() {
+        given:
+        CountDownLatch release = new CountDownLatch(1)
+        executor.execute({ release.await() } as Runnable)
+        Runnable pending = {} as Runnable
+
+        when:
+        executor.execute(pending)
+
+        then:
+        executor.queue.toList() == [pending]
+
+        when:
+        boolean removed = executor.remove(pending)
+
+        then:
+        removed
+        executor.queue.empty
+
+        cleanup:
+        release.countDown()
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.core.threading
+
+import spock.lang.Specification
+
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.LinkedBlockingQueue
+import java.util.concurrent.TimeUnit
+
+class UIThreadWatchdogSpec extends Specification {
+    private ExecutorService uiThread = Executors.newSingleThreadExecutor()
+    private UIThreadWatchdog watchdog = new UIThreadWatchdog(uiThread, 50, TimeUnit.MILLISECONDS)
+
+    def cleanup() {
+        watchdog.stop()
+        uiThread.shutdownNow()
+    }
+
+    def 'Heartbeats are recorded while the UI thread is responsive'() {
+        when:
+        watchdog.start()
+        Thread.sleep(200)
+
+        then:
+        watchdog.running
+        watchdog.heartbeatLatency.count > 0
+        watchdog.stallCount == 0
+    }
+
+    def 'Stalls are detected, sampled and reported once they end'() {
+        given:
+        LinkedBlockingQueue<UIThreadWatchdog.Stall> detected = new LinkedBlockingQueue<>()
+        LinkedBlockingQueue<UIThreadWatchdog.Stall> ended = new LinkedBlockingQueue<>()
+        watchdog.addStallListener(new UIThreadWatchdog.StallListener() {
+            @Override
+            void stallDetected(UIThreadWatchdog.Stall stall) { detected.put(stall) }
+
+            @Override
+            void stallEnded(UIThreadWatchdog.Stall stall) { ended.put(stall) }
+        })
+        CountDownLatch release = new CountDownLatch(1)
+        watchdog.start()
+        Thread.sleep(100)
+
+        when:
+        uiThread.execute({ blockUIThread(release) } as Runnable)
+        UIThreadWatchdog.Stall stall = detected.poll(5, TimeUnit.SECONDS)
+
+        then:
+        stall.number == 1
+        stall.detectedAfter >= 50
+        stall.duration == -1
+        stall.stackTrace.any { it.methodName == 'blockUIThread' }
+
+        when:
+        release.countDown()
+        UIThreadWatchdog.Stall recovered = ended.poll(5, TimeUnit.SECONDS)
+
+        then:
+        recovered.is(stall)
+        recovered.duration >= recovered.detectedAfter
+        !recovered.stackTraces.empty
+        watchdog.stallCount == 1
+        watchdog.longestStall == recovered.duration
+    }
+
+    def 'UI thread managers post heartbeats with runInsideUIAsync'() {
+        given:
+        System.setProperty(UIThreadWatchdog.KEY_WATCHDOG_ENABLED, 'true')
+        AsyncOnlyUIThreadManager manager = new AsyncOnlyUIThreadManager(uiThread)
+
+        when:
+        manager.UIThreadWatchdog.start()
+        Thread.sleep(400)
+
+        then:
+        manager.heartbeats > 0
+        manager.UIThreadWatchdog.heartbeatLatency.count > 0
+
+        cleanup:
+        manager?.UIThreadWatchdog?.stop()
+        System.clearProperty(UIThreadWatchdog.KEY_WATCHDOG_ENABLED)
+    }
+
+    def 'Budget must be positive'() {
+        when:
+        new UIThreadWatchdog(uiThread, 0, TimeUnit.MILLISECONDS)
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+
+    private static void blockUIThread(CountDownLatch release) {
+        release.await(5, TimeUnit.SECONDS)
+    }
+
+    private static class AsyncOnlyUIThreadManager extends AbstractUIThreadManager {
+        private final ExecutorService uiThread
+        volatile int heartbeats
+
+        AsyncOnlyUIThreadManager(ExecutorService uiThread) {
+            this.uiThread = uiThread
+        }
+
+        @Override
+        boolean isUIThread() {
+            return false
+        }
+
+        @Override
+        void runInsideUIAsync(Runnable runnable) {
+            heartbeats++
+            uiThread.execute(runnable)
+        }
+
+        @Override
+        void runInsideUISync(Runnable runnable) {
+            runnable.run()
+        }
+    }
+}
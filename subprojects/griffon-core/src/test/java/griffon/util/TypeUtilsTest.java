@@ -175,6 +175,24 @@ public class TypeUtilsTest {
         TypeUtils.castToNumber(new Object());
     }
 
+    @Test(expected = NumberFormatException.class)
+    public void castToIntRejectsMalformedText() {
+        assertEquals(42, TypeUtils.castToInt("42"));
+        TypeUtils.castToInt("forty two");
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void castToLongRejectsMalformedText() {
+        assertEquals(42L, TypeUtils.castToLong("42"));
+        TypeUtils.castToLong("forty two");
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void castToDoubleRejectsMalformedText() {
+        assertEquals(4.2d, TypeUtils.castToDouble("4.2"), 0d);
+        TypeUtils.castToDouble("forty two");
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void castToNumberWithDefaultCantHandleNonNumberValues() {
         assertEquals(1, TypeUtils.castToNumber(null, 1));
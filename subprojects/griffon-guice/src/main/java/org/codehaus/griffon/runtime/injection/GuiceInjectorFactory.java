@@ -38,13 +38,14 @@ import griffon.core.injection.InjectorFactory;
 import griffon.exceptions.FieldException;
 import griffon.exceptions.NewInstanceException;
 import griffon.inject.Contextual;
+import org.codehaus.griffon.runtime.core.injection.ContextualMembers;
 import org.codehaus.griffon.runtime.core.injection.InjectorProvider;
+import org.codehaus.griffon.runtime.core.injection.LifecycleMethods;
 import org.kordamp.jipsy.ServiceProviderFor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nonnull;
-import javax.annotation.PostConstruct;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.beans.PropertyDescriptor;
@@ -68,7 +69,6 @@ import static griffon.util.AnnotationUtils.namesFor;
 import static griffon.util.AnnotationUtils.sortByDependencies;
 import static griffon.util.GriffonClassUtils.getAllDeclaredFields;
 import static griffon.util.GriffonClassUtils.getPropertyDescriptors;
-import static griffon.util.GriffonClassUtils.invokeAnnotatedMethod;
 import static griffon.util.GriffonClassUtils.setFieldValue;
 import static java.util.Arrays.asList;
 import static java.util.Objects.requireNonNull;
@@ -82,6 +82,8 @@ import static org.codehaus.griffon.runtime.injection.GuiceInjector.moduleFromBin
 public class GuiceInjectorFactory implements InjectorFactory {
     private static final Logger LOG = LoggerFactory.getLogger(GuiceInjectorFactory.class);
 
+    private final boolean scansPerInstance = overridesResolutionHooks(getClass());
+
     @Nonnull
     @Override
     public GuiceInjector createInjector(@Nonnull GriffonApplication application, @Nonnull Iterable<Binding<?>> bindings) {
@@ -110,7 +112,7 @@ public class GuiceInjectorFactory implements InjectorFactory {
             public void afterInjection(Object injectee) {
                 resolveContextualInjections(injectee, application);
                 resolveConfigurationInjections(injectee, application);
-                invokeAnnotatedMethod(injectee, PostConstruct.class);
+                LifecycleMethods.POST_CONSTRUCT.get(injectee.getClass()).invoke(injectee);
             }
         };
 
@@ -178,6 +180,11 @@ public class GuiceInjectorFactory implements InjectorFactory {
             return;
         }
 
+        if (!scansPerInstance) {
+            ContextualMembers.MEMBERS.get(injectee.getClass()).apply(application.getContext(), injectee);
+            return;
+        }
+
         Map<String, Field> fields = new LinkedHashMap<>();
         for (Field field : getAllDeclaredFields(injectee.getClass())) {
             fields.put(field.getName(), field);
@@ -211,6 +218,22 @@ public class GuiceInjectorFactory implements InjectorFactory {
         }
     }
 
+    private static boolean overridesResolutionHooks(@Nonnull Class<?> type) {
+        for (Class<?> klass = type; klass != GuiceInjectorFactory.class; klass = klass.getSuperclass()) {
+            for (Method method : klass.getDeclaredMethods()) {
+                if (method.getParameterTypes().length == 1 && method.getParameterTypes()[0] == AnnotatedElement.class &&
+                    (method.getName().equals("resolveType") || method.getName().equals("isContextual") || method.getName().equals("isInjectable"))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Factories that override this method, {@link #isContextual(AnnotatedElement)} or {@link #isInjectable(AnnotatedElement)}
+     * are still honored, but their injection points are resolved for every instance instead of once per type.
+     */
     @Nonnull
     protected InjectionPoint.Type resolveType(@Nonnull AnnotatedElement element) {
         if (isContextual(element)) {
@@ -20,9 +20,9 @@ package org.codehaus.griffon.runtime.injection;
 import com.google.inject.Binding;
 import com.google.inject.Injector;
 import org.codehaus.griffon.runtime.core.injection.InjectionUnitOfWork;
+import org.codehaus.griffon.runtime.core.injection.LifecycleMethods;
 
 import javax.annotation.Nonnull;
-import javax.annotation.PreDestroy;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedHashMap;
@@ -30,8 +30,6 @@ import java.util.List;
 import java.util.Map;
 
 import static com.google.inject.Scopes.isSingleton;
-import static griffon.util.GriffonClassUtils.hasMethodAnnotatedwith;
-import static griffon.util.GriffonClassUtils.invokeAnnotatedMethod;
 import static java.util.Collections.synchronizedMap;
 import static java.util.Objects.requireNonNull;
 
@@ -61,7 +59,7 @@ class InstanceTracker {
         requireNonNull(binding, ERROR_BINDING_NULL);
         requireNonNull(instance, ERROR_INSTANCE_NULL);
 
-        if (hasMethodAnnotatedwith(instance, PreDestroy.class)) {
+        if (!LifecycleMethods.PRE_DESTROY.get(instance.getClass()).isEmpty()) {
             if (isSingleton(binding)) {
                 instanceToKeyMap.put(instance, binding);
             } else {
@@ -78,7 +76,7 @@ class InstanceTracker {
     public <T> void release(@Nonnull T instance) {
         requireNonNull(instance, ERROR_INSTANCE_NULL);
 
-        invokeAnnotatedMethod(instance, PreDestroy.class);
+        LifecycleMethods.PRE_DESTROY.get(instance.getClass()).invoke(instance);
 
         Binding<?> binding = instanceToKeyMap.get(instance);
         if (binding != null) {
@@ -95,7 +93,7 @@ class InstanceTracker {
         Collections.reverse(instances);
 
         for (Object instance : instances) {
-            invokeAnnotatedMethod(instance, PreDestroy.class);
+            LifecycleMethods.PRE_DESTROY.get(instance.getClass()).invoke(instance);
         }
 
         instances.clear();
@@ -35,6 +35,7 @@ import org.codehaus.griffon.runtime.core.event.DefaultEventRouter
 import org.codehaus.griffon.runtime.core.injection.AbstractModule
 import org.codehaus.griffon.runtime.core.threading.DefaultExecutorServiceProvider
 import org.codehaus.griffon.runtime.core.threading.DefaultUIThreadManager
+import org.codehaus.griffon.runtime.core.threading.ExecutorServiceStrategy
 import spock.lang.Specification
 
 import javax.annotation.Nonnull
@@ -225,6 +226,9 @@ class GuiceInjectorFactorySpec extends Specification {
                     .to(DefaultUIThreadManager)
                     .asSingleton()
 
+                bind(ExecutorServiceStrategy)
+                    .toInstance(ExecutorServiceStrategy.FIXED)
+
                 bind(ExecutorService)
                     .withClassifier(named('defaultExecutorService'))
                     .toProvider(DefaultExecutorServiceProvider)
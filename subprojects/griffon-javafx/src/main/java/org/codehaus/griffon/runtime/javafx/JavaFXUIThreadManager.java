@@ -38,8 +38,7 @@ public class JavaFXUIThreadManager extends AbstractUIThreadManager {
     }
 
     @Override
-    public void runInsideUIAsync(@Nonnull Runnable runnable) {
-        requireNonNull(runnable, ERROR_RUNNABLE_NULL);
+    protected void postInsideUIAsync(@Nonnull Runnable runnable) {
         Platform.runLater(runnable);
     }
 
@@ -49,9 +48,10 @@ public class JavaFXUIThreadManager extends AbstractUIThreadManager {
         if (isUIThread()) {
             runnable.run();
         } else {
+            Runnable work = afterPendingUIAsync(runnable);
             FutureTask<Void> task = new FutureTask<>(() -> {
                 try {
-                    runnable.run();
+                    work.run();
                 } catch (Throwable throwable) {
                     getExceptionHandler().uncaughtException(Thread.currentThread(), throwable);
                 }
@@ -20,8 +20,10 @@ package org.codehaus.griffon.runtime.lanterna;
 import com.googlecode.lanterna.gui.Action;
 import com.googlecode.lanterna.gui.GUIScreen;
 import org.codehaus.griffon.runtime.core.threading.AbstractUIThreadManager;
+import org.codehaus.griffon.runtime.core.threading.BatchingUIDispatcher;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import javax.inject.Inject;
 
 /**
@@ -42,9 +44,23 @@ public class LanternaUIThreadManager extends AbstractUIThreadManager {
         return screen.isInEventThread();
     }
 
+    /**
+     * Asynchronous code blocks are always batched; a single action is handed to the screen per
+     * pass of its event thread, regardless of the number of pending code blocks.
+     */
+    @Nullable
     @Override
-    public void runInsideUIAsync(@Nonnull Runnable runnable) {
-        runInsideUISync(runnable);
+    protected BatchingUIDispatcher createBatchingDispatcher() {
+        return newBatchingDispatcher();
+    }
+
+    @Override
+    protected void postInsideUIAsync(@Nonnull final Runnable runnable) {
+        screen.runInEventThread(new Action() {
+            public void doAction() {
+                runnable.run();
+            }
+        });
     }
 
     @Override
@@ -52,9 +68,10 @@ public class LanternaUIThreadManager extends AbstractUIThreadManager {
         if (isUIThread()) {
             runnable.run();
         } else {
+            final Runnable task = afterPendingUIAsync(runnable);
             screen.runInEventThread(new Action() {
                 public void doAction() {
-                    runnable.run();
+                    task.run();
                 }
             });
         }
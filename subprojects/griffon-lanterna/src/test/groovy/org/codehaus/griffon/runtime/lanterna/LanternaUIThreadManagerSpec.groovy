@@ -0,0 +1,50 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.lanterna
+
+import com.googlecode.lanterna.gui.Action
+import com.googlecode.lanterna.gui.GUIScreen
+import spock.lang.Specification
+
+class LanternaUIThreadManagerSpec extends Specification {
+    void 'Pending asynchronous code blocks are handed to the screen as a single action'() {
+        given:
+        List<Action> actions = []
+        GUIScreen screen = Mock(GUIScreen) {
+            _ * runInEventThread(_) >> { Action action -> actions << action }
+        }
+        LanternaUIThreadManager uiThreadManager = new LanternaUIThreadManager(screen)
+        List<Integer> values = []
+
+        when:
+        (1..3).each { int i -> uiThreadManager.runInsideUIAsync({ values << i } as Runnable) }
+
+        then:
+        actions.size() == 1
+        values.empty
+        uiThreadManager.batchingDispatcher.backlog == 3
+
+        when:
+        actions.remove(0).doAction()
+
+        then:
+        values == [1, 2, 3]
+        actions.empty
+        uiThreadManager.batchingDispatcher.backlog == 0
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.injector;
+
+import griffon.core.injection.Key;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.inject.Provider;
+import javax.inject.Qualifier;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+
+/**
+ * A single value required by a constructor, field or method, identified by its type and optional qualifier.
+ *
+ * @author Andres Almiray
+ * @since 2.14.0
+ */
+final class Dependency {
+    private final Class<?> type;
+    private final Annotation qualifier;
+    private final Key<?> key;
+    private final boolean provider;
+    private final String description;
+
+    private Dependency(@Nonnull Class<?> type, @Nullable Annotation qualifier, boolean provider, @Nonnull String description) {
+        this.type = type;
+        this.qualifier = qualifier;
+        this.key = qualifier != null ? Key.of(type, qualifier) : Key.of(type);
+        this.provider = provider;
+        this.description = description;
+    }
+
+    /**
+     * Creates a dependency for an injection point.
+     *
+     * @return a new dependency, or {@code null} if the type of a {@code Provider} injection point cannot be determined.
+     */
+    @Nullable
+    static Dependency of(@Nonnull Class<?> rawType, @Nonnull Type genericType, @Nonnull Annotation[] annotations, @Nonnull String description) {
+        Annotation qualifier = null;
+        for (Annotation annotation : annotations) {
+            if (annotation.annotationType().isAnnotationPresent(Qualifier.class)) {
+                qualifier = annotation;
+                break;
+            }
+        }
+
+        if (rawType == Provider.class) {
+            if (genericType instanceof ParameterizedType) {
+                Type argument = ((ParameterizedType) genericType).getActualTypeArguments()[0];
+                if (argument instanceof ParameterizedType) {
+                    argument = ((ParameterizedType) argument).getRawType();
+                }
+                if (argument instanceof Class) {
+                    return new Dependency((Class<?>) argument, qualifier, true, description);
+                }
+            }
+            return null;
+        }
+        return new Dependency(rawType, qualifier, false, description);
+    }
+
+    @Nonnull
+    Class<?> getType() {
+        return type;
+    }
+
+    @Nullable
+    Annotation getQualifier() {
+        return qualifier;
+    }
+
+    @Nonnull
+    Key<?> getKey() {
+        return key;
+    }
+
+    boolean isProvider() {
+        return provider;
+    }
+
+    @Nonnull
+    String getDescription() {
+        return description;
+    }
+
+    @Override
+    public String toString() {
+        return (qualifier != null ? qualifier + " " : "") + type.getName() + " required by " + description;
+    }
+}
@@ -0,0 +1,518 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.injector;
+
+import griffon.core.ApplicationEvent;
+import griffon.core.GriffonApplication;
+import griffon.core.artifact.GriffonArtifact;
+import griffon.core.env.ApplicationPhase;
+import griffon.core.injection.Binding;
+import griffon.core.injection.Injector;
+import griffon.core.injection.InstanceBinding;
+import griffon.core.injection.Key;
+import griffon.core.injection.ProviderBinding;
+import griffon.core.injection.ProviderTypeBinding;
+import griffon.core.injection.Qualified;
+import griffon.core.injection.TargetBinding;
+import griffon.exceptions.ClosedInjectorException;
+import griffon.exceptions.InstanceNotFoundException;
+import griffon.exceptions.MembersInjectionException;
+import griffon.exceptions.NewInstanceException;
+import org.codehaus.griffon.runtime.core.injection.ContextualMembers;
+import org.codehaus.griffon.runtime.core.injection.InjectionUnitOfWork;
+import org.codehaus.griffon.runtime.core.injection.LifecycleMethods;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+import javax.inject.Provider;
+import javax.inject.Singleton;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.synchronizedMap;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An {@code Injector} that works directly on Griffon's own {@code Binding} model.
+ * <p>
+ * Every binding becomes a node of a wiring graph that is validated when the injector is created; construction
+ * and member injection of each class follow a plan that is computed once per class. Unbound concrete classes
+ * are created on demand, honoring {@code @Singleton}. Instances created by this injector receive the same
+ * treatment as with {@code GuiceInjectorFactory}: contextual and configuration injection, {@code @PostConstruct}
+ * callbacks, {@code NewInstance} events for artifacts and {@code @PreDestroy} callbacks on release.
+ *
+ * @author Andres Almiray
+ * @since 2.14.0
+ */
+public class NativeInjector implements Injector<NativeInjector> {
+    private static final String ERROR_TYPE_NULL = "Argument 'type' must not be null";
+    private static final String ERROR_APPLICATION_NULL = "Argument 'application' must not be null";
+    private static final String ERROR_BINDINGS_NULL = "Argument 'bindings' must not be null";
+    private static final String ERROR_QUALIFIER_NULL = "Argument 'qualifier' must not be null";
+    private static final String ERROR_INSTANCE_NULL = "Argument 'instance' must not be null";
+
+    private final GriffonApplication application;
+    private final Map<Key<?>, Node> nodes = new LinkedHashMap<>();
+    private final ConcurrentMap<Class<?>, Node> implicitNodes = new ConcurrentHashMap<>();
+    private final Map<Object, Node> trackedInstances = synchronizedMap(new LinkedHashMap<Object, Node>());
+    private final ThreadLocal<Deque<Class<?>>> constructing = new ThreadLocal<Deque<Class<?>>>() {
+        @Override
+        protected Deque<Class<?>> initialValue() {
+            return new ArrayDeque<>();
+        }
+    };
+    private final WiringPlan.Resolver resolver = new WiringPlan.Resolver() {
+        @Override
+        public Object resolve(@Nonnull Dependency dependency) {
+            return NativeInjector.this.resolve(dependency);
+        }
+    };
+    private final Object lock = new Object[0];
+    @GuardedBy("lock")
+    private boolean closed;
+
+    public NativeInjector(@Nonnull GriffonApplication application, @Nonnull Iterable<Binding<?>> bindings) {
+        this.application = requireNonNull(application, ERROR_APPLICATION_NULL);
+        requireNonNull(bindings, ERROR_BINDINGS_NULL);
+
+        nodes.put(Key.of(Injector.class), new Node(this));
+        for (Binding<?> binding : bindings) {
+            nodes.put(Key.of(binding), nodeFor(binding));
+        }
+
+        validate();
+
+        // instances handed over by bindings are injected eagerly, as Guice does
+        Set<Object> injected = Collections.newSetFromMap(new IdentityHashMap<Object, Boolean>());
+        for (Node node : nodes.values()) {
+            Object instance = node.instance != null ? node.instance : node.provider;
+            if (instance != null && instance != this && injected.add(instance)) {
+                injectMembersOf(instance);
+            }
+        }
+    }
+
+    @Nonnull
+    private Node nodeFor(@Nonnull Binding<?> binding) {
+        if (binding instanceof TargetBinding) {
+            Class<?> target = ((TargetBinding<?>) binding).getTarget();
+            return new Node(target, binding.isSingleton() || target.isAnnotationPresent(Singleton.class));
+        } else if (binding instanceof InstanceBinding) {
+            return new Node(((InstanceBinding<?>) binding).getInstance());
+        } else if (binding instanceof ProviderTypeBinding) {
+            return new Node(((ProviderTypeBinding<?>) binding).getProviderType(), null, binding.isSingleton());
+        } else if (binding instanceof ProviderBinding) {
+            return new Node(null, ((ProviderBinding<?>) binding).getProvider(), binding.isSingleton());
+        }
+        throw new IllegalArgumentException("Don't know how to handle " + binding);
+    }
+
+    private void validate() {
+        List<String> errors = new ArrayList<>();
+        Set<Class<?>> visited = new HashSet<>();
+        for (Node node : nodes.values()) {
+            if (node.type != null) {
+                validate(node.type, true, visited, errors);
+            } else if (node.providerType != null) {
+                validate(node.providerType, true, visited, errors);
+            } else if (node.instance != null && node.instance != this) {
+                validate(node.instance.getClass(), false, visited, errors);
+            } else if (node.provider != null) {
+                validate(node.provider.getClass(), false, visited, errors);
+            }
+        }
+
+        if (!errors.isEmpty()) {
+            StringBuilder message = new StringBuilder("Unable to create injector, see the following errors:");
+            for (String error : errors) {
+                message.append("\n  ").append(error);
+            }
+            throw new IllegalStateException(message.toString());
+        }
+    }
+
+    private void validate(@Nonnull Class<?> type, boolean includeConstructor, @Nonnull Set<Class<?>> visited, @Nonnull List<String> errors) {
+        if (includeConstructor && !visited.add(type)) { return; }
+
+        WiringPlan plan = WiringPlan.PLANS.get(type);
+        errors.addAll(plan.getErrors(includeConstructor));
+        for (Dependency dependency : plan.getDependencies(includeConstructor)) {
+            Node node = findNode(dependency.getKey(), dependency.getType(), dependency.getQualifier());
+            if (node == null) {
+                errors.add("No binding found for " + dependency);
+            } else if (node.type != null) {
+                validate(node.type, true, visited, errors);
+            }
+        }
+    }
+
+    @Nullable
+    private Node findNode(@Nonnull Key<?> key, @Nonnull Class<?> type, @Nullable Annotation qualifier) {
+        Node node = nodes.get(key);
+        if (node == null) {
+            if (qualifier != null) {
+                node = nodes.get(Key.of(type, qualifier.annotationType()));
+            } else {
+                node = implicitNode(type);
+            }
+        }
+        return node;
+    }
+
+    @Nullable
+    private Node implicitNode(@Nonnull Class<?> type) {
+        if (type.isInterface() || type.isPrimitive() || type.isArray() || Modifier.isAbstract(type.getModifiers())) {
+            return null;
+        }
+
+        Node node = implicitNodes.get(type);
+        if (node == null) {
+            node = new Node(type, type.isAnnotationPresent(Singleton.class));
+            Node previous = implicitNodes.putIfAbsent(type, node);
+            if (previous != null) {
+                node = previous;
+            }
+        }
+        return node;
+    }
+
+    private Object resolve(@Nonnull Dependency dependency) {
+        final Node node = findNode(dependency.getKey(), dependency.getType(), dependency.getQualifier());
+        if (node == null) {
+            if (dependency.getQualifier() != null) {
+                throw new InstanceNotFoundException(dependency.getType(), dependency.getQualifier());
+            }
+            throw new InstanceNotFoundException(dependency.getType());
+        }
+
+        if (dependency.isProvider()) {
+            return new Provider<Object>() {
+                @Override
+                public Object get() {
+                    return node.get();
+                }
+            };
+        }
+        return node.get();
+    }
+
+    @Nonnull
+    private Object construct(@Nonnull Class<?> type) {
+        Deque<Class<?>> stack = constructing.get();
+        if (stack.contains(type)) {
+            StringBuilder cycle = new StringBuilder();
+            for (Class<?> klass : stack) {
+                cycle.append(klass.getName()).append(" -> ");
+            }
+            throw new IllegalStateException("Circular dependency detected: " + cycle.append(type.getName()));
+        }
+
+        stack.addLast(type);
+        Object instance;
+        try {
+            instance = WiringPlan.PLANS.get(type).newInstance(resolver);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new NewInstanceException(type, t);
+        } finally {
+            stack.removeLast();
+        }
+        afterInjection(instance);
+        return instance;
+    }
+
+    private void injectMembersOf(@Nonnull Object instance) {
+        try {
+            WiringPlan.PLANS.get(instance.getClass()).injectMembers(instance, resolver);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new MembersInjectionException(instance, t);
+        }
+        afterInjection(instance);
+    }
+
+    private void afterInjection(@Nonnull Object instance) {
+        if (instance instanceof GriffonArtifact) {
+            application.getEventRouter().publishEvent(
+                ApplicationEvent.NEW_INSTANCE.getName(),
+                asList(instance.getClass(), instance)
+            );
+        } else if (application.getPhase() != ApplicationPhase.INITIALIZE) {
+            ContextualMembers.MEMBERS.get(instance.getClass()).apply(application.getContext(), instance);
+            application.getConfigurationManager().injectConfiguration(instance);
+        }
+        LifecycleMethods.POST_CONSTRUCT.get(instance.getClass()).invoke(instance);
+    }
+
+    private void track(@Nonnull Node node, @Nonnull Object instance) {
+        if (LifecycleMethods.PRE_DESTROY.get(instance.getClass()).isEmpty()) { return; }
+
+        if (node.singleton) {
+            trackedInstances.put(instance, node);
+        } else {
+            try {
+                InjectionUnitOfWork.track(instance);
+            } catch (IllegalStateException ise) {
+                trackedInstances.put(instance, node);
+            }
+        }
+    }
+
+    @Nonnull
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T getInstance(@Nonnull Class<T> type) throws InstanceNotFoundException {
+        requireNonNull(type, ERROR_TYPE_NULL);
+
+        if (isClosed()) {
+            throw new InstanceNotFoundException(type, new ClosedInjectorException(this));
+        }
+
+        Node node = findNode(Key.of(type), type, null);
+        if (node == null) {
+            throw new InstanceNotFoundException(type);
+        }
+
+        try {
+            return (T) node.get();
+        } catch (RuntimeException e) {
+            throw new InstanceNotFoundException(type, e);
+        }
+    }
+
+    @Nonnull
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T getInstance(@Nonnull Class<T> type, @Nonnull Annotation qualifier) throws InstanceNotFoundException {
+        requireNonNull(type, ERROR_TYPE_NULL);
+        requireNonNull(qualifier, ERROR_QUALIFIER_NULL);
+
+        if (isClosed()) {
+            throw new InstanceNotFoundException(type, qualifier, new ClosedInjectorException(this));
+        }
+
+        Node node = findNode(Key.of(type, qualifier), type, qualifier);
+        if (node == null) {
+            throw new InstanceNotFoundException(type, qualifier);
+        }
+
+        try {
+            return (T) node.get();
+        } catch (RuntimeException e) {
+            throw new InstanceNotFoundException(type, qualifier, e);
+        }
+    }
+
+    @Nonnull
+    @Override
+    public <T> Collection<T> getInstances(@Nonnull Class<T> type) throws InstanceNotFoundException {
+        requireNonNull(type, ERROR_TYPE_NULL);
+
+        if (isClosed()) {
+            throw new InstanceNotFoundException(type, new ClosedInjectorException(this));
+        }
+
+        List<T> instances = new ArrayList<>();
+        for (Qualified<T> qualified : qualifiedInstances(type)) {
+            instances.add(qualified.getInstance());
+        }
+        return instances;
+    }
+
+    @Nonnull
+    @Override
+    public <T> Collection<Qualified<T>> getQualifiedInstances(@Nonnull Class<T> type) throws InstanceNotFoundException {
+        requireNonNull(type, ERROR_TYPE_NULL);
+
+        if (isClosed()) {
+            throw new InstanceNotFoundException(type, new ClosedInjectorException(this));
+        }
+
+        return qualifiedInstances(type);
+    }
+
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    private <T> List<Qualified<T>> qualifiedInstances(@Nonnull Class<T> type) {
+        List<Qualified<T>> instances = new ArrayList<>();
+        boolean unqualified = false;
+        for (Map.Entry<Key<?>, Node> entry : nodes.entrySet()) {
+            Key<?> key = entry.getKey();
+            if (key.getSource() != type) { continue; }
+            unqualified |= key.getAnnotationType() == null;
+            try {
+                instances.add(new Qualified<>((T) entry.getValue().get(), key.getAnnotation()));
+            } catch (RuntimeException e) {
+                throw new InstanceNotFoundException(type, e);
+            }
+        }
+
+        Node implicit = implicitNodes.get(type);
+        if (!unqualified && implicit != null) {
+            try {
+                instances.add(new Qualified<>((T) implicit.get(), null));
+            } catch (RuntimeException e) {
+                throw new InstanceNotFoundException(type, e);
+            }
+        }
+        return instances;
+    }
+
+    @Override
+    public void injectMembers(@Nonnull Object instance) throws MembersInjectionException {
+        requireNonNull(instance, ERROR_INSTANCE_NULL);
+
+        if (isClosed()) {
+            throw new MembersInjectionException(instance, new ClosedInjectorException(this));
+        }
+
+        try {
+            injectMembersOf(instance);
+        } catch (MembersInjectionException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new MembersInjectionException(instance, e);
+        }
+    }
+
+    @Nonnull
+    @Override
+    public NativeInjector getDelegateInjector() {
+        return this;
+    }
+
+    @Override
+    public void release(@Nonnull Object instance) {
+        requireNonNull(instance, ERROR_INSTANCE_NULL);
+
+        LifecycleMethods.PRE_DESTROY.get(instance.getClass()).invoke(instance);
+        trackedInstances.remove(instance);
+    }
+
+    @Override
+    public void close() {
+        if (isClosed()) {
+            throw new ClosedInjectorException(this);
+        }
+
+        List<Object> instances;
+        synchronized (trackedInstances) {
+            instances = new ArrayList<>(trackedInstances.keySet());
+            trackedInstances.clear();
+        }
+        Collections.reverse(instances);
+        for (Object instance : instances) {
+            LifecycleMethods.PRE_DESTROY.get(instance.getClass()).invoke(instance);
+        }
+
+        synchronized (lock) {
+            closed = true;
+        }
+    }
+
+    private boolean isClosed() {
+        synchronized (lock) {
+            return closed;
+        }
+    }
+
+    /**
+     * A vertex of the wiring graph: a class to construct, a provider, or a ready-made instance.
+     */
+    private final class Node {
+        private final Class<?> type;
+        private final Class<?> providerType;
+        private final Provider<?> provider;
+        private final Object instance;
+        private final boolean singleton;
+        private volatile Object singletonInstance;
+
+        private Node(@Nonnull Class<?> type, boolean singleton) {
+            this(type, null, null, null, singleton);
+        }
+
+        private Node(@Nonnull Object instance) {
+            this(null, null, null, instance, true);
+        }
+
+        private Node(@Nullable Class<?> providerType, @Nullable Provider<?> provider, boolean singleton) {
+            this(null, providerType, provider, null, singleton);
+        }
+
+        private Node(@Nullable Class<?> type, @Nullable Class<?> providerType, @Nullable Provider<?> provider, @Nullable Object instance, boolean singleton) {
+            this.type = type;
+            this.providerType = providerType;
+            this.provider = provider;
+            this.instance = instance;
+            this.singleton = singleton;
+        }
+
+        private Object get() {
+            if (instance != null) {
+                return instance;
+            }
+            if (!singleton) {
+                return create();
+            }
+
+            Object value = singletonInstance;
+            if (value == null) {
+                synchronized (this) {
+                    value = singletonInstance;
+                    if (value == null) {
+                        singletonInstance = value = create();
+                    }
+                }
+            }
+            return value;
+        }
+
+        private Object create() {
+            Object value;
+            if (type != null) {
+                value = construct(type);
+            } else if (provider != null) {
+                value = provider.get();
+            } else {
+                Node providerNode = implicitNode(providerType);
+                value = ((Provider<?>) providerNode.get()).get();
+            }
+            if (value != null) {
+                track(this, value);
+            }
+            return value;
+        }
+    }
+}
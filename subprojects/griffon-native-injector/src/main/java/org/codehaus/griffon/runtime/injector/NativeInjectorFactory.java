@@ -0,0 +1,53 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.injector;
+
+import griffon.core.GriffonApplication;
+import griffon.core.injection.Binding;
+import griffon.core.injection.InjectorFactory;
+import org.kordamp.jipsy.ServiceProviderFor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Creates {@code NativeInjector} instances. Place this module instead of {@code griffon-guice} on the
+ * application's classpath to use it.
+ *
+ * @author Andres Almiray
+ * @since 2.14.0
+ */
+@ServiceProviderFor(InjectorFactory.class)
+public class NativeInjectorFactory implements InjectorFactory {
+    private static final Logger LOG = LoggerFactory.getLogger(NativeInjectorFactory.class);
+
+    @Nonnull
+    @Override
+    public NativeInjector createInjector(@Nonnull GriffonApplication application, @Nonnull Iterable<Binding<?>> bindings) {
+        requireNonNull(application, "Argument 'application' must not be null");
+        requireNonNull(bindings, "Argument 'bindings' must not be null");
+
+        long start = System.nanoTime();
+        NativeInjector injector = new NativeInjector(application, bindings);
+        LOG.debug("Injector created in {} ms", (System.nanoTime() - start) / 1_000_000d);
+        return injector;
+    }
+}
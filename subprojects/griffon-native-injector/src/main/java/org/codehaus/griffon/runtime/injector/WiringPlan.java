@@ -0,0 +1,294 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.injector;
+
+import javax.annotation.Nonnull;
+import javax.inject.Inject;
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * Describes how instances of a class are constructed and injected. Plans are computed once per class;
+ * all members are bound to method handles so that creating an instance involves no further reflection.
+ * <p>
+ * The constructor annotated with {@code @Inject} is selected, or the no-args constructor when there is none.
+ * Members are injected following JSR-330: fields before methods, superclass members before subclass members,
+ * and methods overridden by a subclass are skipped.
+ *
+ * @author Andres Almiray
+ * @since 2.14.0
+ */
+final class WiringPlan {
+    static final ClassValue<WiringPlan> PLANS = new ClassValue<WiringPlan>() {
+        @Override
+        protected WiringPlan computeValue(Class<?> type) {
+            return new WiringPlan(type);
+        }
+    };
+
+    private static final Annotation[] NO_ANNOTATIONS = new Annotation[0];
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    /**
+     * Supplies the value of a dependency.
+     */
+    interface Resolver {
+        Object resolve(@Nonnull Dependency dependency);
+    }
+
+    private final Class<?> type;
+    private final List<String> constructorErrors = new ArrayList<>();
+    private final List<String> memberErrors = new ArrayList<>();
+    private final List<Dependency> constructorDependencies = new ArrayList<>();
+    private final MethodHandle constructor;
+    private final List<Site> members = new ArrayList<>();
+
+    private WiringPlan(@Nonnull Class<?> type) {
+        this.type = type;
+        this.constructor = resolveConstructor();
+        resolveMembers();
+    }
+
+    @Nonnull
+    Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * Returns every dependency of this plan, optionally excluding those of the constructor.
+     */
+    @Nonnull
+    List<Dependency> getDependencies(boolean includeConstructor) {
+        List<Dependency> dependencies = new ArrayList<>();
+        if (includeConstructor) {
+            dependencies.addAll(constructorDependencies);
+        }
+        for (Site site : members) {
+            dependencies.addAll(Arrays.asList(site.dependencies));
+        }
+        return unmodifiableList(dependencies);
+    }
+
+    /**
+     * Returns the problems found while resolving this plan, optionally excluding those of the constructor.
+     */
+    @Nonnull
+    List<String> getErrors(boolean includeConstructor) {
+        if (!includeConstructor || constructorErrors.isEmpty()) {
+            return unmodifiableList(memberErrors);
+        }
+        List<String> errors = new ArrayList<>(constructorErrors);
+        errors.addAll(memberErrors);
+        return unmodifiableList(errors);
+    }
+
+    @Nonnull
+    Object newInstance(@Nonnull Resolver resolver) throws Throwable {
+        checkErrors(getErrors(true));
+        Object instance = constructor.invoke(resolve(constructorDependencies.toArray(new Dependency[constructorDependencies.size()]), resolver));
+        injectMembers(instance, resolver);
+        return instance;
+    }
+
+    void injectMembers(@Nonnull Object instance, @Nonnull Resolver resolver) throws Throwable {
+        checkErrors(memberErrors);
+        for (Site site : members) {
+            site.handle.invoke(instance, resolve(site.dependencies, resolver));
+        }
+    }
+
+    private static Object[] resolve(@Nonnull Dependency[] dependencies, @Nonnull Resolver resolver) {
+        Object[] values = new Object[dependencies.length];
+        for (int i = 0; i < dependencies.length; i++) {
+            values[i] = resolver.resolve(dependencies[i]);
+        }
+        return values;
+    }
+
+    private void checkErrors(@Nonnull List<String> errors) {
+        if (!errors.isEmpty()) {
+            StringBuilder message = new StringBuilder("Cannot inject ").append(type.getName()).append(':');
+            for (String error : errors) {
+                message.append("\n  ").append(error);
+            }
+            throw new IllegalStateException(message.toString());
+        }
+    }
+
+    private MethodHandle resolveConstructor() {
+        int modifiers = type.getModifiers();
+        if (type.isInterface() || type.isPrimitive() || type.isArray() || Modifier.isAbstract(modifiers)) {
+            constructorErrors.add(type.getName() + " is not a concrete class and has no binding");
+            return null;
+        }
+        if (type.isMemberClass() && !Modifier.isStatic(modifiers)) {
+            constructorErrors.add(type.getName() + " is an inner class and cannot be instantiated");
+            return null;
+        }
+
+        Constructor<?> selected = null;
+        for (Constructor<?> candidate : type.getDeclaredConstructors()) {
+            if (candidate.isAnnotationPresent(Inject.class)) {
+                if (selected != null) {
+                    constructorErrors.add(type.getName() + " has more than one constructor annotated with @Inject");
+                    return null;
+                }
+                selected = candidate;
+            }
+        }
+        if (selected == null) {
+            try {
+                selected = type.getDeclaredConstructor();
+            } catch (NoSuchMethodException e) {
+                constructorErrors.add(type.getName() + " has neither a constructor annotated with @Inject nor a no-args constructor");
+                return null;
+            }
+            if (Modifier.isPrivate(selected.getModifiers()) && !Modifier.isPrivate(modifiers)) {
+                constructorErrors.add(type.getName() + " has a private no-args constructor and no constructor annotated with @Inject");
+                return null;
+            }
+        }
+
+        Class<?>[] parameterTypes = selected.getParameterTypes();
+        Type[] genericTypes = selected.getGenericParameterTypes();
+        Annotation[][] annotations = selected.getParameterAnnotations();
+        for (int i = 0; i < parameterTypes.length; i++) {
+            Dependency dependency = Dependency.of(parameterTypes[i],
+                genericTypes.length == parameterTypes.length ? genericTypes[i] : parameterTypes[i],
+                annotations.length == parameterTypes.length ? annotations[i] : NO_ANNOTATIONS,
+                "parameter " + i + " of " + selected);
+            if (dependency == null) {
+                constructorErrors.add("the type provided to parameter " + i + " of " + selected + " cannot be determined");
+                return null;
+            }
+            constructorDependencies.add(dependency);
+        }
+
+        try {
+            selected.setAccessible(true);
+            MethodHandle handle = MethodHandles.lookup().unreflectConstructor(selected);
+            return handle.asType(handle.type().generic()).asSpreader(Object[].class, parameterTypes.length);
+        } catch (IllegalAccessException | SecurityException e) {
+            constructorErrors.add(selected + " is not accessible: " + e);
+            return null;
+        }
+    }
+
+    private void resolveMembers() {
+        List<Class<?>> hierarchy = new ArrayList<>();
+        for (Class<?> klass = type; klass != null && klass != Object.class; klass = klass.getSuperclass()) {
+            hierarchy.add(klass);
+        }
+
+        // methods are visited subclass first so that overridden methods can be skipped
+        List<List<Site>> methods = new ArrayList<>();
+        Set<String> signatures = new HashSet<>();
+        for (Class<?> klass : hierarchy) {
+            List<Site> sites = new ArrayList<>();
+            for (Method method : klass.getDeclaredMethods()) {
+                if (Modifier.isStatic(method.getModifiers()) || method.isBridge() || method.isSynthetic()) { continue; }
+                if (!Modifier.isPrivate(method.getModifiers()) && !signatures.add(method.getName() + Arrays.toString(method.getParameterTypes()))) {
+                    continue;
+                }
+                if (method.isAnnotationPresent(Inject.class)) {
+                    Site site = methodSite(method);
+                    if (site != null) { sites.add(site); }
+                }
+            }
+            methods.add(sites);
+        }
+
+        for (int i = hierarchy.size() - 1; i >= 0; i--) {
+            for (Field field : hierarchy.get(i).getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers()) || !field.isAnnotationPresent(Inject.class)) { continue; }
+                Site site = fieldSite(field);
+                if (site != null) { members.add(site); }
+            }
+            members.addAll(methods.get(i));
+        }
+    }
+
+    private Site fieldSite(@Nonnull Field field) {
+        if (Modifier.isFinal(field.getModifiers())) {
+            memberErrors.add("field " + field + " is annotated with @Inject but it is final");
+            return null;
+        }
+        Dependency dependency = Dependency.of(field.getType(), field.getGenericType(), field.getAnnotations(), "field " + field);
+        if (dependency == null) {
+            memberErrors.add("the type provided to field " + field + " cannot be determined");
+            return null;
+        }
+
+        try {
+            field.setAccessible(true);
+            MethodHandle handle = MethodHandles.lookup().unreflectSetter(field).asType(SETTER_TYPE).asSpreader(Object[].class, 1);
+            return new Site(handle, new Dependency[]{dependency});
+        } catch (IllegalAccessException | SecurityException e) {
+            memberErrors.add("field " + field + " is not accessible: " + e);
+            return null;
+        }
+    }
+
+    private Site methodSite(@Nonnull Method method) {
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        Type[] genericTypes = method.getGenericParameterTypes();
+        Annotation[][] annotations = method.getParameterAnnotations();
+        Dependency[] dependencies = new Dependency[parameterTypes.length];
+        for (int i = 0; i < parameterTypes.length; i++) {
+            dependencies[i] = Dependency.of(parameterTypes[i], genericTypes[i], annotations[i], "parameter " + i + " of " + method);
+            if (dependencies[i] == null) {
+                memberErrors.add("the type provided to parameter " + i + " of " + method + " cannot be determined");
+                return null;
+            }
+        }
+
+        try {
+            method.setAccessible(true);
+            MethodHandle handle = MethodHandles.lookup().unreflect(method);
+            handle = handle.asType(handle.type().generic().changeReturnType(void.class));
+            return new Site(handle.asSpreader(Object[].class, parameterTypes.length), dependencies);
+        } catch (IllegalAccessException | SecurityException e) {
+            memberErrors.add("method " + method + " is not accessible: " + e);
+            return null;
+        }
+    }
+
+    private static final class Site {
+        private final MethodHandle handle;
+        private final Dependency[] dependencies;
+
+        private Site(@Nonnull MethodHandle handle, @Nonnull Dependency[] dependencies) {
+            this.handle = handle;
+            this.dependencies = dependencies;
+        }
+    }
+}
@@ -0,0 +1,297 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.injector
+
+import griffon.core.GriffonApplication
+import griffon.core.injection.Binding
+import griffon.core.injection.Injector
+import griffon.core.injection.Module
+import griffon.exceptions.InstanceNotFoundException
+import griffon.exceptions.MembersInjectionException
+import org.codehaus.griffon.runtime.core.injection.AbstractModule
+import spock.lang.Specification
+
+import javax.annotation.PostConstruct
+import javax.annotation.PreDestroy
+import javax.inject.Inject
+import javax.inject.Named
+import javax.inject.Provider
+import javax.inject.Singleton
+
+import static griffon.util.AnnotationUtils.named
+
+class NativeInjectorSpec extends Specification {
+    def 'Injector can resolve an object graph'() {
+        given:
+        Injector injector = createInjector(new AbstractModule() {
+            @Override
+            protected void doConfigure() {
+                bind(Engine)
+                bind(Car)
+            }
+        })
+
+        when:
+        Car car = injector.getInstance(Car)
+
+        then:
+        car
+        car.engine
+        !car.engine.is(injector.getInstance(Car).engine)
+    }
+
+    def 'Injector can resolve an object graph with qualifier'() {
+        given:
+        Engine engine1 = new Engine()
+        Engine engine2 = new Engine()
+        Injector injector = createInjector(new AbstractModule() {
+            @Override
+            protected void doConfigure() {
+                bind(Engine).withClassifier(named('efficient')).toInstance(engine1)
+                bind(Engine).withClassifier(named('poor')).toInstance(engine2)
+            }
+        })
+
+        when:
+        Engine engine = injector.getInstance(Engine, named('efficient'))
+        Truck truck = injector.getInstance(Truck)
+
+        then:
+        engine.is(engine1)
+        truck.engine.is(engine2)
+    }
+
+    def 'Constructor, field and method injection follow JSR-330 rules'() {
+        given:
+        Injector injector = createInjector(new AbstractModule() {
+            @Override
+            protected void doConfigure() {
+                bind(Engine).asSingleton()
+            }
+        })
+
+        when:
+        Bus bus = injector.getInstance(Bus)
+
+        then:
+        bus.engine.is(injector.getInstance(Engine))
+        bus.vehicleEngine.is(bus.engine)
+        bus.busEngine.is(bus.engine)
+        bus.calls == ['constructor', 'vehicle method', 'bus method', 'postConstruct']
+    }
+
+    def 'Providers and unbound singletons are supported'() {
+        given:
+        Injector injector = createInjector(new AbstractModule() {
+            @Override
+            protected void doConfigure() {
+            }
+        })
+
+        when:
+        Fleet fleet = injector.getInstance(Fleet)
+
+        then:
+        fleet.depots.get().is(fleet.depots.get())
+        fleet.depots.get().is(injector.getInstance(Depot))
+    }
+
+    def 'Circular dependencies are detected'() {
+        given:
+        Injector injector = createInjector(new AbstractModule() {
+            @Override
+            protected void doConfigure() {
+            }
+        })
+
+        when:
+        injector.getInstance(Chicken)
+
+        then:
+        InstanceNotFoundException e = thrown()
+        e.cause instanceof IllegalStateException
+    }
+
+    def 'Missing dependencies are reported when the injector is created'() {
+        when:
+        createInjector(new AbstractModule() {
+            @Override
+            protected void doConfigure() {
+                bind(Garage)
+            }
+        })
+
+        then:
+        IllegalStateException e = thrown()
+        e.message.contains(Vehicle.name)
+    }
+
+    def 'Tracked instances are released when the injector is closed'() {
+        given:
+        Injector injector = createInjector(new AbstractModule() {
+            @Override
+            protected void doConfigure() {
+                bind(Depot).asSingleton()
+            }
+        })
+        Depot depot = injector.getInstance(Depot)
+
+        when:
+        injector.close()
+
+        then:
+        depot.destroyed
+    }
+
+    def 'Injector fails to find an instance'() {
+        given:
+        Injector injector = createInjector(new AbstractModule() {
+            @Override
+            protected void doConfigure() {
+                bind(Engine)
+                bind(Car)
+            }
+        })
+
+        when:
+        injector.getInstance(Vehicle)
+
+        then:
+        thrown(InstanceNotFoundException)
+    }
+
+    def 'Injector fails to find an instance with qualifier'() {
+        given:
+        Injector injector = createInjector(new AbstractModule() {
+            @Override
+            protected void doConfigure() {
+                bind(Engine)
+                bind(Car)
+            }
+        })
+
+        when:
+        injector.getInstance(Car, named('foo'))
+
+        then:
+        thrown(InstanceNotFoundException)
+    }
+
+    def 'Injector fails to inject members'() {
+        given:
+        Injector injector = createInjector(new AbstractModule() {
+            @Override
+            protected void doConfigure() {
+            }
+        })
+
+        when:
+        injector.injectMembers(new Garage())
+
+        then:
+        thrown(MembersInjectionException)
+    }
+
+    private static Injector createInjector(Module module) {
+        GriffonApplication application = new TestGriffonApplication()
+        new NativeInjectorFactory().createInjector(application, new ArrayList<Binding<?>>(module.bindings))
+    }
+
+    static interface Vehicle {
+
+    }
+
+    static class Car {
+        @Inject Engine engine
+    }
+
+    static class Engine {
+
+    }
+
+    static class Truck {
+        @Inject @Named('poor') Engine engine
+    }
+
+    static class Garage {
+        @Inject Vehicle vehicle
+    }
+
+    static abstract class AbstractVehicle {
+        final List<String> calls = []
+        @Inject Engine vehicleEngine
+
+        @Inject
+        void vehicleMethod(Engine engine) {
+            calls << 'vehicle method'
+        }
+
+        @Inject
+        void refuel(Engine engine) {
+            calls << 'vehicle refuel'
+        }
+    }
+
+    static class Bus extends AbstractVehicle {
+        final Engine engine
+        @Inject Engine busEngine
+
+        @Inject
+        Bus(Engine engine) {
+            this.engine = engine
+            calls << 'constructor'
+        }
+
+        @Inject
+        void busMethod(Engine engine) {
+            calls << 'bus method'
+        }
+
+        @Override
+        void refuel(Engine engine) {
+            calls << 'bus refuel'
+        }
+
+        @PostConstruct
+        void init() {
+            calls << 'postConstruct'
+        }
+    }
+
+    static class Fleet {
+        @Inject Provider<Depot> depots
+    }
+
+    @Singleton
+    static class Depot {
+        boolean destroyed
+
+        @PreDestroy
+        void destroy() {
+            destroyed = true
+        }
+    }
+
+    static class Chicken {
+        @Inject Egg egg
+    }
+
+    static class Egg {
+        @Inject Chicken chicken
+    }
+}
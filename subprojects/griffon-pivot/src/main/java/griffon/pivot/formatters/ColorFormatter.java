@@ -118,6 +118,15 @@ public class ColorFormatter extends AbstractFormatter<Color> {
      */
     @Nonnull
     public static ColorFormatter getInstance(@Nullable String pattern) {
+        if (PATTERN_SHORT.equals(pattern)) {
+            return SHORT;
+        } else if (PATTERN_SHORT_WITH_ALPHA.equals(pattern)) {
+            return SHORT_WITH_ALPHA;
+        } else if (PATTERN_LONG_WITH_ALPHA.equals(pattern)) {
+            return LONG_WITH_ALPHA;
+        } else if (PATTERN_LONG.equals(pattern) || isBlank(pattern)) {
+            return LONG;
+        }
         return new ColorFormatter(pattern);
     }
 
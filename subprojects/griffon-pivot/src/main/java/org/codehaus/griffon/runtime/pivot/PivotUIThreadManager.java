@@ -35,7 +35,7 @@ public class PivotUIThreadManager extends AbstractUIThreadManager {
     }
 
     @Override
-    public void runInsideUIAsync(@Nonnull Runnable runnable) {
+    protected void postInsideUIAsync(@Nonnull Runnable runnable) {
         EventQueue.invokeLater(runnable);
     }
 
@@ -45,7 +45,7 @@ public class PivotUIThreadManager extends AbstractUIThreadManager {
             runnable.run();
         } else {
             try {
-                EventQueue.invokeAndWait(runnable);
+                EventQueue.invokeAndWait(afterPendingUIAsync(runnable));
             } catch (InterruptedException e) {
                 getExceptionHandler().uncaughtException(Thread.currentThread(), e);
             } catch (InvocationTargetException e) {
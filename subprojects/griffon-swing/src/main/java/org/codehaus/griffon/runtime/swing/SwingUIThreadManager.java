@@ -37,8 +37,7 @@ public class SwingUIThreadManager extends AbstractUIThreadManager {
     }
 
     @Override
-    public void runInsideUIAsync(@Nonnull Runnable runnable) {
-        requireNonNull(runnable, ERROR_RUNNABLE_NULL);
+    protected void postInsideUIAsync(@Nonnull Runnable runnable) {
         SwingUtilities.invokeLater(runnable);
     }
 
@@ -49,7 +48,7 @@ public class SwingUIThreadManager extends AbstractUIThreadManager {
             runnable.run();
         } else {
             try {
-                SwingUtilities.invokeAndWait(runnable);
+                SwingUtilities.invokeAndWait(afterPendingUIAsync(runnable));
             } catch (InterruptedException ie) {
                 // ignore
             } catch (InvocationTargetException ite) {